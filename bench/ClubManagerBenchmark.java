@@ -0,0 +1,593 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * {@link ClubManager}의 주요 작업 성능을 측정하는 벤치마크 실행 클래스입니다.
+ *
+ * <p>
+ * 보고서 수(기본 1,000 / 100,000 / 1,000,000건)별로 {@link DatasetGenerator}로 한국어 문장으로 된 데이터를 만들어 불러온 뒤,
+ * 각 작업을 워밍업 반복과 측정 반복으로 나누어 실행하고 작업 한 번당 평균 시간(ns/op)을 JSON으로 출력합니다.
+ * 같은 시드를 사용하면 같은 데이터가 만들어지므로 변경 전후의 결과를 비교할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 조회 작업을 먼저 측정하고 데이터를 바꾸는 저장, 불러오기, 등록, 작성 작업을 나중에 측정합니다.
+ * 실행 중 {@link ClubManager}가 출력하는 메시지는 버리며, 진행 상황은 표준 오류로, 결과 JSON은 표준 출력(또는 --out 파일)으로 씁니다.
+ * </p>
+ *
+ * <p>
+ * saveData와 loadData는 현재 디렉터리의 data 디렉터리를 사용하므로, 현재 디렉터리에 data, journal 디렉터리나 clubs.dat, reports.dat가 있으면
+ * 기존 데이터를 덮어쓰지 않도록 측정을 건너뜁니다. 빈 디렉터리에서 실행하십시오.
+ * saveData는 처음 한 번 전체를 저장한 뒤, 호출마다 보고서 한 건을 추가하고 저장하는 증분 저장 시간을 측정합니다.
+ * 1,000,000건을 측정할 때는 {@code -Xmx4g} 이상을 권장합니다.
+ * {@code --column-store}를 주면 날짜 검색과 통계를 {@link ReportColumnStore}로 수행하여 색인 방식과 비교할 수 있습니다.
+ * 조회 작업은 같은 조회가 반복되면 {@link QueryCache}에서 결과를 찾으므로, {@code --no-query-cache}로 캐시를 끄고 색인만의 시간을 잴 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 개선 전 방식과 비교하는 작업도 함께 측정하며, 두 작업을 모두 측정하면 배율을 표준 오류에 출력합니다.
+ * searchReportsByKeywordScan은 색인 없이 모든 보고서를 훑는 키워드 검색, findClubScan은 동아리 목록을 차례로 비교하는 조회,
+ * serializeReports/deserializeReports는 이전의 Java 직렬화 저장 형식으로, 각각 색인 검색, findClub,
+ * encodeReports/decodeReports({@link ClubDataCodec})와 비교합니다. registerClubs100k는 새 관리 객체에 동아리 100,000개를 일괄 등록합니다.
+ * {@code --min-speedup=3}을 주면 encodeReports와 decodeReports가 Java 직렬화보다 지정한 배율만큼 빠르지 않을 때
+ * 실패를 출력하고 종료 코드 1로 끝나므로, 저장 형식의 성능 기준을 검사하는 데 사용할 수 있습니다.
+ * </p>
+ *
+ * <pre>
+ * java -cp out ClubManagerBenchmark [--sizes=1000,100000,1000000] [--warmup=3] [--iterations=5]
+ *                                   [--time=1000] [--benchmarks=이름,...] [--seed=42] [--out=결과.json]
+ *                                   [--column-store] [--no-query-cache] [--min-speedup=3]
+ *
+ * java -cp out ClubManagerBenchmark --sizes=100000 --benchmarks=encodeReports,serializeReports,decodeReports,deserializeReports --min-speedup=3
+ * </pre>
+ *
+ * @author 한승규
+ * @version 1.7
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 데이터 생성을 DatasetGenerator로 변경 (한승규)</li>
+ *   <li>2026-10-17: 분할 저장소에 맞춰 saveData를 증분 저장으로 측정 (한승규)</li>
+ *   <li>2026-10-17: 열 저장소 옵션과 countReportsInDateRange 측정 추가 (한승규)</li>
+ *   <li>2026-10-17: 색인이 없는 조건 검색 findReports 측정 추가 (한승규)</li>
+ *   <li>2026-10-17: 결과 캐시를 끄는 --no-query-cache 옵션과 조회 작업의 캐시 적중률 출력 추가 (한승규)</li>
+ *   <li>2026-10-17: 선형 키워드 검색, 선형 동아리 조회, Java 직렬화와의 비교 작업과 동아리 100,000개 일괄 등록 측정 추가 (한승규)</li>
+ *   <li>2026-10-17: 저장 형식 배율이 기준보다 낮으면 실패로 끝나는 --min-speedup 옵션 추가 (한승규)</li>
+ * </ul>
+ */
+public class ClubManagerBenchmark {
+    private static final int[] DEFAULT_SIZES = {1_000, 100_000, 1_000_000}; // 기본 보고서 수
+    private static final int REPORTS_PER_CLUB = 100; // 동아리 하나당 평균 보고서 수
+    private static final int BULK_CLUB_COUNT = 100_000; // registerClubs100k에서 등록하는 동아리 수
+
+    private static volatile long sink; // 측정 결과가 최적화로 사라지지 않도록 값을 모으는 곳
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final long seed;
+    private final Set<String> selected;
+    private boolean columnStore; // 열 저장소로 날짜 검색과 통계를 수행할지 여부
+    private boolean queryCache = true; // 검색 및 통계 결과 캐시를 사용할지 여부
+    private double minSpeedup; // 저장 형식 비교에서 요구하는 최소 배율 (0이면 검사하지 않음)
+    private int failedChecks; // 최소 배율에 못 미친 비교 수
+
+    /**
+     * 벤치마크 실행 객체를 생성합니다.
+     *
+     * @param warmupIterations 워밍업 반복 횟수
+     * @param measurementIterations 측정 반복 횟수
+     * @param iterationMillis 반복 한 번의 최소 시간 (밀리초)
+     * @param seed 데이터 생성 시드
+     * @param selected 실행할 벤치마크 이름, 비어 있으면 전체
+     */
+    public ClubManagerBenchmark(int warmupIterations, int measurementIterations, long iterationMillis, long seed,
+                                Set<String> selected) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.seed = seed;
+        this.selected = selected;
+    }
+
+    /**
+     * 명령행 옵션을 읽어 벤치마크를 실행하고 결과를 JSON으로 출력합니다.
+     *
+     * @param args 명령행 인자를 전달받는 배열
+     */
+    public static void main(String[] args) throws IOException {
+        int[] sizes = DEFAULT_SIZES;
+        int warmup = 3;
+        int iterations = 5;
+        long time = 1000;
+        long seed = 42;
+        Set<String> selected = new LinkedHashSet<>();
+        Path out = null;
+        boolean columnStore = false;
+        boolean queryCache = true;
+        double minSpeedup = 0;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--sizes=")) {
+                sizes = Arrays.stream(value.split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(value);
+            } else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(value);
+            } else if (arg.startsWith("--time=")) {
+                time = Long.parseLong(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--benchmarks=")) {
+                selected.addAll(Arrays.asList(value.split(",")));
+            } else if (arg.startsWith("--out=")) {
+                out = Paths.get(value);
+            } else if (arg.equals("--column-store")) {
+                columnStore = true;
+            } else if (arg.equals("--no-query-cache")) {
+                queryCache = false;
+            } else if (arg.startsWith("--min-speedup=")) {
+                minSpeedup = Double.parseDouble(value);
+            } else {
+                System.err.println("알 수 없는 옵션: " + arg);
+                System.err.println("사용법: java ClubManagerBenchmark [--sizes=1000,100000,1000000] [--warmup=3] [--iterations=5]"
+                        + " [--time=1000] [--benchmarks=이름,...] [--seed=42] [--out=결과.json] [--column-store]"
+                        + " [--no-query-cache] [--min-speedup=3]");
+                return;
+            }
+        }
+
+        ClubManagerBenchmark benchmark = new ClubManagerBenchmark(warmup, iterations, time, seed, selected);
+        benchmark.setColumnStore(columnStore);
+        benchmark.setQueryCache(queryCache);
+        benchmark.setMinSpeedup(minSpeedup);
+        PrintStream console = System.out;
+        List<Result> results = new ArrayList<>();
+        try {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8)); // ClubManager 메시지 무시
+            for (int size : sizes) {
+                results.addAll(benchmark.run(size));
+            }
+        } finally {
+            System.setOut(console);
+        }
+
+        String json = toJson(results, benchmark);
+        if (out != null) {
+            Files.writeString(out, json, StandardCharsets.UTF_8);
+            System.err.println("결과를 저장했습니다: " + out);
+        } else {
+            console.println(json);
+        }
+        if (benchmark.failedChecks > 0) {
+            System.err.println("최소 배율에 못 미친 비교가 " + benchmark.failedChecks + "개 있습니다.");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 날짜 검색과 통계에 보고서 열 저장소를 사용할지 설정합니다.
+     *
+     * @param columnStore 열 저장소 사용 여부
+     */
+    public void setColumnStore(boolean columnStore) {
+        this.columnStore = columnStore;
+    }
+
+    /**
+     * 조회 작업에 검색 및 통계 결과 캐시를 사용할지 설정합니다.
+     *
+     * @param queryCache 결과 캐시 사용 여부
+     */
+    public void setQueryCache(boolean queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    /**
+     * 저장 형식 비교(encodeReports/decodeReports)에서 요구하는 최소 배율을 설정합니다.
+     *
+     * @param minSpeedup Java 직렬화 대비 최소 배율, 0이면 검사하지 않음
+     */
+    public void setMinSpeedup(double minSpeedup) {
+        this.minSpeedup = minSpeedup;
+    }
+
+    /**
+     * 보고서 수 하나에 대해 선택된 벤치마크를 모두 실행합니다.
+     *
+     * @param reportCount 데이터의 보고서 수
+     * @return 벤치마크 결과
+     */
+    public List<Result> run(int reportCount) {
+        List<Result> results = new ArrayList<>();
+        System.err.printf("[%,d건] 데이터 생성 중...%n", reportCount);
+        ClubManager manager = new ClubManager();
+        manager.setColumnStore(columnStore);
+        manager.getQueryCache().setEnabled(queryCache);
+        DatasetGenerator.Dataset dataset = new DatasetGenerator(seed)
+                .populate(manager, Math.max(1, reportCount / REPORTS_PER_CLUB), reportCount);
+        Random random = new Random(seed);
+
+        // 조회 작업
+        Result indexed = measure(results, "searchReportsByKeyword", reportCount, i ->
+                sink += manager.searchReportsByKeyword(dataset.randomKeyword(random)).size());
+        Result scanned = measure(results, "searchReportsByKeywordScan", reportCount, i ->
+                sink += scanKeyword(manager.snapshot(), dataset.randomKeyword(random)));
+        printSpeedup(reportCount, scanned, indexed);
+        Result lookup = measure(results, "findClub", reportCount, i ->
+                sink += manager.findClub(dataset.clubName(dataset.randomClub(random))).getMemberCount());
+        Result lookupScan = measure(results, "findClubScan", reportCount, i ->
+                sink += scanClub(manager.snapshot(), dataset.clubName(dataset.randomClub(random))).getMemberCount());
+        printSpeedup(reportCount, lookupScan, lookup);
+        List<Club> bulkClubs = new ArrayList<>();
+        if (isSelected("registerClubs100k")) {
+            for (int n = 0; n < BULK_CLUB_COUNT; n++) {
+                bulkClubs.add(new Club("일괄 등록 동아리 " + n, "지도교수", 10 + n % 40, "성능 측정용 동아리"));
+            }
+        }
+        measure(results, "registerClubs100k", reportCount, i -> sink += new ClubManager().registerClubs(bulkClubs));
+        bulkClubs.clear();
+        measure(results, "searchReportsByDate", reportCount, i ->
+                sink += manager.searchReportsByDate(dataset.randomDate(random)).size());
+        measure(results, "getReportsInDateRange", reportCount, i -> {
+            String[] range = dataset.randomMonthRange(random);
+            sink += manager.getReportsInDateRange(range[0], range[1]).size();
+        });
+        measure(results, "countReportsInDateRange", reportCount, i -> {
+            String[] range = dataset.randomMonthRange(random);
+            sink += manager.countReportsInDateRange(range[0], range[1]);
+        });
+        measure(results, "findReports", reportCount, i -> {
+            String author = dataset.randomName(random);
+            String location = dataset.randomLocation(random);
+            sink += manager.findReports(report -> author.equals(report.getAuthor())
+                    && location.equals(report.getLocation()), Integer.MAX_VALUE).size();
+        });
+        measure(results, "findReportsLimit20", reportCount, i -> {
+            String location = dataset.randomLocation(random);
+            sink += manager.findReports(report -> location.equals(report.getLocation()), 20).size();
+        });
+        QueryCache cache = manager.getQueryCache();
+        if (cache.isEnabled() && cache.getHitCount() + cache.getMissCount() > 0) {
+            System.err.printf("[%,d건] 결과 캐시 적중률 %.1f%% (적중 %,d / 실패 %,d)%n", reportCount,
+                    cache.getHitRate() * 100, cache.getHitCount(), cache.getMissCount());
+        }
+        measure(results, "viewReportsAsString", reportCount, i -> sink += manager.viewReportsAsString().length());
+
+        // 저장 형식 비교
+        if (isSelected("encodeReports") || isSelected("decodeReports")
+                || isSelected("serializeReports") || isSelected("deserializeReports")) {
+            measureFormats(results, reportCount, manager.snapshot());
+        }
+
+        // 저장 및 불러오기
+        if (canUseDataFiles()) {
+            try {
+                manager.saveData(); // 전체 저장은 한 번만 하고 이후에는 바뀐 샤드만 저장
+                measure(results, "saveData", reportCount, i -> {
+                    String club = dataset.clubName(dataset.randomClub(random));
+                    manager.addDetailedReport(club, dataset.randomActivity(random), dataset.randomName(random),
+                            dataset.randomLocation(random), dataset.randomResult(random), dataset.randomDate(random));
+                    try {
+                        manager.saveData();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                measure(results, "loadData", reportCount, i -> {
+                    ClubManager loaded = new ClubManager();
+                    try {
+                        loaded.loadData();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    sink += loaded.getTotalReportsCount();
+                });
+            } catch (IOException | UncheckedIOException e) {
+                System.err.println("저장 및 불러오기 측정 중 오류가 발생했습니다: " + e.getMessage());
+            }
+            deleteDataFiles();
+        } else if (isSelected("saveData") || isSelected("loadData")) {
+            System.err.println("현재 디렉터리에 data, journal 또는 clubs.dat, reports.dat가 있어 saveData/loadData 측정을 건너뜁니다.");
+        }
+
+        // 데이터를 바꾸는 작업
+        int[] registered = {0};
+        measure(results, "registerClub", reportCount, i -> {
+            int n = registered[0]++;
+            manager.registerClub("벤치마크 동아리 " + n, dataset.randomName(random), 10 + n % 40, "성능 측정용 동아리");
+        });
+        measure(results, "addDetailedReport", reportCount, i -> {
+            String club = dataset.clubName(dataset.randomClub(random));
+            manager.addDetailedReport(club, dataset.randomActivity(random), dataset.randomName(random),
+                    dataset.randomLocation(random), dataset.randomResult(random), dataset.randomDate(random));
+        });
+        return results;
+    }
+
+    /**
+     * 작업 하나를 워밍업 후 측정하여 결과 목록에 추가합니다.
+     *
+     * <p>
+     * 반복마다 지정한 시간이 지날 때까지(최소 한 번) 작업을 호출하고 호출당 평균 시간을 기록합니다.
+     * 메모리가 부족하면 해당 작업의 오류로 기록하고 다음 작업으로 넘어갑니다.
+     * </p>
+     */
+    private Result measure(List<Result> results, String name, int reportCount, IntConsumer operation) {
+        if (!isSelected(name)) {
+            return null;
+        }
+        Result result = new Result(name, reportCount);
+        try {
+            int invocation = 0;
+            for (int i = 0; i < warmupIterations + measurementIterations; i++) {
+                long ops = 0;
+                long start = System.nanoTime();
+                long elapsed;
+                do {
+                    operation.accept(invocation++);
+                    ops++;
+                    elapsed = System.nanoTime() - start;
+                } while (elapsed < iterationNanos);
+                if (i >= warmupIterations) {
+                    result.add((double) elapsed / ops, ops);
+                }
+            }
+            System.err.printf("[%,d건] %-24s %,14.1f ns/op ± %,.1f%n", reportCount, name, result.mean(), result.error());
+        } catch (OutOfMemoryError e) {
+            result.error = "OutOfMemoryError";
+            System.err.printf("[%,d건] %-24s 메모리 부족으로 중단되었습니다%n", reportCount, name);
+        }
+        results.add(result);
+        return result;
+    }
+
+    /**
+     * 보고서 파일을 {@link ClubDataCodec} 형식과 이전의 Java 직렬화 형식으로 쓰고 읽는 시간을 측정합니다.
+     * 두 형식 모두 이전 저장 형식과 같은 모양(동아리 이름별 ArrayList)의 보고서 맵을 임시 파일에 쓰며,
+     * {@link ClubDataCodec}은 기록 후 디스크에 동기화하므로 Java 직렬화도 같은 조건으로 동기화합니다.
+     */
+    private void measureFormats(List<Result> results, int reportCount, ClubSnapshot snapshot) {
+        HashMap<String, List<ActivityReport>> reports = new HashMap<>();
+        snapshot.getReportMap().forEach((club, list) -> reports.put(club, new ArrayList<>(list)));
+        Path codecFile = null;
+        Path serialFile = null;
+        try {
+            codecFile = Files.createTempFile("benchmark-reports", ".dat");
+            serialFile = Files.createTempFile("benchmark-reports", ".ser");
+            Path codec = codecFile;
+            Path serial = serialFile;
+            Result encode = measure(results, "encodeReports", reportCount, i -> {
+                try {
+                    ClubDataCodec.writeReports(codec, reports, 0);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            Result serialize = measure(results, "serializeReports", reportCount, i -> {
+                try (FileOutputStream file = new FileOutputStream(serial.toFile());
+                     ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(file))) {
+                    out.writeObject(reports);
+                    out.flush();
+                    file.getFD().sync();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            checkSpeedup(reportCount, serialize, encode);
+            ClubDataCodec.writeReports(codec, reports, 0); // 읽기 측정만 선택한 경우에도 파일이 있도록 함
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(serial)))) {
+                out.writeObject(reports);
+            }
+            Result decode = measure(results, "decodeReports", reportCount, i -> {
+                try {
+                    sink += ClubDataCodec.readReports(codec).getData().size();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            Result deserialize = measure(results, "deserializeReports", reportCount, i -> {
+                try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(serial)))) {
+                    sink += ((Map<?, ?>) in.readObject()).size();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            checkSpeedup(reportCount, deserialize, decode);
+            System.err.printf("[%,d건] 파일 크기: 바이너리 %,d바이트, Java 직렬화 %,d바이트%n", reportCount,
+                    Files.size(codec), Files.size(serial));
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("저장 형식 측정 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            try {
+                if (codecFile != null) {
+                    Files.deleteIfExists(codecFile);
+                }
+                if (serialFile != null) {
+                    Files.deleteIfExists(serialFile);
+                }
+            } catch (IOException e) {
+                System.err.println("측정용 임시 파일 삭제 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 두 작업을 모두 측정했으면 비교 작업이 기준 작업보다 몇 배 빠른지 출력하고 배율을 반환합니다.
+     * 둘 중 하나라도 측정하지 않았으면 NaN을 반환합니다.
+     */
+    private static double printSpeedup(int reportCount, Result baseline, Result candidate) {
+        if (baseline == null || candidate == null || baseline.error != null || candidate.error != null) {
+            return Double.NaN;
+        }
+        double speedup = baseline.mean() / candidate.mean();
+        System.err.printf("[%,d건] %s 대비 %s: %.1f배%n", reportCount, baseline.benchmark, candidate.benchmark, speedup);
+        return speedup;
+    }
+
+    /**
+     * 배율을 출력하고, 최소 배율을 지정했는데 그보다 낮으면 실패로 기록합니다.
+     */
+    private void checkSpeedup(int reportCount, Result baseline, Result candidate) {
+        double speedup = printSpeedup(reportCount, baseline, candidate);
+        if (minSpeedup > 0 && speedup < minSpeedup) { // NaN이면 비교가 거짓이므로 검사하지 않음
+            System.err.printf("[실패] [%,d건] %s 대비 %s 배율 %.1f배가 기준 %.1f배보다 낮습니다%n", reportCount,
+                    baseline.benchmark, candidate.benchmark, speedup, minSpeedup);
+            failedChecks++;
+        }
+    }
+
+    /**
+     * 색인 없이 모든 보고서의 활동 내용, 결과, 위치를 훑어 키워드가 포함된 보고서 수를 셉니다 (색인 이전 방식).
+     */
+    private static int scanKeyword(ClubSnapshot snapshot, String keyword) {
+        String term = keyword.trim().toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (List<ActivityReport> reports : snapshot.getReportMap().values()) {
+            for (ActivityReport report : reports) {
+                if (contains(report.getActivityContent(), term) || contains(report.getResult(), term)
+                        || contains(report.getLocation(), term)) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean contains(String text, String term) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(term);
+    }
+
+    /**
+     * 동아리 목록을 차례로 비교하여 이름이 같은 동아리를 찾습니다 (이름 색인 이전 방식).
+     */
+    private static Club scanClub(ClubSnapshot snapshot, String name) {
+        for (Club club : snapshot.getClubs()) {
+            if (club.getName().equals(name)) {
+                return club;
+            }
+        }
+        return null;
+    }
+
+    private boolean isSelected(String name) {
+        return selected.isEmpty() || selected.contains(name);
+    }
+
+    /**
+     * 기존 데이터 파일을 덮어쓰지 않는 경우에만 true를 반환합니다.
+     */
+    private static boolean canUseDataFiles() {
+        return !Files.exists(Paths.get("clubs.dat")) && !Files.exists(Paths.get("reports.dat"))
+                && !Files.exists(Paths.get("data")) && !Files.exists(Paths.get("journal"));
+    }
+
+    private static void deleteDataFiles() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get("data"))) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+            Files.delete(Paths.get("data"));
+        } catch (IOException e) {
+            System.err.println("측정용 데이터 파일 삭제 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 결과를 JSON 문자열로 만듭니다.
+     */
+    private static String toJson(List<Result> results, ClubManagerBenchmark benchmark) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"jvm\": ").append(DatasetGenerator.json(System.getProperty("java.vm.name") + " " + System.getProperty("java.version"))).append(",\n");
+        json.append("  \"maxHeapBytes\": ").append(Runtime.getRuntime().maxMemory()).append(",\n");
+        json.append("  \"processors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+        json.append("  \"warmupIterations\": ").append(benchmark.warmupIterations).append(",\n");
+        json.append("  \"measurementIterations\": ").append(benchmark.measurementIterations).append(",\n");
+        json.append("  \"iterationMillis\": ").append(benchmark.iterationNanos / 1_000_000).append(",\n");
+        json.append("  \"seed\": ").append(benchmark.seed).append(",\n");
+        json.append("  \"columnStore\": ").append(benchmark.columnStore).append(",\n");
+        json.append("  \"queryCache\": ").append(benchmark.queryCache).append(",\n");
+        json.append("  \"results\": [");
+        for (int i = 0; i < results.size(); i++) {
+            json.append(i == 0 ? "\n" : ",\n");
+            results.get(i).appendJson(json);
+        }
+        json.append("\n  ]\n}");
+        return json.toString();
+    }
+
+    /**
+     * 벤치마크 하나의 측정 결과입니다.
+     */
+    public static final class Result {
+        private final String benchmark;
+        private final int reportCount;
+        private final List<Double> nanosPerOp = new ArrayList<>(); // 반복별 평균 시간
+        private long operations;
+        private String error;
+
+        Result(String benchmark, int reportCount) {
+            this.benchmark = benchmark;
+            this.reportCount = reportCount;
+        }
+
+        void add(double nanos, long ops) {
+            nanosPerOp.add(nanos);
+            operations += ops;
+        }
+
+        /**
+         * 반복별 평균 시간의 평균을 반환합니다.
+         *
+         * @return ns/op
+         */
+        public double mean() {
+            return nanosPerOp.stream().mapToDouble(Double::doubleValue).average().orElse(Double.NaN);
+        }
+
+        /**
+         * 반복별 평균 시간의 표준 편차를 반환합니다.
+         *
+         * @return ns/op
+         */
+        public double error() {
+            if (nanosPerOp.size() < 2) {
+                return 0;
+            }
+            double mean = mean();
+            double sum = 0;
+            for (double value : nanosPerOp) {
+                sum += (value - mean) * (value - mean);
+            }
+            return Math.sqrt(sum / (nanosPerOp.size() - 1));
+        }
+
+        void appendJson(StringBuilder json) {
+            json.append("    {\"benchmark\": ").append(DatasetGenerator.json(benchmark));
+            json.append(", \"reports\": ").append(reportCount);
+            json.append(", \"mode\": \"avgt\", \"unit\": \"ns/op\"");
+            if (error != null) {
+                json.append(", \"error\": ").append(DatasetGenerator.json(error)).append('}');
+                return;
+            }
+            json.append(String.format(Locale.ROOT, ", \"score\": %.1f, \"scoreError\": %.1f", mean(), error()));
+            json.append(", \"operations\": ").append(operations);
+            json.append(", \"rawData\": [");
+            for (int i = 0; i < nanosPerOp.size(); i++) {
+                json.append(i == 0 ? "" : ", ").append(String.format(Locale.ROOT, "%.1f", nanosPerOp.get(i)));
+            }
+            json.append("]}");
+        }
+    }
+}
\ No newline at end of file
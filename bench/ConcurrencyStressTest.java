@@ -0,0 +1,318 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여러 스레드에서 동아리 등록과 보고서 작성을 동시에 호출해도 변경이 사라지지 않는지 확인하는 부하 검사 클래스입니다.
+ *
+ * <p>
+ * 각 스레드는 자기 이름의 동아리를 등록하면서, 모든 스레드가 함께 쓰는 동아리와 자기 동아리에 보고서를 한 건씩
+ * 또는 {@link ClubManager#addReports(Collection)}로 묶어서 작성하고, 같은 이름의 공용 동아리를 중복 등록하려고 시도합니다.
+ * 그 사이 조회 스레드는 검색, 날짜 색인, 통계를 계속 읽어 색인이 작성과 동시에 갱신되게 합니다.
+ * 모든 스레드가 끝나면 동아리 수, 전체 보고서 수, 동아리별 보고서 수와 날짜 색인 및 통계의 보고서 수가
+ * 스레드들이 센 값과 정확히 같은지 확인합니다.
+ * </p>
+ *
+ * <p>
+ * 이어서 작성 스레드들이 한 동아리에만 계속 작성하는 동안, 결과 캐시를 끈 조회 스레드가 다른 동아리의 기간 검색과
+ * 개수 조회를 반복하여 작성을 기다리지 않고 진행하는지 확인합니다. 정해진 시간 동안의 조회 횟수가 {@value #MIN_READS}회 이상이고,
+ * 가장 오래 걸린 조회가 {@value #MAX_READ_MILLIS} ms 이하이며, 결과가 한 번도 달라지지 않아야 합니다.
+ * </p>
+ *
+ * <p>
+ * 데이터는 메모리에만 두므로 파일을 만들지 않으며, 불일치가 있으면 종료 코드 1로 끝납니다.
+ * </p>
+ *
+ * <pre>
+ * java -cp out ConcurrencyStressTest [--threads=8] [--operations=20000] [--shared-clubs=16] [--seed=42]
+ *                                    [--reader-millis=2000]
+ * </pre>
+ *
+ * @author 한승규
+ * @version 1.1
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 다른 동아리에 작성이 몰리는 동안 조회가 진행되는지 확인하는 검사 추가 (한승규)</li>
+ * </ul>
+ */
+public class ConcurrencyStressTest {
+    private static final String SHARED_PREFIX = "공용 동아리 ";
+    private static final String FIRST_DATE = "2026-01-01";
+    private static final String LAST_DATE = "2026-12-28";
+    private static final String READER_CLUB = "조회 동아리"; // 조회만 하는 동아리
+    private static final String WRITER_CLUB = "작성 동아리"; // 작성이 몰리는 동아리
+    private static final int READER_REPORTS = 1000; // 조회 동아리의 보고서 수
+    private static final int MIN_READS = 100; // 작성 중 조회 동아리를 읽어야 하는 최소 횟수
+    private static final long MAX_READ_MILLIS = 1000; // 조회 한 번에 허용하는 가장 긴 시간
+
+    private static volatile long sink; // 조회 결과가 최적화로 사라지지 않도록 값을 모으는 곳
+
+    /**
+     * 명령행 옵션을 읽어 검사를 실행합니다.
+     *
+     * @param args 명령행 인자를 전달받는 배열
+     */
+    public static void main(String[] args) throws Exception {
+        int threads = 8;
+        int operations = 20_000;
+        int sharedClubs = 16;
+        long seed = 42;
+        long readerMillis = 2000;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value);
+            } else if (arg.startsWith("--operations=")) {
+                operations = Integer.parseInt(value);
+            } else if (arg.startsWith("--shared-clubs=")) {
+                sharedClubs = Integer.parseInt(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--reader-millis=")) {
+                readerMillis = Long.parseLong(value);
+            } else {
+                System.err.println("알 수 없는 옵션: " + arg);
+                System.err.println("사용법: java ConcurrencyStressTest [--threads=8] [--operations=20000]"
+                        + " [--shared-clubs=16] [--seed=42] [--reader-millis=2000]");
+                return;
+            }
+        }
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8)); // ClubManager 메시지 무시
+        int failures;
+        try {
+            failures = run(threads, operations, sharedClubs, seed);
+            failures += checkReaderProgress(threads, readerMillis, seed);
+        } finally {
+            System.setOut(console);
+        }
+        if (failures > 0) {
+            System.err.println("불일치 " + failures + "건");
+            System.exit(1);
+        }
+        System.err.println("모든 검사를 통과했습니다.");
+    }
+
+    /**
+     * 검사를 한 번 실행하고 불일치 수를 반환합니다.
+     */
+    private static int run(int threads, int operations, int sharedClubs, long seed) throws Exception {
+        ClubManager manager = new ClubManager();
+        for (int i = 0; i < sharedClubs; i++) {
+            manager.registerClub(SHARED_PREFIX + i, "지도교수", 10, "부하 검사");
+        }
+        // 색인과 통계를 미리 만들어 작성과 동시에 제자리에서 갱신되게 함
+        manager.searchReportsByKeyword("활동");
+        manager.searchReportsByDate(FIRST_DATE);
+        manager.getReportsInDateRange(SHARED_PREFIX + 0, FIRST_DATE, LAST_DATE);
+        manager.countReportsInDateRange(FIRST_DATE, LAST_DATE);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, Integer>>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            writers.add(pool.submit(() -> {
+                start.await();
+                return write(manager, thread, operations, sharedClubs, new Random(seed + thread));
+            }));
+        }
+        CountDownLatch writersDone = new CountDownLatch(threads);
+        Future<?> reader = pool.submit(() -> {
+            start.await();
+            Random random = new Random(seed - 1);
+            while (writersDone.getCount() > 0) {
+                sink += manager.searchReportsByKeyword("활동 " + random.nextInt(10)).size();
+                sink += manager.countReportsInDateRange(SHARED_PREFIX + random.nextInt(sharedClubs), FIRST_DATE, LAST_DATE);
+                sink += manager.getDateIndexedReportCount();
+                sink += manager.getTotalReportsCount();
+            }
+            return null;
+        });
+
+        long begin = System.nanoTime();
+        start.countDown();
+        Map<String, Integer> expected = new HashMap<>();
+        for (Future<Map<String, Integer>> writer : writers) {
+            writer.get().forEach((club, count) -> expected.merge(club, count, Integer::sum));
+            writersDone.countDown();
+        }
+        reader.get();
+        pool.shutdown();
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        int expectedTotal = expected.values().stream().mapToInt(Integer::intValue).sum();
+        int failures = 0;
+        failures += check("동아리 수", sharedClubs + threads * (operations / 100), manager.snapshot().getClubs().size());
+        failures += check("전체 보고서 수", expectedTotal, manager.getTotalReportsCount());
+        failures += check("날짜 색인 보고서 수", expectedTotal, manager.getDateIndexedReportCount());
+        failures += check("기간 내 보고서 수", expectedTotal, manager.countReportsInDateRange(FIRST_DATE, LAST_DATE));
+        int clubMismatches = 0;
+        for (Map.Entry<String, Integer> club : expected.entrySet()) {
+            if (manager.getReportsByClub(club.getKey()) != club.getValue()
+                    || manager.countReportsInDateRange(club.getKey(), FIRST_DATE, LAST_DATE) != club.getValue()) {
+                clubMismatches++;
+            }
+        }
+        failures += check("보고서 수가 다른 동아리", 0, clubMismatches);
+        System.err.printf("스레드 %d개, 동아리 %,d개, 보고서 %,d건, %,d ms%n", threads, expected.size(), expectedTotal, elapsedMillis);
+        return failures;
+    }
+
+    /**
+     * 작성 스레드들이 한 동아리에만 계속 작성하는 동안 다른 동아리를 읽는 조회가 진행되는지 확인하고 불일치 수를 반환합니다.
+     *
+     * <p>
+     * 결과 캐시를 꺼서 조회마다 색인과 스냅샷을 읽게 하고, 조회 한 번은 동아리의 기간 검색, 기간 내 개수, 보고서 수를 차례로 읽습니다.
+     * </p>
+     */
+    private static int checkReaderProgress(int threads, long millis, long seed) throws Exception {
+        ClubManager manager = new ClubManager();
+        manager.getQueryCache().setEnabled(false);
+        manager.registerClub(READER_CLUB, "지도교수", 10, "조회 검사");
+        manager.registerClub(WRITER_CLUB, "지도교수", 10, "작성 검사");
+        Random random = new Random(seed);
+        List<ActivityReport> reports = new ArrayList<>();
+        for (int i = 0; i < READER_REPORTS; i++) {
+            String date = String.format("2026-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28));
+            reports.add(new ActivityReport(READER_CLUB, "활동 " + i % 10, "작성자", "동아리방", "완료", date));
+        }
+        manager.addReports(reports);
+        manager.getReportsInDateRange(READER_CLUB, FIRST_DATE, LAST_DATE); // 색인을 미리 만듦
+        manager.countReportsInDateRange(READER_CLUB, FIRST_DATE, LAST_DATE);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Future<Integer>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Random writerRandom = new Random(seed + t);
+            writers.add(pool.submit(() -> {
+                start.await();
+                int written = 0;
+                for (int i = 0; !stop.get(); i++) {
+                    String date = String.format("2026-%02d-%02d", 1 + writerRandom.nextInt(12), 1 + writerRandom.nextInt(28));
+                    if (i % 10 == 0) {
+                        List<ActivityReport> batch = new ArrayList<>();
+                        for (int k = 0; k < 50; k++) {
+                            batch.add(new ActivityReport(WRITER_CLUB, "활동 " + k, "작성자", "동아리방", "완료", date));
+                        }
+                        written += manager.addReports(batch).getAcceptedCount();
+                    } else {
+                        manager.addDetailedReport(WRITER_CLUB, "활동", "작성자", "동아리방", "완료", date);
+                        written++;
+                    }
+                }
+                return written;
+            }));
+        }
+        Future<long[]> reader = pool.submit(() -> {
+            start.await();
+            long reads = 0;
+            long maxNanos = 0;
+            long wrong = 0;
+            while (!stop.get()) {
+                long begin = System.nanoTime();
+                int listed = manager.getReportsInDateRange(READER_CLUB, FIRST_DATE, LAST_DATE).size();
+                int counted = manager.countReportsInDateRange(READER_CLUB, FIRST_DATE, LAST_DATE);
+                int total = manager.getReportsByClub(READER_CLUB);
+                maxNanos = Math.max(maxNanos, System.nanoTime() - begin);
+                if (listed != READER_REPORTS || counted != READER_REPORTS || total != READER_REPORTS) {
+                    wrong++;
+                }
+                reads++;
+            }
+            return new long[]{reads, maxNanos, wrong};
+        });
+
+        start.countDown();
+        Thread.sleep(millis);
+        stop.set(true);
+        int written = 0;
+        for (Future<Integer> writer : writers) {
+            written += writer.get();
+        }
+        long[] read = reader.get();
+        pool.shutdown();
+
+        int failures = 0;
+        failures += check("작성 동아리 보고서 수", written, manager.getReportsByClub(WRITER_CLUB));
+        failures += checkAtLeast("작성 중 조회 동아리 조회 횟수", MIN_READS, read[0]);
+        failures += checkAtMost("작성 중 가장 긴 조회 시간(ms)", MAX_READ_MILLIS, read[1] / 1_000_000);
+        failures += check("결과가 달라진 조회", 0, read[2]);
+        System.err.printf("작성 스레드 %d개, %,d ms 동안 작성 %,d건, 조회 %,d회%n", threads, millis, written, read[0]);
+        return failures;
+    }
+
+    /**
+     * 스레드 하나의 작성 작업을 실행하고, 동아리별로 작성에 성공한 보고서 수를 반환합니다.
+     */
+    private static Map<String, Integer> write(ClubManager manager, int thread, int operations, int sharedClubs,
+                                              Random random) {
+        Map<String, Integer> counts = new HashMap<>();
+        List<String> ownClubs = new ArrayList<>();
+        for (int i = 0; i < operations; i++) {
+            if (i % 100 == 0) {
+                String name = "스레드 " + thread + " 동아리 " + ownClubs.size();
+                manager.registerClub(name, "지도교수", 10, "부하 검사");
+                manager.registerClub(SHARED_PREFIX + random.nextInt(sharedClubs), "지도교수", 10, "중복 등록"); // 무시되어야 함
+                ownClubs.add(name);
+                continue;
+            }
+            String club = random.nextBoolean() || ownClubs.isEmpty()
+                    ? SHARED_PREFIX + random.nextInt(sharedClubs) : ownClubs.get(random.nextInt(ownClubs.size()));
+            String date = String.format("2026-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28));
+            if (i % 10 == 0) {
+                List<ActivityReport> batch = new ArrayList<>();
+                for (int k = 0; k < 5; k++) {
+                    batch.add(new ActivityReport(club, "활동 " + k, "작성자 " + thread, "동아리방", "완료", date));
+                }
+                ReportBatchResult result = manager.addReports(batch);
+                counts.merge(club, result.getAcceptedCount(), Integer::sum);
+            } else {
+                manager.addDetailedReport(club, "활동 " + random.nextInt(10), "작성자 " + thread, "동아리방", "완료", date);
+                counts.merge(club, 1, Integer::sum);
+            }
+        }
+        for (String club : ownClubs) {
+            counts.putIfAbsent(club, 0);
+        }
+        return counts;
+    }
+
+    private static int check(String name, long expected, long actual) {
+        if (expected != actual) {
+            System.err.println("[실패] " + name + ": 예상 " + expected + ", 실제 " + actual);
+            return 1;
+        }
+        System.err.println("[통과] " + name + ": " + actual);
+        return 0;
+    }
+
+    private static int checkAtLeast(String name, long minimum, long actual) {
+        if (actual < minimum) {
+            System.err.println("[실패] " + name + ": 최소 " + minimum + ", 실제 " + actual);
+            return 1;
+        }
+        System.err.println("[통과] " + name + ": " + actual + " (최소 " + minimum + ")");
+        return 0;
+    }
+
+    private static int checkAtMost(String name, long maximum, long actual) {
+        if (actual > maximum) {
+            System.err.println("[실패] " + name + ": 최대 " + maximum + ", 실제 " + actual);
+            return 1;
+        }
+        System.err.println("[통과] " + name + ": " + actual + " (최대 " + maximum + ")");
+        return 0;
+    }
+}
\ No newline at end of file
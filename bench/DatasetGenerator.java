@@ -0,0 +1,450 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 성능 측정과 부하 시험에 사용할 동아리와 활동 보고서 데이터를 만드는 클래스입니다.
+ *
+ * <p>
+ * 같은 시드와 같은 개수로 만들면 항상 같은 데이터가 만들어집니다.
+ * 동아리별 보고서 수는 지프(Zipf) 분포를 따르므로 소수의 동아리가 보고서 대부분을 작성하고 나머지 다수는 드물게 작성합니다.
+ * 작성 날짜는 지정한 여러 해에 걸쳐 학기 중(3~6월, 9~12월)에 더 많이 분포하며,
+ * 작성자는 동아리마다 정해진 회원 명단에서, 활동 내용은 여러 문장 조각을 조합하여 고릅니다.
+ * </p>
+ *
+ * <p>
+ * 보고서는 스트림으로 만들어지므로 보고서 수가 많아도 한꺼번에 메모리에 올리지 않고
+ * {@link ClubManager#addReports(Stream)}에 넘기거나 파일로 쓸 수 있습니다.
+ * 보고서 스트림은 하나의 난수 생성기를 순서대로 사용하므로 병렬로 처리하면 안 됩니다.
+ * </p>
+ *
+ * <pre>
+ * java -cp out DatasetGenerator &lt;동아리 수&gt; &lt;보고서 수&gt; &lt;출력 파일(.csv|.jsonl)&gt; [--seed=42] [--skew=1.1] [--years=2020-2025]
+ * </pre>
+ *
+ * 출력 파일은 {@link ReportImporter} 형식이므로 {@code java Main import}로 가져올 수 있습니다.
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class DatasetGenerator {
+    /** 기본 지프 분포 지수 */
+    public static final double DEFAULT_SKEW = 1.1;
+    /** 기본 첫 해 */
+    public static final int DEFAULT_FIRST_YEAR = 2020;
+    /** 기본 마지막 해 */
+    public static final int DEFAULT_LAST_YEAR = 2025;
+
+    private static final String[] CLUB_PREFIXES = {
+            "한빛", "새벽", "푸른", "청춘", "우암", "무심천", "상당", "늘품", "가온", "다솜", "미리내", "한울", "온누리", "별빛"};
+    private static final String[] CLUB_KINDS = {
+            "연극부", "밴드", "봉사단", "프로그래밍 동아리", "사진 동호회", "축구부", "독서회", "댄스팀", "합창단", "천문 동아리",
+            "창업 동아리", "영화 감상회", "등산 동호회", "바둑부", "요리 연구회", "로봇 연구회"};
+    private static final String[] ACTIVITIES = {
+            "정기 모임", "신입생 환영회", "봉사 활동", "학술 세미나", "공연 연습", "체육 대회", "작품 전시회", "코딩 스터디",
+            "현장 답사", "동문 초청 강연", "축제 부스 운영", "연합 교류전", "합숙 훈련", "창업 아이디어 발표", "독서 토론",
+            "정기 공연", "멘토링", "캠페인", "워크숍", "해커톤"};
+    private static final String[] ACTIONS = {
+            "을 진행하였습니다", "에 참여하였습니다", "을 준비하였습니다", "을 마무리하였습니다", "의 일정을 조율하였습니다",
+            "을 기획하였습니다", "을 처음으로 열었습니다"};
+    private static final String[] REMARKS = {
+            "", "", "날씨가 좋아 예정대로 진행함.", "외부 강사를 초청함.", "다른 학교 동아리와 함께 함.", "사진과 영상 기록을 남김.",
+            "예산 일부를 학생지원팀에서 지원받음.", "다음 모임에서 후속 활동 예정.", "신입 회원이 많이 참석함."};
+    private static final String[] RESULTS = {
+            "참여 인원 전원이 목표를 달성함", "다음 학기 계획 수립", "지역 주민 만족도 높음", "우수 동아리 표창 수상",
+            "회원 간 친목 도모", "발표 자료 공유 완료", "예산 집행 내역 정리", "개선 사항 도출", "결과 보고서 제출 완료",
+            "참가자 설문 응답률 80% 이상", "교내 소식지에 소개됨", "일정 연기로 일부만 진행"};
+    private static final String[] LOCATIONS = {
+            "학생회관 301호", "중앙도서관 세미나실", "대운동장", "공학관 강의실", "예술관 공연장", "청주 시내 복지관",
+            "동아리방", "온라인 화상 회의", "체육관", "대학본부 대회의실", "학생식당 2층", "교외 수련원"};
+    private static final String[] FAMILY_NAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황"};
+    private static final String[] GIVEN_NAMES = {
+            "민준", "서연", "도윤", "하은", "시우", "지우", "예준", "수아", "주원", "지호", "서준", "하윤", "은우", "지유",
+            "유준", "채원", "건우", "다은", "현우", "소율"};
+    private static final int[] MONTH_WEIGHTS = {2, 1, 6, 8, 8, 6, 2, 1, 6, 8, 8, 5}; // 월별 보고서 비중 (학기 중에 많음)
+    private static final int MONTH_WEIGHT_TOTAL = Arrays.stream(MONTH_WEIGHTS).sum();
+
+    private final long seed;
+    private final double skew;
+    private final int firstYear;
+    private final int lastYear;
+
+    /**
+     * 기본 분포로 데이터를 만드는 생성기를 생성합니다.
+     *
+     * @param seed 난수 시드
+     */
+    public DatasetGenerator(long seed) {
+        this(seed, DEFAULT_SKEW, DEFAULT_FIRST_YEAR, DEFAULT_LAST_YEAR);
+    }
+
+    /**
+     * 생성기를 생성합니다.
+     *
+     * @param seed 난수 시드
+     * @param skew 동아리별 보고서 수의 지프 분포 지수 (0이면 균등, 클수록 일부 동아리에 몰림)
+     * @param firstYear 작성 날짜의 첫 해
+     * @param lastYear 작성 날짜의 마지막 해
+     * @throws IllegalArgumentException 지수가 음수이거나 첫 해가 마지막 해보다 늦은 경우
+     */
+    public DatasetGenerator(long seed, double skew, int firstYear, int lastYear) {
+        if (skew < 0 || firstYear > lastYear) {
+            throw new IllegalArgumentException("잘못된 분포 설정입니다: skew=" + skew + ", years=" + firstYear + "-" + lastYear);
+        }
+        this.seed = seed;
+        this.skew = skew;
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+    }
+
+    /**
+     * 동아리 목록을 만듭니다. 동아리 이름은 서로 다릅니다.
+     *
+     * @param clubCount 동아리 수
+     * @return 데이터 집합
+     */
+    public Dataset generate(int clubCount) {
+        return new Dataset(clubCount);
+    }
+
+    /**
+     * 동아리와 보고서를 만들어 관리 객체에 추가합니다.
+     *
+     * @param manager 데이터를 추가할 관리 객체
+     * @param clubCount 동아리 수
+     * @param reportCount 보고서 수
+     * @return 데이터 집합 (추가 작업용 난수 값을 만들 때 사용)
+     */
+    public Dataset populate(ClubManager manager, int clubCount, int reportCount) {
+        Dataset dataset = generate(clubCount);
+        manager.registerClubs(dataset.getClubs());
+        manager.addReports(dataset.reports(reportCount));
+        return dataset;
+    }
+
+    /**
+     * 명령행 인자로 받은 크기의 데이터를 {@link ReportImporter} 형식의 파일로 저장합니다.
+     *
+     * @param args 명령행 인자를 전달받는 배열
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("사용법: java DatasetGenerator <동아리 수> <보고서 수> <출력 파일(.csv|.jsonl)>"
+                    + " [--seed=42] [--skew=1.1] [--years=2020-2025]");
+            return;
+        }
+        long seed = 42;
+        double skew = DEFAULT_SKEW;
+        int firstYear = DEFAULT_FIRST_YEAR;
+        int lastYear = DEFAULT_LAST_YEAR;
+        for (int i = 3; i < args.length; i++) {
+            String value = args[i].substring(args[i].indexOf('=') + 1);
+            if (args[i].startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (args[i].startsWith("--skew=")) {
+                skew = Double.parseDouble(value);
+            } else if (args[i].startsWith("--years=")) {
+                firstYear = Integer.parseInt(value.substring(0, value.indexOf('-')));
+                lastYear = Integer.parseInt(value.substring(value.indexOf('-') + 1));
+            } else {
+                System.err.println("알 수 없는 옵션: " + args[i]);
+                return;
+            }
+        }
+        Path file = Paths.get(args[2]);
+        int clubCount = Integer.parseInt(args[0]);
+        int reportCount = Integer.parseInt(args[1]);
+        long start = System.nanoTime();
+        try {
+            new DatasetGenerator(seed, skew, firstYear, lastYear).write(file, ReportImporter.Format.of(file), clubCount, reportCount);
+            System.out.printf("동아리 %,d개, 보고서 %,d건을 %s에 저장했습니다 (%.1f초).%n", clubCount, reportCount, file,
+                    (System.nanoTime() - start) / 1e9);
+        } catch (IOException e) {
+            System.err.println("데이터 파일 저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터를 {@link ReportImporter}가 읽을 수 있는 파일로 저장합니다.
+     *
+     * @param file 저장할 파일
+     * @param format 파일 형식
+     * @param clubCount 동아리 수
+     * @param reportCount 보고서 수
+     * @throws IOException 파일을 쓸 수 없는 경우
+     */
+    public void write(Path file, ReportImporter.Format format, int clubCount, int reportCount) throws IOException {
+        Dataset dataset = generate(clubCount);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (format == ReportImporter.Format.CSV) {
+                out.write("type,name,advisor,memberCount,purpose\n");
+            }
+            for (Club club : dataset.getClubs()) {
+                writeRecord(out, format, new String[]{"type", "club", "name", club.getName(), "advisor", club.getAdvisor(),
+                        "memberCount", null, "purpose", club.getPurpose()}, club.getMemberCount());
+            }
+            Iterator<ActivityReport> reports = dataset.reports(reportCount).iterator();
+            while (reports.hasNext()) {
+                ActivityReport report = reports.next();
+                writeRecord(out, format, new String[]{"type", "report", "clubName", report.getClubName(),
+                        "activityContent", report.getActivityContent(), "author", report.getAuthor(),
+                        "location", report.getLocation(), "result", report.getResult(), "date", report.getDate()}, 0);
+            }
+        }
+    }
+
+    /**
+     * 이름과 값이 번갈아 놓인 배열을 한 행으로 씁니다. 값이 null이면 number를 숫자로 씁니다.
+     */
+    private static void writeRecord(Writer out, ReportImporter.Format format, String[] fields, int number) throws IOException {
+        for (int i = 0; i < fields.length; i += 2) {
+            String value = fields[i + 1];
+            if (format == ReportImporter.Format.CSV) {
+                out.write(i == 0 ? "" : ",");
+                out.write(value == null ? Integer.toString(number) : csv(value));
+            } else {
+                out.write(i == 0 ? "{" : ",");
+                out.write('"' + fields[i] + "\":");
+                out.write(value == null ? Integer.toString(number) : json(value));
+            }
+        }
+        out.write(format == ReportImporter.Format.CSV ? "\n" : "}\n");
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 문자열을 JSON 문자열 값으로 만듭니다.
+     */
+    static String json(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * 생성된 동아리 목록과, 그 동아리들의 보고서 및 임의 작업 값을 만드는 데이터 집합입니다.
+     */
+    public final class Dataset {
+        private final List<Club> clubs;
+        private final String[][] rosters; // 동아리별 회원 이름
+        private final double[] cumulativeWeights; // 동아리별 지프 가중치의 누적 합 (마지막 값은 1)
+        private int generatedReports; // 지금까지 만든 보고서 스트림 수 (스트림마다 다른 시드 사용)
+
+        private Dataset(int clubCount) {
+            Random random = new Random(seed);
+            clubs = new ArrayList<>(clubCount);
+            rosters = new String[clubCount][];
+            Map<String, Integer> usedNames = new HashMap<>(); // 기본 이름별 사용 횟수
+            for (int i = 0; i < clubCount; i++) {
+                String base = pick(random, CLUB_PREFIXES) + " " + pick(random, CLUB_KINDS);
+                int used = usedNames.merge(base, 1, Integer::sum);
+                String name = used == 1 ? base : base + " " + used; // 같은 이름이 나오면 번호를 붙임
+                int members = 5 + (int) Math.min(115, Math.abs(random.nextGaussian() * 25));
+                rosters[i] = new String[members];
+                for (int m = 0; m < members; m++) {
+                    rosters[i][m] = randomName(random);
+                }
+                clubs.add(new Club(name, randomName(random) + " 교수", members,
+                        pick(random, ACTIVITIES) + "을 통한 회원 역량 강화와 교류"));
+            }
+            // 순위가 높은(앞쪽) 동아리일수록 보고서를 많이 작성하도록 순위를 섞어 배정
+            double[] weights = new double[clubCount];
+            int[] ranks = IntStream.range(0, clubCount).toArray();
+            for (int i = clubCount - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = ranks[i];
+                ranks[i] = ranks[j];
+                ranks[j] = tmp;
+            }
+            double sum = 0;
+            for (int i = 0; i < clubCount; i++) {
+                weights[i] = 1.0 / Math.pow(ranks[i] + 1, skew);
+                sum += weights[i];
+            }
+            cumulativeWeights = new double[clubCount];
+            double running = 0;
+            for (int i = 0; i < clubCount; i++) {
+                running += weights[i] / sum;
+                cumulativeWeights[i] = running;
+            }
+            if (clubCount > 0) {
+                cumulativeWeights[clubCount - 1] = 1.0;
+            }
+        }
+
+        /**
+         * 생성된 동아리 목록을 반환합니다.
+         *
+         * @return 동아리 목록
+         */
+        public List<Club> getClubs() {
+            return Collections.unmodifiableList(clubs);
+        }
+
+        /**
+         * 동아리 이름을 반환합니다.
+         *
+         * @param index 동아리 순서
+         * @return 동아리 이름
+         */
+        public String clubName(int index) {
+            return clubs.get(index).getName();
+        }
+
+        /**
+         * 보고서 스트림을 만듭니다. 같은 데이터 집합에서 n번째로 호출한 스트림은 항상 같은 보고서를 만듭니다.
+         *
+         * @param count 보고서 수
+         * @return 순차 스트림
+         */
+        public Stream<ActivityReport> reports(int count) {
+            Random random = new Random(seed * 31 + ++generatedReports);
+            return IntStream.range(0, count).mapToObj(i -> randomReport(random));
+        }
+
+        /**
+         * 분포에 따라 임의의 보고서 하나를 만듭니다.
+         *
+         * @param random 난수 생성기
+         * @return 보고서
+         */
+        public ActivityReport randomReport(Random random) {
+            int club = randomClub(random);
+            return new ActivityReport(clubs.get(club).getName(), randomActivity(random), pick(random, rosters[club]),
+                    pick(random, LOCATIONS), pick(random, RESULTS), randomDate(random));
+        }
+
+        /**
+         * 지프 분포에 따라 동아리 순서 하나를 고릅니다.
+         *
+         * @param random 난수 생성기
+         * @return 동아리 순서
+         */
+        public int randomClub(Random random) {
+            int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+            return Math.min(index < 0 ? -index - 1 : index, clubs.size() - 1);
+        }
+
+        /**
+         * 분포에 따라 작성 날짜 하나를 만듭니다.
+         *
+         * @param random 난수 생성기
+         * @return 날짜 (YYYY-MM-DD)
+         */
+        public String randomDate(Random random) {
+            int year = firstYear + random.nextInt(lastYear - firstYear + 1);
+            int month = randomMonth(random);
+            int day = 1 + random.nextInt(java.time.Month.of(month).length(java.time.Year.isLeap(year)));
+            char[] date = {(char) ('0' + year / 1000 % 10), (char) ('0' + year / 100 % 10), (char) ('0' + year / 10 % 10),
+                    (char) ('0' + year % 10), '-', (char) ('0' + month / 10), (char) ('0' + month % 10), '-',
+                    (char) ('0' + day / 10), (char) ('0' + day % 10)};
+            return new String(date);
+        }
+
+        /**
+         * 분포에 따라 한 달 기간의 시작과 끝 날짜를 만듭니다.
+         *
+         * @param random 난수 생성기
+         * @return 시작 날짜와 종료 날짜
+         */
+        public String[] randomMonthRange(Random random) {
+            int year = firstYear + random.nextInt(lastYear - firstYear + 1);
+            String month = year + "-" + String.format("%02d", randomMonth(random));
+            return new String[]{month + "-01", month + "-31"};
+        }
+
+        /**
+         * 활동 내용에 자주 나오는 검색어 하나를 고릅니다.
+         *
+         * @param random 난수 생성기
+         * @return 검색어
+         */
+        public String randomKeyword(Random random) {
+            String phrase = random.nextBoolean() ? pick(random, ACTIVITIES) : pick(random, LOCATIONS);
+            int space = phrase.indexOf(' ');
+            return space > 0 && random.nextBoolean() ? phrase.substring(0, space) : phrase;
+        }
+
+        /**
+         * 여러 문장 조각을 조합하여 활동 내용을 만듭니다.
+         *
+         * @param random 난수 생성기
+         * @return 활동 내용
+         */
+        public String randomActivity(Random random) {
+            String remark = pick(random, REMARKS);
+            return pick(random, LOCATIONS) + "에서 " + pick(random, ACTIVITIES) + pick(random, ACTIONS)
+                    + ". 참여 인원 " + (3 + random.nextInt(60)) + "명." + (remark.isEmpty() ? "" : " " + remark);
+        }
+
+        /**
+         * 임의의 한국어 이름을 만듭니다.
+         *
+         * @param random 난수 생성기
+         * @return 이름
+         */
+        public String randomName(Random random) {
+            return pick(random, FAMILY_NAMES) + pick(random, GIVEN_NAMES);
+        }
+
+        /**
+         * 임의의 활동 위치를 고릅니다.
+         *
+         * @param random 난수 생성기
+         * @return 활동 위치
+         */
+        public String randomLocation(Random random) {
+            return pick(random, LOCATIONS);
+        }
+
+        /**
+         * 임의의 활동 결과를 고릅니다.
+         *
+         * @param random 난수 생성기
+         * @return 활동 결과
+         */
+        public String randomResult(Random random) {
+            return pick(random, RESULTS);
+        }
+    }
+
+    private static int randomMonth(Random random) {
+        int r = random.nextInt(MONTH_WEIGHT_TOTAL);
+        int month = 0;
+        while (r >= MONTH_WEIGHTS[month]) {
+            r -= MONTH_WEIGHTS[month++];
+        }
+        return month + 1;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
\ No newline at end of file
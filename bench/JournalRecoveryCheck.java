@@ -0,0 +1,155 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.stream.Stream;
+
+/**
+ * 저널 모드의 체크포인트와 재시작 후 복구를 확인하는 회귀 검사 클래스입니다.
+ *
+ * <p>
+ * 동아리 등록과 보고서 작성 후 체크포인트하고 종료한 뒤, 다시 시작하여 보고서를 작성하고 종료하고,
+ * 한 번 더 시작했을 때 두 보고서가 모두 불러와지는지 확인합니다. 체크포인트 후에는 비어 있는 세그먼트만 남으므로
+ * 재시작한 저널이 스냅샷에 반영된 LSN을 다시 발급하면 두 번째 보고서가 이미 반영된 것으로 보고 건너뛰어집니다.
+ * 또한 길이 헤더가 손상된 세그먼트를 열 때 메모리 부족 없이 손상 위치에서 잘라내는지 확인합니다.
+ * </p>
+ *
+ * <p>
+ * {@link ClubManager}는 현재 디렉터리의 data, journal 디렉터리를 사용하므로 빈 디렉터리에서 실행하십시오.
+ * 검사가 끝나면 만든 파일을 지우며, 실패하면 종료 코드 1로 끝납니다.
+ * </p>
+ *
+ * <pre>
+ * java -cp out JournalRecoveryCheck
+ * </pre>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class JournalRecoveryCheck {
+    private static final String CLUB = "검사 동아리";
+
+    private static int failures;
+
+    /**
+     * 검사를 실행합니다.
+     *
+     * @param args 사용하지 않음
+     */
+    public static void main(String[] args) throws IOException {
+        if (Files.exists(Paths.get("data")) || Files.exists(Paths.get("journal"))
+                || Files.exists(Paths.get("clubs.dat")) || Files.exists(Paths.get("reports.dat"))) {
+            System.err.println("현재 디렉터리에 data, journal 또는 clubs.dat, reports.dat가 있어 검사를 건너뜁니다.");
+            System.exit(2);
+        }
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8)); // ClubManager 메시지 무시
+        try {
+            checkRestartAfterCheckpoint();
+            checkCorruptLength();
+        } finally {
+            System.setOut(console);
+            deleteTree(Paths.get("data"));
+            deleteTree(Paths.get("journal"));
+        }
+        if (failures > 0) {
+            System.err.println("실패 " + failures + "건");
+            System.exit(1);
+        }
+        System.err.println("모든 검사를 통과했습니다.");
+    }
+
+    /**
+     * 체크포인트 → 종료 → 재시작 후 작성 → 종료 → 재시작 순서에서 보고서가 사라지지 않는지 확인합니다.
+     */
+    private static void checkRestartAfterCheckpoint() throws IOException {
+        ClubManager first = start();
+        first.registerClub(CLUB, "지도교수", 10, "검사");
+        first.addDetailedReport(CLUB, "첫 번째 활동", "작성자", "동아리방", "완료", "2026-10-01");
+        first.checkpoint();
+        first.shutdown();
+        expect("체크포인트 후 재시작", 1, reportCount());
+
+        ClubManager second = start();
+        second.addDetailedReport(CLUB, "두 번째 활동", "작성자", "동아리방", "완료", "2026-10-02");
+        second.shutdown();
+        expect("재시작 후 작성한 보고서 복구", 2, reportCount());
+
+        ClubManager third = start();
+        third.checkpoint(); // 복구한 상태로 다시 체크포인트해도 유지
+        third.addDetailedReport(CLUB, "세 번째 활동", "작성자", "동아리방", "완료", "2026-10-03");
+        third.shutdown();
+        expect("두 번째 체크포인트 후 복구", 3, reportCount());
+    }
+
+    /**
+     * 길이 헤더가 손상된 레코드 뒤를 잘라내고 이전 레코드와 LSN을 유지하는지 확인합니다.
+     */
+    private static void checkCorruptLength() throws IOException {
+        Path directory = Paths.get("journal", "corrupt");
+        long lsn;
+        try (ClubJournal journal = new ClubJournal(directory)) {
+            journal.appendClub(new Club(CLUB, "지도교수", 10, "검사"));
+            lsn = journal.sync();
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        long validBytes = Files.size(segment);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(segment, StandardOpenOption.APPEND))) {
+            out.writeInt(Integer.MAX_VALUE); // 손상된 길이
+            out.writeInt(0);
+            out.writeInt(-5);
+        }
+        try (ClubJournal journal = new ClubJournal(directory)) {
+            expect("손상된 레코드 잘라내기", validBytes, Files.size(segment));
+            expect("손상된 레코드 뒤 LSN", lsn + 1, journal.appendClub(new Club("다른 동아리", "지도교수", 5, "검사")));
+        } catch (OutOfMemoryError | NegativeArraySizeException e) {
+            System.err.println("[실패] 손상된 레코드 열기: " + e);
+            failures++;
+        }
+    }
+
+    private static ClubManager start() throws IOException {
+        ClubManager manager = new ClubManager();
+        manager.enableJournal();
+        manager.loadData();
+        return manager;
+    }
+
+    private static int reportCount() throws IOException {
+        ClubManager manager = start();
+        int count = manager.getTotalReportsCount();
+        manager.shutdown();
+        return count;
+    }
+
+    private static void expect(String name, long expected, long actual) {
+        if (expected != actual) {
+            System.err.println("[실패] " + name + ": 예상 " + expected + ", 실제 " + actual);
+            failures++;
+        } else {
+            System.err.println("[통과] " + name);
+        }
+    }
+
+    private static void deleteTree(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.sorted((a, b) -> b.compareTo(a))::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
\ No newline at end of file
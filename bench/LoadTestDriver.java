@@ -0,0 +1,438 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ClubManager}에 조회와 작성이 섞인 요청을 여러 스레드에서 목표 속도로 보내는 부하 시험 클래스입니다.
+ *
+ * <p>
+ * {@link DatasetGenerator}로 만든 데이터를 불러온 뒤, 각 스레드가 정해진 간격의 예정 시각마다 작업 하나를 실행합니다.
+ * 지연 시간은 실제 시작 시각이 아니라 예정 시각부터 재므로, 처리가 밀리면 기다린 시간까지 지연 시간에 포함됩니다(coordinated omission 방지).
+ * 목표 속도를 0으로 지정하면 기다리지 않고 최대 속도로 실행하며, 이때는 실제 시작 시각부터 잽니다.
+ * </p>
+ *
+ * <p>
+ * 워밍업 시간이 지난 뒤의 결과만 모아 작업별 및 전체 처리량과 p50/p99/p999/최대 지연 시간을 표준 오류에 표로,
+ * 표준 출력(또는 --out 파일)에 JSON으로 출력합니다. 실행 중 {@link ClubManager}가 출력하는 메시지는 버립니다.
+ * </p>
+ *
+ * <pre>
+ * java -cp out LoadTestDriver [--clubs=1000] [--reports=100000] [--threads=8] [--rate=2000] [--duration=30]
+ *                             [--warmup=5] [--write-ratio=0.1] [--seed=42] [--out=결과.json]
+ * </pre>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class LoadTestDriver {
+    private static final long PROGRESS_INTERVAL_NANOS = 1_000_000_000L; // 진행 상황 출력 간격
+
+    /**
+     * 부하 시험에서 실행하는 작업과 그 비중입니다. 조회와 작성은 각각 비중에 따라 고릅니다.
+     */
+    private enum Operation {
+        SEARCH_KEYWORD("searchReportsByKeyword", false, 25),
+        SEARCH_DATE("searchReportsByDate", false, 25),
+        DATE_RANGE("getReportsInDateRange", false, 20),
+        COUNT_DATE_RANGE("countReportsInDateRange", false, 20),
+        FIND_CLUB("findClub", false, 10),
+        ADD_REPORT("addDetailedReport", true, 95),
+        REGISTER_CLUB("registerClub", true, 5);
+
+        private final String label;
+        private final boolean write;
+        private final int weight;
+
+        Operation(String label, boolean write, int weight) {
+            this.label = label;
+            this.write = write;
+            this.weight = weight;
+        }
+    }
+
+    private final ClubManager manager;
+    private final DatasetGenerator.Dataset dataset;
+    private final int threads;
+    private final double rate;
+    private final double writeRatio;
+    private final long seed;
+    private final LongAdder completed = new LongAdder(); // 워밍업을 포함해 끝난 작업 수
+    private volatile long sink; // 조회 결과가 최적화로 사라지지 않도록 값을 모으는 곳
+
+    /**
+     * 부하 시험 객체를 생성합니다.
+     *
+     * @param manager 시험할 관리 객체 (데이터가 들어 있어야 함)
+     * @param dataset 관리 객체에 들어 있는 데이터 집합
+     * @param threads 요청을 보내는 스레드 수
+     * @param rate 전체 목표 속도 (초당 작업 수), 0이면 최대 속도
+     * @param writeRatio 작성 작업의 비율 (0~1)
+     * @param seed 작업 선택에 사용하는 난수 시드
+     */
+    public LoadTestDriver(ClubManager manager, DatasetGenerator.Dataset dataset, int threads, double rate,
+                          double writeRatio, long seed) {
+        this.manager = manager;
+        this.dataset = dataset;
+        this.threads = Math.max(1, threads);
+        this.rate = Math.max(0, rate);
+        this.writeRatio = Math.min(1, Math.max(0, writeRatio));
+        this.seed = seed;
+    }
+
+    /**
+     * 명령행 옵션에 따라 데이터를 만들고 부하 시험을 실행합니다.
+     *
+     * @param args 명령행 인자를 전달받는 배열
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int clubs = 1000;
+        int reports = 100_000;
+        int threads = 8;
+        double rate = 2000;
+        int duration = 30;
+        int warmup = 5;
+        double writeRatio = 0.1;
+        long seed = 42;
+        Path out = null;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--clubs=")) {
+                clubs = Integer.parseInt(value);
+            } else if (arg.startsWith("--reports=")) {
+                reports = Integer.parseInt(value);
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value);
+            } else if (arg.startsWith("--rate=")) {
+                rate = Double.parseDouble(value);
+            } else if (arg.startsWith("--duration=")) {
+                duration = Integer.parseInt(value);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(value);
+            } else if (arg.startsWith("--write-ratio=")) {
+                writeRatio = Double.parseDouble(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--out=")) {
+                out = Paths.get(value);
+            } else {
+                System.err.println("알 수 없는 옵션: " + arg);
+                System.err.println("사용법: java LoadTestDriver [--clubs=1000] [--reports=100000] [--threads=8] [--rate=2000]"
+                        + " [--duration=30] [--warmup=5] [--write-ratio=0.1] [--seed=42] [--out=결과.json]");
+                return;
+            }
+        }
+
+        PrintStream console = System.out;
+        Report report;
+        try {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8)); // ClubManager 메시지 무시
+            System.err.printf("동아리 %,d개, 보고서 %,d건 생성 중...%n", clubs, reports);
+            ClubManager manager = new ClubManager();
+            DatasetGenerator.Dataset dataset = new DatasetGenerator(seed).populate(manager, clubs, reports);
+            LoadTestDriver driver = new LoadTestDriver(manager, dataset, threads, rate, writeRatio, seed);
+            report = driver.run(warmup, duration);
+        } finally {
+            System.setOut(console);
+        }
+
+        System.err.print(report.toTable());
+        String json = report.toJson(clubs, reports);
+        if (out != null) {
+            Files.writeString(out, json, StandardCharsets.UTF_8);
+            System.err.println("결과를 저장했습니다: " + out);
+        } else {
+            console.println(json);
+        }
+    }
+
+    /**
+     * 부하 시험을 실행합니다.
+     *
+     * @param warmupSeconds 결과에서 제외할 처음 시간 (초)
+     * @param durationSeconds 결과를 모을 시간 (초)
+     * @return 시험 결과
+     * @throws InterruptedException 기다리는 중 중단된 경우
+     */
+    public Report run(int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long period = rate > 0 ? (long) (threads * 1e9 / rate) : 0; // 스레드 하나의 요청 간격
+        long start = System.nanoTime() + 100_000_000L; // 스레드가 모두 준비될 시간을 둠
+        long measureStart = start + warmupSeconds * 1_000_000_000L;
+        long end = measureStart + durationSeconds * 1_000_000_000L;
+        Worker[] workers = new Worker[threads];
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(i, start + period * i / threads, period, measureStart, end, done);
+            workers[i].start();
+        }
+
+        long lastCompleted = 0;
+        while (!done.await(PROGRESS_INTERVAL_NANOS, java.util.concurrent.TimeUnit.NANOSECONDS)) {
+            long now = System.nanoTime();
+            long total = completed.sum();
+            System.err.printf("%s %,d건 완료 (%,d건/초)%n", now < measureStart ? "[워밍업]" : "[측정]", total,
+                    total - lastCompleted);
+            lastCompleted = total;
+        }
+
+        // 처리가 밀렸으면 예정된 측정 시간보다 늦게 끝나므로 실제로 걸린 시간으로 처리량을 계산
+        long finished = end;
+        for (Worker worker : workers) {
+            finished = Math.max(finished, worker.lastFinished);
+        }
+        Report report = new Report((finished - measureStart) / 1e9);
+        for (Worker worker : workers) {
+            report.merge(worker.samples);
+        }
+        report.sort();
+        return report;
+    }
+
+    /**
+     * 예정 시각마다 작업 하나를 실행하고 지연 시간을 기록하는 스레드입니다.
+     */
+    private final class Worker extends Thread {
+        private final long firstStart;
+        private final long period;
+        private final long measureStart;
+        private final long end;
+        private final CountDownLatch done;
+        private final Random random;
+        private final Samples[] samples = new Samples[Operation.values().length];
+        private int registered; // 이 스레드가 등록한 동아리 수
+        private long lastFinished; // 마지막으로 기록한 작업이 끝난 시각
+
+        Worker(int index, long firstStart, long period, long measureStart, long end, CountDownLatch done) {
+            super("load-test-" + index);
+            this.firstStart = firstStart;
+            this.period = period;
+            this.measureStart = measureStart;
+            this.end = end;
+            this.done = done;
+            this.random = new Random(seed * 31 + index);
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = new Samples();
+            }
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                long scheduled = firstStart;
+                while (scheduled < end) {
+                    long now = System.nanoTime();
+                    if (period > 0) {
+                        while (now < scheduled) {
+                            LockSupport.parkNanos(scheduled - now);
+                            now = System.nanoTime();
+                        }
+                    } else {
+                        scheduled = now; // 최대 속도에서는 실제 시작 시각부터 잼
+                        if (now >= end) {
+                            break;
+                        }
+                    }
+                    Operation operation = choose();
+                    execute(operation);
+                    long finished = System.nanoTime();
+                    if (scheduled >= measureStart) {
+                        samples[operation.ordinal()].add(finished - scheduled);
+                        lastFinished = finished;
+                    }
+                    completed.increment();
+                    scheduled += period;
+                }
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private Operation choose() {
+            boolean write = random.nextDouble() < writeRatio;
+            int total = 0;
+            for (Operation operation : Operation.values()) {
+                total += operation.write == write ? operation.weight : 0;
+            }
+            int r = random.nextInt(total);
+            for (Operation operation : Operation.values()) {
+                if (operation.write == write) {
+                    r -= operation.weight;
+                    if (r < 0) {
+                        return operation;
+                    }
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private void execute(Operation operation) {
+            switch (operation) {
+                case SEARCH_KEYWORD:
+                    sink += manager.searchReportsByKeyword(dataset.randomKeyword(random)).size();
+                    break;
+                case SEARCH_DATE:
+                    sink += manager.searchReportsByDate(dataset.randomDate(random)).size();
+                    break;
+                case DATE_RANGE: {
+                    String[] range = dataset.randomMonthRange(random);
+                    sink += manager.getReportsInDateRange(range[0], range[1]).size();
+                    break;
+                }
+                case COUNT_DATE_RANGE: {
+                    String[] range = dataset.randomMonthRange(random);
+                    sink += manager.countReportsInDateRange(dataset.clubName(dataset.randomClub(random)), range[0], range[1]);
+                    break;
+                }
+                case FIND_CLUB:
+                    sink += manager.findClub(dataset.clubName(dataset.randomClub(random))) == null ? 0 : 1;
+                    break;
+                case ADD_REPORT:
+                    manager.addDetailedReport(dataset.clubName(dataset.randomClub(random)), dataset.randomActivity(random),
+                            dataset.randomName(random), dataset.randomLocation(random), dataset.randomResult(random),
+                            dataset.randomDate(random));
+                    break;
+                case REGISTER_CLUB:
+                    manager.registerClub("부하 시험 동아리 " + getName() + "-" + registered++, dataset.randomName(random),
+                            10 + random.nextInt(40), "부하 시험용 동아리");
+                    break;
+                default:
+                    throw new IllegalStateException(operation.name());
+            }
+        }
+    }
+
+    /**
+     * 한 스레드가 기록한 작업 하나의 지연 시간(나노초) 목록입니다.
+     */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+    }
+
+    /**
+     * 부하 시험 결과입니다. 작업별 지연 시간을 정렬해 두고 백분위수를 구합니다.
+     */
+    public static final class Report {
+        private final double elapsedSeconds; // 측정 구간의 작업이 모두 끝날 때까지 걸린 시간
+        private final Samples[] byOperation = new Samples[Operation.values().length];
+        private final Samples all = new Samples();
+
+        Report(double elapsedSeconds) {
+            this.elapsedSeconds = elapsedSeconds;
+            for (int i = 0; i < byOperation.length; i++) {
+                byOperation[i] = new Samples();
+            }
+        }
+
+        void merge(Samples[] samples) {
+            for (int i = 0; i < samples.length; i++) {
+                for (int j = 0; j < samples[i].size; j++) {
+                    byOperation[i].add(samples[i].values[j]);
+                    all.add(samples[i].values[j]);
+                }
+            }
+        }
+
+        void sort() {
+            for (Samples merged : byOperation) {
+                Arrays.sort(merged.values, 0, merged.size);
+            }
+            Arrays.sort(all.values, 0, all.size);
+        }
+
+        /**
+         * 결과를 표로 만듭니다.
+         *
+         * @return 표 문자열
+         */
+        public String toTable() {
+            StringBuilder table = new StringBuilder();
+            table.append(String.format("%-26s %10s %10s %12s %12s %12s %12s%n", "작업", "건수", "건/초",
+                    "p50(us)", "p99(us)", "p999(us)", "최대(us)"));
+            for (Operation operation : Operation.values()) {
+                appendRow(table, operation.label, byOperation[operation.ordinal()]);
+            }
+            appendRow(table, "전체", all);
+            return table.toString();
+        }
+
+        private void appendRow(StringBuilder table, String label, Samples samples) {
+            if (samples.size == 0) {
+                return;
+            }
+            table.append(String.format("%-26s %,10d %,10.0f %,12.1f %,12.1f %,12.1f %,12.1f%n", label, samples.size,
+                    samples.size / elapsedSeconds, percentile(samples, 0.5) / 1e3, percentile(samples, 0.99) / 1e3,
+                    percentile(samples, 0.999) / 1e3, samples.values[samples.size - 1] / 1e3));
+        }
+
+        /**
+         * 결과를 JSON 문자열로 만듭니다.
+         *
+         * @param clubs 데이터의 동아리 수
+         * @param reports 데이터의 보고서 수
+         * @return JSON 문자열
+         */
+        public String toJson(int clubs, int reports) {
+            StringBuilder json = new StringBuilder();
+            json.append("{\n");
+            json.append("  \"clubs\": ").append(clubs).append(",\n");
+            json.append("  \"reports\": ").append(reports).append(",\n");
+            json.append(String.format(Locale.ROOT, "  \"elapsedSeconds\": %.3f,%n", elapsedSeconds));
+            json.append("  \"unit\": \"us\",\n");
+            json.append("  \"operations\": [");
+            boolean first = true;
+            for (Operation operation : Operation.values()) {
+                Samples samples = byOperation[operation.ordinal()];
+                if (samples.size > 0) {
+                    json.append(first ? "\n    " : ",\n    ");
+                    appendJson(json, operation.label, samples);
+                    first = false;
+                }
+            }
+            json.append("\n  ],\n  \"total\": ");
+            appendJson(json, "total", all);
+            json.append("\n}");
+            return json.toString();
+        }
+
+        private void appendJson(StringBuilder json, String label, Samples samples) {
+            json.append("{\"operation\": ").append(DatasetGenerator.json(label));
+            json.append(", \"count\": ").append(samples.size);
+            json.append(String.format(Locale.ROOT, ", \"throughput\": %.1f", samples.size / elapsedSeconds));
+            if (samples.size > 0) {
+                json.append(String.format(Locale.ROOT, ", \"p50\": %.1f, \"p99\": %.1f, \"p999\": %.1f, \"max\": %.1f",
+                        percentile(samples, 0.5) / 1e3, percentile(samples, 0.99) / 1e3, percentile(samples, 0.999) / 1e3,
+                        samples.values[samples.size - 1] / 1e3));
+            }
+            json.append('}');
+        }
+
+        /**
+         * 정렬된 지연 시간에서 백분위수를 구합니다 (nearest-rank).
+         */
+        private static long percentile(Samples samples, double p) {
+            int rank = (int) Math.ceil(p * samples.size);
+            return samples.values[Math.max(0, Math.min(samples.size, rank) - 1)];
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 활동 보고서 한 건이 힙에서 차지하는 바이트 수를 측정하는 클래스입니다.
+ *
+ * <p>
+ * {@link DatasetGenerator}로 만든 보고서를 두 가지 방법으로 메모리에 올린 뒤, 가비지 컬렉션 후 늘어난 힙 사용량을
+ * 보고서 수로 나누어 보고서당 바이트 수를 구합니다. 보고서를 담는 배열의 크기는 뺍니다.
+ * </p>
+ * <ul>
+ *   <li>input: 가져오기, 저널 재생, 화면 입력처럼 필드마다 새 문자열로 보고서를 만드는 경우</li>
+ *   <li>loaded: {@link ClubDataCodec}으로 저장한 파일을 다시 읽는 경우 (파일의 문자열 사전으로 일부 문자열을 공유)</li>
+ * </ul>
+ *
+ * <p>
+ * 활동 내용은 보고서마다 다르므로 두 경우 모두 포함되며, 평균 활동 내용 문자열 크기를 함께 출력합니다.
+ * 측정 전후로 다른 객체가 만들어지지 않도록 단독으로 실행하십시오. 1,000,000건을 측정할 때는 {@code -Xmx2g} 이상을 권장합니다.
+ * </p>
+ *
+ * <pre>
+ * java -cp out ReportFootprintBenchmark [--reports=1000000] [--seed=42]
+ * </pre>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class ReportFootprintBenchmark {
+    private static final int REPORTS_PER_CLUB = 100; // 동아리 하나당 평균 보고서 수
+
+    /**
+     * 보고서당 바이트 수를 측정하여 출력합니다.
+     *
+     * @param args 명령행 인자
+     * @throws IOException 임시 파일을 쓰거나 읽을 수 없는 경우
+     */
+    public static void main(String[] args) throws IOException {
+        int reportCount = 1_000_000;
+        long seed = 42;
+        for (String arg : args) {
+            if (arg.startsWith("--reports=")) {
+                reportCount = Integer.parseInt(arg.substring("--reports=".length()));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else {
+                System.err.println("알 수 없는 옵션입니다: " + arg);
+                System.exit(1);
+            }
+        }
+        DatasetGenerator.Dataset dataset = new DatasetGenerator(seed).generate(Math.max(1, reportCount / REPORTS_PER_CLUB));
+
+        long contentBytes = 0;
+        ActivityReport[] reports = new ActivityReport[reportCount];
+        long before = usedMemory();
+        Iterator<ActivityReport> source = dataset.reports(reportCount).iterator();
+        for (int i = 0; i < reportCount; i++) {
+            ActivityReport report = source.next();
+            reports[i] = new ActivityReport(copy(report.getClubName()), copy(report.getActivityContent()),
+                    copy(report.getAuthor()), copy(report.getLocation()), copy(report.getResult()), copy(report.getDate()));
+            contentBytes += stringBytes(report.getActivityContent());
+        }
+        double input = (double) (usedMemory() - before) / reportCount;
+
+        Path file = Files.createTempFile("footprint", ".dat");
+        try {
+            Map<String, List<ActivityReport>> byClub = new LinkedHashMap<>();
+            for (ActivityReport report : reports) {
+                byClub.computeIfAbsent(report.getClubName(), k -> new ArrayList<>()).add(report);
+            }
+            ClubDataCodec.writeReports(file, byClub, 0);
+            byClub = null;
+            Arrays.fill(reports, null);
+            before = usedMemory();
+            Map<String, List<ActivityReport>> loaded = ClubDataCodec.readReports(file).getData();
+            long loadedBytes = usedMemory() - before;
+            long listBytes = 0; // 동아리별 ArrayList 배열 (보고서 배열과 같은 참조 크기로 계산)
+            for (List<ActivityReport> list : loaded.values()) {
+                listBytes += list.size() * (long) referenceSize();
+            }
+            double loadedPerReport = (double) (loadedBytes - listBytes) / reportCount;
+            Reference.reachabilityFence(loaded); // 측정이 끝날 때까지 불러온 보고서를 유지
+
+            double content = (double) contentBytes / reportCount;
+            System.err.printf("보고서 %,d건, 평균 활동 내용 문자열 %.1f바이트%n", reportCount, content);
+            System.err.printf("input  %8.1f 바이트/건%n", input);
+            System.err.printf("loaded %8.1f 바이트/건%n", loadedPerReport);
+            System.out.printf("{\"reports\": %d, \"contentBytes\": %.1f, \"inputBytesPerReport\": %.1f, \"loadedBytesPerReport\": %.1f}%n",
+                    reportCount, content, input, loadedPerReport);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 가비지 컬렉션을 여러 번 요청한 뒤 사용 중인 힙 크기를 반환합니다.
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static String copy(String value) {
+        return value == null ? null : new String(value.toCharArray());
+    }
+
+    /**
+     * 문자열 객체와 내부 배열의 대략적인 크기를 반환합니다. (압축 참조 기준, 한글이 있으면 UTF-16)
+     */
+    private static long stringBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        long array = 16 + (long) value.length() * (latin1 ? 1 : 2);
+        return 24 + (array + 7) / 8 * 8;
+    }
+
+    private static int referenceSize() {
+        return Runtime.getRuntime().maxMemory() < 32L * 1024 * 1024 * 1024 ? 4 : 8;
+    }
+}
\ No newline at end of file
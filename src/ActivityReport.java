@@ -1,4 +1,10 @@
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 
 /**
  * 활동 보고서를 저장하는 클래스입니다.
@@ -8,12 +14,20 @@ import java.io.Serializable;
  * 활동 보고서의 세부 정보를 반환하는 기능도 제공합니다.
  * </p>
  *
+ * <p>
+ * 보고서는 수십만 건이 메모리에 올라오므로 보고서마다 문자열을 따로 두지 않습니다.
+ * 종류가 많지 않은 동아리 이름, 작성자, 위치, 결과는 공유 {@link SymbolTable}의 번호로, 작성 날짜는 epoch day로 보관하고,
+ * 보고서마다 다른 활동 내용만 문자열로 보관합니다. getter는 기호표에서 문자열을 찾아 반환하므로 이전과 같은 값을 돌려줍니다.
+ * YYYY-MM-DD 형식이 아닌 날짜는 입력된 문자열 그대로 기호표에 보관합니다.
+ * Java 직렬화 형식은 이전과 같은 문자열 필드로 기록하므로 이전에 저장한 파일도 읽을 수 있습니다.
+ * </p>
+ *
  * @author 한승규
- * @version 1.4
+ * @version 1.10
  * @since 2024-12-06
  *
  * @created 2024-12-06
- * @lastModified 2024-12-22
+ * @lastModified 2026-10-17
  *
  * @changelog
  * <ul>
@@ -22,18 +36,48 @@ import java.io.Serializable;
  *   <li>2024-12-08: Serializable 인터페이스 구현 및 직렬화 ID 추가 (한승규)</li>
  *   <li>2024-12-21: 날짜 및 키워드 기반 검색 기능 지원을 위한 필드와 메서드 추가 (한승규)</li>
  *   <li>2024-12-22: 작성자, 위치, 결과 필드 추가 및 메서드 업데이트 (한승규)</li>
+ *   <li>2026-10-17: 입력한 작성 날짜가 현재 날짜로 덮어써지던 문제 수정 (한승규)</li>
+ *   <li>2026-10-17: 세부 정보를 Appendable에 바로 쓰는 appendReportDetails 추가 (한승규)</li>
+ *   <li>2026-10-17: 반복되는 필드를 기호표 번호로, 날짜를 epoch day로 보관하고 중복된 content 필드 제거 (한승규)</li>
+ *   <li>2026-10-17: 열 저장소에서 번호와 날짜 값으로 보고서를 만드는 ofColumns 추가 (한승규)</li>
+ *   <li>2026-10-17: 저장 파일을 읽을 때 날짜 값을 한 번만 계산하도록 encodeDate를 패키지 내부에 공개 (한승규)</li>
+ *   <li>2026-10-17: 동아리 이름만 바꾼 복사본을 만드는 withClubName 추가 (한승규)</li>
  * </ul>
  */
 public class ActivityReport implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    private String clubName; // 동아리 이름
+    /** 직렬화 형식은 이전 버전의 문자열 필드를 그대로 사용 */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("clubName", String.class),
+            new ObjectStreamField("activityContent", String.class),
+            new ObjectStreamField("date", String.class),
+            new ObjectStreamField("content", String.class),
+            new ObjectStreamField("author", String.class),
+            new ObjectStreamField("location", String.class),
+            new ObjectStreamField("result", String.class)};
+
+    /** 동아리 이름 기호표 */
+    static final SymbolTable CLUB_NAMES = new SymbolTable();
+    /** 작성자 기호표 */
+    static final SymbolTable AUTHORS = new SymbolTable();
+    /** 활동 위치 기호표 */
+    static final SymbolTable LOCATIONS = new SymbolTable();
+    /** 활동 결과 기호표 */
+    static final SymbolTable RESULTS = new SymbolTable();
+    /** YYYY-MM-DD 형식이 아닌 작성 날짜 기호표 */
+    static final SymbolTable RAW_DATES = new SymbolTable();
+
+    private static final int RAW_DATE_LIMIT = -1_000_000; // 이 값 이하의 날짜는 (이 값 - RAW_DATES 번호), 0000-01-01보다 작음
+    private static final int CACHED_DAYS = 47482; // 문자열을 보관하는 날짜 수 (1970-01-01 ~ 2099-12-31)
+    private static final String[] DAY_STRINGS = new String[CACHED_DAYS]; // epoch day별 날짜 문자열 (처음 요청할 때 채움)
+
+    private int clubId; // 동아리 이름 번호
     private String activityContent; // 활동 내용
-    private String date; // 보고서 작성 날짜
-    private String content; // 활동 내용
-    private String author;    // 작성자 이름
-    private String location;  // 활동 위치
-    private String result;    // 활동 결과
+    private int day; // 작성 날짜의 epoch day, 해석할 수 없으면 RAW_DATE_LIMIT 이하
+    private int authorId; // 작성자 이름 번호
+    private int locationId; // 활동 위치 번호
+    private int resultId; // 활동 결과 번호
 
     /**
      * 활동 보고서 객체를 생성합니다.
@@ -43,16 +87,70 @@ public class ActivityReport implements Serializable {
      * @param author 작성자 이름
      * @param location 활동 위치
      * @param result 활동 결과
-     * @param date 보고서 작성 날짜
+     * @param date 보고서 작성 날짜 (비어 있으면 현재 날짜)
      */
     public ActivityReport(String clubName, String activityContent, String author, String location, String result, String date) {
-        this.clubName = clubName;
+        this(CLUB_NAMES.idOf(clubName), activityContent, AUTHORS.idOf(author), LOCATIONS.idOf(location),
+                RESULTS.idOf(result), encodeDate((date == null || date.isBlank()) ? getCurrentDate() : date));
+    }
+
+    /**
+     * 기호표 번호와 epoch day로 활동 보고서 객체를 생성합니다.
+     */
+    private ActivityReport(int clubId, String activityContent, int authorId, int locationId, int resultId, int day) {
+        this.clubId = clubId;
         this.activityContent = activityContent;
-        this.author = author;
-        this.location = location;
-        this.result = result;
-        this.date = date;
-        this.date = getCurrentDate();
+        this.authorId = authorId;
+        this.locationId = locationId;
+        this.resultId = resultId;
+        this.day = day;
+    }
+
+    /**
+     * {@link ReportColumnStore}의 열 값으로 활동 보고서를 만듭니다.
+     *
+     * @param clubId 동아리 이름 번호
+     * @param activityContent 활동 내용
+     * @param authorId 작성자 이름 번호
+     * @param locationId 활동 위치 번호
+     * @param resultId 활동 결과 번호
+     * @param dayCode {@link #getDayCode()}가 반환한 날짜 값
+     * @return 활동 보고서
+     *
+     * @created 2026-10-17
+     */
+    static ActivityReport ofColumns(int clubId, String activityContent, int authorId, int locationId, int resultId,
+                                    int dayCode) {
+        return new ActivityReport(clubId, activityContent, authorId, locationId, resultId, dayCode);
+    }
+
+    /**
+     * 동아리 이름만 바꾼 복사본을 만듭니다. 이 보고서는 바뀌지 않습니다.
+     *
+     * @param clubName 복사본의 동아리 이름
+     * @return 활동 보고서
+     *
+     * @created 2026-10-17
+     */
+    ActivityReport withClubName(String clubName) {
+        return new ActivityReport(CLUB_NAMES.idOf(clubName), activityContent, authorId, locationId, resultId, day);
+    }
+
+    /**
+     * 저장된 값 그대로 활동 보고서를 만듭니다. 작성 날짜가 비어 있어도 현재 날짜로 바꾸지 않습니다.
+     *
+     * @param clubName 동아리 이름
+     * @param activityContent 활동 내용
+     * @param author 작성자 이름
+     * @param location 활동 위치
+     * @param result 활동 결과
+     * @param date 저장된 작성 날짜
+     * @return 활동 보고서
+     */
+    static ActivityReport restore(String clubName, String activityContent, String author, String location, String result,
+                                  String date) {
+        return new ActivityReport(CLUB_NAMES.idOf(clubName), activityContent, AUTHORS.idOf(author),
+                LOCATIONS.idOf(location), RESULTS.idOf(result), encodeDate(date));
     }
 
     /**
@@ -61,7 +159,7 @@ public class ActivityReport implements Serializable {
      * @return 동아리 이름
      */
     public String getClubName() {
-        return clubName;
+        return CLUB_NAMES.valueOf(clubId);
     }
 
     /**
@@ -70,7 +168,7 @@ public class ActivityReport implements Serializable {
      * @param clubName 설정할 동아리 이름
      */
     public void setClubName(String clubName) {
-        this.clubName = clubName;
+        this.clubId = CLUB_NAMES.idOf(clubName);
     }
 
     /**
@@ -101,7 +199,7 @@ public class ActivityReport implements Serializable {
      * @return 활동 보고서 정보 문자열
      *
      * @created 2024-12-07
-     * @lastModified 2024-12-22
+     * @lastModified 2026-10-17
      *
      * @changelog
      * <ul>
@@ -109,15 +207,39 @@ public class ActivityReport implements Serializable {
      *   <li>2024-12-08: Serializable 구현에 따른 변경 (한승규)</li>
      *   <li>2024-12-21: 작성 날짜 정보를 반환하도록 업데이트 (한승규)</li>
      *   <li>2024-12-22: 작성자, 위치, 결과 정보 포함하도록 업데이트 (한승규)</li>
+     *   <li>2026-10-17: appendReportDetails로 문자열 생성 (한승규)</li>
      * </ul>
      */
     public String getReportDetails() {
-        return "동아리 이름: " + clubName + "\n" +
-                "작성자: " + author + "\n" +
-                "활동 내용: " + activityContent + "\n" +
-                "위치: " + location + "\n" +
-                "결과: " + result + "\n" +
-                "작성 날짜: " + date + "\n";
+        StringBuilder sb = new StringBuilder(128);
+        try {
+            appendReportDetails(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder에 쓸 때는 발생하지 않음
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 활동 보고서의 세부 정보를 지정한 출력 대상에 씁니다.
+     *
+     * <p>
+     * {@link #getReportDetails()}와 같은 내용을 중간 문자열을 만들지 않고 바로 씁니다.
+     * 많은 보고서를 출력할 때 {@link java.io.BufferedWriter} 같은 버퍼를 거치면 버퍼 하나를 계속 재사용합니다.
+     * </p>
+     *
+     * @param out 출력 대상
+     * @throws IOException 출력 대상에 쓰는 중 오류가 발생한 경우
+     *
+     * @created 2026-10-17
+     */
+    public void appendReportDetails(Appendable out) throws IOException {
+        out.append("동아리 이름: ").append(getClubName()).append('\n')
+                .append("작성자: ").append(getAuthor()).append('\n')
+                .append("활동 내용: ").append(activityContent).append('\n')
+                .append("위치: ").append(getLocation()).append('\n')
+                .append("결과: ").append(getResult()).append('\n')
+                .append("작성 날짜: ").append(getDate()).append('\n');
     }
 
     /**
@@ -126,7 +248,18 @@ public class ActivityReport implements Serializable {
      * @return 작성 날짜 문자열 (예: 2024-12-21)
      */
     public String getDate() {
-        return date;
+        return dateOf(day);
+    }
+
+    /**
+     * 보고서 작성 날짜를 epoch day로 반환합니다. 문자열을 만들지 않으므로 날짜 비교에 사용합니다.
+     *
+     * @return 1970-01-01부터의 일 수, YYYY-MM-DD 형식이 아니면 {@link ReportDateIndex#INVALID_DAY}
+     *
+     * @created 2026-10-17
+     */
+    public int getEpochDay() {
+        return day > RAW_DATE_LIMIT ? day : ReportDateIndex.INVALID_DAY;
     }
 
     /**
@@ -135,7 +268,7 @@ public class ActivityReport implements Serializable {
      * @return 작성자 이름
      */
     public String getAuthor() {
-        return author;
+        return AUTHORS.valueOf(authorId);
     }
 
     /**
@@ -144,7 +277,7 @@ public class ActivityReport implements Serializable {
      * @param author 설정할 작성자 이름
      */
     public void setAuthor(String author) {
-        this.author = author;
+        this.authorId = AUTHORS.idOf(author);
     }
 
     /**
@@ -153,7 +286,7 @@ public class ActivityReport implements Serializable {
      * @return 활동 위치
      */
     public String getLocation() {
-        return location;
+        return LOCATIONS.valueOf(locationId);
     }
 
     /**
@@ -162,7 +295,7 @@ public class ActivityReport implements Serializable {
      * @param location 설정할 활동 위치
      */
     public void setLocation(String location) {
-        this.location = location;
+        this.locationId = LOCATIONS.idOf(location);
     }
 
     /**
@@ -171,7 +304,7 @@ public class ActivityReport implements Serializable {
      * @return 활동 결과
      */
     public String getResult() {
-        return result;
+        return RESULTS.valueOf(resultId);
     }
 
     /**
@@ -180,7 +313,7 @@ public class ActivityReport implements Serializable {
      * @param result 설정할 활동 결과
      */
     public void setResult(String result) {
-        this.result = result;
+        this.resultId = RESULTS.idOf(result);
     }
 
     /**
@@ -189,25 +322,147 @@ public class ActivityReport implements Serializable {
      * @param date 설정할 작성 날짜
      */
     public void setDate(String date) {
-        this.date = date;
+        this.day = encodeDate(date);
     }
 
+    /**
+     * 활동 내용을 반환합니다.
+     *
+     * @return 활동 내용
+     * @deprecated 활동 내용은 {@link #getActivityContent()}로 조회합니다. 중복된 content 필드는 제거되었습니다.
+     */
+    @Deprecated
     public String getContent() {
-        return content;
+        return activityContent;
+    }
+
+    /**
+     * 작성 날짜를 보관한 그대로의 값으로 반환합니다. 해석할 수 있는 날짜는 epoch day이고,
+     * 그렇지 않은 날짜는 {@link ReportDateIndex#INVALID_DAY}보다 크고 0000-01-01보다 작은 값입니다.
+     */
+    int getDayCode() {
+        return day;
+    }
+
+    /**
+     * 동아리 이름의 기호표 번호를 반환합니다.
+     */
+    int getClubId() {
+        return clubId;
+    }
+
+    /**
+     * 작성자의 기호표 번호를 반환합니다.
+     */
+    int getAuthorId() {
+        return authorId;
+    }
+
+    /**
+     * 활동 위치의 기호표 번호를 반환합니다.
+     */
+    int getLocationId() {
+        return locationId;
+    }
+
+    /**
+     * 활동 결과의 기호표 번호를 반환합니다.
+     */
+    int getResultId() {
+        return resultId;
+    }
+
+    /**
+     * 작성 날짜 문자열을 epoch day로 바꿉니다. YYYY-MM-DD 형식이 아니면 문자열을 기호표에 넣고 그 번호로 표시합니다.
+     *
+     * @param date 작성 날짜
+     * @return {@link #ofColumns}에 넘길 날짜 값
+     */
+    static int encodeDate(String date) {
+        int epochDay = ReportDateIndex.parseDay(date);
+        return epochDay != ReportDateIndex.INVALID_DAY ? epochDay : RAW_DATE_LIMIT - RAW_DATES.idOf(date);
+    }
+
+    /**
+     * 날짜 값의 날짜 문자열을 반환합니다.
+     *
+     * @param dayCode {@link #getDayCode()}가 반환한 날짜 값
+     * @return 작성 날짜
+     */
+    static String dateOf(int dayCode) {
+        return dayCode > RAW_DATE_LIMIT ? formatDay(dayCode) : RAW_DATES.valueOf(RAW_DATE_LIMIT - dayCode);
+    }
+
+    /**
+     * 날짜 문자열의 날짜 값을 찾습니다. 기호표에 새 값을 넣지 않습니다.
+     *
+     * @param date 작성 날짜
+     * @return 날짜 값, 어떤 보고서에도 없는 형식의 날짜이면 {@link ReportDateIndex#INVALID_DAY}
+     */
+    static int findDayCode(String date) {
+        int epochDay = ReportDateIndex.parseDay(date);
+        if (epochDay != ReportDateIndex.INVALID_DAY) {
+            return epochDay;
+        }
+        int id = RAW_DATES.find(date);
+        return id < 0 ? ReportDateIndex.INVALID_DAY : RAW_DATE_LIMIT - id;
+    }
+
+    /**
+     * epoch day를 YYYY-MM-DD 문자열로 바꿉니다. 자주 쓰는 범위의 날짜는 한 번 만든 문자열을 재사용합니다.
+     */
+    private static String formatDay(int epochDay) {
+        if (epochDay < 0 || epochDay >= CACHED_DAYS) {
+            return LocalDate.ofEpochDay(epochDay).toString();
+        }
+        String date = DAY_STRINGS[epochDay];
+        if (date == null) { // 여러 스레드가 동시에 만들어도 같은 값이므로 잠그지 않음
+            date = LocalDate.ofEpochDay(epochDay).toString();
+            DAY_STRINGS[epochDay] = date;
+        }
+        return date;
+    }
+
+    /**
+     * 이전 버전과 같은 문자열 필드로 직렬화합니다.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("clubName", getClubName());
+        fields.put("activityContent", activityContent);
+        fields.put("date", getDate());
+        fields.put("content", null);
+        fields.put("author", getAuthor());
+        fields.put("location", getLocation());
+        fields.put("result", getResult());
+        out.writeFields();
+    }
+
+    /**
+     * 이전 버전과 같은 문자열 필드에서 역직렬화합니다. 이전 content 필드는 사용하지 않습니다.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        clubId = CLUB_NAMES.idOf((String) fields.get("clubName", null));
+        activityContent = (String) fields.get("activityContent", null);
+        day = encodeDate((String) fields.get("date", null));
+        authorId = AUTHORS.idOf((String) fields.get("author", null));
+        locationId = LOCATIONS.idOf((String) fields.get("location", null));
+        resultId = RESULTS.idOf((String) fields.get("result", null));
     }
 
     /**
      * 현재 날짜를 반환합니다.
      *
      * <p>
-     * 이 메서드는 보고서 생성 시 자동으로 작성 날짜를 설정하기 위해 사용됩니다.
+     * 이 메서드는 보고서 생성 시 작성 날짜가 주어지지 않으면 자동으로 설정하기 위해 사용됩니다.
      * </p>
      *
      * @return 현재 날짜 문자열 (예: 2024-12-21)
      *
      * @created 2024-12-21
      */
-    private String getCurrentDate() {
+    private static String getCurrentDate() {
         return java.time.LocalDate.now().toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+import java.io.Closeable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 변경 내역을 모아 백그라운드 스레드에서 한 번에 저장하는 자동 저장 스케줄러 클래스입니다.
+ *
+ * <p>
+ * 저장되지 않은 첫 변경이 생기면 최대 지연 시간 뒤에 저장을 예약하고, 그 사이에 생긴 변경은 같은 저장에 함께 반영됩니다.
+ * 저장되지 않은 변경 수가 상한에 이르면 지연 시간을 기다리지 않고 바로 저장합니다.
+ * 대기 중인 저장은 종류별로 하나만 두므로 변경이 몰려도 저장이 쌓이지 않으며,
+ * 저장은 항상 스케줄러 스레드에서 실행되어 변경을 알린 호출자는 기다리지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 저장이 실패하거나 저장 중에 변경이 생겨 저장되지 않은 변경이 남으면 다시 예약합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class AutosaveScheduler implements Closeable {
+    private final Runnable save; // 저장 작업
+    private final LongSupplier dirtyCount; // 저장되지 않은 변경 수
+    private final long maxDelayMillis;
+    private final long maxDirtyOperations;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean delayedPending = new AtomicBoolean(); // 지연 저장 예약 여부
+    private final AtomicBoolean immediatePending = new AtomicBoolean(); // 즉시 저장 예약 여부
+
+    /**
+     * 자동 저장 스케줄러를 생성하고 스케줄러 스레드를 시작합니다.
+     *
+     * @param save 저장 작업 (스케줄러 스레드에서만 호출됨)
+     * @param dirtyCount 저장되지 않은 변경 수를 반환하는 함수
+     * @param maxDelayMillis 변경 후 저장까지 기다리는 최대 시간 (밀리초)
+     * @param maxDirtyOperations 바로 저장할 저장되지 않은 변경 수
+     */
+    public AutosaveScheduler(Runnable save, LongSupplier dirtyCount, long maxDelayMillis, long maxDirtyOperations) {
+        this.save = save;
+        this.dirtyCount = dirtyCount;
+        this.maxDelayMillis = Math.max(0, maxDelayMillis);
+        this.maxDirtyOperations = Math.max(1, maxDirtyOperations);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "club-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 변경이 생겼음을 알립니다. 저장을 예약만 하고 바로 돌아옵니다.
+     *
+     * @param dirty 현재 저장되지 않은 변경 수
+     */
+    public void changed(long dirty) {
+        if (dirty <= 0) {
+            return;
+        }
+        if (dirty >= maxDirtyOperations) {
+            if (immediatePending.compareAndSet(false, true)) {
+                submit(() -> {
+                    immediatePending.set(false);
+                    saveIfDirty();
+                }, 0);
+            }
+        } else {
+            scheduleDelayed();
+        }
+    }
+
+    /**
+     * 저장되지 않은 변경이 있으면 스케줄러 스레드에서 저장하고 끝날 때까지 기다립니다.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::saveIfDirty).get();
+        } catch (RejectedExecutionException e) {
+            // 이미 종료됨
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("자동 저장 중 오류가 발생했습니다: " + e.getCause());
+        }
+    }
+
+    /**
+     * 남은 변경을 저장하고 스케줄러 스레드를 종료합니다.
+     */
+    @Override
+    public void close() {
+        flush();
+        executor.shutdownNow(); // 예약된 지연 저장은 flush에서 이미 반영됨
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 저장되지 않은 변경이 있으면 저장합니다. 저장 뒤에도 남아 있으면 다시 예약합니다.
+     */
+    private void saveIfDirty() {
+        if (dirtyCount.getAsLong() > 0) {
+            save.run();
+        }
+        if (dirtyCount.getAsLong() > 0) {
+            scheduleDelayed(); // 실패했거나 저장 중 생긴 변경은 지연 저장으로 다시 예약
+        }
+    }
+
+    private void scheduleDelayed() {
+        if (delayedPending.compareAndSet(false, true)) {
+            submit(() -> {
+                delayedPending.set(false);
+                saveIfDirty();
+            }, maxDelayMillis);
+        }
+    }
+
+    private void submit(Runnable task, long delayMillis) {
+        try {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료된 뒤의 변경은 호출자가 직접 저장
+        }
+    }
+}
\ No newline at end of file
@@ -1,3 +1,4 @@
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -9,17 +10,18 @@ import java.io.Serializable;
  * </p>
  *
  * @author 한승규
- * @version 1.2
+ * @version 1.3
  * @since 2024-12-06
  *
  * @created 2024-12-06
- * @lastModified 2024-12-08
+ * @lastModified 2026-10-17
  *
  * @changelog
  * <ul>
  *   <li>2024-12-06: 최초 생성 (한승규)</li>
  *   <li>2024-12-07: getDetails 메서드 추가 및 전체 코드 개선 (한승규)</li>
  *   <li>2024-12-08: Serializable 인터페이스 추가 (한승규)</li>
+ *   <li>2026-10-17: 정보를 Appendable에 바로 쓰는 appendDetails 추가 (한승규)</li>
  * </ul>
  */
 public class Club implements Serializable {
@@ -140,4 +142,23 @@ public class Club implements Serializable {
                 ", 회원 수: " + memberCount +
                 ", 설립 목적: " + purpose;
     }
+
+    /**
+     * 동아리 정보를 지정한 출력 대상에 씁니다.
+     *
+     * <p>
+     * {@link #getDetails()}와 같은 내용을 중간 문자열을 만들지 않고 바로 씁니다.
+     * </p>
+     *
+     * @param out 출력 대상
+     * @throws IOException 출력 대상에 쓰는 중 오류가 발생한 경우
+     *
+     * @created 2026-10-17
+     */
+    public void appendDetails(Appendable out) throws IOException {
+        out.append("동아리 이름: ").append(name)
+                .append(", 지도 교수: ").append(advisor)
+                .append(", 회원 수: ").append(Integer.toString(memberCount))
+                .append(", 설립 목적: ").append(purpose);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,953 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * 동아리 및 활동 보고서 데이터를 압축된 바이너리 형식으로 저장하고 불러오는 클래스입니다.
+ *
+ * <p>
+ * Java 직렬화(ObjectOutputStream)는 클래스 정보를 반복해서 기록하고 리플렉션을 사용하기 때문에
+ * 보고서가 많아지면 파일이 커지고 느려집니다. 이 클래스는 버전이 있는 고유 형식으로
+ * {@link Club}과 {@link ActivityReport}를 기록합니다.
+ * </p>
+ *
+ * <p>
+ * 파일 구조는 다음과 같습니다.
+ * </p>
+ * <ul>
+ *   <li>헤더 (32바이트): 매직 넘버, 버전, 플래그, 저널 LSN, 본문 길이, 본문 CRC32</li>
+ *   <li>문자열 사전: 반복되는 문자열(동아리 이름, 작성자, 위치, 결과, 날짜)을 한 번씩만 기록</li>
+ *   <li>레코드: 정수는 가변 길이 정수(varint), 문자열은 길이가 앞에 붙은 UTF-8 또는 사전 번호</li>
+ *   <li>색인 (보고서 파일, 버전 2, 2GB 이하): 동아리별 보고서 수와 각 보고서의 파일 내 위치를 고정 길이로 기록.
+ *       본문의 마지막 4바이트가 색인의 시작 위치이며, 헤더 플래그로 포함 여부를 표시합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 모든 입출력은 버퍼를 거쳐 FileChannel로 수행합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.6
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성, 동아리/보고서 바이너리 형식 구현 (한승규)</li>
+ *   <li>2026-10-17: 버전 2, 보고서 위치 색인 추가 및 메모리 매핑 지연 로딩 지원 (한승규)</li>
+ *   <li>2026-10-17: 여러 파일의 보고서를 하나의 맵에 바로 읽어 넣는 readReports/mapReports 추가 (한승규)</li>
+ *   <li>2026-10-17: 저장된 날짜를 그대로 복원하는 ActivityReport.restore로 보고서 생성 (한승규)</li>
+ *   <li>2026-10-17: 전체 로딩에서 사전 번호별 기호표 번호와 날짜 값을 한 번만 찾고, 가변 길이 정수 기록 시 버퍼 확인 횟수 감소 (한승규)</li>
+ *   <li>2026-10-17: 문자열 길이와 개수를 남은 본문 크기로 제한, 매핑 시 체크섬과 위치 색인 확인 (한승규)</li>
+ *   <li>2026-10-17: 문자열을 기록 버퍼에 바로 인코딩하고, 보고서 사전 번호를 기호표 번호별 배열로 찾음 (한승규)</li>
+ * </ul>
+ */
+public class ClubDataCodec {
+    static final int CLUBS_MAGIC = 0x434C4244; // "CLBD"
+    static final int REPORTS_MAGIC = 0x52505444; // "RPTD"
+    static final short VERSION = 2;
+    static final short MIN_VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final short FLAG_INDEXED = 1; // 보고서 위치 색인 포함
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 파일에서 읽어 온 데이터와 해당 스냅샷의 저널 LSN을 함께 담는 클래스입니다.
+     *
+     * @param <T> 데이터 형식
+     */
+    public static class Result<T> {
+        private final T data;
+        private final long lsn;
+
+        Result(T data, long lsn) {
+            this.data = data;
+            this.lsn = lsn;
+        }
+
+        /**
+         * 읽어 온 데이터를 반환합니다.
+         *
+         * @return 데이터
+         */
+        public T getData() {
+            return data;
+        }
+
+        /**
+         * 스냅샷에 반영된 마지막 저널 LSN을 반환합니다.
+         *
+         * @return 저널 LSN
+         */
+        public long getLsn() {
+            return lsn;
+        }
+    }
+
+    private ClubDataCodec() {
+    }
+
+    /**
+     * 파일이 이 클래스의 바이너리 형식인지 확인합니다.
+     *
+     * @param file 확인할 파일
+     * @return 바이너리 형식이면 true, 이전 직렬화 형식이거나 알 수 없으면 false
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public static boolean isBinaryFormat(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // 4바이트를 모두 읽을 때까지 반복
+            }
+            if (magic.hasRemaining()) {
+                return false;
+            }
+            int value = magic.getInt(0);
+            return value == CLUBS_MAGIC || value == REPORTS_MAGIC;
+        }
+    }
+
+    /**
+     * 동아리 목록을 파일에 기록합니다.
+     *
+     * @param file 기록할 파일
+     * @param clubs 동아리 목록
+     * @param lsn 스냅샷에 반영된 마지막 저널 LSN
+     * @throws IOException 기록 중 오류가 발생한 경우
+     */
+    public static void writeClubs(Path file, List<Club> clubs, long lsn) throws IOException {
+        StringDictionary dictionary = new StringDictionary();
+        for (Club club : clubs) {
+            dictionary.add(club.getAdvisor());
+        }
+        try (BodyWriter out = new BodyWriter(file)) {
+            dictionary.writeTo(out);
+            out.writeVarInt(clubs.size());
+            for (Club club : clubs) {
+                out.writeString(club.getName());
+                out.writeVarInt(dictionary.idOf(club.getAdvisor()));
+                out.writeVarInt(zigZag(club.getMemberCount()));
+                out.writeString(club.getPurpose());
+            }
+            out.finish(CLUBS_MAGIC, lsn, (short) 0);
+        }
+    }
+
+    /**
+     * 동아리별 활동 보고서를 파일에 기록합니다.
+     *
+     * <p>
+     * 보고서는 동아리별로 묶어 기록하므로 보고서마다 동아리 이름을 반복하지 않습니다.
+     * </p>
+     *
+     * @param file 기록할 파일
+     * @param reports 동아리 이름별 활동 보고서 목록
+     * @param lsn 스냅샷에 반영된 마지막 저널 LSN
+     * @throws IOException 기록 중 오류가 발생한 경우
+     */
+    public static void writeReports(Path file, Map<String, List<ActivityReport>> reports, long lsn) throws IOException {
+        StringDictionary dictionary = new StringDictionary();
+        ReportSymbols symbols = new ReportSymbols(dictionary);
+        for (Map.Entry<String, List<ActivityReport>> entry : reports.entrySet()) {
+            dictionary.add(entry.getKey());
+            for (ActivityReport report : entry.getValue()) {
+                symbols.add(report);
+            }
+        }
+        int clubCount = reports.size();
+        int[] clubIds = new int[clubCount];
+        int[][] offsets = new int[clubCount][];
+        try (BodyWriter out = new BodyWriter(file)) {
+            dictionary.writeTo(out);
+            out.writeVarInt(clubCount);
+            int c = 0;
+            for (Map.Entry<String, List<ActivityReport>> entry : reports.entrySet()) {
+                List<ActivityReport> list = entry.getValue();
+                clubIds[c] = dictionary.idOf(entry.getKey());
+                offsets[c] = new int[list.size()];
+                out.writeVarInt(clubIds[c]);
+                out.writeVarInt(list.size());
+                int i = 0;
+                for (ActivityReport report : list) {
+                    offsets[c][i++] = out.offset();
+                    symbols.write(out, report);
+                }
+                c++;
+            }
+            long indexSize = 8L + clubCount * 12L;
+            for (int[] clubOffsets : offsets) {
+                indexSize += clubOffsets.length * 4L;
+            }
+            short flags = 0;
+            if (out.offset() >= 0 && out.offset() + indexSize <= Integer.MAX_VALUE) {
+                writeIndex(out, clubIds, offsets);
+                flags = FLAG_INDEXED;
+            }
+            out.finish(REPORTS_MAGIC, lsn, flags);
+        }
+    }
+
+    /**
+     * 파일에서 동아리 목록을 읽어 옵니다.
+     *
+     * @param file 읽을 파일
+     * @return 동아리 목록과 저널 LSN
+     * @throws IOException 형식이 맞지 않거나 체크섬이 다른 경우
+     */
+    public static Result<List<Club>> readClubs(Path file) throws IOException {
+        try (BodyReader in = new BodyReader(file, CLUBS_MAGIC)) {
+            String[] dictionary = in.readDictionary();
+            int count = in.readCount();
+            List<Club> clubs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String name = in.readString();
+                String advisor = in.readSymbol(dictionary);
+                int memberCount = unZigZag(in.readVarInt());
+                String purpose = in.readString();
+                clubs.add(new Club(name, advisor, memberCount, purpose));
+            }
+            in.verify();
+            return new Result<>(clubs, in.lsn);
+        }
+    }
+
+    /**
+     * 파일에서 동아리별 활동 보고서를 읽어 옵니다.
+     *
+     * @param file 읽을 파일
+     * @return 동아리 이름별 활동 보고서 목록과 저널 LSN
+     * @throws IOException 형식이 맞지 않거나 체크섬이 다른 경우
+     */
+    public static Result<HashMap<String, List<ActivityReport>>> readReports(Path file) throws IOException {
+        return readReports(file, new HashMap<>());
+    }
+
+    /**
+     * 파일에서 동아리별 활동 보고서를 읽어 지정한 맵에 넣습니다.
+     *
+     * <p>
+     * 여러 파일을 동시에 읽어 하나의 맵에 모을 때 사용하며, 이 경우 맵은 동시 추가를 지원해야 합니다.
+     * </p>
+     *
+     * @param file 읽을 파일
+     * @param reports 읽은 보고서 목록을 넣을 맵
+     * @param <M> 맵 형식
+     * @return 보고서를 넣은 맵과 저널 LSN
+     * @throws IOException 형식이 맞지 않거나 체크섬이 다른 경우
+     */
+    static <M extends Map<String, List<ActivityReport>>> Result<M> readReports(Path file, M reports) throws IOException {
+        try (BodyReader in = new BodyReader(file, REPORTS_MAGIC)) {
+            String[] dictionary = in.readDictionary();
+            SymbolIds authors = new SymbolIds(dictionary, ActivityReport.AUTHORS::idOf);
+            SymbolIds locations = new SymbolIds(dictionary, ActivityReport.LOCATIONS::idOf);
+            SymbolIds results = new SymbolIds(dictionary, ActivityReport.RESULTS::idOf);
+            SymbolIds dates = new SymbolIds(dictionary, ActivityReport::encodeDate);
+            int clubCount = in.readCount();
+            for (int i = 0; i < clubCount; i++) {
+                String clubName = in.readSymbol(dictionary);
+                int clubId = ActivityReport.CLUB_NAMES.idOf(clubName);
+                int count = in.readCount();
+                List<ActivityReport> list = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    int authorId = authors.idOf(in.readVarInt());
+                    int locationId = locations.idOf(in.readVarInt());
+                    int resultId = results.idOf(in.readVarInt());
+                    int dayCode = dates.idOf(in.readVarInt());
+                    String content = in.readString();
+                    list.add(ActivityReport.ofColumns(clubId, content, authorId, locationId, resultId, dayCode));
+                }
+                reports.put(clubName, list);
+            }
+            in.skipRemaining(); // 버전 2의 위치 색인은 전체 로딩에 필요하지 않음
+            in.verify();
+            return new Result<>(reports, in.lsn);
+        }
+    }
+
+    /**
+     * 보고서 파일을 메모리에 매핑하여 지연 로딩합니다.
+     *
+     * <p>
+     * 문자열 사전과 동아리별 보고서 수만 바로 읽고, 각 보고서는 {@link MappedReportList}에서
+     * 처음 접근할 때 매핑된 영역에서 디코딩합니다. 매핑할 때 본문의 체크섬과 위치 색인(각 위치가 본문 안에 있고
+     * 차례로 증가하는지)을 확인하므로, 손상된 파일은 나중의 지연 로딩이 아니라 여기서 IOException으로 드러납니다.
+     * 색인이 없는 버전 1 파일이나 2GB를 넘는 파일은 매핑할 수 없으므로 null을 반환하며,
+     * 이 경우 호출자는 {@link #readReports(Path)}로 전체를 읽어야 합니다.
+     * </p>
+     *
+     * @param file 읽을 파일
+     * @return 동아리 이름별 지연 로딩 보고서 목록과 저널 LSN, 매핑할 수 없으면 null
+     * @throws IOException 형식이 맞지 않거나 체크섬이 다르거나 위치 색인이 손상된 경우
+     */
+    public static Result<HashMap<String, List<ActivityReport>>> mapReports(Path file) throws IOException {
+        return mapReports(file, new HashMap<>());
+    }
+
+    /**
+     * 보고서 파일을 메모리에 매핑하여 지연 로딩하고, 동아리별 보고서 목록을 지정한 맵에 넣습니다.
+     *
+     * <p>
+     * 매핑할 수 없는 파일이면 맵에 아무것도 넣지 않고 null을 반환합니다.
+     * </p>
+     *
+     * @param file 읽을 파일
+     * @param reports 지연 로딩 보고서 목록을 넣을 맵
+     * @param <M> 맵 형식
+     * @return 보고서를 넣은 맵과 저널 LSN, 매핑할 수 없으면 null
+     * @throws IOException 형식이 맞지 않거나 체크섬이 다르거나 위치 색인이 손상된 경우
+     */
+    static <M extends Map<String, List<ActivityReport>>> Result<M> mapReports(Path file, M reports) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE || channel.size() < HEADER_SIZE) {
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != REPORTS_MAGIC) {
+            throw new IOException("알 수 없는 파일 형식입니다: " + file);
+        }
+        short version = buffer.getShort(4);
+        short flags = buffer.getShort(6);
+        if (version < 2 || version > VERSION || (flags & FLAG_INDEXED) == 0) {
+            return null;
+        }
+        long lsn = buffer.getLong(8);
+        long bodyLength = buffer.getLong(16);
+        if (HEADER_SIZE + bodyLength != buffer.capacity()) {
+            throw new IOException("파일 본문 길이가 헤더와 다릅니다.");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, (int) bodyLength));
+        if ((int) crc.getValue() != buffer.getInt(24)) {
+            throw new IOException("파일 체크섬이 일치하지 않습니다.");
+        }
+
+        int[] cursor = {HEADER_SIZE};
+        int dictionarySize = readVarInt(buffer, cursor);
+        if (dictionarySize < 0 || dictionarySize > buffer.capacity() - cursor[0]) {
+            throw new IOException("잘못된 사전 크기입니다: " + dictionarySize);
+        }
+        String[] dictionary = new String[dictionarySize + 1];
+        for (int i = 1; i <= dictionarySize; i++) {
+            dictionary[i] = readString(buffer, cursor);
+        }
+
+        int indexOffset = validateIndex(buffer, cursor[0], dictionarySize);
+        int clubCount = buffer.getInt(indexOffset);
+        int entry = indexOffset + 4;
+        for (int i = 0; i < clubCount; i++) {
+            String clubName = dictionary[buffer.getInt(entry)];
+            int count = buffer.getInt(entry + 4);
+            int offsetTable = buffer.getInt(entry + 8);
+            reports.put(clubName, new MappedReportList(buffer, dictionary, clubName, count, offsetTable));
+            entry += 12;
+        }
+        return new Result<>(reports, lsn);
+    }
+
+    /**
+     * 매핑된 파일의 위치 색인을 확인하고 색인의 시작 위치를 반환합니다.
+     *
+     * <p>
+     * 색인이 본문 안에 있는지, 동아리별 사전 번호와 위치표가 올바른지, 보고서 위치가 사전 뒤와 색인 앞 사이에서
+     * 차례로 증가하는지 확인합니다. 위치표의 정수를 한 번씩 읽을 뿐 보고서는 디코딩하지 않습니다.
+     * </p>
+     */
+    private static int validateIndex(ByteBuffer buffer, int dataStart, int dictionarySize) throws IOException {
+        int end = buffer.capacity() - 4; // 색인 시작 위치가 기록된 곳
+        int indexOffset = end >= dataStart ? buffer.getInt(end) : -1;
+        if (indexOffset < dataStart || indexOffset > end - 4) {
+            throw new IOException("보고서 위치 색인이 손상되었습니다.");
+        }
+        int clubCount = buffer.getInt(indexOffset);
+        long table = indexOffset + 4L + clubCount * 12L;
+        if (clubCount < 0 || table > end) {
+            throw new IOException("보고서 위치 색인이 손상되었습니다.");
+        }
+        int previous = dataStart - 1;
+        int entry = indexOffset + 4;
+        for (int i = 0; i < clubCount; i++, entry += 12) {
+            int clubId = buffer.getInt(entry);
+            int count = buffer.getInt(entry + 4);
+            int offsetTable = buffer.getInt(entry + 8);
+            if (clubId < 1 || clubId > dictionarySize || count < 0 || offsetTable != table
+                    || table + count * 4L > end) {
+                throw new IOException("보고서 위치 색인이 손상되었습니다.");
+            }
+            for (int j = 0; j < count; j++) {
+                int offset = buffer.getInt(offsetTable + j * 4);
+                if (offset <= previous || offset >= indexOffset) {
+                    throw new IOException("보고서 위치가 본문을 벗어나거나 차례로 증가하지 않습니다: " + offset);
+                }
+                previous = offset;
+            }
+            table += count * 4L;
+        }
+        if (table != end) {
+            throw new IOException("보고서 위치 색인이 손상되었습니다.");
+        }
+        return indexOffset;
+    }
+
+    /**
+     * 매핑된 버퍼의 지정한 위치에서 보고서 하나를 디코딩합니다.
+     */
+    static ActivityReport decodeReport(ByteBuffer buffer, int offset, String[] dictionary, String clubName)
+            throws IOException {
+        int[] cursor = {offset};
+        String author = symbol(dictionary, readVarInt(buffer, cursor));
+        String location = symbol(dictionary, readVarInt(buffer, cursor));
+        String result = symbol(dictionary, readVarInt(buffer, cursor));
+        String date = symbol(dictionary, readVarInt(buffer, cursor));
+        String content = readString(buffer, cursor);
+        return ActivityReport.restore(clubName, content, author, location, result, date);
+    }
+
+    /**
+     * 동아리 목록(사전 번호, 보고서 수, 위치표 시작)과 보고서별 위치표를 고정 길이 정수로 기록합니다.
+     */
+    private static void writeIndex(BodyWriter out, int[] clubIds, int[][] offsets) throws IOException {
+        int indexOffset = out.offset();
+        int table = indexOffset + 4 + clubIds.length * 12;
+        out.writeFixedInt(clubIds.length);
+        for (int c = 0; c < clubIds.length; c++) {
+            out.writeFixedInt(clubIds[c]);
+            out.writeFixedInt(offsets[c].length);
+            out.writeFixedInt(table);
+            table += offsets[c].length * 4;
+        }
+        for (int[] clubOffsets : offsets) {
+            for (int offset : clubOffsets) {
+                out.writeFixedInt(offset);
+            }
+        }
+        out.writeFixedInt(indexOffset);
+    }
+
+    private static int readVarInt(ByteBuffer buffer, int[] cursor) throws IOException {
+        int value = 0;
+        int position = cursor[0];
+        for (int shift = 0; shift < 32 && position < buffer.limit(); shift += 7) {
+            byte b = buffer.get(position++);
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                cursor[0] = position;
+                return value;
+            }
+        }
+        throw new IOException("잘못된 가변 길이 정수입니다.");
+    }
+
+    private static String readString(ByteBuffer buffer, int[] cursor) throws IOException {
+        int length = readVarInt(buffer, cursor) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.limit() - cursor[0]) {
+            throw new IOException("문자열 길이가 본문을 벗어납니다: " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(cursor[0], bytes);
+        cursor[0] += length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String symbol(String[] dictionary, int id) throws IOException {
+        if (id < 0 || id >= dictionary.length) {
+            throw new IOException("잘못된 사전 번호입니다: " + id);
+        }
+        return dictionary[id];
+    }
+
+    static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 반복되는 문자열에 1부터 시작하는 번호를 붙입니다. 0은 null을 뜻합니다.
+     */
+    static class StringDictionary {
+        private final HashMap<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int add(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                values.add(value);
+                id = values.size();
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        int idOf(String value) {
+            return value == null ? 0 : ids.get(value);
+        }
+
+        void writeTo(BodyWriter out) throws IOException {
+            out.writeVarInt(values.size());
+            for (String value : values) {
+                out.writeString(value);
+            }
+        }
+    }
+
+    /**
+     * 보고서의 작성자, 위치, 결과, 날짜를 사전에 넣고 기록합니다.
+     *
+     * <p>
+     * 보고서가 가진 기호표 번호(날짜는 날짜 값)별로 사전 번호를 처음 만날 때 한 번만 찾아 배열에 기억하므로,
+     * 보고서마다 문자열을 만들거나 해시하지 않습니다. 읽을 때의 {@link SymbolIds}와 반대 방향입니다.
+     * 사전 번호는 문자열로 추가할 때와 같은 순서로 붙으므로 기록되는 파일은 같습니다.
+     * </p>
+     */
+    private static final class ReportSymbols {
+        private final DictionaryIds authors;
+        private final DictionaryIds locations;
+        private final DictionaryIds results;
+        private final DictionaryIds dates;
+
+        ReportSymbols(StringDictionary dictionary) {
+            authors = new DictionaryIds(dictionary, ActivityReport.AUTHORS::valueOf);
+            locations = new DictionaryIds(dictionary, ActivityReport.LOCATIONS::valueOf);
+            results = new DictionaryIds(dictionary, ActivityReport.RESULTS::valueOf);
+            dates = new DictionaryIds(dictionary, ActivityReport::dateOf);
+        }
+
+        void add(ActivityReport report) {
+            authors.idOf(report.getAuthorId());
+            locations.idOf(report.getLocationId());
+            results.idOf(report.getResultId());
+            dates.idOf(report.getDayCode());
+        }
+
+        void write(BodyWriter out, ActivityReport report) throws IOException {
+            out.writeVarInt(authors.idOf(report.getAuthorId()));
+            out.writeVarInt(locations.idOf(report.getLocationId()));
+            out.writeVarInt(results.idOf(report.getResultId()));
+            out.writeVarInt(dates.idOf(report.getDayCode()));
+            out.writeString(report.getActivityContent());
+        }
+    }
+
+    /**
+     * 기호표 번호(또는 날짜 값)별 사전 번호를 기억합니다. 배열 범위를 벗어난 값은 사전에서 문자열로 찾습니다.
+     */
+    private static final class DictionaryIds {
+        private static final int MAX_CACHED = 1 << 17; // 배열로 기억하는 값의 상한
+
+        private final StringDictionary dictionary;
+        private final IntFunction<String> values;
+        private int[] ids = new int[256]; // 값별 (사전 번호 + 1), 0이면 아직 찾지 않음
+
+        DictionaryIds(StringDictionary dictionary, IntFunction<String> values) {
+            this.dictionary = dictionary;
+            this.values = values;
+        }
+
+        int idOf(int symbol) {
+            if (symbol < 0 || symbol >= MAX_CACHED) {
+                return dictionary.add(values.apply(symbol));
+            }
+            if (symbol >= ids.length) {
+                ids = Arrays.copyOf(ids, Math.min(MAX_CACHED, Math.max(symbol + 1, ids.length * 2)));
+            }
+            int id = ids[symbol];
+            if (id == 0) {
+                id = dictionary.add(values.apply(symbol)) + 1;
+                ids[symbol] = id;
+            }
+            return id - 1;
+        }
+    }
+
+    /**
+     * 사전 번호별로 기호표 번호(또는 날짜 값)를 처음 쓸 때 한 번만 찾아 기억합니다.
+     * 보고서마다 같은 문자열을 기호표에서 다시 찾거나 날짜를 다시 해석하지 않게 합니다.
+     */
+    private static final class SymbolIds {
+        private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+        private final String[] dictionary;
+        private final ToIntFunction<String> resolver;
+        private final int[] ids;
+
+        SymbolIds(String[] dictionary, ToIntFunction<String> resolver) {
+            this.dictionary = dictionary;
+            this.resolver = resolver;
+            this.ids = new int[dictionary.length];
+            Arrays.fill(ids, UNRESOLVED);
+        }
+
+        int idOf(int dictionaryId) throws IOException {
+            if (dictionaryId < 0 || dictionaryId >= ids.length) {
+                throw new IOException("잘못된 사전 번호입니다: " + dictionaryId);
+            }
+            int id = ids[dictionaryId];
+            if (id == UNRESOLVED) {
+                id = resolver.applyAsInt(dictionary[dictionaryId]);
+                ids[dictionaryId] = id;
+            }
+            return id;
+        }
+    }
+
+    /**
+     * 버퍼를 거쳐 FileChannel에 기록하며, 본문의 CRC32를 함께 계산합니다.
+     *
+     * <p>
+     * 값은 바이트 배열에 바로 쓰고, 버퍼가 찰 때만 CRC32를 갱신하여 파일에 씁니다.
+     * 문자열은 UTF-8 바이트 배열을 따로 만들지 않고 최대 길이만큼 자리를 비워 둔 채 버퍼에 바로 인코딩하므로,
+     * 보고서마다 배열을 할당하고 복사하지 않습니다.
+     * </p>
+     */
+    static class BodyWriter implements AutoCloseable {
+        private static final int MAX_VAR_INT_SIZE = 5; // 가변 길이 정수의 최대 바이트 수
+        private static final int MAX_DIRECT_CHARS = (BUFFER_SIZE - MAX_VAR_INT_SIZE) / 3; // 버퍼에 바로 인코딩하는 최대 문자 수
+
+        private final FileChannel channel;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position; // 버퍼에서 다음에 기록할 위치
+        private char[] chars = new char[256]; // 인코딩 중인 문자열의 문자 (필요할 때 늘림)
+        private final CRC32 crc = new CRC32();
+        private long bodyLength;
+
+        BodyWriter(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(HEADER_SIZE);
+        }
+
+        void writeVarInt(int value) throws IOException {
+            if (position > BUFFER_SIZE - MAX_VAR_INT_SIZE) {
+                flush();
+            }
+            position = putVarInt(value, position);
+        }
+
+        /**
+         * 문자열을 (바이트 길이 + 1)과 UTF-8 바이트로 기록합니다. null은 길이 0으로 기록합니다.
+         */
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            int length = value.length();
+            if (length > MAX_DIRECT_CHARS) {
+                writeEncoded(value);
+                return;
+            }
+            int reserved = varIntSize(length * 3 + 1); // 길이를 기록할 자리 (최대 바이트 수 기준)
+            if (position > BUFFER_SIZE - reserved - length * 3) {
+                flush();
+            }
+            if (length > chars.length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            value.getChars(0, length, chars, 0);
+            byte[] out = buffer;
+            int start = position + reserved;
+            int p = start;
+            for (int i = 0; i < length; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    out[p++] = (byte) c;
+                } else if (c < 0x800) {
+                    out[p++] = (byte) (0xC0 | (c >> 6));
+                    out[p++] = (byte) (0x80 | (c & 0x3F));
+                } else if (!Character.isSurrogate(c)) {
+                    out[p++] = (byte) (0xE0 | (c >> 12));
+                    out[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    out[p++] = (byte) (0x80 | (c & 0x3F));
+                } else { // 보충 문자와 짝이 없는 대리 문자는 String의 인코딩을 따름
+                    writeEncoded(value);
+                    return;
+                }
+            }
+            int byteLength = p - start;
+            int size = varIntSize(byteLength + 1);
+            if (size < reserved) { // 실제 길이가 짧으면 길이 바로 뒤로 당김
+                System.arraycopy(out, start, out, position + size, byteLength);
+            }
+            position = putVarInt(byteLength + 1, position) + byteLength;
+        }
+
+        /**
+         * 빅엔디언 4바이트 고정 길이 정수를 기록합니다.
+         */
+        void writeFixedInt(int value) throws IOException {
+            if (position > BUFFER_SIZE - 4) {
+                flush();
+            }
+            buffer[position++] = (byte) (value >>> 24);
+            buffer[position++] = (byte) (value >>> 16);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * 다음에 기록될 바이트의 파일 내 위치를 반환합니다. 2GB를 넘으면 -1을 반환합니다.
+         */
+        int offset() {
+            long offset = HEADER_SIZE + bodyLength + position;
+            return offset > Integer.MAX_VALUE ? -1 : (int) offset;
+        }
+
+        void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (position == BUFFER_SIZE) {
+                    flush();
+                }
+                int chunk = Math.min(length, BUFFER_SIZE - position);
+                System.arraycopy(bytes, offset, buffer, position, chunk);
+                position += chunk;
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+
+        /**
+         * 남은 본문을 기록한 뒤 파일 앞부분에 헤더를 기록하고 디스크에 동기화합니다.
+         */
+        void finish(int magic, long lsn, short flags) throws IOException {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(magic);
+            header.putShort(VERSION);
+            header.putShort(flags);
+            header.putLong(lsn);
+            header.putLong(bodyLength);
+            header.putInt((int) crc.getValue());
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+            channel.force(true);
+        }
+
+        /**
+         * 버퍼보다 긴 문자열이나 대리 문자가 있는 문자열을 String의 UTF-8 인코딩으로 기록합니다.
+         */
+        private void writeEncoded(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        private static int varIntSize(int value) {
+            return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+        }
+
+        private int putVarInt(int value, int p) {
+            while ((value & ~0x7F) != 0) {
+                buffer[p++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[p++] = (byte) value;
+            return p;
+        }
+
+        private void flush() throws IOException {
+            crc.update(buffer, 0, position);
+            bodyLength += position;
+            ByteBuffer pending = ByteBuffer.wrap(buffer, 0, position);
+            while (pending.hasRemaining()) {
+                channel.write(pending);
+            }
+            position = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * FileChannel에서 버퍼 단위로 읽으며, 읽은 본문의 CRC32를 함께 계산합니다.
+     */
+    static class BodyReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CRC32 crc = new CRC32();
+        private final long bodyLength;
+        private final int expectedCrc;
+        private long remaining; // 아직 버퍼로 읽지 않은 본문 바이트 수
+        final long lsn;
+
+        BodyReader(Path file, int expectedMagic) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    channel.close();
+                    throw new IOException("파일 헤더가 손상되었습니다: " + file);
+                }
+            }
+            header.flip();
+            int magic = header.getInt();
+            short version = header.getShort();
+            header.getShort(); // 플래그 (전체 로딩에서는 사용하지 않음)
+            lsn = header.getLong();
+            bodyLength = header.getLong();
+            expectedCrc = header.getInt();
+            if (magic != expectedMagic) {
+                channel.close();
+                throw new IOException("알 수 없는 파일 형식입니다: " + file);
+            }
+            if (version < MIN_VERSION || version > VERSION) {
+                channel.close();
+                throw new IOException("지원하지 않는 파일 버전입니다: " + version);
+            }
+            remaining = bodyLength;
+            buffer.limit(0);
+        }
+
+        String[] readDictionary() throws IOException {
+            int count = readCount();
+            String[] values = new String[count + 1]; // 0번은 null
+            for (int i = 1; i <= count; i++) {
+                values[i] = readString();
+            }
+            return values;
+        }
+
+        int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("잘못된 가변 길이 정수입니다.");
+        }
+
+        /**
+         * 항목 수를 읽습니다. 항목마다 1바이트 이상이므로 남은 본문보다 크면 손상된 것으로 봅니다.
+         */
+        int readCount() throws IOException {
+            int count = readVarInt();
+            if (count < 0 || count > available()) {
+                throw new IOException("잘못된 항목 수입니다: " + count);
+            }
+            return count;
+        }
+
+        /**
+         * 사전 번호를 읽어 해당 문자열을 반환합니다.
+         */
+        String readSymbol(String[] dictionary) throws IOException {
+            return symbol(dictionary, readVarInt());
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > available()) {
+                throw new IOException("문자열 길이가 본문을 벗어납니다: " + length);
+            }
+            if (buffer.remaining() < length && length <= buffer.capacity()) {
+                refill();
+            }
+            if (buffer.remaining() >= length) {
+                String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            byte[] bytes = new byte[length]; // 버퍼보다 긴 문자열
+            for (int i = 0; i < length; i++) {
+                bytes[i] = readByte();
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 본문의 남은 부분을 읽어 체크섬에만 반영합니다.
+         */
+        void skipRemaining() throws IOException {
+            while (remaining > 0) {
+                buffer.position(buffer.limit());
+                refill();
+            }
+            buffer.position(buffer.limit());
+        }
+
+        /**
+         * 본문을 끝까지 읽었는지와 CRC32가 헤더와 일치하는지 확인합니다.
+         */
+        void verify() throws IOException {
+            if (remaining != 0 || buffer.hasRemaining()) {
+                throw new IOException("파일 본문 길이가 헤더와 다릅니다.");
+            }
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IOException("파일 체크섬이 일치하지 않습니다.");
+            }
+        }
+
+        /**
+         * 아직 읽지 않은 본문 바이트 수를 반환합니다.
+         */
+        private long available() {
+            return remaining + buffer.remaining();
+        }
+
+        private byte readByte() throws IOException {
+            if (!buffer.hasRemaining()) {
+                refill();
+            }
+            return buffer.get();
+        }
+
+        /**
+         * 남은 바이트를 버퍼 앞으로 옮기고 파일에서 이어서 읽습니다.
+         */
+        private void refill() throws IOException {
+            buffer.compact();
+            int start = buffer.position();
+            int want = (int) Math.min(buffer.remaining(), remaining);
+            buffer.limit(start + want);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("파일이 예상보다 짧습니다.");
+                }
+            }
+            crc.update(buffer.array(), start, want);
+            remaining -= want;
+            buffer.flip();
+            if (!buffer.hasRemaining()) {
+                throw new IOException("파일이 예상보다 짧습니다.");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,518 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 동아리 관리 데이터의 변경 내역을 기록하는 추가 전용(append-only) 저널 클래스입니다.
+ *
+ * <p>
+ * 동아리 등록과 활동 보고서 작성이 일어날 때마다 해당 변경을 저널 파일 끝에 기록합니다.
+ * 기록은 별도의 커밋 스레드가 모아서 한 번에 디스크에 동기화(fsync)하므로,
+ * 짧은 시간에 여러 건이 몰려도 동기화 횟수는 늘어나지 않습니다(그룹 커밋).
+ * </p>
+ *
+ * <p>
+ * 저널은 여러 개의 세그먼트 파일(journal-&lt;시작 LSN&gt;.log)로 구성됩니다.
+ * 체크포인트 시 {@link #roll()}로 새 세그먼트를 열고, 스냅샷에 반영된 이전 세그먼트는
+ * {@link #deleteSegmentsUpTo(long)}로 삭제합니다.
+ * 각 레코드는 [길이][CRC32][종류][LSN][필드...] 형식이며, 비정상 종료로 잘린 마지막 레코드는
+ * 저널을 열 때 잘라냅니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.3
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성, 그룹 커밋 및 세그먼트 관리 구현 (한승규)</li>
+ *   <li>2026-10-17: 기록 바이트 수 알림과 재생 시 읽은 바이트 수 반환 추가 (한승규)</li>
+ *   <li>2026-10-17: 재생 시 ActivityReport.restore로 보고서 생성 (한승규)</li>
+ *   <li>2026-10-17: 체크포인트 후 비어 있는 세그먼트만 남으면 LSN을 1부터 다시 발급하던 문제 수정,
+ *       스냅샷 LSN 이후로 발급하는 advanceTo 추가, 손상된 레코드 길이 검사 (한승규)</li>
+ * </ul>
+ */
+public class ClubJournal implements Closeable {
+    /** 동아리 등록 레코드 */
+    static final byte CLUB_RECORD = 1;
+    /** 활동 보고서 작성 레코드 */
+    static final byte REPORT_RECORD = 2;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * 저널을 재생할 때 각 레코드를 전달받는 인터페이스입니다.
+     */
+    public interface Replayer {
+        /**
+         * 동아리 등록 레코드를 전달받습니다.
+         *
+         * @param lsn 레코드의 LSN
+         * @param club 등록된 동아리
+         */
+        void club(long lsn, Club club);
+
+        /**
+         * 활동 보고서 레코드를 전달받습니다.
+         *
+         * @param lsn 레코드의 LSN
+         * @param report 작성된 활동 보고서
+         */
+        void report(long lsn, ActivityReport report);
+    }
+
+    private final Path directory; // 세그먼트 파일이 저장되는 디렉터리
+    private final Thread committer; // 그룹 커밋 스레드
+    private final LongConsumer writeListener; // 디스크에 기록한 바이트 수를 전달받는 객체 (없으면 null)
+
+    private FileChannel segment; // 현재 기록 중인 세그먼트
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(); // 아직 기록되지 않은 레코드
+    private long lastLsn; // 마지막으로 발급된 LSN
+    private long durableLsn; // 디스크에 동기화된 마지막 LSN
+    private long segmentBytes; // 현재 세그먼트에 기록된 바이트 수
+    private IOException failure; // 커밋 스레드에서 발생한 오류
+    private boolean closed;
+
+    /**
+     * 저널 디렉터리를 열고 커밋 스레드를 시작합니다.
+     *
+     * <p>
+     * 기존 세그먼트를 검사하여 마지막 LSN을 찾고, 잘린 레코드가 있으면 잘라낸 뒤
+     * 새 세그먼트를 열어 이후 기록을 받습니다. 체크포인트 직후처럼 세그먼트가 비어 있어도
+     * 파일 이름의 시작 LSN 이전은 이미 발급된 것으로 보므로 LSN을 다시 발급하지 않습니다.
+     * </p>
+     *
+     * @param directory 저널 디렉터리
+     * @throws IOException 디렉터리나 세그먼트를 열 수 없는 경우
+     */
+    public ClubJournal(Path directory) throws IOException {
+        this(directory, null);
+    }
+
+    /**
+     * 저널 디렉터리를 열고, 커밋할 때마다 기록한 바이트 수를 알리는 커밋 스레드를 시작합니다.
+     *
+     * @param directory 저널 디렉터리
+     * @param writeListener 커밋 스레드에서 기록한 바이트 수를 전달받는 객체 (null 가능)
+     * @throws IOException 디렉터리나 세그먼트를 열 수 없는 경우
+     */
+    public ClubJournal(Path directory, LongConsumer writeListener) throws IOException {
+        this.directory = directory;
+        this.writeListener = writeListener;
+        Files.createDirectories(directory);
+        for (Path file : listSegments()) {
+            lastLsn = Math.max(lastLsn, firstLsnOf(file) - 1); // 비어 있는 세그먼트도 시작 LSN 이전은 발급됨
+            lastLsn = Math.max(lastLsn, scanSegment(file, null, Long.MAX_VALUE, Long.MAX_VALUE));
+        }
+        durableLsn = lastLsn;
+        segment = openSegment(lastLsn + 1);
+
+        committer = new Thread(this::runCommitter, "club-journal-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * 동아리 등록을 저널에 추가합니다.
+     *
+     * <p>
+     * 레코드는 메모리 버퍼에만 추가되며, 디스크 반영을 기다리려면 {@link #awaitDurable(long)}을 호출해야 합니다.
+     * </p>
+     *
+     * @param club 등록된 동아리
+     * @return 레코드에 발급된 LSN
+     * @throws IOException 저널이 닫혔거나 이전 커밋이 실패한 경우
+     */
+    public synchronized long appendClub(Club club) throws IOException {
+        long lsn = beginRecord();
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeByte(CLUB_RECORD);
+        out.writeLong(lsn);
+        writeString(out, club.getName());
+        writeString(out, club.getAdvisor());
+        out.writeInt(club.getMemberCount());
+        writeString(out, club.getPurpose());
+        return endRecord(payload, lsn);
+    }
+
+    /**
+     * 활동 보고서 작성을 저널에 추가합니다.
+     *
+     * @param report 작성된 활동 보고서
+     * @return 레코드에 발급된 LSN
+     * @throws IOException 저널이 닫혔거나 이전 커밋이 실패한 경우
+     */
+    public synchronized long appendReport(ActivityReport report) throws IOException {
+        long lsn = beginRecord();
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeByte(REPORT_RECORD);
+        out.writeLong(lsn);
+        writeString(out, report.getClubName());
+        writeString(out, report.getActivityContent());
+        writeString(out, report.getAuthor());
+        writeString(out, report.getLocation());
+        writeString(out, report.getResult());
+        writeString(out, report.getDate());
+        return endRecord(payload, lsn);
+    }
+
+    /**
+     * 지정한 LSN까지의 레코드가 디스크에 동기화될 때까지 기다립니다.
+     *
+     * <p>
+     * 여러 스레드가 동시에 기다리는 경우 한 번의 동기화로 함께 깨어납니다.
+     * </p>
+     *
+     * @param lsn 기다릴 LSN
+     * @throws IOException 커밋 중 오류가 발생한 경우
+     */
+    public synchronized void awaitDurable(long lsn) throws IOException {
+        boolean interrupted = false;
+        try {
+            while (durableLsn < lsn && failure == null && !closed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        if (durableLsn < lsn) {
+            throw new IOException("저널이 닫혔습니다.");
+        }
+    }
+
+    /**
+     * 지금까지 추가된 모든 레코드가 디스크에 동기화될 때까지 기다립니다.
+     *
+     * @return 동기화된 마지막 LSN
+     * @throws IOException 커밋 중 오류가 발생한 경우
+     */
+    public long sync() throws IOException {
+        long lsn;
+        synchronized (this) {
+            lsn = lastLsn;
+        }
+        awaitDurable(lsn);
+        return lsn;
+    }
+
+    /**
+     * 다음에 발급할 LSN이 지정한 LSN보다 크도록 합니다.
+     *
+     * <p>
+     * 저널 디렉터리가 지워졌거나 세그먼트가 없어도, 스냅샷에 반영된 LSN 이하의 번호를 다시 발급하면
+     * 다음 불러오기에서 새 레코드가 이미 반영된 것으로 보고 건너뛰므로, 스냅샷을 불러온 뒤 그 LSN을 알려야 합니다.
+     * 현재 세그먼트의 이름은 실제 첫 레코드보다 작은 LSN일 수 있지만, 이전 세그먼트의 레코드는 모두 그보다 작으므로
+     * {@link #deleteSegmentsUpTo(long)}와 재생에는 영향이 없습니다.
+     * </p>
+     *
+     * @param lsn 스냅샷에 반영된 마지막 LSN
+     * @throws IOException 기다리던 레코드의 동기화 중 오류가 발생한 경우
+     */
+    public void advanceTo(long lsn) throws IOException {
+        sync();
+        synchronized (this) {
+            if (lsn > lastLsn) {
+                lastLsn = lsn;
+                durableLsn = Math.max(durableLsn, lsn);
+            }
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트를 엽니다.
+     *
+     * <p>
+     * 호출자는 이 메서드가 반환될 때까지 새 레코드가 추가되지 않도록 보장해야 합니다.
+     * 반환된 LSN까지의 레코드는 모두 이전 세그먼트에 있으므로, 해당 LSN까지 반영한 스냅샷을
+     * 저장한 뒤 {@link #deleteSegmentsUpTo(long)}로 정리할 수 있습니다.
+     * </p>
+     *
+     * @return 이전 세그먼트에 기록된 마지막 LSN
+     * @throws IOException 세그먼트를 열 수 없는 경우
+     */
+    public long roll() throws IOException {
+        long lsn = sync();
+        synchronized (this) {
+            FileChannel previous = segment;
+            segment = openSegment(lsn + 1);
+            segmentBytes = 0;
+            previous.close();
+        }
+        return lsn;
+    }
+
+    /**
+     * 모든 레코드가 지정한 LSN 이하인 세그먼트를 삭제합니다.
+     *
+     * @param lsn 스냅샷에 반영된 마지막 LSN
+     * @throws IOException 파일을 삭제할 수 없는 경우
+     */
+    public void deleteSegmentsUpTo(long lsn) throws IOException {
+        List<Path> files = listSegments();
+        for (int i = 0; i + 1 < files.size(); i++) {
+            // 다음 세그먼트의 시작 LSN이 lsn + 1 이하이면 이 세그먼트의 레코드는 모두 lsn 이하입니다.
+            if (firstLsnOf(files.get(i + 1)) <= lsn + 1) {
+                Files.deleteIfExists(files.get(i));
+            }
+        }
+    }
+
+    /**
+     * 저널의 레코드를 LSN 순서대로 재생합니다.
+     *
+     * <p>
+     * 동아리 레코드는 clubsLsn보다 큰 것만, 보고서 레코드는 reportsLsn보다 큰 것만 전달합니다.
+     * 재생 전에 대기 중인 레코드를 모두 동기화합니다.
+     * </p>
+     *
+     * @param clubsLsn 동아리 스냅샷에 반영된 마지막 LSN
+     * @param reportsLsn 보고서 스냅샷에 반영된 마지막 LSN
+     * @param replayer 레코드를 전달받을 객체
+     * @return 읽은 세그먼트의 바이트 수
+     * @throws IOException 세그먼트를 읽을 수 없는 경우
+     */
+    public long replay(long clubsLsn, long reportsLsn, Replayer replayer) throws IOException {
+        sync();
+        long bytes = 0;
+        for (Path file : listSegments()) {
+            scanSegment(file, replayer, clubsLsn, reportsLsn);
+            bytes += Files.size(file);
+        }
+        return bytes;
+    }
+
+    /**
+     * 현재 세그먼트에 기록된 바이트 수를 반환합니다.
+     *
+     * @return 현재 세그먼트 크기
+     */
+    public synchronized long currentSegmentBytes() {
+        return segmentBytes + pending.size();
+    }
+
+    /**
+     * 대기 중인 레코드를 동기화하고 저널을 닫습니다.
+     *
+     * @throws IOException 동기화 중 오류가 발생한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            synchronized (this) {
+                closed = true;
+                notifyAll();
+            }
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            segment.close();
+        }
+    }
+
+    /**
+     * 커밋 스레드의 본문입니다.
+     *
+     * <p>
+     * 버퍼에 쌓인 레코드를 한 번에 기록하고 동기화합니다. 동기화하는 동안 추가된 레코드는
+     * 다음 묶음으로 함께 처리됩니다.
+     * </p>
+     */
+    private void runCommitter() {
+        while (true) {
+            ByteArrayOutputStream batch;
+            FileChannel target;
+            long batchLsn;
+            synchronized (this) {
+                while (pending.size() == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.size() == 0) {
+                    return; // 닫힘
+                }
+                batch = pending;
+                pending = new ByteArrayOutputStream();
+                target = segment;
+                batchLsn = lastLsn;
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                target.force(false);
+                synchronized (this) {
+                    segmentBytes += batch.size();
+                    durableLsn = batchLsn;
+                    notifyAll();
+                }
+                if (writeListener != null) {
+                    writeListener.accept(batch.size());
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    failure = e;
+                    notifyAll();
+                }
+                System.err.println("저널 기록 중 오류가 발생했습니다: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private long beginRecord() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (closed) {
+            throw new IOException("저널이 닫혔습니다.");
+        }
+        return lastLsn + 1;
+    }
+
+    private long endRecord(ByteArrayOutputStream payload, long lsn) throws IOException {
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        DataOutputStream out = new DataOutputStream(pending);
+        out.writeInt(bytes.length);
+        out.writeInt((int) crc.getValue());
+        out.write(bytes);
+        lastLsn = lsn;
+        notifyAll();
+        return lsn;
+    }
+
+    /**
+     * 세그먼트 하나를 읽으며 레코드를 재생하고, 마지막 유효 레코드의 LSN을 반환합니다.
+     *
+     * <p>
+     * 길이나 CRC가 맞지 않는 레코드를 만나면 그 위치에서 파일을 잘라냅니다.
+     * 길이가 음수이거나 세그먼트의 남은 크기보다 크면 손상된 헤더로 보고 배열을 만들지 않습니다.
+     * </p>
+     */
+    private long scanSegment(Path file, Replayer replayer, long clubsLsn, long reportsLsn) throws IOException {
+        long maxLsn = 0;
+        long validBytes = 0;
+        long fileSize = Files.size(file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int expectedCrc = in.readInt();
+                if (length <= 0 || length > fileSize - validBytes - 8) {
+                    break; // 손상되었거나 잘린 레코드 헤더
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                CRC32 crc = new CRC32();
+                crc.update(bytes);
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(bytes));
+                byte type = record.readByte();
+                long lsn = record.readLong();
+                if (replayer != null) {
+                    if (type == CLUB_RECORD && lsn > clubsLsn) {
+                        replayer.club(lsn, new Club(readString(record), readString(record),
+                                record.readInt(), readString(record)));
+                    } else if (type == REPORT_RECORD && lsn > reportsLsn) {
+                        ActivityReport report = ActivityReport.restore(readString(record), readString(record),
+                                readString(record), readString(record), readString(record), readString(record));
+                        replayer.report(lsn, report);
+                    }
+                }
+                maxLsn = lsn;
+                validBytes += 8 + length;
+            }
+        } catch (EOFException e) {
+            // 마지막 레코드가 중간에 잘림
+        }
+        if (replayer == null && fileSize > validBytes) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+                channel.force(true);
+            }
+        }
+        return maxLsn;
+    }
+
+    private FileChannel openSegment(long firstLsn) throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX));
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(p -> {
+                String name = p.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).forEach(files::add);
+        }
+        files.sort((a, b) -> Long.compare(firstLsnOf(a), firstLsnOf(b)));
+        return files;
+    }
+
+    private static long firstLsnOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.available()) { // 레코드 안의 문자열이므로 남은 바이트보다 길 수 없음
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
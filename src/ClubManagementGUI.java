@@ -1,8 +1,15 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * 동아리 관리 프로그램 GUI 클래스
@@ -13,11 +20,11 @@ import java.util.List;
  * </p>
  *
  * @author 한승규
- * @version 1.6.0
+ * @version 1.10.2
  * @since 2024-12-15
  *
  * @created 2024-12-15
- * @lastModified 2024-12-24
+ * @lastModified 2026-10-17
  *
  * @changelog
  * <ul>
@@ -27,11 +34,37 @@ import java.util.List;
  *   <li>2024-12-19: 버튼 레이아웃 변경, GUI 배치 개선 (한승규)</li>
  *   <li>2024-12-21: 활동 보고서 검색 기능 추가 (한승규)</li>
  *   <li>2024-12-24: 보고서 통계 기능 추가 및 버튼 연동 (한승규)</li>
+ *   <li>2026-10-17: 활동 보고서 조회와 검색 결과를 JTable 보고서 창으로 표시 (한승규)</li>
+ *   <li>2026-10-17: 저장, 불러오기, 조회, 검색, 통계를 백그라운드에서 실행하고 진행 표시 및 취소 지원 (한승규)</li>
+ *   <li>2026-10-17: 보고서 통계에 작성자 수와 활동 위치 수 추가 (한승규)</li>
+ *   <li>2026-10-17: 기간 내 보고서 수를 리스트 없이 세고 동아리의 기간 내 보고서 수 표시 (한승규)</li>
+ *   <li>2026-10-17: 저장 및 불러오기 오류를 작업 완료 후 이벤트 디스패치 스레드에서 표시하고, 취소 시 다음 진행 단계에서 작업 중단 (한승규)</li>
+ *   <li>2026-10-17: 작업에 취소 확인 함수를 넘겨 저장, 불러오기, 검색을 취소하면 작업이 멈추도록 하고 버튼 이름을 "취소"로 변경 (한승규)</li>
  * </ul>
  */
 public class ClubManagementGUI {
     private JFrame frame; // GUI 메인 프레임
     private ClubManager clubManager; // 동아리 관리 객체
+    private SwingWorker<?, ?> runningTask; // 실행 중인 백그라운드 작업
+
+    /**
+     * 백그라운드에서 실행할 작업입니다.
+     *
+     * @param <T> 작업 결과 타입
+     */
+    @FunctionalInterface
+    private interface BackgroundTask<T> {
+        /**
+         * 작업을 실행합니다.
+         *
+         * @param progress 진행률(0~100)을 알리는 함수, 호출하지 않으면 진행 막대는 계속 움직이는 상태로 표시됨.
+         *                 작업이 취소되었으면 {@link java.util.concurrent.CancellationException}을 던져 작업을 멈춤
+         * @param cancelled 작업이 취소되었으면 true를 반환하는 함수, {@link ClubManager}의 반복 작업에 넘겨 중간에 멈추게 함
+         * @return 작업 결과
+         * @throws Exception 작업 중 오류가 발생한 경우
+         */
+        T run(IntConsumer progress, BooleanSupplier cancelled) throws Exception;
+    }
 
     /**
      * ClubManagementGUI 생성자
@@ -65,13 +98,15 @@ public class ClubManagementGUI {
      * </p>
      *
      * @created 2024-12-15
-     * @lastModified 2024-12-24
+     * @lastModified 2026-10-17
      *
      * @changelog
      * <ul>
      *   <li>2024-12-15: 기본 GUI 버튼 구성 (한승규)</li>
      *   <li>2024-12-21: 활동 보고서 검색 버튼 추가 (한승규)</li>
      *   <li>2024-12-24: 보고서 통계 버튼 추가 (한승규)</li>
+     *   <li>2026-10-17: 저장 및 불러오기를 백그라운드에서 실행 (한승규)</li>
+     *   <li>2026-10-17: 저장 및 불러오기 취소 허용 (한승규)</li>
      * </ul>
      */
     private void setupComponents() {
@@ -95,8 +130,15 @@ public class ClubManagementGUI {
         viewButton.addActionListener(this::viewClubs);
         addReportButton.addActionListener(this::addReport);
         viewReportButton.addActionListener(this::viewReports);
-        saveButton.addActionListener(e -> clubManager.saveData());
-        loadButton.addActionListener(e -> clubManager.loadData());
+        // 저장은 매니페스트 교체 전, 불러오기는 읽은 데이터를 발행하기 전까지만 멈추므로 취소해도 이전 상태가 유지됨
+        saveButton.addActionListener(e -> runInBackground("데이터 저장", true, (progress, cancelled) -> {
+            clubManager.saveData(cancelled);
+            return null;
+        }, result -> { }));
+        loadButton.addActionListener(e -> runInBackground("데이터 불러오기", true, (progress, cancelled) -> {
+            clubManager.loadData(cancelled);
+            return null;
+        }, result -> { }));
         exitButton.addActionListener(e -> System.exit(0));
         searchReportButton.addActionListener(this::searchReports);
         viewStatsButton.addActionListener(this::viewStats);
@@ -130,6 +172,104 @@ public class ClubManagementGUI {
         frame.add(exitButton, gbc);
     }
 
+    /**
+     * 오래 걸리는 작업을 백그라운드 스레드에서 실행합니다.
+     *
+     * <p>
+     * 작업하는 동안 진행 막대와 취소 버튼이 있는 창을 표시하며, 이벤트 디스패치 스레드는 멈추지 않습니다.
+     * 작업이 끝나면 결과를 이벤트 디스패치 스레드에서 {@code onSuccess}에 전달하고, 오류가 나면 오류 메시지를 표시합니다.
+     * 한 번에 하나의 작업만 실행합니다.
+     * </p>
+     *
+     * <p>
+     * 취소하면 결과를 버리고 창을 바로 닫습니다. 작업 스레드를 인터럽트하지는 않는데,
+     * 인터럽트된 스레드가 FileChannel을 사용하면 채널이 닫혀 저널과 데이터 파일을 더 쓸 수 없게 되기 때문입니다.
+     * 대신 작업에 취소 확인 함수를 넘기며, 작업은 이를 {@link ClubManager}의 저장, 불러오기, 검색에 넘겨
+     * 샤드나 보고서 묶음 단위로 확인하고 멈춥니다. 진행률을 알릴 때도 확인하므로 여러 단계로 나뉜 작업은 남은 단계를 계산하지 않습니다.
+     * </p>
+     *
+     * @param title 진행 창 제목
+     * @param cancellable 취소 가능 여부
+     * @param task 백그라운드에서 실행할 작업
+     * @param onSuccess 작업 결과를 받을 함수 (이벤트 디스패치 스레드에서 호출)
+     * @param <T> 작업 결과 타입
+     * @return 작업을 시작했으면 true, 다른 작업이 실행 중이라 시작하지 않았으면 false
+     *
+     * @created 2026-10-17
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2026-10-17: 메서드 추가 (한승규)</li>
+     *   <li>2026-10-17: 취소 후 다음 진행 단계에서 작업을 멈추고, 취소 버튼 이름을 "닫기"로 변경 (한승규)</li>
+     *   <li>2026-10-17: 작업에 취소 확인 함수를 넘기고 버튼 이름을 "취소"로 되돌림 (한승규)</li>
+     * </ul>
+     */
+    private <T> boolean runInBackground(String title, boolean cancellable, BackgroundTask<T> task, Consumer<T> onSuccess) {
+        if (runningTask != null && !runningTask.isDone()) {
+            JOptionPane.showMessageDialog(frame, "다른 작업이 진행 중입니다. 잠시 후 다시 시도해주세요.", title,
+                    JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+        JProgressBar progressBar = new JProgressBar(0, 100);
+        progressBar.setIndeterminate(true);
+        JButton cancelButton = new JButton("취소");
+        cancelButton.setToolTipText("작업을 멈추고 창을 닫습니다. 취소한 저장과 불러오기는 이전 데이터를 바꾸지 않습니다.");
+        cancelButton.setEnabled(cancellable);
+
+        JDialog dialog = new JDialog(frame, title, false);
+        dialog.setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        panel.add(new JLabel(title + " 중..."), BorderLayout.NORTH);
+        panel.add(progressBar, BorderLayout.CENTER);
+        panel.add(cancelButton, BorderLayout.EAST);
+        dialog.add(panel);
+        dialog.pack();
+        dialog.setLocationRelativeTo(frame);
+
+        SwingWorker<T, Void> worker = new SwingWorker<>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return task.run(value -> {
+                    if (isCancelled()) {
+                        throw new CancellationException(); // 남은 단계를 계산하지 않음
+                    }
+                    setProgress(value);
+                }, this::isCancelled);
+            }
+
+            @Override
+            protected void done() {
+                dialog.dispose();
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    onSuccess.accept(get());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    String message = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+                    JOptionPane.showMessageDialog(frame, title + " 중 오류가 발생했습니다.\n오류 내용: " + message,
+                            title + " 실패", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        worker.addPropertyChangeListener(ev -> {
+            if ("progress".equals(ev.getPropertyName())) {
+                progressBar.setIndeterminate(false);
+                progressBar.setValue((Integer) ev.getNewValue());
+            }
+        });
+        cancelButton.addActionListener(ev -> worker.cancel(false)); // 스레드를 인터럽트하지 않음
+        runningTask = worker;
+        worker.execute();
+        dialog.setVisible(true);
+        return true;
+    }
+
     /**
      * 동아리 등록 이벤트 핸들러
      *
@@ -158,15 +298,18 @@ public class ClubManagementGUI {
      *
      * <p>
      * 사용자가 동아리 목록 조회 버튼을 클릭하면 현재 등록된 동아리 목록을 표시합니다.
+     * 목록 문자열은 백그라운드에서 만듭니다.
      * </p>
      *
      * @param e ActionEvent 객체
      */
     private void viewClubs(ActionEvent e) {
-        JTextArea textArea = new JTextArea(20, 40);
-        textArea.setText(clubManager.viewClubsAsString()); // ClubManager에서 viewClubsAsString 메서드 필요
-        textArea.setEditable(false);
-        JOptionPane.showMessageDialog(frame, new JScrollPane(textArea), "동아리 목록", JOptionPane.INFORMATION_MESSAGE);
+        runInBackground("동아리 목록 조회", true, (progress, cancelled) -> clubManager.viewClubsAsString(), clubs -> {
+            JTextArea textArea = new JTextArea(20, 40);
+            textArea.setText(clubs);
+            textArea.setEditable(false);
+            JOptionPane.showMessageDialog(frame, new JScrollPane(textArea), "동아리 목록", JOptionPane.INFORMATION_MESSAGE);
+        });
     }
 
     /**
@@ -195,16 +338,111 @@ public class ClubManagementGUI {
      * 활동 보고서 조회 이벤트 핸들러
      *
      * <p>
-     * 사용자가 활동 보고서 조회 버튼을 클릭하면 현재 작성된 활동 보고서 목록을 표시합니다.
+     * 사용자가 활동 보고서 조회 버튼을 클릭하면 현재 작성된 활동 보고서 목록을 보고서 창에 표시합니다.
+     * 보고서 창은 화면에 보이는 행만 읽으므로 보고서 수와 관계없이 바로 열립니다.
      * </p>
      *
      * @param e ActionEvent 객체
+     *
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-18: 메서드 추가 (한승규)</li>
+     *   <li>2026-10-17: 텍스트 영역 대신 보고서 창 사용 (한승규)</li>
+     * </ul>
      */
     private void viewReports(ActionEvent e) {
-        JTextArea textArea = new JTextArea(20, 40);
-        textArea.setText(clubManager.viewReportsAsString());
-        textArea.setEditable(false);
-        JOptionPane.showMessageDialog(frame, new JScrollPane(textArea), "활동 보고서 목록", JOptionPane.INFORMATION_MESSAGE);
+        showReportBrowser("활동 보고서 목록", new ReportTableModel(clubManager), true);
+    }
+
+    /**
+     * 보고서 창을 엽니다.
+     *
+     * <p>
+     * {@link ReportTableModel}을 사용하는 JTable로 보고서를 표시합니다.
+     * 정렬 순서는 목록 상자나 열 머리글(동아리, 작성 날짜, 작성자) 클릭으로 바꾸며,
+     * 행을 두 번 클릭하면 보고서의 세부 정보를 표시합니다.
+     * </p>
+     *
+     * @param title 창 제목
+     * @param model 표시할 보고서 모델
+     * @param refreshable 새로 고침 버튼 표시 여부
+     *
+     * @created 2026-10-17
+     */
+    private void showReportBrowser(String title, ReportTableModel model, boolean refreshable) {
+        JTable table = new JTable(model);
+        table.setFillsViewportHeight(true);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+
+        JLabel countLabel = new JLabel();
+        Runnable updateCount = () -> countLabel.setText("총 " + model.getRowCount() + "건");
+        updateCount.run();
+
+        JComboBox<ReportTableModel.Order> orderBox = new JComboBox<>(ReportTableModel.Order.values());
+        orderBox.addActionListener(ev -> {
+            ReportTableModel.Order order = (ReportTableModel.Order) orderBox.getSelectedItem();
+            if (order == model.getOrder()) {
+                return;
+            }
+            // 날짜 색인 생성이나 작성자 정렬은 오래 걸릴 수 있으므로 백그라운드에서 계산
+            boolean started = runInBackground("보고서 정렬", true, (progress, cancelled) -> model.prepare(order), layout -> {
+                model.apply(layout);
+                updateCount.run();
+            });
+            if (!started) {
+                orderBox.setSelectedItem(model.getOrder());
+            }
+        });
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent ev) {
+                switch (table.columnAtPoint(ev.getPoint())) {
+                    case 0 -> orderBox.setSelectedItem(ReportTableModel.Order.CLUB);
+                    case 1 -> orderBox.setSelectedItem(ReportTableModel.Order.DATE);
+                    case 2 -> orderBox.setSelectedItem(ReportTableModel.Order.AUTHOR);
+                    default -> { } // 색인이 없는 열은 정렬하지 않음
+                }
+            }
+        });
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent ev) {
+                int row = table.rowAtPoint(ev.getPoint());
+                if (ev.getClickCount() != 2 || row < 0) {
+                    return;
+                }
+                ActivityReport report = model.getReportAt(row);
+                if (report != null) {
+                    JTextArea textArea = new JTextArea(report.getReportDetails());
+                    textArea.setEditable(false);
+                    JOptionPane.showMessageDialog(table, textArea, "활동 보고서", JOptionPane.INFORMATION_MESSAGE);
+                }
+            }
+        });
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(new JLabel("정렬:"));
+        controls.add(orderBox);
+        if (refreshable) {
+            JButton refreshButton = new JButton("새로 고침");
+            refreshButton.addActionListener(ev -> runInBackground("보고서 새로 고침", true,
+                    (progress, cancelled) -> model.prepare(model.getOrder()), layout -> {
+                        model.apply(layout);
+                        updateCount.run();
+                    }));
+            controls.add(refreshButton);
+        }
+        controls.add(countLabel);
+
+        JFrame browser = new JFrame(title);
+        browser.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        browser.add(controls, BorderLayout.NORTH);
+        browser.add(new JScrollPane(table), BorderLayout.CENTER);
+        browser.setSize(800, 500);
+        browser.setLocationRelativeTo(frame);
+        browser.setVisible(true);
     }
 
     /**
@@ -225,58 +463,97 @@ public class ClubManagementGUI {
      *
      * <p>
      * 사용자가 활동 보고서 검색 버튼을 클릭하면 검색 방식을 선택하고, 키워드 또는 날짜로 검색합니다.
-     * 검색 결과를 텍스트 영역에 표시하며, 결과가 없을 경우 적절한 메시지를 출력합니다.
+     * 검색 결과를 보고서 창에 표시하며, 결과가 없을 경우 적절한 메시지를 출력합니다.
+     * 검색은 백그라운드에서 실행합니다.
      * </p>
      *
      * @param e ActionEvent 객체
      * @created 2024-12-21
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-21: 메서드 추가 (한승규)</li>
+     *   <li>2026-10-17: 텍스트 영역 대신 보고서 창 사용 (한승규)</li>
+     *   <li>2026-10-17: 백그라운드에서 검색 (한승규)</li>
+     *   <li>2026-10-17: 취소하면 색인을 만드는 중에도 검색을 멈춤 (한승규)</li>
+     * </ul>
      */
     private void searchReports(ActionEvent e) {
         String[] options = {"키워드로 검색", "날짜로 검색"};
         int choice = JOptionPane.showOptionDialog(frame, "검색 방식을 선택하세요:", "활동 보고서 검색",
                 JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE, null, options, options[0]);
 
-        List<ActivityReport> results = new ArrayList<>();
+        BackgroundTask<List<ActivityReport>> search = (progress, cancelled) -> new ArrayList<>();
         if (choice == 0) {
             String keyword = JOptionPane.showInputDialog("검색할 키워드를 입력하세요:");
-            results = clubManager.searchReportsByKeyword(keyword);
+            search = (progress, cancelled) -> clubManager.searchReportsByKeyword(keyword, cancelled);
         } else if (choice == 1) {
             String date = JOptionPane.showInputDialog("검색할 날짜를 입력하세요 (예: 2024-12-19):");
-            results = clubManager.searchReportsByDate(date);
+            search = (progress, cancelled) -> clubManager.searchReportsByDate(date, cancelled);
         }
 
-        if (results.isEmpty()) {
-            JOptionPane.showMessageDialog(frame, "검색 결과가 없습니다.", "검색 결과", JOptionPane.INFORMATION_MESSAGE);
-        } else {
-            JTextArea textArea = new JTextArea(20, 40);
-            for (ActivityReport report : results) {
-                textArea.append(report.getReportDetails() + "\n");
+        runInBackground("활동 보고서 검색", true, search, results -> {
+            if (results.isEmpty()) {
+                JOptionPane.showMessageDialog(frame, "검색 결과가 없습니다.", "검색 결과", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                showReportBrowser("검색 결과", new ReportTableModel(results), false);
             }
-            textArea.setEditable(false);
-            JOptionPane.showMessageDialog(frame, new JScrollPane(textArea), "검색 결과", JOptionPane.INFORMATION_MESSAGE);
-        }
+        });
     }
 
+    /**
+     * 보고서 통계 이벤트 핸들러
+     *
+     * <p>
+     * 동아리 이름과 기간을 먼저 입력받은 뒤, 총 보고서 수, 작성자 및 활동 위치 수, 동아리별 보고서 수,
+     * 기간 내 보고서 수를 백그라운드에서 차례로 계산하여 표시합니다.
+     * </p>
+     *
+     * @param e ActionEvent 객체
+     * @created 2024-12-24
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-24: 메서드 추가 (한승규)</li>
+     *   <li>2026-10-17: 입력을 먼저 받고 계산은 백그라운드에서 실행 (한승규)</li>
+     *   <li>2026-10-17: 작성자 수와 활동 위치 수 표시 (한승규)</li>
+     *   <li>2026-10-17: 기간 내 보고서 수를 countReportsInDateRange로 계산 (한승규)</li>
+     * </ul>
+     */
     private void viewStats(ActionEvent e) {
-        StringBuilder stats = new StringBuilder();
-        stats.append("총 보고서 수: ").append(clubManager.getTotalReportsCount()).append("\n");
-
         String clubName = JOptionPane.showInputDialog("특정 동아리 이름을 입력하세요 (선택 사항):");
-        if (clubName != null && !clubName.isEmpty()) {
-            stats.append("동아리 '").append(clubName).append("'의 보고서 수: ")
-                    .append(clubManager.getReportsByClub(clubName)).append("\n");
-        }
-
         String startDate = JOptionPane.showInputDialog("시작 날짜를 입력하세요 (YYYY-MM-DD):");
         String endDate = JOptionPane.showInputDialog("종료 날짜를 입력하세요 (YYYY-MM-DD):");
-        if (startDate != null && endDate != null) {
-            List<ActivityReport> filteredReports = clubManager.getReportsInDateRange(startDate, endDate);
-            stats.append("기간 ").append(startDate).append(" ~ ").append(endDate).append(" 동안 보고서 수: ")
-                    .append(filteredReports.size()).append("\n");
-        }
 
-        JTextArea textArea = new JTextArea(stats.toString());
-        textArea.setEditable(false);
-        JOptionPane.showMessageDialog(frame, new JScrollPane(textArea), "보고서 통계", JOptionPane.INFORMATION_MESSAGE);
+        runInBackground("보고서 통계", true, (progress, cancelled) -> {
+            StringBuilder stats = new StringBuilder();
+            stats.append("총 보고서 수: ").append(clubManager.getTotalReportsCount()).append("\n");
+            stats.append("작성자 수: ").append(clubManager.getAuthorCount()).append("명, 활동 위치 수: ")
+                    .append(clubManager.getLocationCount()).append("곳\n");
+            progress.accept(33);
+
+            if (clubName != null && !clubName.isEmpty()) {
+                stats.append("동아리 '").append(clubName).append("'의 보고서 수: ")
+                        .append(clubManager.getReportsByClub(clubName)).append("\n");
+            }
+            progress.accept(66);
+
+            if (startDate != null && endDate != null) {
+                stats.append("기간 ").append(startDate).append(" ~ ").append(endDate).append(" 동안 보고서 수: ")
+                        .append(clubManager.countReportsInDateRange(startDate, endDate)).append("\n");
+                if (clubName != null && !clubName.isEmpty()) {
+                    stats.append("같은 기간 동아리 '").append(clubName).append("'의 보고서 수: ")
+                            .append(clubManager.countReportsInDateRange(clubName, startDate, endDate)).append("\n");
+                }
+            }
+            progress.accept(100);
+            return stats.toString();
+        }, stats -> {
+            JTextArea textArea = new JTextArea(stats);
+            textArea.setEditable(false);
+            JOptionPane.showMessageDialog(frame, new JScrollPane(textArea), "보고서 통계", JOptionPane.INFORMATION_MESSAGE);
+        });
     }
 }
\ No newline at end of file
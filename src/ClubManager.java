@@ -1,6 +1,20 @@
 import java.io.*;
+import java.nio.file.*;
+import java.text.Normalizer;
 import java.util.*;
-import javax.swing.JOptionPane;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 
 /**
@@ -12,12 +26,40 @@ import javax.swing.JOptionPane;
  * 활동 보고서 검색, 보고서 통계 및 특정 기간 내 검색 기능을 제공합니다.
  * </p>
  *
+ * <p>
+ * 콘솔과 GUI(이벤트 디스패치 스레드)가 동시에 호출해도 안전합니다.
+ * 동아리 목록과 보고서는 변경할 때마다 새로 발행되는 {@link ClubSnapshot}에 담기며,
+ * 조회, 통계, 저장은 잠금 없이 현재 스냅샷 하나를 읽으므로 작성 중에도 멈추지 않고 일관된 시점을 봅니다.
+ * </p>
+ *
+ * <p>
+ * 작성은 구조 읽기/쓰기 잠금과 동아리 이름의 해시로 고른 분할 잠금(lock striping)으로 순서를 맞춥니다.
+ * 동아리 등록, 불러오기, 체크포인트만 쓰기 잠금을 사용하며, 서로 다른 동아리의 보고서 작성은 동시에 진행됩니다.
+ * 잠금 순서는 구조 잠금, 동아리 잠금 순입니다.
+ * </p>
+ *
+ * <p>
+ * 키워드 색인, 날짜 색인, 통계와 열 저장소는 {@link SnapshotIndex}로 스냅샷 하나에서 잠금 없이 만들어 발행하며 바꾸지 않습니다.
+ * 작성은 스냅샷만 발행하고 색인을 건드리지 않으며, 조회는 발행된 색인과 그 뒤에 작성된 보고서를 같은 스냅샷 기준으로 합쳐 읽습니다.
+ * 따라서 색인 조회도 잠금을 잡지 않고, 어느 동아리의 작성도 기다리지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 공개 작업의 호출 수와 지연 시간, 저장 및 불러오기 바이트 수는 {@link #getMetrics()}가 반환하는
+ * {@link ClubManagerMetrics}에 기록되며, 지표 수집은 켜기 전까지 비용이 거의 들지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 키워드, 날짜, 기간 검색과 통계 결과는 {@link #getQueryCache()}가 반환하는 {@link QueryCache}에 보관되어
+ * 같은 조회를 반복하면 색인을 다시 읽지 않습니다. 보고서가 작성되면 그 보고서를 포함할 수 있는 결과만 버립니다.
+ * </p>
+ *
  * @author 한승규
- * @version 1.9.0
+ * @version 1.29.10
  * @since 2024-12-04
  *
  * @created 2024-12-01
- * @lastModified 2024-12-25
+ * @lastModified 2026-10-17
  *
  * @changelog
  * <ul>
@@ -31,14 +73,77 @@ import javax.swing.JOptionPane;
  *   <li>2024-12-21: 활동 보고서 검색 기능 추가 (한승규)</li>
  *   <li>2024-12-24: 보고서 통계 및 특정 기간 검색 기능 추가 (한승규)</li>
  *   <li>2024-12-25: 활동 보고서 HashMap 구조 적용 및 메서드 수정 (한승규)</li>
+ *   <li>2026-10-17: 저널 모드 추가, 변경 내역 추가 기록 및 백그라운드 체크포인트 (한승규)</li>
+ *   <li>2026-10-17: 데이터 파일을 바이너리 형식으로 저장 (한승규)</li>
+ *   <li>2026-10-17: 보고서 파일 메모리 매핑 지연 로딩 추가 (한승규)</li>
+ *   <li>2026-10-17: 키워드 검색 역색인 적용 (한승규)</li>
+ *   <li>2026-10-17: 날짜 검색 및 기간 검색에 정렬된 날짜 색인 적용 (한승규)</li>
+ *   <li>2026-10-17: 정규화된 동아리 이름 색인, findClub/containsClub/registerClubs 추가 (한승규)</li>
+ *   <li>2026-10-17: 동시 호출 지원, 구조 읽기/쓰기 잠금과 동아리별 분할 잠금 적용 (한승규)</li>
+ *   <li>2026-10-17: 영속 자료구조 스냅샷 발행, 조회와 저장을 잠금 없이 수행 (한승규)</li>
+ *   <li>2026-10-17: 활동 보고서 일괄 추가 addReports 추가 (한승규)</li>
+ *   <li>2026-10-17: 동아리, 보고서, 검색 결과를 Appendable에 나누어 쓰는 write 메서드 추가 (한승규)</li>
+ *   <li>2026-10-17: 날짜 색인 순서로 보고서를 나누어 조회하는 메서드 추가 (한승규)</li>
+ *   <li>2026-10-17: 총 보고서 수를 동아리 수로 반환하던 문제 수정, 작성자/위치/날짜별 통계 추가 (한승규)</li>
+ *   <li>2026-10-17: 리스트를 만들지 않는 기간 내 보고서 수 조회 countReportsInDateRange 추가 (한승규)</li>
+ *   <li>2026-10-17: 작업별 지연 시간 및 저장/불러오기 바이트 수 지표 추가 (한승규)</li>
+ *   <li>2026-10-17: 변경 상태 추적과 백그라운드 자동 저장, 종료 훅 저장 추가 (한승규)</li>
+ *   <li>2026-10-17: 동아리별 분할 저장소 사용, 바뀐 샤드만 다시 기록 (한승규)</li>
+ *   <li>2026-10-17: 분할 저장소의 샤드를 병렬로 불러오기 (한승규)</li>
+ *   <li>2026-10-17: 날짜 검색과 통계를 열 단위로 훑는 보고서 열 저장소 추가 (한승규)</li>
+ *   <li>2026-10-17: 색인이 없는 조건을 병렬로 검사하는 findReports/countReports 추가 (한승규)</li>
+ *   <li>2026-10-17: 검색 및 통계 결과 캐시 추가, 동아리별 버전으로 작성된 보고서가 포함될 수 있는 결과만 무효화 (한승규)</li>
+ *   <li>2026-10-17: 저널 재생 전 스냅샷 LSN 이후로 LSN 발급, 체크포인트 후 재시작하면 보고서가 사라지던 문제 수정 (한승규)</li>
+ *   <li>2026-10-17: 저널 모드에서 저널에 먼저 기록한 뒤 메모리에 반영, 기록 실패를 성공으로 알리던 문제 수정 (한승규)</li>
+ *   <li>2026-10-17: 분할 저장소에 처음 저장한 뒤 이전 형식 파일을 삭제하지 않고 .bak으로 보관 (한승규)</li>
+ *   <li>2026-10-17: saveData/loadData가 오류 창을 직접 띄우지 않고 IOException을 호출자에게 전달 (한승규)</li>
+ *   <li>2026-10-17: 일괄 추가에서 동아리 이름을 바로잡을 때 전달받은 보고서 대신 복사본을 저장 (한승규)</li>
+ *   <li>2026-10-17: 키워드 검색과 작성자/위치별 개수 결과는 조건에 맞는 보고서가 추가될 때만 캐시에서 버림 (한승규)</li>
+ *   <li>2026-10-17: 색인 잠금 제거, 색인을 스냅샷으로 잠금 없이 만들어 발행하고 이후 작성된 보고서와 합쳐 조회 (한승규)</li>
+ *   <li>2026-10-17: 동아리별 기간 조회는 그 동아리의 밀린 보고서만 읽고 그 수로만 색인을 다시 발행 (한승규)</li>
+ *   <li>2026-10-17: 저장, 불러오기, 키워드 및 날짜 검색에 취소 확인 함수를 받는 메서드 추가, 색인 생성도 중간에 멈춤 (한승규)</li>
  * </ul>
  */
 public class ClubManager {
-    private final List<Club> clubs = new ArrayList<>(); // 동아리 목록
-    private final HashMap<String, List<ActivityReport>> reports = new HashMap<>(); // 활동 보고서 목록
+    private final AtomicReference<ClubSnapshot> current = new AtomicReference<>(ClubSnapshot.empty()); // 동아리 및 활동 보고서 목록
+
+    private static final String CLUBS_FILE = "clubs.dat"; // 이전 형식의 동아리 데이터 파일 (불러오기만 함)
+    private static final String REPORTS_FILE = "reports.dat"; // 이전 형식의 보고서 데이터 파일 (불러오기만 함)
+    private static final String DATA_DIR = "data"; // 동아리별 분할 저장소 디렉터리
+    private static final String JOURNAL_DIR = "journal"; // 저널 세그먼트 저장 디렉터리
 
-    private static final String CLUBS_FILE = "clubs.dat"; // 동아리 데이터 저장 파일
-    private static final String REPORTS_FILE = "reports.dat"; // 보고서 데이터 저장 파일
+    private static final long CHECKPOINT_INTERVAL_SECONDS = 30; // 체크포인트 검사 주기
+    private static final long CHECKPOINT_THRESHOLD_BYTES = 4L * 1024 * 1024; // 체크포인트를 수행할 저널 크기
+
+    private static final int LOCK_STRIPES = 64; // 동아리별 분할 잠금 개수 (2의 거듭제곱)
+    private static final int BATCH_CHUNK_SIZE = 65536; // 스트림 일괄 추가 시 한 번에 반영하는 보고서 수
+    private static final int CONSOLE_BUFFER_SIZE = 64 * 1024; // 콘솔 출력 버퍼 크기
+    private static final int CANCEL_CHECK_INTERVAL = 4096; // 색인을 만들 때 취소를 확인하는 보고서 수 간격
+
+    private final ReentrantReadWriteLock structureLock = new ReentrantReadWriteLock(); // 동아리 등록, 불러오기와 작성 사이의 잠금
+    private final Object[] stripes = newStripes(); // 동아리 이름 해시별 작성 잠금
+
+    private ClubJournal journal; // 저널 모드에서 사용하는 저널 (기본 모드에서는 null)
+    private ScheduledExecutorService checkpointer; // 백그라운드 체크포인트 스케줄러
+    private final AtomicLong appliedLsn = new AtomicLong(); // 메모리에 반영된 마지막 저널 LSN
+    private boolean lazyLoading; // 보고서 파일을 메모리에 매핑하여 지연 로딩할지 여부
+    private final SnapshotIndex<ReportSearchIndex> searchIndex = new SnapshotIndex<>(current::get,
+            ClubManager::buildSearchIndex, ClubManager::extendSearchIndex); // 키워드 검색 색인 (첫 검색 시 생성)
+    private final SnapshotIndex<DateIndexes> dateIndexes = new SnapshotIndex<>(current::get,
+            DateIndexes::build, DateIndexes::extend); // 전체 및 동아리별 날짜 색인 (첫 날짜 검색 시 생성)
+    private final SnapshotIndex<ReportStatistics> statistics = new SnapshotIndex<>(current::get,
+            ClubManager::buildStatistics, ClubManager::extendStatistics); // 작성자, 위치, 날짜별 보고서 수 (첫 통계 조회 시 생성)
+    private volatile boolean columnScans; // 날짜 검색과 통계를 열 저장소로 수행할지 여부
+    private final SnapshotIndex<ReportColumnStore> columnStore = new SnapshotIndex<>(current::get,
+            ClubManager::buildColumnStore, ClubManager::extendColumnStore); // 보고서 열 저장소 (열 저장소 사용 시 첫 조회 때 생성)
+    private final ClubManagerMetrics metrics = new ClubManagerMetrics(); // 작업별 실행 지표 (기본으로 꺼져 있음)
+    private final QueryCache queryCache = new QueryCache(QueryCache.DEFAULT_MAX_ENTRIES, QueryCache.DEFAULT_MAX_WEIGHT); // 검색 및 통계 결과 캐시
+    private final AtomicLong changeCount = new AtomicLong(); // 발행된 변경(동아리 등록, 보고서 작성) 수
+    private volatile long savedChangeCount; // 마지막 저장에 반영된 변경 수
+    private final Object saveLock = new Object(); // 스냅샷 파일 기록 잠금
+    private final ClubShardStore store = new ClubShardStore(Paths.get(DATA_DIR)); // 동아리별 분할 저장소 (저장 잠금으로 보호)
+    private volatile AutosaveScheduler autosaver; // 자동 저장 스케줄러 (사용하지 않으면 null)
+    private Thread autosaveHook; // 종료 시 남은 변경을 저장하는 종료 훅
 
     /**
      * 프로그램의 진입점 메소드입니다.
@@ -69,6 +174,7 @@ public class ClubManager {
      * <p>
      * 새로운 동아리 객체를 생성하고 내부 데이터 리스트에 추가합니다.
      * 동아리 이름, 지도 교수, 회원 수, 설립 목적을 입력받아 등록합니다.
+     * 앞뒤 공백과 유니코드 정규화 차이만 있는 이름은 같은 동아리로 봅니다.
      * </p>
      *
      * @param name 동아리 이름
@@ -77,25 +183,163 @@ public class ClubManager {
      * @param purpose 설립 목적
      *
      * @created 2024-12-04
-     * @lastModified 2024-12-25
+     * @lastModified 2026-10-17
      *
      * @changelog
      * <ul>
      *   <li>2024-12-04: 동아리 등록 메소드 추가 (한승규)</li>
      *   <li>2024-12-15: 데이터 관리 리스트 업데이트 (한승규)</li>
      *   <li>2024-12-25: 메소드 호환 수정 (한승규)</li>
+     *   <li>2026-10-17: 저널 모드에서 등록 내역을 저널에 기록 (한승규)</li>
+     *   <li>2026-10-17: 정규화된 이름 색인으로 중복 확인 (한승규)</li>
+     *   <li>2026-10-17: 구조 쓰기 잠금 사용 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     *   <li>2026-10-17: 저널에 먼저 기록하고, 기록에 실패하면 반영하지 않음 (한승규)</li>
      * </ul>
      */
     public void registerClub(String name, String advisor, int memberCount, String purpose) {
-        for (Club club : clubs) {
-            if (club.getName().equals(name)) {
-                System.out.println("이미 등록된 동아리입니다: " + name);
+        long timer = metrics.start();
+        try {
+            if (name == null || name.isBlank()) {
+                System.out.println("동아리 이름을 입력해야 합니다.");
+                return;
+            }
+            long lsn = 0;
+            structureLock.writeLock().lock();
+            try {
+                if (current.get().findClub(name) != null) {
+                    System.out.println("이미 등록된 동아리입니다: " + name);
+                    return;
+                }
+                Club club = new Club(name, advisor, memberCount, purpose);
+                if (journal != null) {
+                    try {
+                        lsn = appendToJournal(club, null); // 기록에 실패하면 메모리에 반영하지 않음
+                    } catch (IOException e) {
+                        System.err.println("저널 기록 중 오류가 발생하여 동아리를 등록하지 않았습니다: " + e.getMessage());
+                        return;
+                    }
+                }
+                insertClub(club);
+            } finally {
+                structureLock.writeLock().unlock();
+            }
+            if (!awaitJournal(lsn)) { // 잠금 밖에서 기다려 다른 호출과 함께 동기화되도록 함
                 return;
             }
+            markDirty(1);
+            System.out.println("동아리가 등록되었습니다: " + name);
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.REGISTER_CLUB, timer);
+        }
+    }
+
+    /**
+     * 여러 동아리를 한 번에 등록합니다.
+     *
+     * <p>
+     * 이름 색인으로 중복을 확인하므로 전체 비용은 등록할 동아리 수에 비례합니다.
+     * 이미 등록되었거나 목록 안에서 중복된 이름, 빈 이름은 건너뜁니다.
+     * 저널 모드에서는 마지막 기록의 동기화만 기다리며, 동기화에 실패하면 {@link #registerClub}처럼
+     * 오류를 출력하고 성공 메시지를 출력하지 않습니다.
+     * </p>
+     *
+     * @param newClubs 등록할 동아리 목록
+     * @return 실제로 등록된 동아리 수
+     *
+     * @created 2026-10-17
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2026-10-17: 저널 동기화 실패를 확인하여 성공으로 알리지 않음 (한승규)</li>
+     * </ul>
+     */
+    public int registerClubs(Collection<Club> newClubs) {
+        long timer = metrics.start();
+        try {
+            int registered = 0;
+            long lsn = 0;
+            structureLock.writeLock().lock();
+            try {
+                for (Club club : newClubs) {
+                    if (club.getName() == null || club.getName().isBlank()
+                            || current.get().findClub(club.getName()) != null) {
+                        continue;
+                    }
+                    if (journal != null) {
+                        try {
+                            lsn = appendToJournal(club, null);
+                        } catch (IOException e) {
+                            System.err.println("저널 기록 중 오류가 발생하여 남은 동아리를 등록하지 않았습니다: " + e.getMessage());
+                            break;
+                        }
+                    }
+                    insertClub(club);
+                    registered++;
+                }
+            } finally {
+                structureLock.writeLock().unlock();
+            }
+            if (!awaitJournal(lsn)) {
+                System.err.println("동아리 " + registered + "개를 등록했지만 저널에 기록되었는지 확인하지 못했습니다.");
+                return registered;
+            }
+            markDirty(registered);
+            System.out.println("동아리 " + registered + "개가 등록되었습니다.");
+            return registered;
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.REGISTER_CLUBS, timer);
+        }
+    }
+
+    /**
+     * 이름으로 동아리를 찾습니다.
+     *
+     * <p>
+     * 앞뒤 공백을 제거하고 유니코드 정규화(NFC)한 이름으로 색인에서 찾으므로 O(1)입니다.
+     * </p>
+     *
+     * @param name 동아리 이름
+     * @return 찾은 동아리, 없으면 null
+     *
+     * @created 2026-10-17
+     */
+    public Club findClub(String name) {
+        long timer = metrics.start();
+        try {
+            return current.get().findClub(name);
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.FIND_CLUB, timer);
         }
-        clubs.add(new Club(name, advisor, memberCount, purpose));
-        reports.put(name, new ArrayList<>()); // 새로운 동아리의 활동 보고서 리스트 초기화
-        System.out.println("동아리가 등록되었습니다: " + name);
+    }
+
+    /**
+     * 동아리가 등록되어 있는지 확인합니다.
+     *
+     * @param name 동아리 이름
+     * @return 등록되어 있으면 true
+     *
+     * @created 2026-10-17
+     */
+    public boolean containsClub(String name) {
+        return findClub(name) != null;
+    }
+
+    /**
+     * 현재 시점의 동아리 및 활동 보고서 스냅샷을 반환합니다.
+     *
+     * <p>
+     * 스냅샷은 바뀌지 않으므로 여러 값을 같은 시점 기준으로 조회할 때 사용합니다.
+     * 이후의 등록과 작성은 새 스냅샷에만 반영됩니다.
+     * </p>
+     *
+     * @return 현재 스냅샷
+     *
+     * @created 2026-10-17
+     */
+    public ClubSnapshot snapshot() {
+        return current.get();
     }
 
     /**
@@ -107,22 +351,29 @@ public class ClubManager {
      * </p>
      *
      * @created 2024-12-04
-     * @lastModified 2024-12-07
+     * @lastModified 2026-10-17
      *
      * @changelog
      * <ul>
      *   <li>2024-12-04: 동아리 조회 메소드 추가 (한승규)</li>
      *   <li>2024-12-07: 리스트 출력 로직 추가 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
      * </ul>
      */
     public void viewClubs() {
-        if (clubs.isEmpty()) {
-            System.out.println("등록된 동아리가 없습니다.");
-            return;
-        }
-        System.out.println("==== 동아리 목록 ====");
-        for (Club club : clubs) {
-            System.out.println(club.getDetails());
+        long timer = metrics.start();
+        try {
+            List<Club> clubList = current.get().getClubs();
+            if (clubList.isEmpty()) {
+                System.out.println("등록된 동아리가 없습니다.");
+                return;
+            }
+            System.out.println("==== 동아리 목록 ====");
+            for (Club club : clubList) {
+                System.out.println(club.getDetails());
+            }
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.VIEW_CLUBS, timer);
         }
     }
 
@@ -140,23 +391,221 @@ public class ClubManager {
      * @param result 활동 결과
      * @param date 작성 날짜 (YYYY-MM-DD)
      * @created 2024-12-07
-     * @lastModified 2024-12-25
+     * @lastModified 2026-10-17
      *
      * @changelog
      * <ul>
      *   <li>2024-12-04: 활동 보고서 작성 메소드 추가 (한승규)</li>
      *   <li>2024-12-07: 리스트에 보고서 추가 로직 작성 (한승규)</li>
      *   <li>2024-12-25: HashMap 구조로 수정 (한승규)</li>
+     *   <li>2026-10-17: 저널 모드에서 작성 내역을 저널에 기록 (한승규)</li>
+     *   <li>2026-10-17: 동아리 이름을 이름 색인으로 확인 (한승규)</li>
+     *   <li>2026-10-17: 동아리별 분할 잠금 사용, 다른 동아리의 작성과 동시에 진행 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     *   <li>2026-10-17: 저널에 먼저 기록하고, 기록에 실패하면 반영하지 않음 (한승규)</li>
      * </ul>
      */
     public void addDetailedReport(String clubName, String activityContent, String author, String location, String result, String date) {
-        if (!reports.containsKey(clubName)) {
-            System.out.println("동아리를 찾을 수 없습니다: " + clubName);
-            return;
+        long timer = metrics.start();
+        try {
+            long lsn = 0;
+            structureLock.readLock().lock();
+            try {
+                String name = current.get().resolveName(clubName);
+                if (name == null) {
+                    System.out.println("동아리를 찾을 수 없습니다: " + clubName);
+                    return;
+                }
+                ActivityReport report = new ActivityReport(name, activityContent, author, location, result, date);
+                synchronized (stripeFor(name)) { // 같은 동아리의 보고서는 저널에도 작성 순서대로 기록
+                    if (journal != null) {
+                        try {
+                            lsn = appendToJournal(null, report); // 기록에 실패하면 메모리에 반영하지 않음
+                        } catch (IOException e) {
+                            System.err.println("저널 기록 중 오류가 발생하여 보고서를 작성하지 않았습니다: " + e.getMessage());
+                            return;
+                        }
+                    }
+                    insertReport(report); // 동아리별로 보고서 추가
+                }
+            } finally {
+                structureLock.readLock().unlock();
+            }
+            if (!awaitJournal(lsn)) {
+                return;
+            }
+            markDirty(1);
+            System.out.println("활동 보고서가 작성되었습니다.");
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.ADD_DETAILED_REPORT, timer);
+        }
+    }
+
+    /**
+     * 여러 활동 보고서를 한 번에 추가합니다.
+     *
+     * <p>
+     * 동아리 이름은 서로 다른 이름마다 한 번만 확인하고, 보고서를 동아리별로 묶어 미리 크기를 정한 목록으로 모은 뒤
+     * 하나의 스냅샷으로 발행합니다. 색인은 갱신하지 않고 다음 조회가 스냅샷에서 함께 읽으며,
+     * 보고서마다 메시지를 출력하지 않습니다.
+     * </p>
+     *
+     * <p>
+     * 등록되지 않은 동아리의 보고서와 null은 거부되어 결과에 사유와 함께 담깁니다.
+     * 동아리 이름이 등록된 이름과 공백이나 정규화만 다르면 등록된 이름으로 바꾼 복사본을 저장하고 결과에 담으며,
+     * 전달한 보고서는 바꾸지 않습니다.
+     * 저널 모드에서는 마지막 기록의 동기화만 기다립니다.
+     * </p>
+     *
+     * @param newReports 추가할 활동 보고서
+     * @return 추가 및 거부된 보고서
+     *
+     * @created 2026-10-17
+     */
+    public ReportBatchResult addReports(Collection<ActivityReport> newReports) {
+        long timer = metrics.start();
+        try {
+            ReportBatchResult result = new ReportBatchResult();
+            awaitJournal(addReportChunk(newReports, result));
+            return result;
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.ADD_REPORTS, timer);
+        }
+    }
+
+    /**
+     * 스트림의 활동 보고서를 일괄 추가합니다.
+     *
+     * <p>
+     * {@link #addReports(Collection)}와 같으며, 스트림을 일정 크기로 나누어 반영하므로
+     * 임시로 묶어 두는 보고서 수가 스트림 길이와 관계없이 일정합니다.
+     * </p>
+     *
+     * @param newReports 추가할 활동 보고서 스트림
+     * @return 추가 및 거부된 보고서
+     *
+     * @created 2026-10-17
+     */
+    public ReportBatchResult addReports(Stream<ActivityReport> newReports) {
+        long timer = metrics.start();
+        try {
+            ReportBatchResult result = new ReportBatchResult();
+            List<ActivityReport> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+            long lsn = 0;
+            Iterator<ActivityReport> iterator = newReports.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == BATCH_CHUNK_SIZE || !iterator.hasNext()) {
+                    lsn = Math.max(lsn, addReportChunk(chunk, result));
+                    chunk.clear();
+                }
+            }
+            awaitJournal(lsn);
+            return result;
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.ADD_REPORTS, timer);
+        }
+    }
+
+    /**
+     * 보고서 묶음을 동아리별로 나누어 하나의 스냅샷으로 발행하고 마지막 저널 LSN을 반환합니다.
+     * 잠금 밖에서 호출해야 합니다.
+     */
+    private long addReportChunk(Collection<ActivityReport> batch, ReportBatchResult result) {
+        structureLock.readLock().lock();
+        try {
+            ClubSnapshot snapshot = current.get();
+            HashMap<String, Integer> resolved = new HashMap<>(); // 입력된 동아리 이름별 위치
+            int[] slots = new int[batch.size()];
+            int[] counts = new int[snapshot.getReportListCount()];
+            int index = 0;
+            for (ActivityReport report : batch) {
+                int slot = -1;
+                if (report != null && report.getClubName() != null) {
+                    slot = resolved.computeIfAbsent(report.getClubName(), snapshot::slotOf);
+                }
+                slots[index++] = slot;
+                if (slot >= 0) {
+                    counts[slot]++;
+                }
+            }
+
+            HashMap<Integer, List<ActivityReport>> bySlot = new HashMap<>();
+            List<ActivityReport> inputReports = new ArrayList<>(batch.size()); // 거부할 때 돌려줄 입력 보고서
+            List<ActivityReport> acceptedReports = new ArrayList<>(batch.size()); // 저장할 보고서
+            boolean[] stripesToLock = new boolean[LOCK_STRIPES];
+            index = 0;
+            for (ActivityReport report : batch) {
+                int slot = slots[index++];
+                if (slot < 0) {
+                    result.reject(report, report == null ? "보고서가 없습니다."
+                            : "동아리를 찾을 수 없습니다: " + report.getClubName());
+                    continue;
+                }
+                String name = snapshot.nameAt(slot);
+                ActivityReport stored = name.equals(report.getClubName())
+                        ? report : report.withClubName(name); // 호출자의 보고서는 바꾸지 않음
+                List<ActivityReport> group = bySlot.get(slot);
+                if (group == null) {
+                    group = new ArrayList<>(counts[slot]);
+                    bySlot.put(slot, group);
+                    stripesToLock[stripeIndex(name)] = true;
+                }
+                group.add(stored);
+                inputReports.add(report);
+                acceptedReports.add(stored);
+            }
+            if (acceptedReports.isEmpty()) {
+                return 0;
+            }
+
+            long[] lsn = new long[1];
+            IOException[] failure = new IOException[1];
+            withStripes(stripesToLock, 0, () -> {
+                if (journal != null) {
+                    try {
+                        for (ActivityReport report : acceptedReports) {
+                            lsn[0] = appendToJournal(null, report);
+                        }
+                    } catch (IOException e) {
+                        failure[0] = e; // 기록에 실패하면 메모리에 반영하지 않음
+                        return;
+                    }
+                }
+                current.updateAndGet(latest -> latest.withReports(bySlot, acceptedReports));
+                queryCache.reportsAdded(acceptedReports); // 스냅샷에 보인 뒤 무효화해야 이전 결과가 다시 보관되지 않음
+            });
+            if (failure[0] != null) {
+                System.err.println("저널 기록 중 오류가 발생하여 보고서를 추가하지 않았습니다: " + failure[0].getMessage());
+                for (ActivityReport report : inputReports) {
+                    result.reject(report, "저널 기록 중 오류가 발생했습니다: " + failure[0].getMessage());
+                }
+                return 0;
+            }
+            for (ActivityReport report : acceptedReports) {
+                result.accept(report);
+            }
+            markDirty(acceptedReports.size());
+            return lsn[0];
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 표시된 동아리 잠금을 번호 순서대로 모두 잡은 상태에서 작업을 실행합니다.
+     * 항상 같은 순서로 잡으므로 다른 일괄 추가와 교착 상태가 생기지 않습니다.
+     */
+    private void withStripes(boolean[] stripesToLock, int from, Runnable action) {
+        for (int i = from; i < LOCK_STRIPES; i++) {
+            if (stripesToLock[i]) {
+                synchronized (stripes[i]) {
+                    withStripes(stripesToLock, i + 1, action);
+                }
+                return;
+            }
         }
-        ActivityReport report = new ActivityReport(clubName, activityContent, author, location, result, date);
-        reports.get(clubName).add(report); // 동아리별로 보고서 추가
-        System.out.println("활동 보고서가 작성되었습니다.");
+        action.run();
     }
 
     /**
@@ -172,17 +621,39 @@ public class ClubManager {
      * @created 2024-12-25
      */
     public void viewReportsByClub(String clubName) {
-        List<ActivityReport> clubReports = reports.get(clubName);
+        long timer = metrics.start();
+        try {
+            Writer out = consoleWriter();
+            try {
+                printReports(out, clubName, current.get().getReports(clubName));
+                out.flush();
+            } catch (IOException e) {
+                System.err.println("보고서를 출력하는 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.VIEW_REPORTS_BY_CLUB, timer);
+        }
+    }
+
+    private static void printReports(Writer out, String clubName, List<ActivityReport> clubReports) throws IOException {
         if (clubReports == null || clubReports.isEmpty()) {
-            System.out.println("해당 동아리에 대한 보고서가 없습니다: " + clubName);
+            out.append("해당 동아리에 대한 보고서가 없습니다: ").append(clubName).append('\n');
             return;
         }
-        System.out.println("==== " + clubName + " 보고서 목록 ====");
+        out.append("==== ").append(clubName).append(" 보고서 목록 ====\n");
         for (ActivityReport report : clubReports) {
-            System.out.println(report.getReportDetails());
+            report.appendReportDetails(out);
+            out.append('\n');
         }
     }
 
+    /**
+     * 콘솔 출력용 버퍼를 만듭니다. 보고서를 하나씩 출력하지 않고 버퍼가 찰 때마다 한 번에 내보냅니다.
+     */
+    private static Writer consoleWriter() {
+        return new BufferedWriter(new OutputStreamWriter(System.out), CONSOLE_BUFFER_SIZE);
+    }
+
     /**
      * 작성된 활동 보고서를 조회합니다.
      *
@@ -192,281 +663,1693 @@ public class ClubManager {
      * </p>
      *
      * @created 2024-12-04
-     * @lastModified 2024-12-25
+     * @lastModified 2026-10-17
      *
      * @changelog
      * <ul>
      *   <li>2024-12-04: 활동 보고서 조회 메소드 추가 (한승규)</li>
      *   <li>2024-12-07: 리스트 출력 로직 추가 (한승규)</li>
      *   <li>2024-12-07: 메소드와 호환 가능하게 변경 (한승규)</li>
+     *   <li>2026-10-17: 하나의 스냅샷에서 모든 동아리를 출력 (한승규)</li>
+     *   <li>2026-10-17: 버퍼를 거쳐 나누어 출력 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
      * </ul>
      */
     public void viewAllReports() {
-        if (reports.isEmpty()) {
-            System.out.println("작성된 활동 보고서가 없습니다.");
-            return;
-        }
-        for (String clubName : reports.keySet()) {
-            viewReportsByClub(clubName);
+        long timer = metrics.start();
+        try {
+            Map<String, List<ActivityReport>> reportMap = current.get().getReportMap();
+            if (reportMap.isEmpty()) {
+                System.out.println("작성된 활동 보고서가 없습니다.");
+                return;
+            }
+            Writer out = consoleWriter();
+            try {
+                for (Map.Entry<String, List<ActivityReport>> entry : reportMap.entrySet()) {
+                    printReports(out, entry.getKey(), entry.getValue());
+                }
+                out.flush();
+            } catch (IOException e) {
+                System.err.println("보고서를 출력하는 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.VIEW_ALL_REPORTS, timer);
         }
     }
 
     /**
-     * 동아리 및 활동 보고서를 저장하는 메서드입니다.
+     * 저널 모드를 활성화합니다.
      *
      * <p>
-     * 동아리와 활동 보고서 데이터를 각각 파일에 직렬화하여 저장합니다.
-     * 데이터는 프로그램 종료 시 손실되지 않도록 로컬 파일로 저장됩니다.
+     * 저널 모드에서는 동아리 등록과 활동 보고서 작성이 일어날 때마다 저널에 추가 기록되므로,
+     * 저장 비용이 전체 데이터 크기가 아니라 변경된 양에만 비례합니다.
+     * 백그라운드 스케줄러가 주기적으로 저널 크기를 확인하여 분할 저장소의 스냅샷으로 합칩니다.
+     * {@link #loadData()}보다 먼저 호출해야 저널 내용이 스냅샷 위에 재생됩니다.
      * </p>
      *
-     * @created 2024-12-08
-     * @lastModified 2024-12-25
-     *
-     * @changelog
-     * <ul>
-     *   <li>2024-12-08: 데이터 저장 메서드 구현 (한승규)</li>
-     *   <li>2024-12-15: GUI 연동 추가 (한승규)</li>
-     *   <li>2024-12-20: 예외처리 (한승규)</li>
-     *   <li>2024-12-25: 예외처리 (한승규)</li>
-     * </ul>
+     * @created 2026-10-17
      */
-    public void saveData() {
-        try (ObjectOutputStream clubOut = new ObjectOutputStream(new FileOutputStream(CLUBS_FILE));
-             ObjectOutputStream reportOut = new ObjectOutputStream(new FileOutputStream(REPORTS_FILE))) {
-
-            clubOut.writeObject(clubs);
-            reportOut.writeObject(reports);
-            System.out.println("데이터가 성공적으로 저장되었습니다.");
+    public void enableJournal() {
+        structureLock.writeLock().lock();
+        try {
+            if (journal != null) {
+                return;
+            }
+            journal = new ClubJournal(Paths.get(JOURNAL_DIR), metrics::addBytesWritten);
         } catch (IOException e) {
-            System.err.println("데이터 저장 중 오류가 발생했습니다: " + e.getMessage());
-            JOptionPane.showMessageDialog(null, "데이터 저장 중 오류가 발생했습니다.\n오류 내용: " + e.getMessage(),
-                    "저장 실패", JOptionPane.ERROR_MESSAGE);
+            System.err.println("저널을 열 수 없어 기본 저장 방식으로 동작합니다: " + e.getMessage());
+            return;
+        } finally {
+            structureLock.writeLock().unlock();
         }
+        checkpointer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "club-journal-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkpointer.scheduleWithFixedDelay(() -> {
+            if (journal.currentSegmentBytes() >= CHECKPOINT_THRESHOLD_BYTES) {
+                checkpoint();
+            }
+        }, CHECKPOINT_INTERVAL_SECONDS, CHECKPOINT_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
 
     /**
-     * 저장된 동아리 및 활동 보고서를 불러오는 메서드입니다.
+     * 보고서 지연 로딩 여부를 설정합니다.
      *
      * <p>
-     * 파일에서 데이터를 읽어와 프로그램 내 데이터 리스트를 초기화합니다.
-     * 데이터가 없는 경우 초기 상태로 유지됩니다.
+     * 지연 로딩을 사용하면 {@link #loadData()}가 보고서 파일을 메모리에 매핑하고 문자열 사전과
+     * 동아리별 보고서 수만 읽으므로, 보고서가 많아도 시작 시간과 힙 사용량이 거의 늘지 않습니다.
+     * 각 보고서는 조회나 검색에서 처음 접근할 때 만들어집니다.
      * </p>
      *
-     * @created 2024-12-08
-     * @lastModified 2024-12-20
+     * @param lazyLoading 지연 로딩 사용 여부
      *
-     * @changelog
-     * <ul>
-     *   <li>2024-12-08: 데이터 불러오기 메서드 구현 (한승규)</li>
-     *   <li>2024-12-20: 예외처리 (한승규)</li>
-     * </ul>
+     * @created 2026-10-17
      */
-    public void loadData() {
-        try (ObjectInputStream clubIn = new ObjectInputStream(new FileInputStream(CLUBS_FILE));
-             ObjectInputStream reportIn = new ObjectInputStream(new FileInputStream(REPORTS_FILE))) {
-            clubs.clear();
-            reports.clear();
-            clubs.addAll((List<Club>) clubIn.readObject());
-            reports.putAll((HashMap<String, List<ActivityReport>>) reportIn.readObject());
-            System.out.println("데이터가 성공적으로 불러와졌습니다.");
-        } catch (FileNotFoundException e) {
-            System.out.println("저장된 데이터 파일이 없습니다. 새로 시작합니다.");
-        } catch (IOException | ClassNotFoundException e) {
-            System.err.println("데이터 불러오기 중 오류가 발생했습니다: " + e.getMessage());
-            JOptionPane.showMessageDialog(null, "데이터 불러오기 중 오류가 발생했습니다.\n오류 내용: " + e.getMessage(),
-                    "불러오기 실패", JOptionPane.ERROR_MESSAGE);
+    public void setLazyLoading(boolean lazyLoading) {
+        structureLock.writeLock().lock();
+        try {
+            this.lazyLoading = lazyLoading;
+        } finally {
+            structureLock.writeLock().unlock();
         }
     }
 
     /**
-     * 등록된 동아리 목록을 문자열로 반환합니다.
+     * 날짜 검색과 통계에 보고서 열 저장소를 사용할지 설정합니다.
      *
      * <p>
-     * GUI에서 사용하기 위한 문자열 형태의 동아리 목록을 반환합니다.
-     * 등록된 동아리가 없으면 '등록된 동아리가 없습니다.' 메시지를 반환합니다.
+     * 사용하면 날짜 검색, 기간 검색, 작성자/위치/날짜별 통계를 날짜 색인과 통계 대신 {@link ReportColumnStore}로 수행합니다.
+     * 열 저장소는 필드별 int 배열을 차례로 훑으므로 색인을 따로 유지하지 않아도 되고, 보고서 객체는 반환할 행에만 만듭니다.
+     * 이 경우 검색 결과는 저장된 보고서의 사본입니다. 끄면 열 저장소를 버립니다.
      * </p>
      *
-     * @return 등록된 동아리 목록 문자열
-     *
-     * @created 2024-12-15
-     * @lastModified 2024-12-15
+     * @param enabled 열 저장소 사용 여부
      *
-     * @changelog
-     * <ul>
-     *   <li>2024-12-15: 등록된 동아리 목록 GUI를 위한 메서드 추가 (한승규)</li>
-     * </ul>
+     * @created 2026-10-17
      */
-    public String viewClubsAsString() {
-        if (clubs.isEmpty()) return "등록된 동아리가 없습니다.";
-        StringBuilder sb = new StringBuilder("==== 동아리 목록 ====\n");
-        for (Club club : clubs) {
-            sb.append(club.getDetails()).append("\n");
+    public void setColumnStore(boolean enabled) {
+        structureLock.writeLock().lock();
+        try {
+            columnScans = enabled;
+            if (!enabled) {
+                columnStore.reset();
+            }
+        } finally {
+            structureLock.writeLock().unlock();
         }
-        return sb.toString();
     }
 
     /**
-     * 등록된 활동 보고서를 문자열로 반환합니다.
+     * 작업별 실행 지표를 반환합니다.
      *
      * <p>
-     * GUI에서 사용하기 위한 문자열 형태의 활동 보고서 목록을 반환합니다.
-     * 등록된 보고서가 없으면 '작성된 활동 보고서가 없습니다.' 메시지를 반환합니다.
+     * 지표 수집은 기본으로 꺼져 있으므로 {@link ClubManagerMetrics#setEnabled(boolean)}로 켜야 기록됩니다.
      * </p>
      *
-     * @return 활동 보고서 목록 문자열
-     *
-     * @created 2024-12-18
-     * @lastModified 2024-12-18
+     * @return 실행 지표
      *
-     * @changelog
-     * <ul>
-     *     <li>2024-12-18: 등록된 활동 보고서 GUI를 위한 메서드 추가 (한승규)</li>
-     * </ul>
+     * @created 2026-10-17
      */
-    public String viewReportsAsString() {
-        if (reports.isEmpty()) return "작성된 활동 보고서가 없습니다.";
-
-        StringBuilder sb = new StringBuilder("==== 활동 보고서 목록 ====\n");
-        // HashMap의 모든 값(List<ActivityReport>)을 순회
-        for (Map.Entry<String, List<ActivityReport>> entry : reports.entrySet()) {
-            String clubName = entry.getKey(); // 동아리 이름
-            List<ActivityReport> reportList = entry.getValue(); // 해당 동아리의 보고서 리스트
-
-            sb.append("동아리: ").append(clubName).append("\n"); // 동아리 이름 추가
-            for (ActivityReport report : reportList) {
-                sb.append("  - ").append(report.getReportDetails()).append("\n");
-            }
-        }
-
-        return sb.toString();
+    public ClubManagerMetrics getMetrics() {
+        return metrics;
     }
 
     /**
-     * 키워드로 활동 보고서를 검색합니다.
+     * 검색 및 통계 결과 캐시를 반환합니다.
      *
      * <p>
-     * 활동 보고서 내용에 특정 키워드가 포함된 보고서를 반환합니다.
-     * 검색 결과는 리스트 형태로 반환되며, 결과가 없을 경우 빈 리스트를 반환합니다.
+     * 적중률과 보관 중인 결과 수를 확인하거나 {@link QueryCache#register()}로 JMX에 등록할 때 사용합니다.
      * </p>
      *
-     * @param keyword 검색할 키워드
-     * @return 키워드가 포함된 활동 보고서 리스트
-     *
-     * @created 2024-12-21
+     * @return 결과 캐시
      *
-     * @changelog
-     * <ul>
-     *   <li>2024-12-21: 키워드 검색 기능 추가 (한승규)</li>
-     * </ul>
+     * @created 2026-10-17
      */
-    public List<ActivityReport> searchReportsByKeyword(String keyword) {
-        List<ActivityReport> results = new ArrayList<>();
-        for (List<ActivityReport> reportList : reports.values()) {
-            for (ActivityReport report : reportList) {
-                if (report.getContent().contains(keyword)) {
-                    results.add(report);
-                }
-            }
-        }
-        return results;
+    public QueryCache getQueryCache() {
+        return queryCache;
     }
 
     /**
-     * 날짜로 활동 보고서를 검색합니다.
+     * 자동 저장을 활성화합니다.
      *
      * <p>
-     * 특정 날짜에 작성된 활동 보고서를 반환합니다.
-     * 검색 결과는 리스트 형태로 반환되며, 결과가 없을 경우 빈 리스트를 반환합니다.
+     * 동아리 등록이나 보고서 작성으로 저장되지 않은 변경이 생기면 백그라운드 스레드가 최대 maxDelayMillis 뒤에 한 번 저장하며,
+     * 그 사이의 변경은 같은 저장에 함께 반영됩니다. 저장되지 않은 변경이 maxDirtyOperations개에 이르면 바로 저장합니다.
+     * 저장은 항상 자동 저장 스레드에서 실행되므로 변경을 호출한 스레드는 저장을 기다리지 않습니다.
+     * 프로그램이 {@link System#exit(int)}나 창 닫기로 종료되어도 종료 훅이 남은 변경을 저장합니다.
+     * 저널 모드에서는 변경이 이미 저널에 기록되므로 자동 저장이 예약되지 않습니다.
      * </p>
      *
-     * @param date 검색할 날짜 (예: "2024-12-21")
-     * @return 해당 날짜에 작성된 활동 보고서 리스트
-     *
-     * @created 2024-12-21
+     * @param maxDelayMillis 변경 후 저장까지 기다리는 최대 시간 (밀리초)
+     * @param maxDirtyOperations 바로 저장할 저장되지 않은 변경 수
      *
-     * @changelog
-     * <ul>
-     *   <li>2024-12-21: 날짜 검색 기능 추가 (한승규)</li>
-     * </ul>
+     * @created 2026-10-17
      */
-    public List<ActivityReport> searchReportsByDate(String date) {
-        List<ActivityReport> results = new ArrayList<>();
-        for (List<ActivityReport> reportList : reports.values()) {
-            for (ActivityReport report : reportList) {
-                if (report.getDate().equals(date)) {
-                    results.add(report);
-                }
-            }
+    public synchronized void enableAutosave(long maxDelayMillis, int maxDirtyOperations) {
+        if (autosaver != null) {
+            return;
         }
-        return results;
+        AutosaveScheduler saver = new AutosaveScheduler(this::autosave, this::getDirtyOperationCount,
+                maxDelayMillis, maxDirtyOperations);
+        autosaveHook = new Thread(saver::close, "club-autosave-shutdown");
+        Runtime.getRuntime().addShutdownHook(autosaveHook);
+        autosaver = saver;
+        saver.changed(getDirtyOperationCount()); // 이미 저장되지 않은 변경이 있으면 예약
     }
 
     /**
-     * 검색 결과를 문자열로 반환합니다.
-     *
-     * <p>
-     * 검색 결과를 텍스트로 표시하기 위해 리스트 형태의 활동 보고서를 문자열로 변환합니다.
-     * </p>
+     * 마지막 저장 이후 저장되지 않은 변경(동아리 등록, 보고서 작성) 수를 반환합니다.
      *
-     * @param reports 검색된 활동 보고서 리스트
-     * @return 검색 결과 문자열
+     * @return 저장되지 않은 변경 수, 저널 모드에서는 0
      *
-     * @created 2024-12-21
+     * @created 2026-10-17
      */
-    public String formatReportSearchResults(List<ActivityReport> reports) {
-        if (reports.isEmpty()) {
-            return "검색 결과가 없습니다.";
-        }
-        StringBuilder sb = new StringBuilder("==== 검색 결과 ====\n");
-        for (ActivityReport report : reports) {
-            sb.append(report.getReportDetails()).append("\n");
-        }
-        return sb.toString();
+    public long getDirtyOperationCount() {
+        return Math.max(0, changeCount.get() - savedChangeCount);
     }
 
     /**
-     * 총 활동 보고서 수를 반환합니다.
+     * 저장되지 않은 변경이 있는지 반환합니다.
      *
-     * @return 등록된 활동 보고서의 총 개수
-     * @created 2024-12-24
+     * @return 저장되지 않은 변경이 있으면 true
+     *
+     * @created 2026-10-17
      */
-    public int getTotalReportsCount() {
-        return reports.size();
+    public boolean isDirty() {
+        return getDirtyOperationCount() > 0;
     }
 
     /**
-     * 특정 동아리의 보고서 수를 반환합니다.
+     * 저널 내용을 새 스냅샷으로 합치고, 스냅샷에 반영된 저널 세그먼트를 삭제합니다.
      *
-     * @param clubName 동아리 이름
-     * @return 해당 동아리의 보고서 개수
-     * @created 2024-12-24
-     */
-    public int getReportsByClub(String clubName) {
-        List<ActivityReport> clubReports = reports.get(clubName);
-        if (clubReports == null) {
-            return 0; // 해당 동아리에 보고서가 없으면 0 반환
+     * <p>
+     * 구조 쓰기 잠금은 세그먼트를 교체하고 현재 스냅샷을 가져오는 동안에만 유지하며,
+     * 스냅샷 파일 기록은 잠금 밖에서 수행합니다. 스냅샷은 바뀌지 않으므로 복사하지 않습니다.
+     * </p>
+     *
+     * @created 2026-10-17
+     */
+    public void checkpoint() {
+        long timer = metrics.start();
+        try {
+            if (journal == null) {
+                return;
+            }
+            ClubSnapshot snapshot;
+            long lsn;
+            try {
+                structureLock.writeLock().lock(); // 진행 중인 작성을 마쳐 세그먼트 경계와 스냅샷을 일치시킴
+                try {
+                    lsn = journal.roll();
+                    snapshot = current.get();
+                } finally {
+                    structureLock.writeLock().unlock();
+                }
+                writeSnapshot(snapshot, lsn, () -> false);
+                journal.deleteSegmentsUpTo(lsn);
+            } catch (IOException e) {
+                System.err.println("체크포인트 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.CHECKPOINT, timer);
+        }
+    }
+
+    /**
+     * 자동 저장, 저널과 백그라운드 체크포인트를 종료합니다.
+     *
+     * <p>
+     * 프로그램 종료 시 호출하며, 자동 저장 중이면 저장되지 않은 변경을 저장하고,
+     * 기록 대기 중인 저널 레코드를 모두 디스크에 반영합니다.
+     * </p>
+     *
+     * @created 2026-10-17
+     */
+    public void shutdown() {
+        AutosaveScheduler saver = autosaver;
+        if (saver != null) {
+            autosaver = null;
+            saver.close(); // 남은 변경 저장
+            try {
+                Runtime.getRuntime().removeShutdownHook(autosaveHook);
+            } catch (IllegalStateException e) {
+                // 종료 훅에서 호출됨
+            }
+        }
+        if (journal == null) {
+            return;
+        }
+        checkpointer.shutdown();
+        try {
+            checkpointer.awaitTermination(10, TimeUnit.SECONDS);
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("저널 종료 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 동아리 및 활동 보고서를 저장하는 메서드입니다.
+     *
+     * <p>
+     * 동아리와 활동 보고서 데이터를 data 디렉터리의 분할 저장소에 바이너리 형식으로 저장합니다.
+     * 마지막 저장 이후 보고서가 바뀐 동아리가 속한 샤드 파일만 다시 기록합니다.
+     * 데이터는 프로그램 종료 시 손실되지 않도록 로컬 파일로 저장됩니다.
+     * 저널 모드에서는 변경 내역이 이미 저널에 기록되어 있으므로 대기 중인 기록만 디스크에 반영합니다.
+     * 오류는 호출자가 표시하도록 그대로 던지며, GUI에서는 이벤트 디스패치 스레드에서 오류 창을 띄웁니다.
+     * </p>
+     *
+     * @throws IOException 저장 중 오류가 발생한 경우
+     * @created 2024-12-08
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-08: 데이터 저장 메서드 구현 (한승규)</li>
+     *   <li>2024-12-15: GUI 연동 추가 (한승규)</li>
+     *   <li>2024-12-20: 예외처리 (한승규)</li>
+     *   <li>2024-12-25: 예외처리 (한승규)</li>
+     *   <li>2026-10-17: 저널 모드 지원, 임시 파일에 기록 후 교체하도록 변경 (한승규)</li>
+     *   <li>2026-10-17: Java 직렬화 대신 바이너리 형식으로 저장 (한승규)</li>
+     *   <li>2026-10-17: 현재 스냅샷을 잠금 없이 기록 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     *   <li>2026-10-17: 저장 후 변경 상태 초기화, 자동 저장과 동시에 기록하지 않도록 함 (한승규)</li>
+     *   <li>2026-10-17: 동아리별 분할 저장소에 바뀐 샤드만 기록 (한승규)</li>
+     *   <li>2026-10-17: 오류 창을 띄우지 않고 예외를 던지도록 변경 (한승규)</li>
+     *   <li>2026-10-17: saveData(BooleanSupplier)로 저장 (한승규)</li>
+     * </ul>
+     */
+    public void saveData() throws IOException {
+        saveData(() -> false);
+    }
+
+    /**
+     * 데이터를 저장합니다. 샤드 파일을 기록하기 전마다 취소되었는지 확인합니다.
+     *
+     * <p>
+     * 매니페스트를 교체하기 전에 취소되면 이미 기록한 새 세대 파일은 다음 저장에서 삭제되고,
+     * 저장소는 이전 저장 상태로 남으며 저장되지 않은 변경도 그대로 남습니다.
+     * 저널 모드에서는 저널 동기화만 하므로 취소를 확인하지 않습니다.
+     * </p>
+     *
+     * @param cancelled 취소되었으면 true를 반환하는 함수
+     * @throws IOException 저장 중 오류가 발생한 경우
+     * @throws CancellationException 저장이 끝나기 전에 취소된 경우
+     *
+     * @created 2026-10-17
+     */
+    public void saveData(BooleanSupplier cancelled) throws IOException {
+        long timer = metrics.start();
+        try {
+            persist(cancelled);
+            System.out.println("데이터가 성공적으로 저장되었습니다.");
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.SAVE_DATA, timer);
+        }
+    }
+
+    /**
+     * 저장된 동아리 및 활동 보고서를 불러오는 메서드입니다.
+     *
+     * <p>
+     * 파일에서 데이터를 읽어와 프로그램 내 데이터 리스트를 초기화합니다.
+     * 데이터가 없는 경우 초기 상태로 유지됩니다.
+     * 분할 저장소(data 디렉터리)가 없으면 이전 형식의 clubs.dat, reports.dat를 읽으며,
+     * 이전 Java 직렬화 형식의 파일도 읽을 수 있습니다. 다음 저장 시 분할 저장소로 옮겨지고 이전 파일은 .bak 확장자로 보관됩니다.
+     * 분할 저장소의 샤드는 여러 코어에서 병렬로 디코딩되며, 읽은 보고서 목록은 복사하지 않고 그대로 스냅샷이 됩니다.
+     * 저널 모드에서는 스냅샷 이후에 기록된 저널 내용을 이어서 재생합니다.
+     * 지연 로딩을 사용하면 보고서 파일을 메모리에 매핑하고, 보고서는 조회할 때 만들어집니다.
+     * 저장된 파일을 읽을 수 없으면 현재 데이터를 그대로 두고 예외를 던집니다.
+     * </p>
+     *
+     * @throws IOException 저장된 파일을 읽는 중 오류가 발생한 경우
+     * @created 2024-12-08
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-08: 데이터 불러오기 메서드 구현 (한승규)</li>
+     *   <li>2024-12-20: 예외처리 (한승규)</li>
+     *   <li>2026-10-17: 저널 재생 추가 (한승규)</li>
+     *   <li>2026-10-17: 바이너리 형식 지원, 이전 직렬화 형식은 자동으로 인식 (한승규)</li>
+     *   <li>2026-10-17: 메모리 매핑 지연 로딩 지원 (한승규)</li>
+     *   <li>2026-10-17: 구조 쓰기 잠금 사용 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     *   <li>2026-10-17: 동아리별 분할 저장소 불러오기 (한승규)</li>
+     *   <li>2026-10-17: 샤드 병렬 불러오기 (한승규)</li>
+     *   <li>2026-10-17: 오류 창을 띄우지 않고 예외를 던지도록 변경 (한승규)</li>
+     *   <li>2026-10-17: loadData(BooleanSupplier)로 불러오기 (한승규)</li>
+     * </ul>
+     */
+    public void loadData() throws IOException {
+        loadData(() -> false);
+    }
+
+    /**
+     * 저장된 데이터를 불러옵니다. 읽은 데이터를 발행하기 전까지 취소되었는지 확인합니다.
+     *
+     * <p>
+     * 분할 저장소는 아직 디코딩하지 않은 샤드를 건너뛰고 멈춥니다. 취소되면 현재 데이터를 그대로 둡니다.
+     * 읽은 데이터를 발행한 뒤의 저널 재생은 취소하지 않습니다.
+     * </p>
+     *
+     * @param cancelled 취소되었으면 true를 반환하는 함수
+     * @throws IOException 저장된 파일을 읽는 중 오류가 발생한 경우
+     * @throws CancellationException 읽은 데이터를 발행하기 전에 취소된 경우
+     *
+     * @created 2026-10-17
+     */
+    public void loadData(BooleanSupplier cancelled) throws IOException {
+        long timer = metrics.start();
+        try {
+            structureLock.writeLock().lock();
+            try {
+                load(cancelled);
+            } finally {
+                structureLock.writeLock().unlock();
+            }
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.LOAD_DATA, timer);
+        }
+    }
+
+    /**
+     * 스냅샷과 저널에서 데이터를 불러옵니다. 호출자가 구조 쓰기 잠금을 보유해야 합니다.
+     */
+    private void load(BooleanSupplier cancelled) throws IOException {
+        searchIndex.reset(); // 불러온 데이터로 다음 검색 시 다시 생성
+        dateIndexes.reset();
+        statistics.reset();
+        columnStore.reset();
+        queryCache.clear(); // 저널 재생 중에는 무효화할 결과가 없음
+        Path clubsFile = Paths.get(CLUBS_FILE);
+        Path reportsFile = Paths.get(REPORTS_FILE);
+        long clubsLsn = 0;
+        long reportsLsn = 0;
+        try {
+            if (store.exists()) {
+                ClubShardStore.Contents loaded;
+                synchronized (saveLock) { // 자동 저장 중인 저장소를 읽지 않도록 함
+                    loaded = store.load(lazyLoading, cancelled);
+                    current.set(ClubSnapshot.load(current.get().getVersion() + 1, loaded.getClubs(), loaded.getReports()));
+                    store.setSaved(current.get()); // 다음 저장에서는 바뀐 샤드만 기록
+                }
+                metrics.addBytesRead(loaded.getBytesRead());
+                clubsLsn = loaded.getLsn();
+                reportsLsn = loaded.getLsn();
+            } else {
+                if (!Files.exists(clubsFile) || !Files.exists(reportsFile)) {
+                    throw new FileNotFoundException(CLUBS_FILE);
+                }
+                ClubDataCodec.Result<List<Club>> loadedClubs = ClubDataCodec.isBinaryFormat(clubsFile)
+                        ? ClubDataCodec.readClubs(clubsFile) : LegacyDataConverter.readClubs(clubsFile);
+                ClubDataCodec.Result<HashMap<String, List<ActivityReport>>> loadedReports = null;
+                if (!ClubDataCodec.isBinaryFormat(reportsFile)) {
+                    loadedReports = LegacyDataConverter.readReports(reportsFile);
+                } else if (lazyLoading) {
+                    loadedReports = ClubDataCodec.mapReports(reportsFile); // 매핑할 수 없는 파일이면 null
+                }
+                if (loadedReports == null) {
+                    loadedReports = ClubDataCodec.readReports(reportsFile);
+                }
+                checkCancelled(cancelled); // 발행 전에만 취소
+                current.set(ClubSnapshot.load(current.get().getVersion() + 1, loadedClubs.getData(), loadedReports.getData()));
+                metrics.addBytesRead(Files.size(clubsFile) + Files.size(reportsFile));
+                clubsLsn = loadedClubs.getLsn();
+                reportsLsn = loadedReports.getLsn();
+            }
+            System.out.println("데이터가 성공적으로 불러와졌습니다.");
+        } catch (FileNotFoundException e) {
+            System.out.println("저장된 데이터 파일이 없습니다. 새로 시작합니다.");
+            if (journal != null) { // 저널 전체를 빈 상태 위에 재생
+                current.set(ClubSnapshot.load(current.get().getVersion() + 1, new ArrayList<>(), new HashMap<>()));
+            }
+        } catch (ClassNotFoundException e) {
+            throw new IOException("이전 형식 파일의 클래스를 찾을 수 없습니다: " + e.getMessage(), e);
+        }
+        appliedLsn.set(Math.min(clubsLsn, reportsLsn));
+        savedChangeCount = changeCount.get(); // 불러온 데이터는 파일과 같음
+        if (journal != null) {
+            replayJournal(clubsLsn, reportsLsn);
+        }
+        queryCache.clear(); // 불러오는 동안 시작된 조회의 결과도 보관하지 않음
+    }
+
+    /**
+     * 스냅샷 이후의 저널 레코드를 메모리에 반영합니다. 호출자가 구조 쓰기 잠금을 보유해야 합니다.
+     */
+    private void replayJournal(long clubsLsn, long reportsLsn) {
+        int[] replayed = new int[1];
+        try {
+            journal.advanceTo(Math.max(clubsLsn, reportsLsn)); // 스냅샷에 반영된 LSN을 다시 발급하지 않음
+            long bytes = journal.replay(clubsLsn, reportsLsn, new ClubJournal.Replayer() {
+                @Override
+                public void club(long lsn, Club club) {
+                    if (current.get().findClub(club.getName()) == null) {
+                        insertClub(club);
+                    }
+                    appliedLsn.accumulateAndGet(lsn, Math::max);
+                    replayed[0]++;
+                }
+
+                @Override
+                public void report(long lsn, ActivityReport report) {
+                    if (current.get().slotOf(report.getClubName()) >= 0) {
+                        insertReport(report);
+                    }
+                    appliedLsn.accumulateAndGet(lsn, Math::max);
+                    replayed[0]++;
+                }
+            });
+            metrics.addBytesRead(bytes);
+            if (replayed[0] > 0) {
+                System.out.println("저널에서 " + replayed[0] + "건의 변경 내역을 복구했습니다.");
+            }
+        } catch (IOException e) {
+            System.err.println("저널 재생 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 동아리 목록과 활동 보고서 스냅샷을 분할 저장소에 저장합니다.
+     *
+     * <p>
+     * {@link ClubShardStore}가 마지막 저장 이후 바뀐 샤드만 새 파일에 기록하고 매니페스트를 교체하므로,
+     * 저장 도중 종료되더라도 이전 스냅샷이 손상되지 않습니다.
+     * 매니페스트 헤더에는 스냅샷에 반영된 마지막 저널 LSN을 기록합니다.
+     * 저장소는 마지막 저장 상태를 기억하므로 저장 잠금으로 한 번에 하나만 기록합니다.
+     * 처음 저장하여 매니페스트까지 기록되면 이전 형식의 clubs.dat, reports.dat는 .bak 확장자로 이름을 바꿔 보관합니다.
+     * 이름을 바꾸지 못하면 오류만 출력하고 다음 저장에서 다시 시도합니다.
+     * </p>
+     */
+    private void writeSnapshot(ClubSnapshot snapshot, long lsn, BooleanSupplier cancelled) throws IOException {
+        synchronized (saveLock) {
+            metrics.addBytesWritten(store.save(snapshot, lsn, cancelled)); // 실패하면 이전 형식 파일을 그대로 둠
+            backupLegacyFile(Paths.get(CLUBS_FILE));
+            backupLegacyFile(Paths.get(REPORTS_FILE));
+        }
+    }
+
+    /**
+     * 분할 저장소로 옮긴 이전 형식 파일을 .bak 확장자로 이름을 바꿉니다. {@link LegacyDataConverter}와 같은 이름을 사용합니다.
+     */
+    private static void backupLegacyFile(Path file) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".bak"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("이전 형식 파일을 백업하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 데이터를 저장하고 저장된 변경 수를 갱신합니다. 저널 모드에서는 대기 중인 저널 기록만 동기화합니다.
+     */
+    private void persist(BooleanSupplier cancelled) throws IOException {
+        if (journal != null) {
+            journal.sync();
+            return;
+        }
+        synchronized (saveLock) {
+            long changes = changeCount.get(); // 스냅샷보다 먼저 읽어야 저장된 변경 수가 실제보다 크지 않음
+            writeSnapshot(current.get(), appliedLsn.get(), cancelled);
+            savedChangeCount = Math.max(savedChangeCount, changes);
+        }
+    }
+
+    /**
+     * 발행된 변경을 세고 자동 저장을 예약합니다. 발행한 뒤에 호출해야 합니다.
+     * 저널 모드에서는 변경이 이미 저널에 기록되므로 세지 않습니다.
+     */
+    private void markDirty(int operations) {
+        if (operations <= 0 || journal != null) {
+            return;
+        }
+        long dirty = changeCount.addAndGet(operations) - savedChangeCount;
+        AutosaveScheduler saver = autosaver;
+        if (saver != null) {
+            saver.changed(dirty);
+        }
+    }
+
+    /**
+     * 자동 저장 스케줄러 스레드에서 호출되는 저장 작업입니다. 오류는 출력만 하고 다음 예약에서 다시 시도합니다.
+     */
+    private void autosave() {
+        long timer = metrics.start();
+        try {
+            persist(() -> false);
+        } catch (IOException e) {
+            System.err.println("자동 저장 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.AUTOSAVE, timer);
+        }
+    }
+
+    /**
+     * 동아리를 추가한 스냅샷을 발행합니다. 호출자가 구조 쓰기 잠금을 보유해야 합니다.
+     */
+    private void insertClub(Club club) {
+        current.set(current.get().withClub(club));
+    }
+
+    /**
+     * 동아리 보고서 리스트의 잠금을 반환합니다. 보고서 맵의 키(등록 당시의 동아리 이름)를 전달해야 합니다.
+     */
+    private Object stripeFor(String name) {
+        return stripes[stripeIndex(name)];
+    }
+
+    private static int stripeIndex(String name) {
+        int hash = name.hashCode();
+        return (hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1);
+    }
+
+    private static Object[] newStripes() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    /**
+     * 동아리 이름 색인의 키를 만듭니다. 앞뒤 공백을 제거하고 유니코드 NFC로 정규화합니다.
+     */
+    static String clubKey(String name) {
+        return name == null ? "" : Normalizer.normalize(name.trim(), Normalizer.Form.NFC);
+    }
+
+    /**
+     * 작업이 취소되었으면 {@link CancellationException}을 던집니다. 분할 저장소와 보고서 가져오기도 같은 방법으로 멈춥니다.
+     */
+    static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * 스냅샷의 보고서를 색인 순서로 {@value #CANCEL_CHECK_INTERVAL}건씩 나누어 넘기고, 넘기기 전마다 취소되었는지 확인합니다.
+     */
+    private static void forEachChunk(ClubSnapshot snapshot, BooleanSupplier cancelled, Consumer<List<ActivityReport>> action) {
+        for (List<ActivityReport> reportList : snapshot.getReportsInIndexOrder()) {
+            for (int from = 0; from < reportList.size(); from += CANCEL_CHECK_INTERVAL) {
+                checkCancelled(cancelled);
+                action.accept(reportList.subList(from, Math.min(reportList.size(), from + CANCEL_CHECK_INTERVAL)));
+            }
+        }
+    }
+
+    /**
+     * 활동 보고서를 추가한 스냅샷을 발행한 뒤 결과 캐시를 무효화합니다.
+     * 호출자가 구조 읽기 잠금과 동아리 잠금, 또는 구조 쓰기 잠금을 보유해야 합니다.
+     *
+     * <p>
+     * 다른 동아리의 작성과 동시에 발행될 수 있으므로 비교 후 교체(CAS)로 발행합니다.
+     * 색인은 갱신하지 않으며, 조회가 색인을 만든 스냅샷 이후의 보고서로 함께 읽습니다({@link SnapshotIndex}).
+     * </p>
+     */
+    private void insertReport(ActivityReport report) {
+        current.updateAndGet(snapshot -> snapshot.withReport(snapshot.slotOf(report.getClubName()), report));
+        queryCache.reportAdded(report); // 스냅샷에 보인 뒤 무효화해야 이전 결과가 다시 보관되지 않음
+    }
+
+    /**
+     * 변경 내역을 저널에 추가하고 발급된 LSN을 반환합니다.
+     * 메모리 반영과 같은 잠금 안에서 호출해야 체크포인트가 둘 사이를 나누지 않습니다.
+     * 메모리에 반영하기 전에 호출하여, 기록에 실패하면 호출자가 변경을 반영하지 않고 실패를 알립니다.
+     */
+    private long appendToJournal(Club club, ActivityReport report) throws IOException {
+        long lsn = club != null ? journal.appendClub(club) : journal.appendReport(report);
+        appliedLsn.accumulateAndGet(lsn, Math::max);
+        return lsn;
+    }
+
+    /**
+     * 지정한 LSN까지 저널이 디스크에 반영될 때까지 기다립니다. 모든 잠금 밖에서 호출해야 합니다.
+     * 동기화에 실패하면 오류를 출력하고 false를 반환하므로, 호출자는 성공 메시지를 출력하지 않습니다.
+     */
+    private boolean awaitJournal(long lsn) {
+        if (lsn == 0) {
+            return true;
+        }
+        try {
+            journal.awaitDurable(lsn);
+            return true;
+        } catch (IOException e) {
+            System.err.println("저널 동기화 중 오류가 발생하여 변경이 디스크에 기록되지 않았을 수 있습니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 등록된 동아리 목록을 문자열로 반환합니다.
+     *
+     * <p>
+     * GUI에서 사용하기 위한 문자열 형태의 동아리 목록을 반환합니다.
+     * 등록된 동아리가 없으면 '등록된 동아리가 없습니다.' 메시지를 반환합니다.
+     * </p>
+     *
+     * @return 등록된 동아리 목록 문자열
+     *
+     * @created 2024-12-15
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-15: 등록된 동아리 목록 GUI를 위한 메서드 추가 (한승규)</li>
+     *   <li>2026-10-17: writeClubs로 생성 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     * </ul>
+     */
+    public String viewClubsAsString() {
+        long timer = metrics.start();
+        try {
+            StringBuilder sb = new StringBuilder();
+            try {
+                writeClubs(sb, 0, Integer.MAX_VALUE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // StringBuilder에 쓸 때는 발생하지 않음
+            }
+            return sb.toString();
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.VIEW_CLUBS_AS_STRING, timer);
+        }
+    }
+
+    /**
+     * 등록된 동아리 목록의 일부를 출력 대상에 씁니다.
+     *
+     * <p>
+     * {@link #viewClubsAsString()}과 같은 형식이며, 전체 목록을 문자열로 만들지 않고
+     * 지정한 범위의 동아리만 하나씩 씁니다.
+     * </p>
+     *
+     * @param out 출력 대상
+     * @param offset 건너뛸 동아리 수
+     * @param limit 쓸 동아리의 최대 수
+     * @return 실제로 쓴 동아리 수
+     * @throws IOException 출력 대상에 쓰는 중 오류가 발생한 경우
+     *
+     * @created 2026-10-17
+     */
+    public int writeClubs(Appendable out, int offset, int limit) throws IOException {
+        long timer = metrics.start();
+        try {
+            List<Club> clubList = current.get().getClubs();
+            if (clubList.isEmpty()) {
+                out.append("등록된 동아리가 없습니다.");
+                return 0;
+            }
+            out.append("==== 동아리 목록 ====\n");
+            int from = Math.max(0, offset);
+            int to = (int) Math.min(clubList.size(), (long) from + limit);
+            for (int i = from; i < to; i++) {
+                clubList.get(i).appendDetails(out);
+                out.append('\n');
+            }
+            return Math.max(0, to - from);
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.WRITE_CLUBS, timer);
+        }
+    }
+
+    /**
+     * 등록된 활동 보고서를 문자열로 반환합니다.
+     *
+     * <p>
+     * GUI에서 사용하기 위한 문자열 형태의 활동 보고서 목록을 반환합니다.
+     * 등록된 보고서가 없으면 '작성된 활동 보고서가 없습니다.' 메시지를 반환합니다.
+     * 현재 스냅샷을 잠금 없이 읽으므로 작성 중에도 기다리지 않으며, 모든 동아리가 같은 시점의 내용으로 출력됩니다.
+     * </p>
+     *
+     * @return 활동 보고서 목록 문자열
+     *
+     * @created 2024-12-18
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *     <li>2024-12-18: 등록된 활동 보고서 GUI를 위한 메서드 추가 (한승규)</li>
+     *     <li>2026-10-17: 스냅샷을 잠금 없이 출력 (한승규)</li>
+     *     <li>2026-10-17: writeReports로 생성 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     * </ul>
+     */
+    public String viewReportsAsString() {
+        long timer = metrics.start();
+        try {
+            StringBuilder sb = new StringBuilder();
+            try {
+                writeReports(current.get(), sb, 0, Integer.MAX_VALUE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // StringBuilder에 쓸 때는 발생하지 않음
+            }
+            return sb.toString();
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.VIEW_REPORTS_AS_STRING, timer);
+        }
+    }
+
+    /**
+     * 현재 스냅샷의 활동 보고서 일부를 출력 대상에 씁니다.
+     *
+     * @param out 출력 대상
+     * @param offset 건너뛸 보고서 수
+     * @param limit 쓸 보고서의 최대 수
+     * @return 실제로 쓴 보고서 수
+     * @throws IOException 출력 대상에 쓰는 중 오류가 발생한 경우
+     *
+     * @see #writeReports(ClubSnapshot, Appendable, int, int)
+     * @created 2026-10-17
+     */
+    public int writeReports(Appendable out, int offset, int limit) throws IOException {
+        return writeReports(current.get(), out, offset, limit);
+    }
+
+    /**
+     * 스냅샷의 활동 보고서 일부를 출력 대상에 씁니다.
+     *
+     * <p>
+     * {@link #viewReportsAsString()}과 같은 형식이며, 보고서는 동아리 등록 순서와 작성 순서로 번호가 매겨집니다.
+     * 앞의 동아리는 보고서 수만 보고 건너뛰므로 offset이 커도 건너뛴 보고서를 읽지 않습니다.
+     * 페이지마다 같은 스냅샷({@link #snapshot()})을 넘기면 그 사이에 보고서가 추가되어도 페이지 경계가 바뀌지 않습니다.
+     * 각 페이지에는 해당 범위에 걸친 동아리의 이름이 다시 출력됩니다.
+     * </p>
+     *
+     * @param snapshot 출력할 스냅샷
+     * @param out 출력 대상
+     * @param offset 건너뛸 보고서 수
+     * @param limit 쓸 보고서의 최대 수
+     * @return 실제로 쓴 보고서 수
+     * @throws IOException 출력 대상에 쓰는 중 오류가 발생한 경우
+     *
+     * @created 2026-10-17
+     */
+    public int writeReports(ClubSnapshot snapshot, Appendable out, int offset, int limit) throws IOException {
+        long timer = metrics.start();
+        try {
+            Map<String, List<ActivityReport>> reportMap = snapshot.getReportMap();
+            if (reportMap.isEmpty()) {
+                out.append("작성된 활동 보고서가 없습니다.");
+                return 0;
+            }
+            out.append("==== 활동 보고서 목록 ====\n");
+            long start = Math.max(0, offset);
+            long end = start + limit;
+            long position = 0; // 현재 동아리의 첫 보고서 번호
+            int written = 0;
+            for (Map.Entry<String, List<ActivityReport>> entry : reportMap.entrySet()) {
+                if (position >= end) {
+                    break;
+                }
+                List<ActivityReport> reportList = entry.getValue(); // 해당 동아리의 보고서 리스트
+                long next = position + reportList.size();
+                // 보고서가 없는 동아리는 이름만 출력
+                if (next > start || (reportList.isEmpty() && position >= start)) {
+                    out.append("동아리: ").append(entry.getKey()).append('\n');
+                    int to = (int) (Math.min(next, end) - position);
+                    for (int i = (int) Math.max(0, start - position); i < to; i++) {
+                        out.append("  - ");
+                        reportList.get(i).appendReportDetails(out);
+                        out.append('\n');
+                        written++;
+                    }
+                }
+                position = next;
+            }
+            return written;
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.WRITE_REPORTS, timer);
+        }
+    }
+
+    /**
+     * 키워드로 활동 보고서를 검색합니다.
+     *
+     * <p>
+     * 활동 내용, 활동 결과, 활동 위치에 특정 키워드가 포함된 보고서를 반환합니다.
+     * 검색 결과는 리스트 형태로 반환되며, 결과가 없을 경우 빈 리스트를 반환합니다.
+     * 첫 검색 시 {@link ReportSearchIndex}를 만들어 발행하고, 이후에 작성된 보고서는 색인이 다시 발행될 때까지 직접 비교하므로,
+     * 검색 비용은 전체 보고서 수가 아니라 결과 수와 밀린 보고서 수에 비례합니다. 잠금을 잡지 않습니다.
+     * </p>
+     *
+     * @param keyword 검색할 키워드 (대소문자 구분 없음)
+     * @return 키워드가 포함된 활동 보고서 리스트
+     *
+     * @created 2024-12-21
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-21: 키워드 검색 기능 추가 (한승규)</li>
+     *   <li>2026-10-17: 역색인 검색으로 변경, 설정되지 않는 content 대신 활동 내용/결과/위치 검색 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     *   <li>2026-10-17: 정규화한 키워드로 결과 캐시 (한승규)</li>
+     *   <li>2026-10-17: 색인 잠금 없이 발행된 색인과 밀린 보고서를 함께 검색 (한승규)</li>
+     *   <li>2026-10-17: searchReportsByKeyword(String, BooleanSupplier)로 검색 (한승규)</li>
+     * </ul>
+     */
+    public List<ActivityReport> searchReportsByKeyword(String keyword) {
+        return searchReportsByKeyword(keyword, () -> false);
+    }
+
+    /**
+     * 키워드로 활동 보고서를 검색합니다. 검색 색인을 처음 만드는 동안 취소되었는지 확인합니다.
+     *
+     * @param keyword 검색할 키워드
+     * @param cancelled 취소되었으면 true를 반환하는 함수
+     * @return 키워드를 포함하는 활동 보고서 리스트
+     * @throws CancellationException 검색 색인을 만드는 중 취소된 경우 (만들던 색인과 결과는 보관하지 않음)
+     *
+     * @created 2026-10-17
+     */
+    public List<ActivityReport> searchReportsByKeyword(String keyword, BooleanSupplier cancelled) {
+        long timer = metrics.start();
+        try {
+            if (keyword == null || keyword.isBlank()) {
+                return new ArrayList<>();
+            }
+            String key = QueryCache.key("keyword", keyword.trim().toLowerCase(Locale.ROOT)); // 색인과 같은 정규화
+            return cachedReports(key, null, QueryCache.ANY_DAY_START, QueryCache.ANY_DAY_END,
+                    report -> ReportSearchIndex.matches(report, keyword), () -> {
+                SnapshotIndex.View<ReportSearchIndex> view = searchIndex.view(null, cancelled);
+                List<ActivityReport> results = view.index.search(keyword);
+                for (ActivityReport report : view.pending()) {
+                    if (ReportSearchIndex.matches(report, keyword)) {
+                        results.add(report);
+                    }
+                }
+                return results;
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.SEARCH_REPORTS_BY_KEYWORD, timer);
+        }
+    }
+
+    /**
+     * 여러 키워드로 활동 보고서를 검색합니다.
+     *
+     * @param keywords 검색할 키워드 목록
+     * @param matchAll true이면 모든 키워드를 포함하는 보고서, false이면 하나라도 포함하는 보고서를 반환
+     * @return 조건에 맞는 활동 보고서 리스트
+     *
+     * @created 2026-10-17
+     */
+    public List<ActivityReport> searchReportsByKeywords(Collection<String> keywords, boolean matchAll) {
+        long timer = metrics.start();
+        try {
+            SnapshotIndex.View<ReportSearchIndex> view = searchIndex.view();
+            List<ActivityReport> results = view.index.search(keywords, matchAll);
+            for (ActivityReport report : view.pending()) {
+                if (matchesKeywords(report, keywords, matchAll)) {
+                    results.add(report);
+                }
+            }
+            return results;
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.SEARCH_REPORTS_BY_KEYWORDS, timer);
+        }
+    }
+
+    /**
+     * 보고서가 여러 키워드 검색 결과에 포함되는지 색인 없이 확인합니다. 빈 키워드는 색인과 같이 무시합니다.
+     */
+    private static boolean matchesKeywords(ActivityReport report, Collection<String> keywords, boolean matchAll) {
+        boolean searched = false;
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.trim().isEmpty()) {
+                continue;
+            }
+            boolean matched = ReportSearchIndex.matches(report, keyword);
+            if (matched != matchAll) {
+                return matched; // 모두 포함(AND)에서 빠진 키워드, 하나라도 포함(OR)에서 찾은 키워드
+            }
+            searched = true;
+        }
+        return matchAll && searched;
+    }
+
+    /**
+     * 스냅샷의 모든 보고서로 검색 색인을 만듭니다. 잠금 없이 호출되며, 취소되면 만들던 색인을 버립니다.
+     */
+    private static ReportSearchIndex buildSearchIndex(ClubSnapshot snapshot, BooleanSupplier cancelled) {
+        ReportSearchIndex index = new ReportSearchIndex();
+        forEachChunk(snapshot, cancelled, chunk -> {
+            for (ActivityReport report : chunk) {
+                index.add(report);
+            }
+        });
+        return index;
+    }
+
+    /**
+     * 발행된 검색 색인의 복사본에 밀린 보고서를 추가합니다.
+     */
+    private static ReportSearchIndex extendSearchIndex(SnapshotIndex.View<ReportSearchIndex> view) {
+        ReportSearchIndex index = view.index.copy();
+        for (ActivityReport report : view.pending()) {
+            index.add(report);
+        }
+        return index;
+    }
+
+    /**
+     * 날짜로 활동 보고서를 검색합니다.
+     *
+     * <p>
+     * 특정 날짜에 작성된 활동 보고서를 반환합니다.
+     * 검색 결과는 리스트 형태로 반환되며, 결과가 없을 경우 빈 리스트를 반환합니다.
+     * 날짜 색인에서 이진 탐색으로 찾으므로 전체 보고서를 훑지 않습니다.
+     * 열 저장소를 사용하면 날짜 열을 훑어 찾습니다.
+     * </p>
+     *
+     * @param date 검색할 날짜 (예: "2024-12-21")
+     * @return 해당 날짜에 작성된 활동 보고서 리스트
+     *
+     * @created 2024-12-21
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-21: 날짜 검색 기능 추가 (한승규)</li>
+     *   <li>2026-10-17: 정렬된 날짜 색인 사용 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     *   <li>2026-10-17: 열 저장소 사용 시 날짜 열 검색 (한승규)</li>
+     *   <li>2026-10-17: 결과 캐시 (한승규)</li>
+     *   <li>2026-10-17: 색인 잠금 없이 발행된 색인과 밀린 보고서를 함께 검색 (한승규)</li>
+     *   <li>2026-10-17: searchReportsByDate(String, BooleanSupplier)로 검색 (한승규)</li>
+     * </ul>
+     */
+    public List<ActivityReport> searchReportsByDate(String date) {
+        return searchReportsByDate(date, () -> false);
+    }
+
+    /**
+     * 날짜로 활동 보고서를 검색합니다. 날짜 색인이나 열 저장소를 처음 만드는 동안 취소되었는지 확인합니다.
+     *
+     * @param date 검색할 날짜 (예: "2024-12-21")
+     * @param cancelled 취소되었으면 true를 반환하는 함수
+     * @return 해당 날짜에 작성된 활동 보고서 리스트
+     * @throws CancellationException 색인을 만드는 중 취소된 경우 (만들던 색인과 결과는 보관하지 않음)
+     *
+     * @created 2026-10-17
+     */
+    public List<ActivityReport> searchReportsByDate(String date, BooleanSupplier cancelled) {
+        long timer = metrics.start();
+        try {
+            int day = ReportDateIndex.parseDay(date);
+            boolean parsed = day != ReportDateIndex.INVALID_DAY;
+            return cachedReports(QueryCache.key("date", date), null, parsed ? day : QueryCache.ANY_DAY_START,
+                    parsed ? day : QueryCache.ANY_DAY_END, () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view(null, cancelled);
+                    return ReportDateIndex.merge(view.index.on(date), storeColumns(view.pending()).on(date));
+                }
+                SnapshotIndex.View<DateIndexes> view = dateIndexes.view(null, cancelled);
+                return ReportDateIndex.merge(view.index.all.on(date), indexDates(view.pending()).on(date));
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.SEARCH_REPORTS_BY_DATE, timer);
+        }
+    }
+
+    /**
+     * 작성 날짜 순서로 정렬된 보고서 중 일부를 반환합니다.
+     *
+     * <p>
+     * 날짜 색인에서 바로 잘라내므로 전체 보고서를 정렬하지 않으며, 비용은 limit과 밀린 보고서 수에 비례합니다.
+     * 호출마다 그 시점의 스냅샷을 읽으므로, 호출 사이에 이전 날짜의 보고서가 작성되면 뒤쪽 순번이 밀릴 수 있습니다.
+     * </p>
+     *
+     * @param offset 건너뛸 보고서 수
+     * @param limit 반환할 보고서의 최대 수
+     * @return 날짜 순서의 보고서 리스트
+     *
+     * @created 2026-10-17
+     */
+    public List<ActivityReport> getReportsOrderedByDate(int offset, int limit) {
+        long timer = metrics.start();
+        try {
+            SnapshotIndex.View<DateIndexes> view = dateIndexes.view();
+            return view.index.all.page(offset, limit, indexDates(view.pending()));
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_REPORTS_ORDERED_BY_DATE, timer);
+        }
+    }
+
+    /**
+     * 날짜 색인에 담긴 보고서 수를 반환합니다. {@link #getReportsOrderedByDate(int, int)}의 전체 행 수입니다.
+     *
+     * @return 날짜 색인의 보고서 수
+     *
+     * @created 2026-10-17
+     */
+    public int getDateIndexedReportCount() {
+        long timer = metrics.start();
+        try {
+            SnapshotIndex.View<DateIndexes> view = dateIndexes.view();
+            return view.index.all.size() + view.pending().size();
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_DATE_INDEXED_REPORT_COUNT, timer);
+        }
+    }
+
+    /**
+     * 밀린 보고서만 담은 날짜 색인을 만듭니다. 발행된 색인의 결과와 {@link ReportDateIndex#merge}로 합칩니다.
+     */
+    private static ReportDateIndex indexDates(List<ActivityReport> reports) {
+        ReportDateIndex index = new ReportDateIndex();
+        index.addAll(reports);
+        return index;
+    }
+
+    /**
+     * 전체 보고서와 동아리별 보고서의 날짜 색인입니다. 발행된 뒤에는 바꾸지 않습니다.
+     */
+    private static final class DateIndexes {
+        final ReportDateIndex all; // 전체 보고서 날짜 색인
+        final Map<String, ReportDateIndex> clubs; // 보고서 목록 키(동아리 이름)별 날짜 색인
+
+        private DateIndexes(ReportDateIndex all, Map<String, ReportDateIndex> clubs) {
+            this.all = all;
+            this.clubs = clubs;
+        }
+
+        /**
+         * 스냅샷의 모든 보고서로 전체 및 동아리별 색인을 만듭니다. 잠금 없이 호출되며, 취소되면 만들던 색인을 버립니다.
+         */
+        static DateIndexes build(ClubSnapshot snapshot, BooleanSupplier cancelled) {
+            List<ActivityReport> reports = new ArrayList<>(snapshot.getTotalReports());
+            forEachChunk(snapshot, cancelled, reports::addAll);
+            ReportDateIndex all = new ReportDateIndex();
+            all.addAll(reports); // 한 번에 정렬하여 채움
+            HashMap<String, ReportDateIndex> clubs = new HashMap<>();
+            for (Map.Entry<String, List<ActivityReport>> entry : snapshot.getReportMap().entrySet()) {
+                checkCancelled(cancelled);
+                clubs.put(entry.getKey(), indexDates(entry.getValue()));
+            }
+            return new DateIndexes(all, clubs);
+        }
+
+        /**
+         * 발행된 색인의 복사본에 밀린 보고서를 추가합니다. 동아리별 색인은 보고서가 작성된 동아리만 복사합니다.
+         */
+        static DateIndexes extend(SnapshotIndex.View<DateIndexes> view) {
+            List<ActivityReport> pending = view.pending();
+            ReportDateIndex all = view.index.all.copy();
+            all.addAll(pending);
+            HashMap<String, ReportDateIndex> clubs = new HashMap<>(view.index.clubs);
+            Set<String> names = new HashSet<>();
+            for (ActivityReport report : pending) {
+                names.add(report.getClubName());
+            }
+            Set<String> extended = new HashSet<>();
+            for (String clubName : names) {
+                String name = view.snapshot.resolveName(clubName);
+                if (name != null && extended.add(name)) {
+                    ReportDateIndex indexed = clubs.get(name);
+                    ReportDateIndex clubIndex = indexed == null ? new ReportDateIndex() : indexed.copy();
+                    clubIndex.addAll(view.pending(name));
+                    clubs.put(name, clubIndex);
+                }
+            }
+            return new DateIndexes(all, clubs);
+        }
+    }
+
+    /**
+     * 검색 결과를 문자열로 반환합니다.
+     *
+     * <p>
+     * 검색 결과를 텍스트로 표시하기 위해 리스트 형태의 활동 보고서를 문자열로 변환합니다.
+     * </p>
+     *
+     * @param reports 검색된 활동 보고서 리스트
+     * @return 검색 결과 문자열
+     *
+     * @created 2024-12-21
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-21: 메서드 추가 (한승규)</li>
+     *   <li>2026-10-17: writeReportSearchResults로 생성 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     * </ul>
+     */
+    public String formatReportSearchResults(List<ActivityReport> reports) {
+        long timer = metrics.start();
+        try {
+            StringBuilder sb = new StringBuilder();
+            try {
+                writeReportSearchResults(reports, sb, 0, Integer.MAX_VALUE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // StringBuilder에 쓸 때는 발생하지 않음
+            }
+            return sb.toString();
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.FORMAT_REPORT_SEARCH_RESULTS, timer);
+        }
+    }
+
+    /**
+     * 검색 결과의 일부를 출력 대상에 씁니다.
+     *
+     * <p>
+     * {@link #formatReportSearchResults(List)}와 같은 형식이며, 지정한 범위의 보고서만 하나씩 씁니다.
+     * </p>
+     *
+     * @param reports 검색된 활동 보고서 리스트
+     * @param out 출력 대상
+     * @param offset 건너뛸 보고서 수
+     * @param limit 쓸 보고서의 최대 수
+     * @return 실제로 쓴 보고서 수
+     * @throws IOException 출력 대상에 쓰는 중 오류가 발생한 경우
+     *
+     * @created 2026-10-17
+     */
+    public int writeReportSearchResults(List<ActivityReport> reports, Appendable out, int offset, int limit)
+            throws IOException {
+        long timer = metrics.start();
+        try {
+            if (reports.isEmpty()) {
+                out.append("검색 결과가 없습니다.");
+                return 0;
+            }
+            out.append("==== 검색 결과 ====\n");
+            int from = Math.max(0, offset);
+            int to = (int) Math.min(reports.size(), (long) from + limit);
+            for (ActivityReport report : reports.subList(Math.min(from, to), to)) {
+                report.appendReportDetails(out);
+                out.append('\n');
+            }
+            return Math.max(0, to - from);
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.WRITE_REPORT_SEARCH_RESULTS, timer);
+        }
+    }
+
+    /**
+     * 총 활동 보고서 수를 반환합니다.
+     *
+     * <p>
+     * 스냅샷이 보고서를 추가할 때마다 갱신하는 값을 읽으므로 O(1)입니다.
+     * </p>
+     *
+     * @return 등록된 활동 보고서의 총 개수
+     * @created 2024-12-24
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-24: 메서드 추가 (한승규)</li>
+     *   <li>2026-10-17: 보고서 수 대신 동아리 수를 반환하던 문제 수정 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     * </ul>
+     */
+    public int getTotalReportsCount() {
+        long timer = metrics.start();
+        try {
+            return current.get().getTotalReports();
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_TOTAL_REPORTS_COUNT, timer);
+        }
+    }
+
+    /**
+     * 특정 작성자의 보고서 수를 반환합니다.
+     *
+     * @param author 작성자 이름
+     * @return 해당 작성자의 보고서 개수
+     * @created 2026-10-17
+     */
+    public int getReportsByAuthor(String author) {
+        long timer = metrics.start();
+        try {
+            return cachedCount(QueryCache.key("author", author), null, QueryCache.ANY_DAY_START, QueryCache.ANY_DAY_END,
+                    report -> Objects.equals(author, report.getAuthor()), () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view();
+                    return view.index.countByAuthor(author) + storeColumns(view.pending()).countByAuthor(author);
+                }
+                SnapshotIndex.View<ReportStatistics> view = statistics.view();
+                return view.index.countByAuthor(author) + countReports(view.pending()).countByAuthor(author);
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_REPORTS_BY_AUTHOR, timer);
+        }
+    }
+
+    /**
+     * 특정 활동 위치의 보고서 수를 반환합니다.
+     *
+     * @param location 활동 위치
+     * @return 해당 위치의 보고서 개수
+     * @created 2026-10-17
+     */
+    public int getReportsByLocation(String location) {
+        long timer = metrics.start();
+        try {
+            return cachedCount(QueryCache.key("location", location), null, QueryCache.ANY_DAY_START, QueryCache.ANY_DAY_END,
+                    report -> Objects.equals(location, report.getLocation()), () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view();
+                    return view.index.countByLocation(location) + storeColumns(view.pending()).countByLocation(location);
+                }
+                SnapshotIndex.View<ReportStatistics> view = statistics.view();
+                return view.index.countByLocation(location) + countReports(view.pending()).countByLocation(location);
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_REPORTS_BY_LOCATION, timer);
+        }
+    }
+
+    /**
+     * 특정 날짜에 작성된 보고서 수를 반환합니다.
+     *
+     * @param date 날짜 (YYYY-MM-DD)
+     * @return 해당 날짜의 보고서 개수
+     * @created 2026-10-17
+     */
+    public int getReportsOnDate(String date) {
+        long timer = metrics.start();
+        try {
+            int day = ReportDateIndex.parseDay(date);
+            boolean parsed = day != ReportDateIndex.INVALID_DAY;
+            return cachedCount(QueryCache.key("countDate", date), null, parsed ? day : QueryCache.ANY_DAY_START,
+                    parsed ? day : QueryCache.ANY_DAY_END, () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view();
+                    return view.index.countOnDate(date) + storeColumns(view.pending()).countOnDate(date);
+                }
+                SnapshotIndex.View<ReportStatistics> view = statistics.view();
+                return view.index.countOnDate(date) + countReports(view.pending()).countOnDate(date);
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_REPORTS_ON_DATE, timer);
+        }
+    }
+
+    /**
+     * 특정 기간 동안 작성된 보고서 수를 반환합니다.
+     *
+     * <p>
+     * {@link #getReportsInDateRange(String, String)}의 결과 수와 같지만, 날짜별 누적합(펜윅 트리)으로 세므로
+     * O(log d)이며 리스트를 만들지 않습니다. 기간을 날짜로 해석할 수 없으면 기존 방식대로 문자열로 비교하여 셉니다.
+     * </p>
+     *
+     * @param startDate 시작 날짜 (YYYY-MM-DD)
+     * @param endDate 종료 날짜 (YYYY-MM-DD)
+     * @return 해당 기간 동안 작성된 보고서 수
+     * @created 2026-10-17
+     */
+    public int countReportsInDateRange(String startDate, String endDate) {
+        return countReportsInDateRange(null, startDate, endDate);
+    }
+
+    /**
+     * 특정 동아리에서 특정 기간 동안 작성된 보고서 수를 반환합니다.
+     *
+     * <p>
+     * {@link #getReportsInDateRange(String, String, String)}의 결과 수와 같으며, 동아리별 날짜 누적합으로 O(log d)에 셉니다.
+     * 동아리를 지정하면 그 동아리의 밀린 보고서만 더하므로 다른 동아리의 작성을 기다리거나 훑지 않습니다.
+     * </p>
+     *
+     * @param clubName 동아리 이름, null이면 전체 동아리
+     * @param startDate 시작 날짜 (YYYY-MM-DD)
+     * @param endDate 종료 날짜 (YYYY-MM-DD)
+     * @return 해당 기간 동안 작성된 보고서 수, 동아리가 없으면 0
+     * @created 2026-10-17
+     */
+    public int countReportsInDateRange(String clubName, String startDate, String endDate) {
+        long timer = metrics.start();
+        try {
+            if (startDate == null || endDate == null) {
+                return 0;
+            }
+            int startDay = ReportDateIndex.parseDay(startDate);
+            int endDay = ReportDateIndex.parseDay(endDate);
+            if (startDay == ReportDateIndex.INVALID_DAY || endDay == ReportDateIndex.INVALID_DAY) {
+                return clubName == null ? getReportsInDateRange(startDate, endDate).size()
+                        : getReportsInDateRange(clubName, startDate, endDate).size();
+            }
+            String name = clubName == null ? null : current.get().resolveName(clubName);
+            if (clubName != null && name == null) {
+                return 0; // 보고서가 없는 동아리
+            }
+            return cachedCount(QueryCache.key("countRange", name, startDate, endDate), name, startDay, endDay, () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view(name);
+                    List<ActivityReport> pending = name == null ? view.pending() : view.pending(name);
+                    return (int) (view.index.countInRange(name, startDate, endDate)
+                            + storeColumns(pending).countInRange(null, startDate, endDate));
+                }
+                SnapshotIndex.View<ReportStatistics> view = statistics.view(name);
+                List<ActivityReport> pending = name == null ? view.pending() : view.pending(name); // 다른 동아리의 작성은 훑지 않음
+                return (int) (view.index.countInRange(name, startDay, endDay, startDate, endDate)
+                        + countReports(pending).countInRange(null, startDay, endDay, startDate, endDate));
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.COUNT_REPORTS_IN_DATE_RANGE, timer);
+        }
+    }
+
+    /**
+     * 보고서를 작성한 서로 다른 작성자 수를 반환합니다.
+     *
+     * @return 작성자 수
+     * @created 2026-10-17
+     */
+    public int getAuthorCount() {
+        long timer = metrics.start();
+        try {
+            return cachedCount(QueryCache.key("authors"), null, QueryCache.ANY_DAY_START, QueryCache.ANY_DAY_END, () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view();
+                    return view.index.getAuthorCount(storeColumns(view.pending()));
+                }
+                SnapshotIndex.View<ReportStatistics> view = statistics.view();
+                return view.index.getAuthorCount(countReports(view.pending()));
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_AUTHOR_COUNT, timer);
+        }
+    }
+
+    /**
+     * 보고서에 기록된 서로 다른 활동 위치 수를 반환합니다.
+     *
+     * @return 활동 위치 수
+     * @created 2026-10-17
+     */
+    public int getLocationCount() {
+        long timer = metrics.start();
+        try {
+            return cachedCount(QueryCache.key("locations"), null, QueryCache.ANY_DAY_START, QueryCache.ANY_DAY_END, () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view();
+                    return view.index.getLocationCount(storeColumns(view.pending()));
+                }
+                SnapshotIndex.View<ReportStatistics> view = statistics.view();
+                return view.index.getLocationCount(countReports(view.pending()));
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_LOCATION_COUNT, timer);
+        }
+    }
+
+    /**
+     * 스냅샷의 모든 보고서로 통계를 만듭니다. 잠금 없이 호출되며, 취소되면 만들던 통계를 버립니다.
+     */
+    private static ReportStatistics buildStatistics(ClubSnapshot snapshot, BooleanSupplier cancelled) {
+        ReportStatistics stats = new ReportStatistics();
+        forEachChunk(snapshot, cancelled, stats::addAll);
+        return stats;
+    }
+
+    /**
+     * 발행된 통계의 복사본에 밀린 보고서를 반영합니다.
+     */
+    private static ReportStatistics extendStatistics(SnapshotIndex.View<ReportStatistics> view) {
+        ReportStatistics stats = view.index.copy();
+        stats.addAll(view.pending());
+        return stats;
+    }
+
+    /**
+     * 밀린 보고서만 센 통계를 만듭니다. 발행된 통계의 개수에 더해 읽습니다.
+     */
+    private static ReportStatistics countReports(List<ActivityReport> reports) {
+        ReportStatistics stats = new ReportStatistics();
+        stats.addAll(reports);
+        return stats;
+    }
+
+    /**
+     * 스냅샷의 모든 보고서로 열 저장소를 만듭니다. 잠금 없이 호출되며, 취소되면 만들던 저장소를 버립니다.
+     */
+    private static ReportColumnStore buildColumnStore(ClubSnapshot snapshot, BooleanSupplier cancelled) {
+        ReportColumnStore columns = new ReportColumnStore();
+        forEachChunk(snapshot, cancelled, columns::addAll);
+        return columns;
+    }
+
+    /**
+     * 발행된 열 저장소의 복사본에 밀린 보고서를 추가합니다.
+     */
+    private static ReportColumnStore extendColumnStore(SnapshotIndex.View<ReportColumnStore> view) {
+        ReportColumnStore columns = view.index.copy();
+        columns.addAll(view.pending());
+        return columns;
+    }
+
+    /**
+     * 밀린 보고서만 담은 열 저장소를 만듭니다. 발행된 저장소의 결과와 합쳐 읽습니다.
+     */
+    private static ReportColumnStore storeColumns(List<ActivityReport> reports) {
+        ReportColumnStore columns = new ReportColumnStore();
+        columns.addAll(reports);
+        return columns;
+    }
+
+    /**
+     * 기간 검색 결과를 캐시에서 찾고, 없으면 조회하여 보관합니다. 기간을 날짜로 해석할 수 없으면
+     * 문자열로 비교하므로 모든 날짜의 보고서가 결과에 영향을 줍니다.
+     */
+    private List<ActivityReport> cachedRange(String clubName, String startDate, String endDate,
+                                             Supplier<List<ActivityReport>> query) {
+        int startDay = ReportDateIndex.parseDay(startDate);
+        int endDay = ReportDateIndex.parseDay(endDate);
+        boolean parsed = startDay != ReportDateIndex.INVALID_DAY && endDay != ReportDateIndex.INVALID_DAY;
+        return cachedReports(QueryCache.key("range", clubName, startDate, endDate), clubName,
+                parsed ? startDay : QueryCache.ANY_DAY_START, parsed ? endDay : QueryCache.ANY_DAY_END, query);
+    }
+
+    /**
+     * 보고서 리스트 결과를 캐시에서 찾고, 없으면 조회하여 보관합니다.
+     * 캐시에는 복사본을 보관하므로 호출자는 반환된 리스트를 바꿔도 됩니다.
+     * 조회 전에 범위의 버전을 읽으므로, 조회하는 동안 범위에 보고서가 작성되면 결과를 보관하지 않습니다.
+     */
+    private List<ActivityReport> cachedReports(String key, String clubName, int startDay, int endDay,
+                                               Supplier<List<ActivityReport>> query) {
+        return cachedReports(key, clubName, startDay, endDay, null, query);
+    }
+
+    /**
+     * 보고서 리스트 결과를 캐시에서 찾고, 없으면 조회하여 보관합니다.
+     * 보관한 결과는 범위 안에 추가된 보고서가 affectedBy 조건에 맞을 때만 버려집니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ActivityReport> cachedReports(String key, String clubName, int startDay, int endDay,
+                                               Predicate<ActivityReport> affectedBy,
+                                               Supplier<List<ActivityReport>> query) {
+        Object cached = queryCache.get(key);
+        if (cached != null) {
+            return new ArrayList<>((List<ActivityReport>) cached);
+        }
+        long stamp = queryCache.stamp(clubName);
+        List<ActivityReport> results = query.get();
+        queryCache.put(key, new ArrayList<>(results), results.size() + 1L, clubName, startDay, endDay, stamp, affectedBy);
+        return results;
+    }
+
+    /**
+     * 개수 결과를 캐시에서 찾고, 없으면 조회하여 보관합니다.
+     */
+    private int cachedCount(String key, String clubName, int startDay, int endDay, IntSupplier query) {
+        return cachedCount(key, clubName, startDay, endDay, null, query);
+    }
+
+    /**
+     * 개수 결과를 캐시에서 찾고, 없으면 조회하여 보관합니다.
+     * 보관한 결과는 범위 안에 추가된 보고서가 affectedBy 조건에 맞을 때만 버려집니다.
+     */
+    private int cachedCount(String key, String clubName, int startDay, int endDay,
+                            Predicate<ActivityReport> affectedBy, IntSupplier query) {
+        Object cached = queryCache.get(key);
+        if (cached != null) {
+            return (Integer) cached;
+        }
+        long stamp = queryCache.stamp(clubName);
+        int count = query.getAsInt();
+        queryCache.put(key, count, 1, clubName, startDay, endDay, stamp, affectedBy);
+        return count;
+    }
+
+    /**
+     * 특정 동아리의 보고서 수를 반환합니다.
+     *
+     * @param clubName 동아리 이름
+     * @return 해당 동아리의 보고서 개수
+     * @created 2024-12-24
+     */
+    public int getReportsByClub(String clubName) {
+        long timer = metrics.start();
+        try {
+            List<ActivityReport> clubReports = current.get().getReports(clubName);
+            if (clubReports == null) {
+                return 0; // 해당 동아리에 보고서가 없으면 0 반환
+            }
+            return clubReports.size();
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_REPORTS_BY_CLUB, timer);
         }
-        return clubReports.size();
     }
 
     /**
      * 특정 기간 동안 작성된 보고서를 반환합니다.
      *
+     * <p>
+     * 날짜 색인에서 시작일과 종료일의 위치를 이진 탐색으로 찾아 그 사이를 반환합니다.
+     * 열 저장소를 사용하면 날짜 열을 훑어 기간 안의 행만 보고서로 만듭니다.
+     * </p>
+     *
      * @param startDate 시작 날짜 (YYYY-MM-DD)
      * @param endDate 종료 날짜 (YYYY-MM-DD)
-     * @return 해당 기간 동안 작성된 보고서 리스트
+     * @return 해당 기간 동안 작성된 보고서 리스트 (날짜 순)
      * @created 2024-12-24
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2024-12-24: 기간 검색 기능 추가 (한승규)</li>
+     *   <li>2026-10-17: 정렬된 날짜 색인 사용 (한승규)</li>
+     *   <li>2026-10-17: 실행 시간 지표 기록 (한승규)</li>
+     *   <li>2026-10-17: 열 저장소 사용 시 날짜 열 검색 (한승규)</li>
+     *   <li>2026-10-17: 결과 캐시 (한승규)</li>
+     *   <li>2026-10-17: 색인 잠금 없이 발행된 색인과 밀린 보고서를 함께 검색 (한승규)</li>
+     * </ul>
      */
     public List<ActivityReport> getReportsInDateRange(String startDate, String endDate) {
-        List<ActivityReport> results = new ArrayList<>();
-        for (List<ActivityReport> reportList : reports.values()) {
-            for (ActivityReport report : reportList) {
-                String date = report.getDate();
-                if (date.compareTo(startDate) >= 0 && date.compareTo(endDate) <= 0) {
-                    results.add(report);
+        long timer = metrics.start();
+        try {
+            return cachedRange(null, startDate, endDate, () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view();
+                    return ReportDateIndex.merge(view.index.range(null, startDate, endDate),
+                            storeColumns(view.pending()).range(null, startDate, endDate));
                 }
+                SnapshotIndex.View<DateIndexes> view = dateIndexes.view();
+                return ReportDateIndex.merge(view.index.all.range(startDate, endDate),
+                        indexDates(view.pending()).range(startDate, endDate));
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_REPORTS_IN_DATE_RANGE, timer);
+        }
+    }
+
+    /**
+     * 특정 동아리에서 특정 기간 동안 작성된 보고서를 반환합니다.
+     *
+     * <p>
+     * 동아리별 날짜 색인과 그 동아리의 밀린 보고서만 읽으므로, 다른 동아리의 작성을 기다리거나 훑지 않습니다.
+     * </p>
+     *
+     * @param clubName 동아리 이름
+     * @param startDate 시작 날짜 (YYYY-MM-DD)
+     * @param endDate 종료 날짜 (YYYY-MM-DD)
+     * @return 해당 동아리의 기간 내 보고서 리스트 (날짜 순), 동아리가 없으면 빈 리스트
+     * @created 2026-10-17
+     */
+    public List<ActivityReport> getReportsInDateRange(String clubName, String startDate, String endDate) {
+        long timer = metrics.start();
+        try {
+            String name = current.get().resolveName(clubName);
+            if (name == null) {
+                return new ArrayList<>();
             }
+            return cachedRange(name, startDate, endDate, () -> {
+                if (columnScans) {
+                    SnapshotIndex.View<ReportColumnStore> view = columnStore.view(name);
+                    return ReportDateIndex.merge(view.index.range(name, startDate, endDate),
+                            storeColumns(view.pending(name)).range(null, startDate, endDate));
+                }
+                SnapshotIndex.View<DateIndexes> view = dateIndexes.view(name); // 다른 동아리의 작성은 훑지 않음
+                ReportDateIndex clubIndex = view.index.clubs.get(name);
+                List<ActivityReport> indexed = clubIndex == null ? new ArrayList<>() : clubIndex.range(startDate, endDate);
+                return ReportDateIndex.merge(indexed, indexDates(view.pending(name)).range(startDate, endDate));
+            });
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.GET_REPORTS_IN_DATE_RANGE, timer);
+        }
+    }
+
+    /**
+     * 조건에 맞는 활동 보고서를 찾습니다.
+     *
+     * <p>
+     * 작성자와 활동 위치를 함께 보는 조건처럼 색인으로 찾을 수 없는 검색에 사용합니다.
+     * 현재 스냅샷의 보고서를 {@link ReportScanner}로 묶음마다 나누어 공용 ForkJoinPool에서 병렬로 검사하며,
+     * 결과는 실행 순서와 관계없이 항상 동아리 순서(등록 순), 동아리 안에서는 작성 순서입니다.
+     * 최대 결과 수에 이르면 남은 보고서는 검사하지 않습니다.
+     * </p>
+     *
+     * <p>
+     * 스냅샷을 읽으므로 잠금을 잡지 않으며 검사하는 동안에도 작성이 멈추지 않습니다.
+     * 조건은 여러 스레드에서 동시에 호출되므로 공유 상태를 바꾸지 않아야 합니다.
+     * </p>
+     *
+     * @param filter 보고서 조건
+     * @param limit 반환할 보고서의 최대 수
+     * @return 조건에 맞는 활동 보고서 리스트
+     *
+     * @created 2026-10-17
+     */
+    public List<ActivityReport> findReports(Predicate<? super ActivityReport> filter, int limit) {
+        long timer = metrics.start();
+        try {
+            return ReportScanner.find(current.get().getReportMap().values(), filter, limit);
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.FIND_REPORTS, timer);
+        }
+    }
+
+    /**
+     * 조건에 맞는 활동 보고서 수를 셉니다.
+     *
+     * <p>
+     * {@link #findReports(Predicate, int)}와 같이 병렬로 검사하며 결과 리스트를 만들지 않습니다.
+     * </p>
+     *
+     * @param filter 보고서 조건
+     * @return 조건에 맞는 활동 보고서 수
+     *
+     * @created 2026-10-17
+     */
+    public int countReports(Predicate<? super ActivityReport> filter) {
+        long timer = metrics.start();
+        try {
+            return (int) ReportScanner.count(current.get().getReportMap().values(), filter);
+        } finally {
+            metrics.record(ClubManagerMetrics.Operation.COUNT_REPORTS, timer);
         }
-        return results;
     }
 }
\ No newline at end of file
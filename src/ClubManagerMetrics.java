@@ -0,0 +1,327 @@
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@link ClubManager}의 작업별 호출 수, 지연 시간과 저장/불러오기 바이트 수를 모으는 클래스입니다.
+ *
+ * <p>
+ * 공개 작업마다 {@link LatencyHistogram}을 하나씩 두고, 작업이 끝날 때 걸린 시간을 잠금 없이 기록합니다.
+ * 지표 수집은 기본으로 꺼져 있으며, 꺼져 있으면 {@link #start()}가 시각을 읽지 않고 0을 반환하고
+ * {@link #record}는 바로 돌아오므로 작업마다 volatile 읽기 한 번 외의 비용이 들지 않습니다.
+ * </p>
+ *
+ * <p>
+ * {@link #register()}로 플랫폼 MBean 서버에 등록하면 JMX로 조회할 수 있고,
+ * {@link #startLogging(long)}으로 요약을 주기적으로 출력할 수 있습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.2
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 자동 저장 작업 추가 (한승규)</li>
+ *   <li>2026-10-17: 조건 검색 작업 추가 (한승규)</li>
+ * </ul>
+ */
+public class ClubManagerMetrics implements ClubManagerMetricsMXBean {
+    /** JMX에 등록할 때 사용하는 이름 */
+    public static final String OBJECT_NAME = "ClubManagement:type=ClubManagerMetrics";
+
+    /**
+     * 지표를 모으는 {@link ClubManager}의 작업입니다. 오버로드된 메서드는 같은 작업으로 기록하며,
+     * 다른 공개 메서드에 그대로 위임하는 메서드(containsClub 등)는 위임받은 작업으로 기록됩니다.
+     * 저널 활성화, 지연 로딩 설정, 종료처럼 설정만 바꾸는 메서드는 기록하지 않습니다.
+     */
+    public enum Operation {
+        REGISTER_CLUB("registerClub"),
+        REGISTER_CLUBS("registerClubs"),
+        FIND_CLUB("findClub"),
+        VIEW_CLUBS("viewClubs"),
+        ADD_DETAILED_REPORT("addDetailedReport"),
+        ADD_REPORTS("addReports"),
+        VIEW_REPORTS_BY_CLUB("viewReportsByClub"),
+        VIEW_ALL_REPORTS("viewAllReports"),
+        CHECKPOINT("checkpoint"),
+        SAVE_DATA("saveData"),
+        AUTOSAVE("autosave"),
+        LOAD_DATA("loadData"),
+        VIEW_CLUBS_AS_STRING("viewClubsAsString"),
+        WRITE_CLUBS("writeClubs"),
+        VIEW_REPORTS_AS_STRING("viewReportsAsString"),
+        WRITE_REPORTS("writeReports"),
+        SEARCH_REPORTS_BY_KEYWORD("searchReportsByKeyword"),
+        SEARCH_REPORTS_BY_KEYWORDS("searchReportsByKeywords"),
+        SEARCH_REPORTS_BY_DATE("searchReportsByDate"),
+        GET_REPORTS_ORDERED_BY_DATE("getReportsOrderedByDate"),
+        FORMAT_REPORT_SEARCH_RESULTS("formatReportSearchResults"),
+        WRITE_REPORT_SEARCH_RESULTS("writeReportSearchResults"),
+        GET_DATE_INDEXED_REPORT_COUNT("getDateIndexedReportCount"),
+        GET_TOTAL_REPORTS_COUNT("getTotalReportsCount"),
+        GET_REPORTS_BY_AUTHOR("getReportsByAuthor"),
+        GET_REPORTS_BY_LOCATION("getReportsByLocation"),
+        GET_REPORTS_ON_DATE("getReportsOnDate"),
+        COUNT_REPORTS_IN_DATE_RANGE("countReportsInDateRange"),
+        GET_AUTHOR_COUNT("getAuthorCount"),
+        GET_LOCATION_COUNT("getLocationCount"),
+        GET_REPORTS_BY_CLUB("getReportsByClub"),
+        GET_REPORTS_IN_DATE_RANGE("getReportsInDateRange"),
+        FIND_REPORTS("findReports"),
+        COUNT_REPORTS("countReports");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        /**
+         * 작업 이름(메서드 이름)을 반환합니다.
+         *
+         * @return 작업 이름
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private volatile boolean enabled; // 지표 수집 여부
+    private volatile long resetNanos = System.nanoTime(); // 마지막 초기화 시각
+    private ScheduledExecutorService logger; // 주기적 요약 출력 스케줄러
+
+    /**
+     * 수집이 꺼진 지표 객체를 생성합니다.
+     */
+    public ClubManagerMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * 작업 시작 시각을 반환합니다. 수집이 꺼져 있으면 0을 반환합니다.
+     *
+     * @return 시작 시각 (나노초) 또는 0
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 작업이 끝났음을 기록합니다. start가 0이면 아무것도 하지 않습니다.
+     *
+     * @param operation 끝난 작업
+     * @param start {@link #start()}가 반환한 시각
+     */
+    public void record(Operation operation, long start) {
+        if (start != 0) {
+            histograms[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 파일에 기록한 바이트 수를 더합니다.
+     *
+     * @param bytes 바이트 수
+     */
+    public void addBytesWritten(long bytes) {
+        if (enabled) {
+            bytesWritten.add(bytes);
+        }
+    }
+
+    /**
+     * 파일에서 읽은 바이트 수를 더합니다.
+     *
+     * @param bytes 바이트 수
+     */
+    public void addBytesRead(long bytes) {
+        if (enabled) {
+            bytesRead.add(bytes);
+        }
+    }
+
+    /**
+     * 작업의 지연 시간 히스토그램을 반환합니다.
+     *
+     * @param operation 작업
+     * @return 히스토그램
+     */
+    public LatencyHistogram getHistogram(Operation operation) {
+        return histograms[operation.ordinal()];
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public double getElapsedSeconds() {
+        return (System.nanoTime() - resetNanos) / 1e9;
+    }
+
+    @Override
+    public Map<String, OperationStats> getOperations() {
+        Map<String, OperationStats> operations = new LinkedHashMap<>();
+        double elapsed = getElapsedSeconds();
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = histograms[operation.ordinal()];
+            if (histogram.getCount() > 0) {
+                operations.put(operation.getLabel(), new OperationStats(histogram, elapsed));
+            }
+        }
+        return operations;
+    }
+
+    @Override
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder("[지표]");
+        for (Map.Entry<String, OperationStats> entry : getOperations().entrySet()) {
+            OperationStats stats = entry.getValue();
+            summary.append(String.format(" %s %,d건 p50=%.0fus p99=%.0fus p999=%.0fus |", entry.getKey(), stats.getCount(),
+                    stats.getP50Micros(), stats.getP99Micros(), stats.getP999Micros()));
+        }
+        summary.append(String.format(" 쓰기 %,dB 읽기 %,dB", getBytesWritten(), getBytesRead()));
+        return summary.toString();
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        bytesWritten.reset();
+        bytesRead.reset();
+        resetNanos = System.nanoTime();
+    }
+
+    /**
+     * 플랫폼 MBean 서버에 {@value #OBJECT_NAME} 이름으로 등록합니다. 이미 등록된 객체가 있으면 바꿉니다.
+     *
+     * @throws JMException 등록할 수 없는 경우
+     */
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+    }
+
+    /**
+     * 요약을 주기적으로 출력합니다. 이미 출력 중이면 주기를 바꿉니다.
+     *
+     * @param intervalSeconds 출력 주기 (초)
+     */
+    public synchronized void startLogging(long intervalSeconds) {
+        stopLogging();
+        logger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "club-metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.scheduleAtFixedRate(() -> System.out.println(getSummary()), intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * 주기적 요약 출력을 멈춥니다.
+     */
+    public synchronized void stopLogging() {
+        if (logger != null) {
+            logger.shutdownNow();
+            logger = null;
+        }
+    }
+
+    /**
+     * 작업 하나의 호출 수와 지연 시간 통계입니다. JMX에서는 CompositeData로 보입니다.
+     */
+    public static final class OperationStats {
+        private final long count;
+        private final double throughput;
+        private final double meanMicros;
+        private final double p50Micros;
+        private final double p99Micros;
+        private final double p999Micros;
+        private final double maxMicros;
+
+        OperationStats(LatencyHistogram histogram, double elapsedSeconds) {
+            count = histogram.getCount();
+            throughput = elapsedSeconds > 0 ? count / elapsedSeconds : 0;
+            meanMicros = histogram.getMean() / 1e3;
+            p50Micros = histogram.getValueAtPercentile(50) / 1e3;
+            p99Micros = histogram.getValueAtPercentile(99) / 1e3;
+            p999Micros = histogram.getValueAtPercentile(99.9) / 1e3;
+            maxMicros = histogram.getMax() / 1e3;
+        }
+
+        /** @return 호출 수 */
+        public long getCount() {
+            return count;
+        }
+
+        /** @return 초당 호출 수 (마지막 초기화 이후 평균) */
+        public double getThroughput() {
+            return throughput;
+        }
+
+        /** @return 평균 지연 시간 (마이크로초) */
+        public double getMeanMicros() {
+            return meanMicros;
+        }
+
+        /** @return 50번째 백분위 지연 시간 (마이크로초) */
+        public double getP50Micros() {
+            return p50Micros;
+        }
+
+        /** @return 99번째 백분위 지연 시간 (마이크로초) */
+        public double getP99Micros() {
+            return p99Micros;
+        }
+
+        /** @return 99.9번째 백분위 지연 시간 (마이크로초) */
+        public double getP999Micros() {
+            return p999Micros;
+        }
+
+        /** @return 최대 지연 시간 (마이크로초) */
+        public double getMaxMicros() {
+            return maxMicros;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+import java.util.Map;
+
+/**
+ * {@link ClubManager} 실행 지표를 JMX로 공개하는 인터페이스입니다.
+ *
+ * <p>
+ * JConsole이나 VisualVM에서 ClubManagement:type=ClubManagerMetrics 이름으로 조회할 수 있습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public interface ClubManagerMetricsMXBean {
+    /**
+     * 지표 수집 여부를 반환합니다.
+     *
+     * @return 수집 중이면 true
+     */
+    boolean isEnabled();
+
+    /**
+     * 지표 수집을 켜거나 끕니다. 끄면 이미 모은 값은 그대로 남습니다.
+     *
+     * @param enabled 수집 여부
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * 스냅샷 파일과 저널에 기록한 바이트 수를 반환합니다.
+     *
+     * @return 기록한 바이트 수
+     */
+    long getBytesWritten();
+
+    /**
+     * 스냅샷 파일과 저널에서 읽은 바이트 수를 반환합니다.
+     *
+     * @return 읽은 바이트 수
+     */
+    long getBytesRead();
+
+    /**
+     * 마지막 초기화 이후 지난 시간을 반환합니다.
+     *
+     * @return 경과 시간 (초)
+     */
+    double getElapsedSeconds();
+
+    /**
+     * 한 번 이상 호출된 작업별 호출 수와 지연 시간 통계를 반환합니다.
+     *
+     * @return 작업 이름별 통계
+     */
+    Map<String, ClubManagerMetrics.OperationStats> getOperations();
+
+    /**
+     * 지표를 한 줄로 요약한 문자열을 반환합니다.
+     *
+     * @return 요약 문자열
+     */
+    String getSummary();
+
+    /**
+     * 모은 지표를 모두 지웁니다.
+     */
+    void reset();
+}
\ No newline at end of file
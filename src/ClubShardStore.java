@@ -0,0 +1,444 @@
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 활동 보고서를 동아리 이름의 해시로 나눈 여러 파일(샤드)에 저장하는 분할 저장소 클래스입니다.
+ *
+ * <p>
+ * 보고서 파일 하나에 모든 동아리를 기록하면 보고서 한 건만 추가되어도 전체를 다시 써야 합니다.
+ * 이 클래스는 동아리를 이름 해시로 {@value #DEFAULT_SHARD_COUNT}개의 샤드에 나누어 샤드마다
+ * {@link ClubDataCodec} 형식의 보고서 파일을 두고, 동아리 목록 파일과 함께 매니페스트로 묶습니다.
+ * 저장할 때는 마지막으로 저장한 스냅샷과 비교하여 보고서가 바뀐 동아리가 속한 샤드만 다시 기록하므로,
+ * 저장 시간이 전체 데이터가 아니라 바뀐 데이터에 비례합니다.
+ * </p>
+ *
+ * <p>
+ * 디렉터리 구조는 다음과 같습니다.
+ * </p>
+ * <ul>
+ *   <li>manifest.dat: 세대 번호, 샤드 수, 동아리 목록 파일과 샤드별 보고서 파일 이름 (헤더에 저널 LSN)</li>
+ *   <li>clubs-&lt;세대&gt;.dat: 동아리 목록 (동아리가 등록된 경우에만 새로 기록)</li>
+ *   <li>reports-&lt;샤드&gt;-&lt;세대&gt;.dat: 샤드에 속한 동아리의 보고서 (동아리가 없는 샤드는 파일 없음)</li>
+ * </ul>
+ *
+ * <p>
+ * 새로 기록하는 파일은 새 세대 번호의 이름으로 임시 파일에 기록한 뒤 원자적으로 이름을 바꾸고,
+ * 마지막에 매니페스트를 같은 방법으로 교체합니다. 매니페스트 교체가 저장의 완료 시점이므로
+ * 저장 도중 종료되어도 이전 매니페스트가 가리키는 파일은 그대로 남아 이전 저장 상태를 읽을 수 있습니다.
+ * 매니페스트가 더 이상 가리키지 않는 파일은 교체 후 삭제합니다.
+ * 저장은 파일을 기록하기 전마다, 불러오기는 샤드를 디코딩하기 전마다 취소되었는지 확인하며,
+ * 취소되면 매니페스트와 마지막 저장 상태를 바꾸지 않고 {@link java.util.concurrent.CancellationException}을 던집니다.
+ * </p>
+ *
+ * <p>
+ * 샤드 파일은 서로 독립적이므로 불러올 때 공용 ForkJoinPool에서 나누어 동시에 디코딩하고,
+ * 각 샤드가 읽은 보고서 목록을 하나의 동시 맵에 바로 넣어 다시 복사하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 이 클래스는 스레드 안전하지 않으므로 호출자가 저장과 불러오기를 한 번에 하나만 수행해야 합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.3
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 샤드를 ForkJoinPool에서 병렬로 불러오기 (한승규)</li>
+ *   <li>2026-10-17: 파일 이름을 바꾼 뒤 디렉터리를 동기화하여 정전 후에도 바뀐 이름이 유지되도록 수정 (한승규)</li>
+ *   <li>2026-10-17: ShardLoader에 직렬화 ID 추가 (한승규)</li>
+ *   <li>2026-10-17: 저장과 불러오기에 취소 확인 함수 추가 (한승규)</li>
+ * </ul>
+ */
+public class ClubShardStore {
+    /** 새 저장소의 샤드 수 */
+    static final int DEFAULT_SHARD_COUNT = 64;
+
+    private static final int MANIFEST_MAGIC = 0x4D4E4654; // "MNFT"
+    private static final String MANIFEST_FILE = "manifest.dat";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory; // 저장소 디렉터리
+    private Manifest manifest; // 마지막으로 읽거나 기록한 매니페스트 (없으면 null)
+    private ClubSnapshot saved; // 저장소 파일과 내용이 같은 스냅샷 (모르면 null)
+
+    /**
+     * 분할 저장소를 생성합니다. 디렉터리는 처음 저장할 때 만들어집니다.
+     *
+     * @param directory 저장소 디렉터리
+     */
+    public ClubShardStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 저장소에 저장된 데이터가 있는지 확인합니다.
+     *
+     * @return 매니페스트가 있으면 true
+     */
+    public boolean exists() {
+        return Files.exists(directory.resolve(MANIFEST_FILE));
+    }
+
+    /**
+     * 동아리 이름이 속한 샤드 번호를 반환합니다.
+     *
+     * @param clubName 동아리 이름
+     * @param shardCount 샤드 수
+     * @return 샤드 번호
+     */
+    static int shardOf(String clubName, int shardCount) {
+        return Math.floorMod(ClubManager.clubKey(clubName).hashCode(), shardCount);
+    }
+
+    /**
+     * 매니페스트가 가리키는 동아리 목록과 모든 샤드의 보고서를 읽어 옵니다.
+     *
+     * <p>
+     * 샤드는 공용 ForkJoinPool에서 병렬로 디코딩하고, 그동안 호출한 스레드는 동아리 목록을 읽습니다.
+     * 보고서 목록은 모든 샤드가 함께 쓰는 동시 맵에 바로 넣으므로 샤드별 결과를 다시 합치지 않습니다.
+     * 지연 로딩을 사용하면 각 샤드 파일을 메모리에 매핑하며, 매핑할 수 없는 샤드는 전체를 읽습니다.
+     * 읽어 온 데이터로 스냅샷을 만든 뒤에는 {@link #setSaved(ClubSnapshot)}로 알려야 다음 저장에서 바뀐 샤드만 기록합니다.
+     * </p>
+     *
+     * @param lazy 지연 로딩 사용 여부
+     * @param cancelled 취소되었으면 true를 반환하는 함수, 취소되면 아직 디코딩하지 않은 샤드를 건너뜀
+     * @return 읽어 온 데이터
+     * @throws FileNotFoundException 매니페스트가 없는 경우
+     * @throws IOException 파일 형식이 맞지 않거나 읽을 수 없는 경우 (여러 샤드가 실패하면 처음 실패한 것)
+     * @throws java.util.concurrent.CancellationException 모든 샤드를 읽기 전에 취소된 경우
+     */
+    public Contents load(boolean lazy, BooleanSupplier cancelled) throws IOException {
+        Path manifestFile = directory.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifestFile)) {
+            throw new FileNotFoundException(manifestFile.toString());
+        }
+        Manifest loaded = Manifest.read(manifestFile);
+        List<Path> shardFiles = new ArrayList<>();
+        for (String shardFile : loaded.shardFiles) {
+            if (shardFile != null) {
+                shardFiles.add(directory.resolve(shardFile));
+            }
+        }
+        ConcurrentHashMap<String, List<ActivityReport>> reports = new ConcurrentHashMap<>();
+        long[] sizes = new long[shardFiles.size()];
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        ForkJoinTask<Void> shards = ForkJoinPool.commonPool().submit(
+                new ShardLoader(shardFiles, 0, shardFiles.size(), lazy, reports, sizes, failure, cancelled));
+
+        Path clubsFile = directory.resolve(loaded.clubsFile);
+        List<Club> clubs;
+        try {
+            clubs = ClubDataCodec.readClubs(clubsFile).getData();
+        } finally {
+            shards.join(); // 실패하더라도 샤드 작업이 끝난 뒤에 돌아감
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        ClubManager.checkCancelled(cancelled); // 건너뛴 샤드가 있을 수 있음
+        long bytes = Files.size(manifestFile) + Files.size(clubsFile);
+        for (long size : sizes) {
+            bytes += size;
+        }
+        manifest = loaded;
+        saved = null;
+        return new Contents(clubs, reports, loaded.lsn, bytes);
+    }
+
+    /**
+     * 저장소 파일과 내용이 같은 스냅샷을 알립니다. 다음 저장은 이 스냅샷과 비교하여 바뀐 샤드만 기록합니다.
+     *
+     * @param snapshot 저장소에서 불러와 만든 스냅샷, 모르면 null (다음 저장에서 모든 샤드를 기록)
+     */
+    public void setSaved(ClubSnapshot snapshot) {
+        saved = snapshot;
+    }
+
+    /**
+     * 스냅샷을 저장합니다. 마지막으로 저장한 스냅샷 이후 보고서가 바뀐 동아리가 속한 샤드와,
+     * 동아리가 등록되었으면 동아리 목록만 새로 기록합니다. 바뀐 것이 없고 LSN도 같으면 아무것도 기록하지 않습니다.
+     *
+     * @param snapshot 저장할 스냅샷
+     * @param lsn 스냅샷에 반영된 마지막 저널 LSN
+     * @param cancelled 취소되었으면 true를 반환하는 함수, 파일을 기록하기 전마다 확인
+     * @return 기록한 바이트 수
+     * @throws IOException 기록 중 오류가 발생한 경우 (이전 저장 상태는 그대로 유지)
+     * @throws java.util.concurrent.CancellationException 매니페스트를 교체하기 전에 취소된 경우 (이전 저장 상태는 그대로 유지)
+     */
+    public long save(ClubSnapshot snapshot, long lsn, BooleanSupplier cancelled) throws IOException {
+        Manifest previous = null;
+        if (exists()) { // 디렉터리가 삭제되었으면 처음부터 기록
+            previous = manifest != null ? manifest : Manifest.read(directory.resolve(MANIFEST_FILE)); // 불러오지 않고 저장하면 이전 세대에 이어 씀
+        }
+        ClubSnapshot base = previous == null ? null : saved;
+        int shardCount = previous == null ? DEFAULT_SHARD_COUNT : previous.shardFiles.length;
+
+        int slotCount = snapshot.getReportListCount();
+        int[] shardOfSlot = new int[slotCount];
+        boolean[] dirty = new boolean[shardCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            shardOfSlot[slot] = shardOf(snapshot.nameAt(slot), shardCount);
+            if (!snapshot.sameReports(base, slot)) {
+                dirty[shardOfSlot[slot]] = true;
+            }
+        }
+        boolean clubsDirty = !snapshot.sameClubs(base);
+        if (base == null) {
+            Arrays.fill(dirty, true); // 다른 데이터를 불러왔을 수 있으므로 모든 샤드를 기록
+        }
+        boolean anyDirty = clubsDirty;
+        for (boolean shardDirty : dirty) {
+            anyDirty |= shardDirty;
+        }
+        if (!anyDirty && previous != null && previous.lsn == lsn) {
+            saved = snapshot;
+            return 0;
+        }
+
+        Files.createDirectories(directory);
+        int generation = previous == null ? 1 : previous.generation + 1;
+        String[] shardFiles = previous == null ? new String[shardCount] : previous.shardFiles.clone();
+        String clubsFile = previous == null ? null : previous.clubsFile;
+        long bytes = 0;
+        if (clubsDirty || clubsFile == null) {
+            ClubManager.checkCancelled(cancelled);
+            clubsFile = String.format("clubs-%d.dat", generation);
+            bytes += writeAtomically(clubsFile, file -> ClubDataCodec.writeClubs(file, snapshot.getClubs(), lsn));
+        }
+        List<Map<String, List<ActivityReport>>> shardReports = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardReports.add(dirty[shard] ? new LinkedHashMap<>() : null);
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            Map<String, List<ActivityReport>> reports = shardReports.get(shardOfSlot[slot]);
+            if (reports != null) {
+                reports.putIfAbsent(snapshot.nameAt(slot), snapshot.reportsAt(slot));
+            }
+        }
+        for (int shard = 0; shard < shardCount; shard++) {
+            Map<String, List<ActivityReport>> reports = shardReports.get(shard);
+            if (reports == null) {
+                continue;
+            }
+            if (reports.isEmpty()) {
+                shardFiles[shard] = null;
+                continue;
+            }
+            ClubManager.checkCancelled(cancelled); // 기록한 새 세대 파일은 다음 저장에서 삭제됨
+            shardFiles[shard] = String.format("reports-%02d-%d.dat", shard, generation);
+            bytes += writeAtomically(shardFiles[shard], file -> ClubDataCodec.writeReports(file, reports, lsn));
+        }
+        ClubManager.checkCancelled(cancelled);
+        Manifest next = new Manifest(generation, lsn, clubsFile, shardFiles);
+        bytes += writeAtomically(MANIFEST_FILE, next::write); // 저장 완료 시점
+        manifest = next;
+        saved = snapshot;
+        deleteUnreferenced(next);
+        return bytes;
+    }
+
+    /**
+     * 임시 파일에 기록한 뒤 원자적으로 이름을 바꾸고, 바뀐 이름이 디스크에 남도록 디렉터리를 동기화합니다.
+     *
+     * @return 기록한 파일 크기
+     */
+    private long writeAtomically(String name, ContentWriter writer) throws IOException {
+        Path file = directory.resolve(name);
+        Path temp = directory.resolve(name + TEMP_SUFFIX);
+        writer.write(temp);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        return Files.size(file);
+    }
+
+    /**
+     * 디렉터리 항목의 변경을 디스크에 동기화합니다. 디렉터리를 열 수 없는 플랫폼(Windows)에서는 건너뜁니다.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 디렉터리 동기화를 지원하지 않는 파일 시스템
+        }
+    }
+
+    /**
+     * 매니페스트가 가리키지 않는 이전 세대 파일과 중단된 저장의 임시 파일을 삭제합니다.
+     * 지연 로딩으로 매핑된 파일처럼 삭제할 수 없는 파일은 다음 저장에서 다시 시도합니다.
+     */
+    private void deleteUnreferenced(Manifest current) {
+        Set<String> referenced = new HashSet<>(Arrays.asList(current.shardFiles));
+        referenced.add(current.clubsFile);
+        referenced.add(MANIFEST_FILE);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                boolean ours = name.startsWith("clubs-") || name.startsWith("reports-") || name.endsWith(TEMP_SUFFIX);
+                if (ours && !referenced.contains(name)) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        // 사용 중인 파일은 다음 저장에서 삭제
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("이전 저장 파일 정리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 샤드 파일 범위를 절반씩 나누어 병렬로 불러오는 작업입니다.
+     * 파일 하나만 남으면 직접 디코딩하며, 한 샤드가 실패하거나 취소되면 아직 시작하지 않은 샤드는 건너뜁니다.
+     */
+    private static final class ShardLoader extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Path> files;
+        private final int from;
+        private final int to;
+        private final boolean lazy;
+        private final ConcurrentHashMap<String, List<ActivityReport>> reports; // 모든 샤드가 함께 채우는 맵
+        private final long[] sizes; // 샤드 파일 크기
+        private final AtomicReference<IOException> failure; // 처음 발생한 오류
+        private final BooleanSupplier cancelled; // 불러오기 취소 여부
+
+        ShardLoader(List<Path> files, int from, int to, boolean lazy,
+                    ConcurrentHashMap<String, List<ActivityReport>> reports, long[] sizes,
+                    AtomicReference<IOException> failure, BooleanSupplier cancelled) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.lazy = lazy;
+            this.reports = reports;
+            this.sizes = sizes;
+            this.failure = failure;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ShardLoader(files, from, middle, lazy, reports, sizes, failure, cancelled),
+                        new ShardLoader(files, middle, to, lazy, reports, sizes, failure, cancelled));
+                return;
+            }
+            if (from == to || failure.get() != null || cancelled.getAsBoolean()) {
+                return;
+            }
+            Path file = files.get(from);
+            try {
+                if (!lazy || ClubDataCodec.mapReports(file, reports) == null) {
+                    ClubDataCodec.readReports(file, reports);
+                }
+                sizes[from] = Files.size(file);
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(Path file) throws IOException;
+    }
+
+    /**
+     * 저장소에서 읽어 온 동아리 목록, 보고서와 저널 LSN을 담는 클래스입니다.
+     */
+    public static class Contents {
+        private final List<Club> clubs;
+        private final Map<String, List<ActivityReport>> reports;
+        private final long lsn;
+        private final long bytesRead;
+
+        Contents(List<Club> clubs, Map<String, List<ActivityReport>> reports, long lsn, long bytesRead) {
+            this.clubs = clubs;
+            this.reports = reports;
+            this.lsn = lsn;
+            this.bytesRead = bytesRead;
+        }
+
+        /** @return 동아리 목록 */
+        public List<Club> getClubs() {
+            return clubs;
+        }
+
+        /** @return 동아리 이름별 보고서 목록 */
+        public Map<String, List<ActivityReport>> getReports() {
+            return reports;
+        }
+
+        /** @return 저장된 데이터에 반영된 마지막 저널 LSN */
+        public long getLsn() {
+            return lsn;
+        }
+
+        /** @return 읽은 파일 크기의 합 */
+        public long getBytesRead() {
+            return bytesRead;
+        }
+    }
+
+    /**
+     * 한 세대의 저장 파일 목록입니다.
+     */
+    private static final class Manifest {
+        final int generation; // 저장할 때마다 1씩 증가
+        final long lsn; // 저장된 데이터에 반영된 마지막 저널 LSN
+        final String clubsFile; // 동아리 목록 파일 이름
+        final String[] shardFiles; // 샤드별 보고서 파일 이름 (동아리가 없는 샤드는 null)
+
+        Manifest(int generation, long lsn, String clubsFile, String[] shardFiles) {
+            this.generation = generation;
+            this.lsn = lsn;
+            this.clubsFile = clubsFile;
+            this.shardFiles = shardFiles;
+        }
+
+        static Manifest read(Path file) throws IOException {
+            try (ClubDataCodec.BodyReader in = new ClubDataCodec.BodyReader(file, MANIFEST_MAGIC)) {
+                int generation = in.readVarInt();
+                String clubsFile = in.readString();
+                String[] shardFiles = new String[in.readVarInt()];
+                for (int i = 0; i < shardFiles.length; i++) {
+                    shardFiles[i] = in.readString();
+                }
+                in.verify();
+                if (clubsFile == null || shardFiles.length == 0) {
+                    throw new IOException("매니페스트가 손상되었습니다: " + file);
+                }
+                return new Manifest(generation, in.lsn, clubsFile, shardFiles);
+            }
+        }
+
+        void write(Path file) throws IOException {
+            try (ClubDataCodec.BodyWriter out = new ClubDataCodec.BodyWriter(file)) {
+                out.writeVarInt(generation);
+                out.writeString(clubsFile);
+                out.writeVarInt(shardFiles.length);
+                for (String shardFile : shardFiles) {
+                    out.writeString(shardFile);
+                }
+                out.finish(MANIFEST_MAGIC, lsn, (short) 0);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,461 @@
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 특정 시점의 동아리 목록과 활동 보고서를 담는 변경 불가능한 스냅샷 클래스입니다.
+ *
+ * <p>
+ * {@link ClubManager}는 동아리 등록이나 보고서 작성이 일어날 때마다 이전 스냅샷에서 바뀐 부분만 새로 만든
+ * 스냅샷을 발행합니다. 동아리 목록과 동아리별 보고서 목록은 {@link PersistentVector}로 구성되어
+ * 이전 스냅샷과 대부분의 노드를 공유하므로, 보고서 하나를 추가해도 전체를 복사하지 않습니다.
+ * 스냅샷은 바뀌지 않으므로 조회와 저장은 잠금 없이 하나의 일관된 시점을 읽습니다.
+ * </p>
+ *
+ * <p>
+ * 동아리 이름에서 위치(slot)를 찾는 맵은 같은 불러오기에서 만들어진 스냅샷끼리 공유하며, 항목이 추가되기만 합니다.
+ * 스냅샷보다 나중에 등록된 동아리는 위치가 스냅샷의 보고서 목록 수 이상이므로 없는 것으로 처리됩니다.
+ * </p>
+ *
+ * <p>
+ * 불러온 뒤 작성된 보고서는 동아리와 관계없이 발행된 순서대로 한 목록에도 담깁니다.
+ * 색인은 이 목록의 길이로 자신이 만들어진 스냅샷 이후에 작성된 보고서를 찾아 함께 읽습니다({@link SnapshotIndex}).
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.4
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 여러 동아리 보고서 일괄 추가 withReports 추가 (한승규)</li>
+ *   <li>2026-10-17: 분할 저장을 위한 위치별 보고서 조회와 이전 스냅샷 비교 추가 (한승규)</li>
+ *   <li>2026-10-17: 지연 로딩 보고서 보관 방식 설명 수정 (한승규)</li>
+ *   <li>2026-10-17: 발행 순서의 작성 보고서 목록과 색인용 조회 메서드 추가 (한승규)</li>
+ * </ul>
+ */
+public final class ClubSnapshot {
+    private final long version; // 발행 순서
+    private final PersistentVector<Club> clubs; // 등록 순서의 동아리 목록
+    private final PersistentVector<ClubReports> reportLists; // 위치별 동아리 보고서 목록
+    private final ConcurrentHashMap<String, Integer> slots; // 정규화된 동아리 이름별 위치 (추가만 됨)
+    private final int totalReports; // 전체 보고서 수
+    private final PersistentVector<ActivityReport> written; // 불러온 뒤 작성된 보고서 (발행 순)
+
+    private ClubSnapshot(long version, PersistentVector<Club> clubs, PersistentVector<ClubReports> reportLists,
+                         ConcurrentHashMap<String, Integer> slots, int totalReports,
+                         PersistentVector<ActivityReport> written) {
+        this.version = version;
+        this.clubs = clubs;
+        this.reportLists = reportLists;
+        this.slots = slots;
+        this.totalReports = totalReports;
+        this.written = written;
+    }
+
+    /**
+     * 빈 스냅샷을 만듭니다.
+     *
+     * @return 빈 스냅샷
+     */
+    static ClubSnapshot empty() {
+        return new ClubSnapshot(0, PersistentVector.empty(), PersistentVector.empty(), new ConcurrentHashMap<>(), 0,
+                PersistentVector.empty());
+    }
+
+    /**
+     * 불러온 데이터로 새 스냅샷을 만듭니다.
+     *
+     * <p>
+     * 보고서 리스트는 복사하지 않고 그대로 보관하므로, 호출 후에는 전달한 리스트를 변경하면 안 됩니다.
+     * 동아리 목록 없이 보고서만 있는 이전 데이터의 동아리도 보고서 목록으로 유지합니다.
+     * </p>
+     *
+     * @param version 스냅샷 버전
+     * @param clubList 동아리 목록
+     * @param reportMap 동아리 이름별 보고서 리스트
+     * @return 새 스냅샷
+     */
+    static ClubSnapshot load(long version, List<Club> clubList, Map<String, List<ActivityReport>> reportMap) {
+        ConcurrentHashMap<String, Integer> slots = new ConcurrentHashMap<>();
+        PersistentVector<Club> clubs = PersistentVector.empty();
+        PersistentVector<ClubReports> reportLists = PersistentVector.empty();
+        Set<String> used = new HashSet<>();
+        int total = 0;
+        for (Club club : clubList) {
+            clubs = clubs.plus(club);
+            if (slots.putIfAbsent(ClubManager.clubKey(club.getName()), reportLists.size()) != null) {
+                continue; // 같은 이름으로 중복 저장된 동아리는 처음 것을 사용
+            }
+            List<ActivityReport> base = reportMap.getOrDefault(club.getName(), Collections.emptyList());
+            used.add(club.getName());
+            reportLists = reportLists.plus(new ClubReports(club.getName(), club, base, PersistentVector.empty()));
+            total += base.size();
+        }
+        for (Map.Entry<String, List<ActivityReport>> entry : reportMap.entrySet()) {
+            if (used.contains(entry.getKey())) {
+                continue;
+            }
+            slots.putIfAbsent(ClubManager.clubKey(entry.getKey()), reportLists.size());
+            reportLists = reportLists.plus(new ClubReports(entry.getKey(), null, entry.getValue(), PersistentVector.empty()));
+            total += entry.getValue().size();
+        }
+        return new ClubSnapshot(version, clubs, reportLists, slots, total, PersistentVector.empty());
+    }
+
+    /**
+     * 동아리를 추가한 다음 스냅샷을 만듭니다. 같은 이름의 동아리가 없음을 호출자가 확인해야 하며,
+     * 동시에 두 동아리를 추가하지 않도록 호출자가 잠금을 보유해야 합니다.
+     *
+     * <p>
+     * 동아리 목록 없이 보고서만 남아 있던 이름이면 기존 보고서를 유지한 채 동아리를 연결합니다.
+     * </p>
+     *
+     * @param club 추가할 동아리
+     * @return 다음 스냅샷
+     */
+    ClubSnapshot withClub(Club club) {
+        int slot = slotOf(club.getName());
+        PersistentVector<ClubReports> lists;
+        if (slot >= 0) {
+            ClubReports existing = reportLists.get(slot);
+            lists = reportLists.with(slot, new ClubReports(existing.name, club, existing.base, existing.added));
+        } else {
+            slots.put(ClubManager.clubKey(club.getName()), reportLists.size());
+            lists = reportLists.plus(new ClubReports(club.getName(), club, Collections.emptyList(), PersistentVector.empty()));
+        }
+        return new ClubSnapshot(version + 1, clubs.plus(club), lists, slots, totalReports, written);
+    }
+
+    /**
+     * 보고서를 추가한 다음 스냅샷을 만듭니다. 이 스냅샷은 바뀌지 않습니다.
+     *
+     * @param slot 보고서 목록 위치 ({@link #slotOf(String)})
+     * @param report 추가할 보고서
+     * @return 다음 스냅샷
+     */
+    ClubSnapshot withReport(int slot, ActivityReport report) {
+        ClubReports list = reportLists.get(slot);
+        return new ClubSnapshot(version + 1, clubs, reportLists.with(slot, list.plus(report)), slots, totalReports + 1,
+                written.plus(report));
+    }
+
+    /**
+     * 여러 동아리에 보고서를 한 번에 추가한 다음 스냅샷을 만듭니다. 이 스냅샷은 바뀌지 않습니다.
+     *
+     * @param reportsBySlot 보고서 목록 위치별 추가할 보고서
+     * @param batch 추가할 보고서 전체 (작성 순서, reportsBySlot의 보고서와 같음)
+     * @return 다음 스냅샷
+     *
+     * @lastModified 2026-10-17
+     *
+     * @changelog
+     * <ul>
+     *   <li>2026-10-17: 작성 순서의 보고서를 받아 작성 보고서 목록에 추가 (한승규)</li>
+     * </ul>
+     */
+    ClubSnapshot withReports(Map<Integer, List<ActivityReport>> reportsBySlot, Collection<ActivityReport> batch) {
+        PersistentVector<ClubReports> lists = reportLists;
+        int added = 0;
+        for (Map.Entry<Integer, List<ActivityReport>> entry : reportsBySlot.entrySet()) {
+            ClubReports list = lists.get(entry.getKey());
+            lists = lists.with(entry.getKey(), list.plusAll(entry.getValue()));
+            added += entry.getValue().size();
+        }
+        return new ClubSnapshot(version + 1, clubs, lists, slots, totalReports + added, written.plusAll(batch));
+    }
+
+    /**
+     * 지정한 위치의 보고서 목록 키(동아리 이름)를 반환합니다.
+     *
+     * @param slot 보고서 목록 위치
+     * @return 동아리 이름
+     */
+    String nameAt(int slot) {
+        return reportLists.get(slot).name;
+    }
+
+    /**
+     * 지정한 위치의 보고서 목록을 작성 순서대로 반환합니다.
+     *
+     * @param slot 보고서 목록 위치
+     * @return 읽기 전용 보고서 목록
+     */
+    List<ActivityReport> reportsAt(int slot) {
+        return reportLists.get(slot).asList();
+    }
+
+    /**
+     * 지정한 위치의 보고서 목록이 이전 스냅샷과 같은지 확인합니다.
+     *
+     * <p>
+     * 보고서 목록은 바뀔 때마다 새로 만들어지므로 객체가 같은지만 비교합니다.
+     * 다른 불러오기에서 만들어진 스냅샷은 위치가 다를 수 있으므로 다른 것으로 처리합니다.
+     * </p>
+     *
+     * @param previous 이전 스냅샷 (null이면 다른 것으로 처리)
+     * @param slot 보고서 목록 위치
+     * @return 같으면 true
+     */
+    boolean sameReports(ClubSnapshot previous, int slot) {
+        return previous != null && previous.slots == slots && slot < previous.reportLists.size()
+                && previous.reportLists.get(slot) == reportLists.get(slot);
+    }
+
+    /**
+     * 같은 불러오기에서 이어진 스냅샷인지 확인합니다. 같으면 보고서 목록 위치와 작성 보고서 목록이 이어집니다.
+     *
+     * @param other 비교할 스냅샷 (null이면 다른 것으로 처리)
+     * @return 같은 불러오기의 스냅샷이면 true
+     *
+     * @created 2026-10-17
+     */
+    boolean sameLoad(ClubSnapshot other) {
+        return other != null && other.slots == slots;
+    }
+
+    /**
+     * 색인에 넣는 순서대로 보고서 목록들을 반환합니다.
+     *
+     * <p>
+     * 불러온 보고서를 동아리 순서(등록 순)로 먼저 두고, 그 뒤에 작성된 보고서를 발행된 순서로 둡니다.
+     * 이후에 작성되는 보고서는 항상 뒤에 이어지므로, 이 순서로 만든 색인에 {@link #getReportsWrittenSince}의 보고서를
+     * 차례로 추가하면 처음부터 다시 만든 색인과 같아집니다.
+     * </p>
+     *
+     * @return 보고서 목록들
+     *
+     * @created 2026-10-17
+     */
+    List<List<ActivityReport>> getReportsInIndexOrder() {
+        List<List<ActivityReport>> lists = new ArrayList<>(reportLists.size() + 1);
+        for (int i = 0; i < reportLists.size(); i++) {
+            List<ActivityReport> base = reportLists.get(i).base;
+            if (!base.isEmpty()) {
+                lists.add(base);
+            }
+        }
+        lists.add(written.asList());
+        return lists;
+    }
+
+    /**
+     * 이전 스냅샷 이후에 작성된 보고서를 발행된 순서로 반환합니다.
+     *
+     * @param earlier 같은 불러오기의 이전 스냅샷 ({@link #sameLoad})
+     * @return 읽기 전용 보고서 목록
+     *
+     * @created 2026-10-17
+     */
+    List<ActivityReport> getReportsWrittenSince(ClubSnapshot earlier) {
+        return written.asList().subList(earlier.written.size(), written.size());
+    }
+
+    /**
+     * 동아리 목록이 이전 스냅샷과 같은지 확인합니다.
+     *
+     * @param previous 이전 스냅샷 (null이면 다른 것으로 처리)
+     * @return 같으면 true
+     */
+    boolean sameClubs(ClubSnapshot previous) {
+        return previous != null && previous.clubs == clubs;
+    }
+
+    /**
+     * 동아리 이름의 보고서 목록 위치를 반환합니다.
+     *
+     * @param name 동아리 이름 (앞뒤 공백과 정규화 차이는 무시)
+     * @return 위치, 이 스냅샷에 없으면 -1
+     */
+    int slotOf(String name) {
+        Integer slot = slots.get(ClubManager.clubKey(name));
+        return slot == null || slot >= reportLists.size() ? -1 : slot;
+    }
+
+    /**
+     * 스냅샷 버전을 반환합니다. 변경이 발행될 때마다 1씩 증가합니다.
+     *
+     * @return 스냅샷 버전
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 등록 순서의 동아리 목록을 반환합니다.
+     *
+     * @return 읽기 전용 동아리 목록
+     */
+    public List<Club> getClubs() {
+        return clubs.asList();
+    }
+
+    /**
+     * 이름으로 동아리를 찾습니다.
+     *
+     * @param name 동아리 이름
+     * @return 동아리, 없으면 null
+     */
+    public Club findClub(String name) {
+        int slot = slotOf(name);
+        return slot < 0 ? null : reportLists.get(slot).club;
+    }
+
+    /**
+     * 보고서 목록이 있는 동아리 이름을 반환합니다. 동아리 등록 순서이며 이전 데이터의 동아리는 뒤에 옵니다.
+     *
+     * @return 동아리 이름 목록
+     */
+    public List<String> getClubNames() {
+        List<String> names = new ArrayList<>(reportLists.size());
+        for (int i = 0; i < reportLists.size(); i++) {
+            names.add(reportLists.get(i).name);
+        }
+        return names;
+    }
+
+    /**
+     * 보고서 목록 키로 사용하는 동아리 이름을 반환합니다.
+     *
+     * @param name 입력된 동아리 이름
+     * @return 등록 당시의 동아리 이름, 없으면 null
+     */
+    public String resolveName(String name) {
+        int slot = slotOf(name);
+        return slot < 0 ? null : reportLists.get(slot).name;
+    }
+
+    /**
+     * 동아리의 보고서 목록을 작성 순서대로 반환합니다.
+     *
+     * @param name 동아리 이름
+     * @return 읽기 전용 보고서 목록, 동아리가 없으면 null
+     */
+    public List<ActivityReport> getReports(String name) {
+        int slot = slotOf(name);
+        return slot < 0 ? null : reportLists.get(slot).asList();
+    }
+
+    /**
+     * 동아리 이름별 보고서 목록을 반환합니다. 보고서는 복사하지 않습니다.
+     *
+     * @return 동아리 이름 순서(등록 순)를 유지하는 읽기 전용 맵
+     */
+    public Map<String, List<ActivityReport>> getReportMap() {
+        LinkedHashMap<String, List<ActivityReport>> map = new LinkedHashMap<>();
+        for (int i = 0; i < reportLists.size(); i++) {
+            ClubReports list = reportLists.get(i);
+            map.putIfAbsent(list.name, list.asList());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 보고서 목록이 있는 동아리 수를 반환합니다.
+     *
+     * @return 동아리 수
+     */
+    public int getReportListCount() {
+        return reportLists.size();
+    }
+
+    /**
+     * 전체 보고서 수를 반환합니다.
+     *
+     * @return 보고서 수
+     */
+    public int getTotalReports() {
+        return totalReports;
+    }
+
+    /**
+     * 한 동아리의 보고서 목록입니다.
+     *
+     * <p>
+     * 불러온 보고서(base)는 그대로 두고 이후 작성된 보고서만 영속 벡터에 추가하므로,
+     * 지연 로딩된 보고서도 디코딩하지 않고 공유합니다.
+     * </p>
+     */
+    private static final class ClubReports {
+        final String name; // 보고서 맵의 키
+        final Club club; // 등록된 동아리 (이전 데이터의 보고서만 있으면 null)
+        final List<ActivityReport> base; // 불러온 보고서 (변경하지 않음)
+        final PersistentVector<ActivityReport> added; // 불러온 뒤 작성된 보고서
+
+        ClubReports(String name, Club club, List<ActivityReport> base, PersistentVector<ActivityReport> added) {
+            this.name = name;
+            this.club = club;
+            this.base = base;
+            this.added = added;
+        }
+
+        ClubReports plus(ActivityReport report) {
+            return new ClubReports(name, club, base, added.plus(report));
+        }
+
+        ClubReports plusAll(Collection<ActivityReport> reports) {
+            return new ClubReports(name, club, base, added.plusAll(reports));
+        }
+
+        List<ActivityReport> asList() {
+            return new ReportListView(base, added);
+        }
+    }
+
+    /**
+     * 불러온 보고서와 작성된 보고서를 이어 보여주는 읽기 전용 리스트입니다.
+     *
+     * <p>
+     * 위치로 조회한 지연 로딩 보고서는 {@link MappedReportList}가 보관하지만, 반복자는 불러온 리스트의 반복자를 사용하므로
+     * 저장하거나 전체 출력하면서 한 번 훑을 때는 보관하지 않습니다.
+     * </p>
+     */
+    private static final class ReportListView extends AbstractList<ActivityReport> implements RandomAccess {
+        private final List<ActivityReport> base;
+        private final int baseSize;
+        private final PersistentVector<ActivityReport> added;
+        private final int size;
+
+        ReportListView(List<ActivityReport> base, PersistentVector<ActivityReport> added) {
+            this.base = base;
+            this.baseSize = base.size();
+            this.added = added;
+            this.size = baseSize + added.size();
+        }
+
+        @Override
+        public ActivityReport get(int index) {
+            Objects.checkIndex(index, size);
+            return index < baseSize ? base.get(index) : added.get(index - baseSize);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<ActivityReport> iterator() {
+            return new Iterator<>() {
+                private final Iterator<ActivityReport> baseIterator = base.iterator();
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public ActivityReport next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++ < baseSize ? baseIterator.next() : added.get(next - 1 - baseSize);
+                }
+            };
+        }
+    }
+}
\ No newline at end of file
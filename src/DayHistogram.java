@@ -0,0 +1,171 @@
+/**
+ * 날짜(epoch day)별 보고서 수를 누적합으로 관리하는 펜윅 트리(Fenwick tree) 클래스입니다.
+ *
+ * <p>
+ * 보고서를 추가할 때 해당 날짜의 카운터를 O(log d)로 갱신하고, 두 날짜 사이의 보고서 수를
+ * 누적합 두 번의 차로 O(log d)에 구합니다. 여기서 d는 가장 이른 날짜와 가장 늦은 날짜 사이의 일 수이며,
+ * 조회할 때 객체를 만들지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 범위 밖의 날짜가 들어오면 크기를 두 배씩 늘려 앞이나 뒤로 넓히고 트리를 O(d)에 다시 만듭니다.
+ * 동기화하지 않으므로 호출자가 잠금으로 보호해야 합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.1
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 복사본을 만드는 copy 추가 (한승규)</li>
+ * </ul>
+ */
+public class DayHistogram {
+    private static final int INITIAL_CAPACITY = 64; // 처음 만들 때 담을 일 수
+
+    private int[] tree = new int[1]; // 1부터 시작하는 펜윅 트리, tree[i]는 origin + i - 1일까지의 부분 합
+    private int origin; // 트리의 첫 칸에 해당하는 epoch day
+    private long total; // 전체 보고서 수
+
+    /**
+     * 지정한 날짜의 보고서 수를 1 늘립니다.
+     *
+     * @param day epoch day
+     */
+    public void add(int day) {
+        ensureCovers(day);
+        int n = tree.length - 1;
+        for (int i = day - origin + 1; i <= n; i += i & -i) {
+            tree[i]++;
+        }
+        total++;
+    }
+
+    /**
+     * 같은 개수를 담은 복사본을 만듭니다. 복사본을 바꿔도 원본은 바뀌지 않습니다.
+     *
+     * @return 복사본
+     *
+     * @created 2026-10-17
+     */
+    public DayHistogram copy() {
+        DayHistogram copy = new DayHistogram();
+        copy.tree = tree.clone();
+        copy.origin = origin;
+        copy.total = total;
+        return copy;
+    }
+
+    /**
+     * 두 날짜 사이(양 끝 포함)의 보고서 수를 반환합니다.
+     *
+     * @param startDay 시작 epoch day
+     * @param endDay 종료 epoch day
+     * @return 보고서 수, 시작이 종료보다 늦으면 0
+     */
+    public long count(int startDay, int endDay) {
+        if (startDay > endDay) {
+            return 0;
+        }
+        return prefix(endDay) - prefix(startDay - 1);
+    }
+
+    /**
+     * 지정한 날짜의 보고서 수를 반환합니다.
+     *
+     * @param day epoch day
+     * @return 보고서 수
+     */
+    public long count(int day) {
+        return count(day, day);
+    }
+
+    /**
+     * 전체 보고서 수를 반환합니다.
+     *
+     * @return 보고서 수
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * day 이하인 날짜의 보고서 수를 반환합니다.
+     */
+    private long prefix(int day) {
+        int n = tree.length - 1;
+        if ((long) day - origin < 0) {
+            return 0;
+        }
+        if ((long) day - origin >= n) {
+            return total;
+        }
+        long sum = 0;
+        for (int i = day - origin + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 날짜가 트리 범위에 들도록 넓힙니다.
+     */
+    private void ensureCovers(int day) {
+        int n = tree.length - 1;
+        if (n == 0) {
+            tree = new int[INITIAL_CAPACITY + 1];
+            origin = day - INITIAL_CAPACITY / 2;
+            return;
+        }
+        if (day >= origin && day - origin < n) {
+            return;
+        }
+        long low = Math.min(origin, day);
+        long high = Math.max((long) origin + n - 1, day);
+        int capacity = n;
+        while (capacity < high - low + 1) {
+            capacity *= 2;
+        }
+        // 넓히는 방향에 여유를 둠
+        int newOrigin = day < origin ? (int) (high - capacity + 1) : origin;
+        int[] counts = toCounts();
+        int[] grown = new int[capacity + 1];
+        System.arraycopy(counts, 1, grown, origin - newOrigin + 1, n);
+        build(grown);
+        tree = grown;
+        origin = newOrigin;
+    }
+
+    /**
+     * 트리를 날짜별 개수 배열로 되돌립니다. O(d)
+     */
+    private int[] toCounts() {
+        int[] counts = tree.clone();
+        int n = counts.length - 1;
+        for (int i = n; i > 0; i--) {
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                counts[parent] -= counts[i];
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 날짜별 개수 배열을 제자리에서 트리로 바꿉니다. O(d)
+     */
+    private static void build(int[] values) {
+        int n = values.length - 1;
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                values[parent] += values[i];
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연 시간(나노초)을 잠금 없이 기록하는 로그-선형(HDR 방식) 히스토그램 클래스입니다.
+ *
+ * <p>
+ * 값의 최상위 비트 위치로 구간을 나누고, 각 구간을 다시 {@value #SUB_BUCKETS}개의 같은 폭으로 나누므로
+ * 모든 값이 약 3% 이내의 상대 오차로 기록됩니다. 칸 수가 고정되어 있어 기록할 때 메모리를 할당하지 않으며,
+ * 기록은 배열 칸 하나의 원자적 증가로 끝나므로 여러 스레드가 동시에 기록해도 서로 막지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 백분위수는 칸 배열을 한 번 훑어 구하며, 기록과 동시에 읽으면 읽는 도중 기록된 값은 포함되지 않을 수 있습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // 구간 하나를 나누는 칸 수
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS; // long 전체 범위를 담는 칸 수
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 값 하나를 기록합니다. 음수는 0으로 기록합니다.
+     *
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long previous = max.get();
+        while (value > previous && !max.compareAndSet(previous, value)) {
+            previous = max.get();
+        }
+    }
+
+    /**
+     * 기록된 값의 수를 반환합니다.
+     *
+     * @return 기록 수
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 기록된 값의 합을 반환합니다.
+     *
+     * @return 합 (나노초)
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * 기록된 값의 평균을 반환합니다.
+     *
+     * @return 평균 (나노초), 기록이 없으면 0
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * 기록된 가장 큰 값을 반환합니다.
+     *
+     * @return 최댓값 (나노초)
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 백분위수 값을 반환합니다. 해당 값이 속한 칸의 상한을 반환하므로 실제 값보다 약간 클 수 있습니다.
+     *
+     * @param percentile 백분위 (0~100)
+     * @return 백분위수 (나노초), 기록이 없으면 0
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 기록을 모두 지웁니다. 지우는 도중 기록된 값은 일부만 남을 수 있습니다.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * 값이 기록될 칸의 번호를 반환합니다.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS; // 칸 안에서 버려지는 하위 비트 수
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * 칸에 기록되는 가장 큰 값을 반환합니다.
+     */
+    static long highestValueAt(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * 이전 Java 직렬화 형식의 데이터 파일을 읽고 바이너리 형식으로 변환하는 클래스입니다.
+ *
+ * <p>
+ * {@link ClubManager}는 불러올 때 파일 형식을 확인하여 이전 형식이면 이 클래스로 읽고,
+ * 다음 저장부터 {@link ClubDataCodec} 형식으로 기록합니다.
+ * 저장을 기다리지 않고 한 번에 변환하려면 이 클래스를 직접 실행합니다.
+ * </p>
+ *
+ * <pre>
+ * java LegacyDataConverter [clubs.dat] [reports.dat]
+ * </pre>
+ *
+ * <p>
+ * 이전 형식은 하나의 객체 그래프로 기록되어 있어 읽을 때는 전체를 역직렬화해야 하지만,
+ * 기록은 동아리별로 순서대로 내보내므로 변환 중 추가 복사본을 만들지 않습니다.
+ * 원본 파일은 .bak 확장자로 보관합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class LegacyDataConverter {
+
+    private LegacyDataConverter() {
+    }
+
+    /**
+     * 변환기의 진입점 메소드입니다.
+     *
+     * @param args 동아리 파일과 보고서 파일 경로 (생략 시 clubs.dat, reports.dat)
+     */
+    public static void main(String[] args) {
+        Path clubsFile = Paths.get(args.length > 0 ? args[0] : "clubs.dat");
+        Path reportsFile = Paths.get(args.length > 1 ? args[1] : "reports.dat");
+        try {
+            convert(clubsFile, reportsFile);
+        } catch (IOException | ClassNotFoundException e) {
+            System.err.println("데이터 변환 중 오류가 발생했습니다: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 두 데이터 파일을 바이너리 형식으로 변환합니다. 이미 변환된 파일은 건너뜁니다.
+     *
+     * @param clubsFile 동아리 데이터 파일
+     * @param reportsFile 보고서 데이터 파일
+     * @throws IOException 읽기 또는 쓰기 중 오류가 발생한 경우
+     * @throws ClassNotFoundException 직렬화된 클래스를 찾을 수 없는 경우
+     */
+    public static void convert(Path clubsFile, Path reportsFile) throws IOException, ClassNotFoundException {
+        if (Files.exists(clubsFile) && !ClubDataCodec.isBinaryFormat(clubsFile)) {
+            ClubDataCodec.Result<List<Club>> clubs = readClubs(clubsFile);
+            Path temp = clubsFile.resolveSibling(clubsFile.getFileName() + ".tmp");
+            ClubDataCodec.writeClubs(temp, clubs.getData(), clubs.getLsn());
+            replaceWithBackup(clubsFile, temp);
+            System.out.println("동아리 " + clubs.getData().size() + "개를 변환했습니다: " + clubsFile);
+        }
+        if (Files.exists(reportsFile) && !ClubDataCodec.isBinaryFormat(reportsFile)) {
+            ClubDataCodec.Result<HashMap<String, List<ActivityReport>>> reports = readReports(reportsFile);
+            Path temp = reportsFile.resolveSibling(reportsFile.getFileName() + ".tmp");
+            ClubDataCodec.writeReports(temp, reports.getData(), reports.getLsn());
+            replaceWithBackup(reportsFile, temp);
+            System.out.println("동아리 " + reports.getData().size() + "개의 보고서를 변환했습니다: " + reportsFile);
+        }
+    }
+
+    /**
+     * 이전 형식의 동아리 파일을 읽습니다.
+     *
+     * @param file 읽을 파일
+     * @return 동아리 목록과 파일 끝에 기록된 저널 LSN (없으면 0)
+     * @throws IOException 읽기 중 오류가 발생한 경우
+     * @throws ClassNotFoundException 직렬화된 클래스를 찾을 수 없는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public static ClubDataCodec.Result<List<Club>> readClubs(Path file) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            List<Club> clubs = (List<Club>) in.readObject();
+            return new ClubDataCodec.Result<>(clubs, readTrailingLsn(in));
+        }
+    }
+
+    /**
+     * 이전 형식의 보고서 파일을 읽습니다.
+     *
+     * <p>
+     * 동아리별 HashMap으로 저장된 파일과, 그보다 이전에 하나의 리스트로 저장된 파일을 모두 읽습니다.
+     * 리스트 형식은 보고서의 동아리 이름으로 묶어서 반환합니다.
+     * </p>
+     *
+     * @param file 읽을 파일
+     * @return 동아리 이름별 보고서 목록과 파일 끝에 기록된 저널 LSN (없으면 0)
+     * @throws IOException 읽기 중 오류가 발생한 경우
+     * @throws ClassNotFoundException 직렬화된 클래스를 찾을 수 없는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public static ClubDataCodec.Result<HashMap<String, List<ActivityReport>>> readReports(Path file)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            Object data = in.readObject();
+            HashMap<String, List<ActivityReport>> reports;
+            if (data instanceof List) {
+                reports = new HashMap<>();
+                for (ActivityReport report : (List<ActivityReport>) data) {
+                    reports.computeIfAbsent(report.getClubName(), k -> new ArrayList<>()).add(report);
+                }
+            } else {
+                reports = (HashMap<String, List<ActivityReport>>) data;
+            }
+            return new ClubDataCodec.Result<>(reports, readTrailingLsn(in));
+        }
+    }
+
+    /**
+     * 저널 모드 도입 이후의 직렬화 파일 끝에 기록된 LSN을 읽습니다. 그 이전 파일에는 없으므로 0을 반환합니다.
+     */
+    private static long readTrailingLsn(ObjectInputStream in) throws IOException {
+        try {
+            return in.readLong();
+        } catch (EOFException e) {
+            return 0;
+        }
+    }
+
+    private static void replaceWithBackup(Path original, Path converted) throws IOException {
+        Path backup = original.resolveSibling(original.getFileName() + ".bak");
+        Files.copy(original, backup, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(converted, original, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
\ No newline at end of file
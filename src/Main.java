@@ -11,11 +11,11 @@ import javax.swing.SwingUtilities;
  * </p>
  *
  * @author 한승규
- * @version 1.4.0
+ * @version 1.11.1
  * @since 2024-12-04
  *
  * @created 2024-12-04
- * @lastModified 2024-12-22
+ * @lastModified 2026-10-17
  *
  * @changelog
  * <ul>
@@ -24,11 +24,23 @@ import javax.swing.SwingUtilities;
  *   <li>2024-12-08: 프로그램 시작 및 종료 시 데이터 자동 저장/불러오기 추가 (한승규)</li>
  *   <li>2024-12-15: Swing GUI 통합 및 SwingUtilities 활용 (한승규)</li>
  *   <li>2024-12-22: 활동 보고서 작성 기능 개선 및 날짜 입력 지원 추가 (한승규)</li>
+ *   <li>2026-10-17: --journal 옵션으로 저널 모드 실행 지원 (한승규)</li>
+ *   <li>2026-10-17: --lazy 옵션으로 지연 로딩 지원 (한승규)</li>
+ *   <li>2026-10-17: import 명령으로 CSV/JSON Lines 파일 가져오기 지원 (한승규)</li>
+ *   <li>2026-10-17: 활동 보고서를 페이지 단위로 출력 (한승규)</li>
+ *   <li>2026-10-17: --metrics 옵션으로 실행 지표 수집 및 JMX 공개 지원 (한승규)</li>
+ *   <li>2026-10-17: 백그라운드 자동 저장 지원 (한승규)</li>
+ *   <li>2026-10-17: --column-store 옵션으로 보고서 열 저장소 사용 지원 (한승규)</li>
+ *   <li>2026-10-17: --metrics 사용 시 결과 캐시 적중률도 JMX로 공개 (한승규)</li>
+ *   <li>2026-10-17: 저장 및 불러오기 오류를 콘솔에 출력 (한승규)</li>
  * </ul>
  */
 public class Main {
     private static final Scanner scanner = new Scanner(System.in); // 사용자 입력용 스캐너
     private static final ClubManager clubManager = new ClubManager(); // 동아리 관리 객체
+    private static final int REPORT_PAGE_SIZE = 20; // 한 번에 출력할 활동 보고서 수
+    private static final long DEFAULT_AUTOSAVE_DELAY_MILLIS = 5000; // 변경 후 자동 저장까지 최대 대기 시간
+    private static final int DEFAULT_AUTOSAVE_OPERATIONS = 1000; // 바로 자동 저장할 저장되지 않은 변경 수
 
     /**
      * 프로그램의 진입점 메소드입니다.
@@ -36,12 +48,21 @@ public class Main {
      * <p>
      * 프로그램 시작 시 데이터를 불러오고, Swing GUI를 실행합니다. 종료 시 데이터를 저장합니다.
      * 메인 메뉴를 통해 사용자 입력에 따라 동작을 수행합니다.
+     * {@code --journal} 옵션을 주면 변경 내역을 저널에 즉시 기록하는 저널 모드로 실행하고,
+     * {@code --lazy} 옵션을 주면 보고서를 필요할 때만 읽는 지연 로딩으로 실행합니다.
+     * {@code --column-store} 옵션을 주면 날짜 검색과 통계를 보고서 열 저장소로 수행합니다.
+     * {@code --metrics} 옵션을 주면 작업별 실행 지표를 모아 JMX로 공개하고,
+     * {@code --metrics-log=초}를 함께 주면 지표 요약을 해당 주기마다 출력합니다.
+     * 대화형 실행에서는 변경 후 {@code --autosave-delay=밀리초}(기본 5000) 안에, 또는 저장되지 않은 변경이
+     * {@code --autosave-ops=개수}(기본 1000)에 이르면 백그라운드에서 자동 저장하며, {@code --no-autosave}로 끌 수 있습니다.
+     * 첫 번째 인자가 {@code import}이면 GUI 없이 파일을 가져온 뒤 저장하고 종료합니다.
+     * ({@code java Main import <파일> [--format=csv|jsonl] [--journal] [--lazy]})
      * </p>
      *
      * @param args 명령행 인자를 전달받는 배열
      *
      * @created 2024-12-04
-     * @lastModified 2024-12-22
+     * @lastModified 2026-10-17
      *
      * @changelog
      * <ul>
@@ -49,11 +70,48 @@ public class Main {
      *   <li>2024-12-08: 데이터 자동 저장 및 불러오기 추가 (한승규)</li>
      *   <li>2024-12-15: Swing GUI 통합 및 실행 (한승규)</li>
      *   <li>2024-12-22: 활동 보고서 작성 기능 개선 (한승규)</li>
+     *   <li>2026-10-17: 저널 모드 옵션 추가 (한승규)</li>
+     *   <li>2026-10-17: 지연 로딩 옵션 추가 (한승규)</li>
+     *   <li>2026-10-17: import 명령 추가 (한승규)</li>
+     *   <li>2026-10-17: 실행 지표 옵션 추가 (한승규)</li>
+     *   <li>2026-10-17: 자동 저장 옵션 추가 (한승규)</li>
+     *   <li>2026-10-17: 열 저장소 옵션 추가 (한승규)</li>
      * </ul>
      */
     public static void main(String[] args) {
+        java.util.List<String> options = java.util.Arrays.asList(args);
+        if (options.contains("--journal")) {
+            clubManager.enableJournal(); // 데이터 불러오기 전에 저널 활성화
+        }
+        if (options.contains("--lazy")) {
+            clubManager.setLazyLoading(true); // 보고서 파일을 매핑하여 필요할 때만 읽음
+        }
+        if (options.contains("--column-store")) {
+            clubManager.setColumnStore(true); // 날짜 검색과 통계를 열 단위로 훑음
+        }
+        long autosaveDelay = DEFAULT_AUTOSAVE_DELAY_MILLIS;
+        int autosaveOperations = DEFAULT_AUTOSAVE_OPERATIONS;
+        for (String option : args) {
+            if (option.equals("--metrics")) {
+                enableMetrics();
+            } else if (option.startsWith("--metrics-log=")) {
+                enableMetrics();
+                clubManager.getMetrics().startLogging(Long.parseLong(option.substring("--metrics-log=".length())));
+            } else if (option.startsWith("--autosave-delay=")) {
+                autosaveDelay = Long.parseLong(option.substring("--autosave-delay=".length()));
+            } else if (option.startsWith("--autosave-ops=")) {
+                autosaveOperations = Integer.parseInt(option.substring("--autosave-ops=".length()));
+            }
+        }
+        if (args.length > 0 && args[0].equals("import")) {
+            importFile(args); // GUI 없이 가져오기만 수행
+            return;
+        }
         SwingUtilities.invokeLater(() -> new ClubManagementGUI(clubManager)); // GUI 실행
-        clubManager.loadData(); // 프로그램 시작 시 데이터 불러오기
+        load(); // 프로그램 시작 시 데이터 불러오기
+        if (!options.contains("--no-autosave")) {
+            clubManager.enableAutosave(autosaveDelay, autosaveOperations); // 창을 닫아 종료해도 종료 훅이 저장
+        }
         boolean isRunning = true;
 
         System.out.println("==== 동아리 관리 프로그램 ====");
@@ -78,10 +136,67 @@ public class Main {
                 default -> System.out.println("잘못된 선택입니다. 다시 입력해주세요.");
             }
         }
-        clubManager.saveData(); // 프로그램 종료 시 데이터 저장
+        save(); // 프로그램 종료 시 데이터 저장
+        clubManager.shutdown(); // 저널 종료
         scanner.close(); // 스캐너 종료
     }
 
+    /**
+     * 실행 지표 수집을 켜고 결과 캐시와 함께 JMX에 등록합니다.
+     *
+     * @created 2026-10-17
+     */
+    private static void enableMetrics() {
+        ClubManagerMetrics metrics = clubManager.getMetrics();
+        if (metrics.isEnabled()) {
+            return;
+        }
+        metrics.setEnabled(true);
+        try {
+            metrics.register();
+            clubManager.getQueryCache().register();
+        } catch (javax.management.JMException e) {
+            System.err.println("실행 지표를 JMX에 등록할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 명령행으로 지정한 파일을 가져오고 데이터를 저장합니다.
+     *
+     * <p>
+     * 형식은 {@code --format=csv} 또는 {@code --format=jsonl}로 지정하며, 생략하면 파일 확장자로 정합니다.
+     * </p>
+     *
+     * @param args 명령행 인자 ({@code import <파일> [옵션]})
+     *
+     * @created 2026-10-17
+     */
+    private static void importFile(String[] args) {
+        if (args.length < 2 || args[1].startsWith("--")) {
+            System.err.println("사용법: java Main import <파일> [--format=csv|jsonl] [--journal] [--lazy]");
+            return;
+        }
+        java.nio.file.Path file = java.nio.file.Paths.get(args[1]);
+        ReportImporter.Format format = ReportImporter.Format.of(file);
+        for (String option : args) {
+            if (option.equals("--format=csv")) {
+                format = ReportImporter.Format.CSV;
+            } else if (option.equals("--format=jsonl")) {
+                format = ReportImporter.Format.JSON_LINES;
+            }
+        }
+        try {
+            clubManager.loadData();
+            ReportImporter.Summary summary = new ReportImporter(clubManager).importFile(file, format);
+            System.out.println(summary);
+            clubManager.saveData();
+        } catch (java.io.IOException e) {
+            System.err.println("파일을 가져오는 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            clubManager.shutdown();
+        }
+    }
+
     /**
      * 메인 메뉴를 출력합니다.
      */
@@ -189,12 +304,31 @@ public class Main {
      *
      * <p>
      * 작성된 활동 보고서를 ClubManager를 통해 출력합니다.
+     * 전체 목록을 하나의 문자열로 만들지 않고 {@value #REPORT_PAGE_SIZE}건씩 버퍼를 거쳐 출력하며,
+     * 페이지마다 계속 볼지 묻습니다. 모든 페이지는 조회를 시작한 시점의 스냅샷을 기준으로 합니다.
      * </p>
      */
     private static void viewReports() {
         System.out.println("[활동 보고서 조회]");
-        String reports = clubManager.viewReportsAsString();
-        System.out.println(reports);
+        ClubSnapshot snapshot = clubManager.snapshot();
+        java.io.Writer out = new java.io.BufferedWriter(new java.io.OutputStreamWriter(System.out));
+        try {
+            for (int offset = 0; ; offset += REPORT_PAGE_SIZE) {
+                int written = clubManager.writeReports(snapshot, out, offset, REPORT_PAGE_SIZE);
+                out.write(System.lineSeparator());
+                out.flush();
+                if (offset + written >= snapshot.getTotalReports()) {
+                    break;
+                }
+                System.out.printf("%,d / %,d건 - 다음 페이지는 Enter, 그만 보려면 q: ",
+                        offset + written, snapshot.getTotalReports());
+                if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                    break;
+                }
+            }
+        } catch (java.io.IOException e) {
+            System.err.println("보고서를 출력하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
     }
 
     /**
@@ -206,7 +340,7 @@ public class Main {
      */
     private static void saveData() {
         System.out.println("[데이터 저장]");
-        clubManager.saveData();
+        save();
     }
 
     /**
@@ -218,6 +352,32 @@ public class Main {
      */
     private static void loadData() {
         System.out.println("[데이터 불러오기]");
-        clubManager.loadData();
+        load();
+    }
+
+    /**
+     * 데이터를 저장하고, 오류가 발생하면 콘솔에 출력합니다.
+     *
+     * @created 2026-10-17
+     */
+    private static void save() {
+        try {
+            clubManager.saveData();
+        } catch (java.io.IOException e) {
+            System.err.println("데이터 저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터를 불러오고, 오류가 발생하면 콘솔에 출력합니다.
+     *
+     * @created 2026-10-17
+     */
+    private static void load() {
+        try {
+            clubManager.loadData();
+        } catch (java.io.IOException e) {
+            System.err.println("데이터 불러오기 중 오류가 발생했습니다: " + e.getMessage());
+        }
     }
 }
\ No newline at end of file
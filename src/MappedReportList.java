@@ -0,0 +1,135 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 메모리에 매핑된 보고서 파일에서 필요할 때만 보고서를 만들어 내는 읽기 전용 리스트 클래스입니다.
+ *
+ * <p>
+ * 보고서 수와 각 보고서의 위치는 파일의 색인에서 바로 알 수 있으므로, 리스트를 만들 때는
+ * 보고서를 하나도 디코딩하지 않습니다. {@link #get(int)}로 접근한 보고서는 디코딩 후 위치별 칸에 보관하여
+ * 같은 객체를 다시 돌려줍니다. 칸은 {@link AtomicReferenceArray}이므로 여러 스레드가 잠금 없이 동시에 읽을 수 있으며,
+ * 같은 위치를 동시에 처음 읽으면 먼저 보관된 객체를 함께 돌려줍니다.
+ * </p>
+ *
+ * <p>
+ * 반복자(iterator)는 저장이나 전체 조회처럼 한 번 훑고 지나가는 용도이므로, 이미 보관된 보고서는 그대로 쓰고
+ * 나머지는 보관하지 않고 디코딩만 하여 힙 사용량이 늘지 않도록 합니다. 따라서 반복자가 돌려준 보고서와
+ * {@link #get(int)}이 돌려준 보고서가 같은 객체라는 보장은 없으며, 보고서를 구별할 때는 객체가 아니라 위치를 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 불러온 뒤 작성된 보고서는 {@link ClubSnapshot}이 별도로 이어 붙이므로, 이 리스트는 추가와 삭제를 지원하지 않습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.3
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 반복자도 get과 같은 보관 객체를 돌려주도록 변경 (한승규)</li>
+ *   <li>2026-10-17: 디코딩 오류를 UncheckedIOException으로 전달 (한승규)</li>
+ *   <li>2026-10-17: 위치별 칸을 잠금 없이 보관하고, 반복자는 다시 보관하지 않도록 되돌림, 읽기 전용으로 변경 (한승규)</li>
+ * </ul>
+ */
+public class MappedReportList extends AbstractList<ActivityReport> implements RandomAccess {
+    private final ByteBuffer buffer; // 매핑된 보고서 파일
+    private final String[] dictionary; // 파일의 문자열 사전
+    private final String clubName; // 동아리 이름
+    private final int mappedCount; // 파일에 기록된 보고서 수
+    private final int offsetTable; // 보고서 위치표의 시작 위치
+    private final AtomicReferenceArray<ActivityReport> decoded; // get으로 접근한 보고서 (위치별 칸)
+
+    /**
+     * 매핑된 파일의 한 동아리 구간을 나타내는 리스트를 생성합니다.
+     *
+     * @param buffer 매핑된 보고서 파일
+     * @param dictionary 파일의 문자열 사전
+     * @param clubName 동아리 이름
+     * @param mappedCount 파일에 기록된 보고서 수
+     * @param offsetTable 보고서 위치표의 시작 위치
+     */
+    MappedReportList(ByteBuffer buffer, String[] dictionary, String clubName, int mappedCount, int offsetTable) {
+        this.buffer = buffer;
+        this.dictionary = dictionary;
+        this.clubName = clubName;
+        this.mappedCount = mappedCount;
+        this.offsetTable = offsetTable;
+        this.decoded = new AtomicReferenceArray<>(mappedCount);
+    }
+
+    /**
+     * 지정한 위치의 보고서를 반환합니다. 처음 접근할 때 디코딩하여 보관합니다.
+     *
+     * @param index 보고서 위치
+     * @return 활동 보고서
+     */
+    @Override
+    public ActivityReport get(int index) {
+        Objects.checkIndex(index, mappedCount);
+        ActivityReport report = decoded.get(index);
+        if (report == null) {
+            report = decode(index);
+            if (!decoded.compareAndSet(index, null, report)) {
+                report = decoded.get(index); // 다른 스레드가 먼저 보관한 객체를 사용
+            }
+        }
+        return report;
+    }
+
+    /**
+     * 보고서 수를 반환합니다. 파일의 색인 값을 사용하므로 디코딩하지 않습니다.
+     *
+     * @return 보고서 수
+     */
+    @Override
+    public int size() {
+        return mappedCount;
+    }
+
+    /**
+     * 순서대로 디코딩하는 반복자를 반환합니다. 이미 보관된 보고서는 그대로 쓰고, 새로 디코딩한 보고서는 보관하지 않습니다.
+     *
+     * @return 보고서 반복자
+     */
+    @Override
+    public Iterator<ActivityReport> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < mappedCount;
+            }
+
+            @Override
+            public ActivityReport next() {
+                if (next >= mappedCount) {
+                    throw new NoSuchElementException();
+                }
+                ActivityReport report = decoded.get(next);
+                if (report == null) {
+                    report = decode(next);
+                }
+                next++;
+                return report;
+            }
+        };
+    }
+
+    private ActivityReport decode(int index) {
+        int offset = buffer.getInt(offsetTable + index * 4);
+        try {
+            return ClubDataCodec.decodeReport(buffer, offset, dictionary, clubName);
+        } catch (IOException e) { // 매핑할 때 확인했으므로 파일이 그 뒤에 바뀐 경우에만 발생
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
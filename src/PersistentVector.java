@@ -0,0 +1,216 @@
+import java.util.*;
+
+/**
+ * 변경할 때마다 새 객체를 반환하는 영속(persistent) 벡터 클래스입니다.
+ *
+ * <p>
+ * 원소를 32개씩 묶은 트리와 마지막 32개를 담는 꼬리 배열로 구성됩니다.
+ * 추가와 변경은 바뀌는 경로의 노드만 복사하고 나머지 노드는 이전 벡터와 공유하므로
+ * O(log32 n)의 비용으로 새 버전을 만들며, 이전 버전은 그대로 유지됩니다.
+ * 한 번 만들어진 벡터는 바뀌지 않으므로 잠금 없이 여러 스레드에서 읽을 수 있습니다.
+ * </p>
+ *
+ * @param <E> 원소 타입
+ *
+ * @author 한승규
+ * @version 1.1
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 일괄 추가 plusAll 추가 (한승규)</li>
+ * </ul>
+ */
+public final class PersistentVector<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, new Object[0], new Object[0]);
+
+    private final int size; // 원소 수
+    private final int shift; // 루트 노드의 단계 (BITS의 배수)
+    private final Object[] root; // 꼬리를 제외한 원소 트리
+    private final Object[] tail; // 마지막 원소 묶음
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * 빈 벡터를 반환합니다.
+     *
+     * @param <E> 원소 타입
+     * @return 빈 벡터
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * 원소 수를 반환합니다.
+     *
+     * @return 원소 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 지정한 위치의 원소를 반환합니다.
+     *
+     * @param index 위치
+     * @return 원소
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * 끝에 원소를 추가한 새 벡터를 반환합니다.
+     *
+     * @param element 추가할 원소
+     * @return 원소가 추가된 벡터
+     */
+    public PersistentVector<E> plus(E element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // 꼬리가 가득 찼으면 트리로 옮기고 새 꼬리를 시작
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[]{root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * 끝에 여러 원소를 추가한 새 벡터를 반환합니다.
+     *
+     * <p>
+     * 꼬리 배열을 원소마다 복사하지 않고 32개 단위로 한 번에 채우므로, 원소를 하나씩 추가하는 것보다 복사량이 적습니다.
+     * </p>
+     *
+     * @param elements 추가할 원소
+     * @return 원소가 추가된 벡터
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentVector<E> plusAll(Collection<? extends E> elements) {
+        Object[] items = elements.toArray();
+        PersistentVector<E> vector = this;
+        int next = 0;
+        while (next < items.length) {
+            int room = WIDTH - (vector.size - vector.tailOffset());
+            if (room == 0) {
+                vector = vector.plus((E) items[next++]); // 가득 찬 꼬리를 트리로 옮김
+                continue;
+            }
+            int count = Math.min(room, items.length - next);
+            Object[] newTail = Arrays.copyOf(vector.tail, vector.tail.length + count);
+            System.arraycopy(items, next, newTail, vector.tail.length, count);
+            vector = new PersistentVector<>(vector.size + count, vector.shift, vector.root, newTail);
+            next += count;
+        }
+        return vector;
+    }
+
+    /**
+     * 지정한 위치의 원소를 바꾼 새 벡터를 반환합니다.
+     *
+     * @param index 위치
+     * @param element 새 원소
+     * @return 원소가 바뀐 벡터
+     */
+    public PersistentVector<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, replace(shift, root, index, element), tail);
+    }
+
+    /**
+     * 이 벡터를 읽기 전용 리스트로 반환합니다. 원소를 복사하지 않습니다.
+     *
+     * @return 읽기 전용 리스트
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] copy = Arrays.copyOf(parent, Math.max(parent.length, child + 1));
+        if (level == BITS) {
+            copy[child] = tailNode;
+        } else if (child < parent.length) {
+            copy[child] = pushTail(level - BITS, (Object[]) parent[child], tailNode);
+        } else {
+            copy[child] = newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        return level == 0 ? node : new Object[]{newPath(level - BITS, node)};
+    }
+
+    private static Object[] replace(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = replace(level - BITS, (Object[]) node[child], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * 벡터의 읽기 전용 리스트 보기입니다.
+     */
+    private final class ListView extends AbstractList<E> implements RandomAccess {
+        @Override
+        public E get(int index) {
+            return PersistentVector.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,417 @@
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 검색과 통계 조회 결과를 보관하는 크기 제한 LRU 캐시입니다.
+ *
+ * <p>
+ * 통계 창과 검색 창은 같은 학기 기간처럼 같은 조회를 반복하므로, 정규화한 조회 문자열({@link #key})을 키로
+ * 결과를 보관합니다. 결과 수와 결과 보고서 수의 합(무게)이 모두 제한을 넘지 않도록 가장 오래 쓰지 않은 결과부터 내보냅니다.
+ * </p>
+ *
+ * <p>
+ * 결과마다 범위(동아리 하나 또는 전체, 날짜 구간 또는 전체)를 함께 기록하고, 보고서가 추가되면 그 보고서를
+ * 포함할 수 있는 결과만 버립니다. 예를 들어 한 동아리에 오늘 날짜의 보고서가 추가되어도 다른 동아리의 결과나
+ * 지난 학기 기간의 결과는 그대로 남습니다. 날짜를 해석할 수 없는 보고서는 문자열로 기간을 비교하므로
+ * 날짜 구간이 있는 결과도 모두 버립니다.
+ * 결과는 동아리별 묶음과 전체 동아리 묶음으로 나누어 두므로, 보고서가 추가되면 그 동아리의 묶음과
+ * 전체 동아리 묶음만 확인하고 다른 동아리의 결과는 살펴보지 않습니다.
+ * 키워드 검색이나 작성자별 개수처럼 전체 동아리에 대한 결과는 보관할 때 조건을 함께 넘기면,
+ * 추가된 보고서가 그 조건에 맞을 때만 버립니다.
+ * </p>
+ *
+ * <p>
+ * 동아리별 버전 번호는 보고서가 추가될 때마다 올라갑니다. 조회를 시작할 때 {@link #stamp(String)}로 읽은 버전을
+ * 결과와 함께 넣으면, 조회하는 동안 해당 범위에 보고서가 추가된 결과는 보관하지 않으므로 이전 결과가 남지 않습니다.
+ * 모든 메서드는 여러 스레드에서 호출해도 안전합니다.
+ * </p>
+ *
+ * <p>
+ * 캐시는 기본으로 켜져 있으며, {@link #setEnabled(boolean)}로 끄면 조회가 매번 색인을 읽습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.1
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 결과를 동아리별로 묶어 무효화할 때 관련 묶음만 확인하고, 결과별 조건으로 무관한 전체 동아리 결과는 유지 (한승규)</li>
+ * </ul>
+ */
+public class QueryCache implements QueryCacheMXBean {
+    /** JMX에 등록할 때 사용하는 이름 */
+    public static final String OBJECT_NAME = "ClubManagement:type=QueryCache";
+    /** 기본 최대 결과 수 */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+    /** 기본 최대 무게 (보관하는 결과 보고서 수의 합) */
+    public static final long DEFAULT_MAX_WEIGHT = 1_000_000;
+
+    /** 날짜 구간이 없는 결과(모든 날짜)의 시작 값 */
+    public static final int ANY_DAY_START = Integer.MIN_VALUE;
+    /** 날짜 구간이 없는 결과(모든 날짜)의 끝 값 */
+    public static final int ANY_DAY_END = Integer.MAX_VALUE;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // 사용 순서
+    private final HashMap<String, Set<Entry>> clubEntries = new HashMap<>(); // 동아리별 결과
+    private final Set<Entry> allClubEntries = new HashSet<>(); // 전체 동아리에 대한 결과
+    private final HashMap<String, Long> clubVersions = new HashMap<>(); // 동아리별 마지막 변경 버전
+    private long version; // 변경마다 올라가는 전체 버전
+    private long clearedVersion; // 마지막으로 모두 버린 버전
+    private long weight;
+    private long evictions;
+    private long invalidations;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean enabled = true;
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param maxEntries 최대 결과 수
+     * @param maxWeight 최대 무게 (결과 보고서 수의 합)
+     */
+    public QueryCache(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * 조회 이름과 인자로 캐시 키를 만듭니다. 인자마다 길이를 붙이므로 서로 다른 인자가 같은 키가 되지 않습니다.
+     *
+     * @param operation 조회 이름
+     * @param parts 정규화한 조회 인자 (null 가능)
+     * @return 캐시 키
+     */
+    public static String key(String operation, Object... parts) {
+        StringBuilder key = new StringBuilder(operation);
+        for (Object part : parts) {
+            if (part == null) {
+                key.append("|-");
+            } else {
+                String text = part.toString();
+                key.append('|').append(text.length()).append(':').append(text);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 보관된 결과를 반환합니다.
+     *
+     * @param key 캐시 키
+     * @return 결과, 없으면 null
+     */
+    public Object get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * 범위의 현재 버전을 반환합니다. 조회를 시작하기 전에 읽어 {@link #put}에 넘깁니다.
+     *
+     * @param clubName 동아리 이름, null이면 전체
+     * @return 버전
+     */
+    public synchronized long stamp(String clubName) {
+        if (clubName == null) {
+            return version;
+        }
+        return Math.max(clubVersions.getOrDefault(clubName, 0L), clearedVersion);
+    }
+
+    /**
+     * 결과를 보관합니다. stamp를 읽은 뒤 범위에 변경이 있었으면 보관하지 않습니다.
+     *
+     * @param key 캐시 키
+     * @param value 결과 (호출자가 더 이상 바꾸지 않아야 함)
+     * @param valueWeight 결과의 무게 (결과 보고서 수, 개수 결과는 1)
+     * @param clubName 결과 범위의 동아리 이름, null이면 전체
+     * @param startDay 결과 범위의 시작 epoch day, 날짜 구간이 없으면 {@link #ANY_DAY_START}
+     * @param endDay 결과 범위의 끝 epoch day, 날짜 구간이 없으면 {@link #ANY_DAY_END}
+     * @param stamp 조회 전에 {@link #stamp(String)}로 읽은 버전
+     */
+    public void put(String key, Object value, long valueWeight, String clubName, int startDay, int endDay, long stamp) {
+        put(key, value, valueWeight, clubName, startDay, endDay, stamp, null);
+    }
+
+    /**
+     * 결과를 보관합니다. 범위 안에 추가된 보고서가 조건에 맞을 때만 결과를 버립니다.
+     *
+     * <p>
+     * 조건은 추가된 보고서가 결과를 바꿀 수 있으면 반드시 true를 반환해야 하며, 캐시 잠금 안에서 호출되므로
+     * 다른 잠금을 잡지 않아야 합니다.
+     * </p>
+     *
+     * @param key 캐시 키
+     * @param value 결과 (호출자가 더 이상 바꾸지 않아야 함)
+     * @param valueWeight 결과의 무게 (결과 보고서 수, 개수 결과는 1)
+     * @param clubName 결과 범위의 동아리 이름, null이면 전체
+     * @param startDay 결과 범위의 시작 epoch day, 날짜 구간이 없으면 {@link #ANY_DAY_START}
+     * @param endDay 결과 범위의 끝 epoch day, 날짜 구간이 없으면 {@link #ANY_DAY_END}
+     * @param stamp 조회 전에 {@link #stamp(String)}로 읽은 버전
+     * @param affectedBy 결과를 바꿀 수 있는 보고서의 조건, null이면 범위 안의 모든 보고서
+     */
+    public synchronized void put(String key, Object value, long valueWeight, String clubName, int startDay, int endDay,
+                                 long stamp, Predicate<ActivityReport> affectedBy) {
+        if (!enabled || stamp != stamp(clubName) || valueWeight > maxWeight) {
+            return;
+        }
+        Entry entry = new Entry(key, value, valueWeight, clubName, startDay, endDay, affectedBy);
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            weight -= previous.weight;
+            bucketOf(previous.clubName).remove(previous);
+        }
+        weight += valueWeight;
+        bucketOf(clubName).add(entry);
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            unlink(evicted);
+            evictions++;
+        }
+    }
+
+    /**
+     * 보고서 하나가 추가되었음을 반영합니다. 호출자는 보고서가 조회에 보이게 된 뒤에 호출해야 합니다.
+     *
+     * @param report 추가된 보고서
+     */
+    public void reportAdded(ActivityReport report) {
+        int day = report.getEpochDay();
+        synchronized (this) {
+            invalidate(report.getClubName(), day, day, Collections.singletonList(report));
+        }
+    }
+
+    /**
+     * 여러 보고서가 추가되었음을 반영합니다. 동아리마다 추가된 날짜의 최소/최대 구간으로 한 번씩 무효화합니다.
+     *
+     * @param reports 추가된 보고서
+     */
+    public void reportsAdded(Collection<ActivityReport> reports) {
+        HashMap<String, int[]> spans = new HashMap<>(); // 동아리별 {최소 day, 최대 day}
+        HashMap<String, List<ActivityReport>> byClub = new HashMap<>();
+        for (ActivityReport report : reports) {
+            int day = report.getEpochDay();
+            int[] span = spans.computeIfAbsent(report.getClubName(), k -> new int[]{day, day});
+            span[0] = Math.min(span[0], day);
+            span[1] = Math.max(span[1], day);
+            byClub.computeIfAbsent(report.getClubName(), k -> new ArrayList<>()).add(report);
+        }
+        synchronized (this) {
+            for (Map.Entry<String, int[]> span : spans.entrySet()) {
+                invalidate(span.getKey(), span.getValue()[0], span.getValue()[1], byClub.get(span.getKey()));
+            }
+        }
+    }
+
+    /**
+     * 동아리 버전을 올리고, 동아리의 결과와 전체 동아리 결과 중 날짜 구간이 겹치고 조건에 맞는 보고서가 있는 결과를 버립니다.
+     * 해석할 수 없는 날짜(INVALID_DAY)가 있으면 날짜와 관계없이 버립니다.
+     */
+    private void invalidate(String clubName, int minDay, int maxDay, List<ActivityReport> added) {
+        version++;
+        clubVersions.put(clubName, version);
+        if (entries.isEmpty()) {
+            return;
+        }
+        boolean anyDay = minDay == ReportDateIndex.INVALID_DAY;
+        Set<Entry> clubBucket = clubEntries.get(clubName);
+        if (clubBucket != null) {
+            invalidate(clubBucket, minDay, maxDay, anyDay, added);
+            if (clubBucket.isEmpty()) {
+                clubEntries.remove(clubName);
+            }
+        }
+        invalidate(allClubEntries, minDay, maxDay, anyDay, added);
+    }
+
+    private void invalidate(Set<Entry> bucket, int minDay, int maxDay, boolean anyDay, List<ActivityReport> added) {
+        Iterator<Entry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if ((anyDay || (entry.startDay <= maxDay && minDay <= entry.endDay)) && entry.isAffectedBy(added)) {
+                iterator.remove();
+                entries.remove(entry.key);
+                weight -= entry.weight;
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * 결과가 속한 묶음을 반환합니다. 동아리 묶음이 없으면 만듭니다.
+     */
+    private Set<Entry> bucketOf(String clubName) {
+        return clubName == null ? allClubEntries : clubEntries.computeIfAbsent(clubName, k -> new HashSet<>());
+    }
+
+    /**
+     * 내보낸 결과를 묶음에서 뺍니다.
+     */
+    private void unlink(Entry entry) {
+        weight -= entry.weight;
+        if (entry.clubName == null) {
+            allClubEntries.remove(entry);
+            return;
+        }
+        Set<Entry> bucket = clubEntries.get(entry.clubName);
+        if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+            clubEntries.remove(entry.clubName);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        version++;
+        clearedVersion = version; // 조회 중이던 결과도 보관하지 않음
+        clubVersions.clear();
+        entries.clear();
+        clubEntries.clear();
+        allClubEntries.clear();
+        weight = 0;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public double getMissRate() {
+        long missCount = misses.sum();
+        long total = hits.sum() + missCount;
+        return total == 0 ? 0 : (double) missCount / total;
+    }
+
+    @Override
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized long getInvalidationCount() {
+        return invalidations;
+    }
+
+    @Override
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public synchronized void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions = 0;
+        invalidations = 0;
+    }
+
+    /**
+     * 플랫폼 MBean 서버에 {@value #OBJECT_NAME} 이름으로 등록합니다. 이미 등록된 객체가 있으면 바꿉니다.
+     *
+     * @throws JMException 등록할 수 없는 경우
+     */
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+    }
+
+    /**
+     * 보관된 결과 하나와 그 범위입니다.
+     */
+    private static final class Entry {
+        final String key;
+        final Object value;
+        final long weight;
+        final String clubName; // null이면 전체 동아리
+        final int startDay;
+        final int endDay;
+        final Predicate<ActivityReport> affectedBy; // null이면 범위 안의 모든 보고서
+
+        Entry(String key, Object value, long weight, String clubName, int startDay, int endDay,
+              Predicate<ActivityReport> affectedBy) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.clubName = clubName;
+            this.startDay = startDay;
+            this.endDay = endDay;
+            this.affectedBy = affectedBy;
+        }
+
+        /**
+         * 추가된 보고서 중 이 결과를 바꿀 수 있는 보고서가 있는지 확인합니다.
+         */
+        boolean isAffectedBy(List<ActivityReport> added) {
+            if (affectedBy == null) {
+                return true;
+            }
+            for (ActivityReport report : added) {
+                if (affectedBy.test(report)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/**
+ * {@link QueryCache}의 적중률과 크기를 JMX로 공개하는 인터페이스입니다.
+ *
+ * <p>
+ * JConsole이나 VisualVM에서 ClubManagement:type=QueryCache 이름으로 조회할 수 있습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public interface QueryCacheMXBean {
+    /**
+     * 캐시 사용 여부를 반환합니다.
+     *
+     * @return 사용 중이면 true
+     */
+    boolean isEnabled();
+
+    /**
+     * 캐시 사용 여부를 설정합니다. 끄면 보관 중인 결과를 버리고, 이후 조회는 적중 및 실패 수에 기록되지 않습니다.
+     *
+     * @param enabled 사용 여부
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * 캐시에서 결과를 찾은 조회 수를 반환합니다.
+     *
+     * @return 적중 수
+     */
+    long getHitCount();
+
+    /**
+     * 캐시에 결과가 없어 실제로 실행한 조회 수를 반환합니다.
+     *
+     * @return 실패 수
+     */
+    long getMissCount();
+
+    /**
+     * 적중률을 반환합니다.
+     *
+     * @return 적중 수 / 전체 조회 수, 조회가 없으면 0
+     */
+    double getHitRate();
+
+    /**
+     * 실패율을 반환합니다.
+     *
+     * @return 실패 수 / 전체 조회 수, 조회가 없으면 0
+     */
+    double getMissRate();
+
+    /**
+     * 크기 제한 때문에 내보낸 결과 수를 반환합니다.
+     *
+     * @return 내보낸 결과 수
+     */
+    long getEvictionCount();
+
+    /**
+     * 보고서가 추가되어 무효화한 결과 수를 반환합니다.
+     *
+     * @return 무효화한 결과 수
+     */
+    long getInvalidationCount();
+
+    /**
+     * 보관 중인 결과 수를 반환합니다.
+     *
+     * @return 결과 수
+     */
+    int getEntryCount();
+
+    /**
+     * 보관 중인 결과의 무게(결과 보고서 수의 합)를 반환합니다.
+     *
+     * @return 무게
+     */
+    long getWeight();
+
+    /**
+     * 보관 중인 결과를 모두 버립니다. 적중 및 실패 수는 그대로 둡니다.
+     */
+    void clear();
+
+    /**
+     * 적중, 실패, 내보내기, 무효화 수를 0으로 되돌립니다.
+     */
+    void resetStatistics();
+}
\ No newline at end of file
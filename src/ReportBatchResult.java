@@ -0,0 +1,119 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 활동 보고서 일괄 추가 결과를 담는 클래스입니다.
+ *
+ * <p>
+ * {@link ClubManager#addReports(java.util.Collection)}는 보고서마다 메시지를 출력하지 않고
+ * 추가된 보고서와 거부된 보고서(사유 포함)를 이 객체로 돌려줍니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public class ReportBatchResult {
+    private final List<ActivityReport> accepted = new ArrayList<>(); // 추가된 보고서 (입력 순서)
+    private final List<Rejection> rejected = new ArrayList<>(); // 거부된 보고서
+
+    /**
+     * 추가된 보고서를 기록합니다.
+     *
+     * @param report 추가된 보고서
+     */
+    void accept(ActivityReport report) {
+        accepted.add(report);
+    }
+
+    /**
+     * 거부된 보고서를 기록합니다.
+     *
+     * @param report 거부된 보고서
+     * @param reason 거부 사유
+     */
+    void reject(ActivityReport report, String reason) {
+        rejected.add(new Rejection(report, reason));
+    }
+
+    /**
+     * 추가된 보고서를 입력 순서대로 반환합니다.
+     *
+     * @return 읽기 전용 보고서 목록
+     */
+    public List<ActivityReport> getAccepted() {
+        return Collections.unmodifiableList(accepted);
+    }
+
+    /**
+     * 거부된 보고서와 사유를 입력 순서대로 반환합니다.
+     *
+     * @return 읽기 전용 거부 목록
+     */
+    public List<Rejection> getRejected() {
+        return Collections.unmodifiableList(rejected);
+    }
+
+    /**
+     * 추가된 보고서 수를 반환합니다.
+     *
+     * @return 추가된 보고서 수
+     */
+    public int getAcceptedCount() {
+        return accepted.size();
+    }
+
+    /**
+     * 거부된 보고서 수를 반환합니다.
+     *
+     * @return 거부된 보고서 수
+     */
+    public int getRejectedCount() {
+        return rejected.size();
+    }
+
+    @Override
+    public String toString() {
+        return "활동 보고서 " + accepted.size() + "건 추가, " + rejected.size() + "건 거부";
+    }
+
+    /**
+     * 거부된 보고서 하나와 그 사유입니다.
+     */
+    public static class Rejection {
+        private final ActivityReport report;
+        private final String reason;
+
+        Rejection(ActivityReport report, String reason) {
+            this.report = report;
+            this.reason = reason;
+        }
+
+        /**
+         * 거부된 보고서를 반환합니다.
+         *
+         * @return 거부된 보고서 (입력이 null이었으면 null)
+         */
+        public ActivityReport getReport() {
+            return report;
+        }
+
+        /**
+         * 거부 사유를 반환합니다.
+         *
+         * @return 거부 사유
+         */
+        public String getReason() {
+            return reason;
+        }
+    }
+}
\ No newline at end of file
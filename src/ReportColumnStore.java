@@ -0,0 +1,400 @@
+import java.util.*;
+
+/**
+ * 활동 보고서를 필드별 열(column)로 나누어 보관하는 저장소입니다.
+ *
+ * <p>
+ * 보고서 객체를 모아 두는 대신 동아리 이름, 작성자, 활동 위치, 활동 결과는 {@link SymbolTable} 번호의 int 배열로,
+ * 작성 날짜는 epoch day의 int 배열로, 활동 내용은 문자열 배열로 보관하며 추가할 때는 배열 끝에 붙입니다.
+ * 날짜나 동아리로 거르는 검색과 통계는 보고서 객체를 따라가지 않고 int 배열 하나나 둘만 차례로 읽으므로
+ * 캐시 적중률이 높고, 거른 뒤 반환할 행에 대해서만 {@link ActivityReport}를 만듭니다.
+ * </p>
+ *
+ * <p>
+ * 반환하는 보고서는 열 값으로 새로 만든 사본이므로 수정해도 저장소에는 반영되지 않습니다.
+ * 검색 결과와 개수는 {@link ReportDateIndex} 및 {@link ReportStatistics}와 같으며, 날짜를 해석할 수 없는 보고서는
+ * 같은 방식으로 문자열로 비교합니다. 동기화하지 않으므로, 여러 스레드가 읽는 저장소는 바꾸지 않고
+ * 새 보고서는 {@link #copy()}로 만든 복사본에 추가합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.1
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 복사본을 만드는 copy와 나중 저장소를 합친 작성자/위치 수 조회 추가 (한승규)</li>
+ * </ul>
+ */
+public class ReportColumnStore {
+    private static final int FIRST_DAY = ReportDateIndex.parseDay("0000-01-01"); // 해석할 수 있는 가장 이른 날짜
+
+    private int[] clubIds = new int[16]; // 동아리 이름 번호
+    private int[] days = new int[16]; // 작성 날짜 값 (ActivityReport.getDayCode)
+    private int[] authorIds = new int[16]; // 작성자 이름 번호
+    private int[] locationIds = new int[16]; // 활동 위치 번호
+    private int[] resultIds = new int[16]; // 활동 결과 번호
+    private String[] contents = new String[16]; // 활동 내용
+    private int size;
+    private int[] unparsedRows = new int[16]; // 날짜를 해석할 수 없는 행 번호 (추가된 순서)
+    private int unparsedCount;
+
+    /**
+     * 보고서 하나를 마지막 행으로 추가합니다.
+     *
+     * @param report 추가할 보고서
+     */
+    public void add(ActivityReport report) {
+        ensureCapacity(size + 1);
+        append(report);
+    }
+
+    /**
+     * 여러 보고서를 차례로 추가합니다. 배열은 한 번만 늘립니다.
+     *
+     * @param batch 추가할 보고서
+     */
+    public void addAll(Collection<ActivityReport> batch) {
+        ensureCapacity(size + batch.size());
+        for (ActivityReport report : batch) {
+            append(report);
+        }
+    }
+
+    /**
+     * 같은 행을 담은 복사본을 만듭니다. 복사본에 보고서를 추가해도 원본은 바뀌지 않습니다.
+     *
+     * @return 복사본
+     *
+     * @created 2026-10-17
+     */
+    public ReportColumnStore copy() {
+        ReportColumnStore copy = new ReportColumnStore();
+        copy.clubIds = clubIds.clone();
+        copy.days = days.clone();
+        copy.authorIds = authorIds.clone();
+        copy.locationIds = locationIds.clone();
+        copy.resultIds = resultIds.clone();
+        copy.contents = contents.clone();
+        copy.size = size;
+        copy.unparsedRows = unparsedRows.clone();
+        copy.unparsedCount = unparsedCount;
+        return copy;
+    }
+
+    /**
+     * 보관된 보고서 수를 반환합니다.
+     *
+     * @return 행 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 행의 보고서를 만들어 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 열 값으로 만든 보고서
+     */
+    public ActivityReport get(int row) {
+        return ActivityReport.ofColumns(clubIds[row], contents[row], authorIds[row], locationIds[row], resultIds[row],
+                days[row]);
+    }
+
+    /**
+     * 지정한 기간(시작일과 종료일 포함)에 작성된 보고서를 날짜 순으로 반환합니다.
+     *
+     * <p>
+     * 날짜 열(동아리를 지정하면 동아리 열도)을 한 번 훑어 맞는 행 번호만 모은 뒤 날짜 순으로 정렬하며,
+     * 같은 날짜는 추가된 순서를 유지합니다. 날짜를 해석할 수 없는 보고서는 뒤에 추가된 순서로 붙습니다.
+     * </p>
+     *
+     * @param clubName 동아리 이름 (보고서에 기록된 이름), null이면 전체
+     * @param startDate 시작 날짜 (YYYY-MM-DD)
+     * @param endDate 종료 날짜 (YYYY-MM-DD)
+     * @return 기간 내 보고서 리스트
+     */
+    public List<ActivityReport> range(String clubName, String startDate, String endDate) {
+        int club = clubFilter(clubName);
+        if (startDate == null || endDate == null || club < -1) {
+            return new ArrayList<>();
+        }
+        int startDay = ReportDateIndex.parseDay(startDate);
+        int endDay = ReportDateIndex.parseDay(endDate);
+        long[] keys = new long[16]; // (epoch day << 32) | 행 번호
+        int count = 0;
+        int[] days = this.days;
+        int[] clubIds = this.clubIds;
+        if (startDay == ReportDateIndex.INVALID_DAY || endDay == ReportDateIndex.INVALID_DAY) {
+            // 기간을 해석할 수 없으면 날짜 색인과 같이 모든 보고서를 문자열로 비교
+            for (int row = 0; row < size; row++) {
+                if (days[row] >= FIRST_DAY && (club < 0 || clubIds[row] == club)
+                        && dateInRange(row, startDate, endDate)) {
+                    if (count == keys.length) {
+                        keys = Arrays.copyOf(keys, count * 2);
+                    }
+                    keys[count++] = ((long) days[row] << 32) | row;
+                }
+            }
+        } else if (startDay <= endDay) {
+            int span = endDay - startDay;
+            for (int row = 0; row < size; row++) {
+                int day = days[row];
+                if (inSpan(day, startDay, span) && (club < 0 || clubIds[row] == club)) {
+                    if (count == keys.length) {
+                        keys = Arrays.copyOf(keys, count * 2);
+                    }
+                    keys[count++] = ((long) day << 32) | row;
+                }
+            }
+        }
+        Arrays.sort(keys, 0, count); // 행 번호가 낮은 쪽이 먼저이므로 같은 날짜는 추가된 순서
+        List<ActivityReport> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(get((int) keys[i]));
+        }
+        for (int i = 0; i < unparsedCount; i++) {
+            int row = unparsedRows[i];
+            if ((club < 0 || clubIds[row] == club) && dateInRange(row, startDate, endDate)) {
+                results.add(get(row));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 지정한 날짜에 작성된 보고서를 추가된 순서로 반환합니다.
+     *
+     * @param date 날짜 (YYYY-MM-DD)
+     * @return 해당 날짜의 보고서 리스트
+     */
+    public List<ActivityReport> on(String date) {
+        List<ActivityReport> results = new ArrayList<>();
+        int code = date == null ? ReportDateIndex.INVALID_DAY : ActivityReport.findDayCode(date);
+        if (code == ReportDateIndex.INVALID_DAY) {
+            return results;
+        }
+        int[] days = this.days;
+        for (int row = 0; row < size; row++) {
+            if (days[row] == code) {
+                results.add(get(row));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 지정한 날짜에 작성된 보고서 수를 반환합니다.
+     *
+     * @param date 날짜 (YYYY-MM-DD)
+     * @return 보고서 수
+     */
+    public int countOnDate(String date) {
+        int code = ActivityReport.findDayCode(date);
+        return code == ReportDateIndex.INVALID_DAY ? 0 : countEqual(days, code);
+    }
+
+    /**
+     * 두 날짜 사이(양 끝 포함)에 작성된 보고서 수를 반환합니다.
+     *
+     * <p>
+     * {@link #range}와 같은 보고서를 세며, 리스트나 보고서를 만들지 않고 열만 훑습니다.
+     * </p>
+     *
+     * @param clubName 동아리 이름 (보고서에 기록된 이름), null이면 전체
+     * @param startDate 시작 날짜 (YYYY-MM-DD)
+     * @param endDate 종료 날짜 (YYYY-MM-DD)
+     * @return 보고서 수
+     */
+    public long countInRange(String clubName, String startDate, String endDate) {
+        int club = clubFilter(clubName);
+        if (startDate == null || endDate == null || club < -1) {
+            return 0;
+        }
+        int startDay = ReportDateIndex.parseDay(startDate);
+        int endDay = ReportDateIndex.parseDay(endDate);
+        if (startDay == ReportDateIndex.INVALID_DAY || endDay == ReportDateIndex.INVALID_DAY) {
+            return range(clubName, startDate, endDate).size();
+        }
+        if (startDay > endDay) {
+            return 0;
+        }
+        long count = 0;
+        int[] days = this.days;
+        int span = endDay - startDay;
+        if (club < 0) {
+            for (int row = 0; row < size; row++) {
+                count += inSpan(days[row], startDay, span) ? 1 : 0;
+            }
+        } else {
+            int[] clubIds = this.clubIds;
+            for (int row = 0; row < size; row++) {
+                count += inSpan(days[row], startDay, span) & clubIds[row] == club ? 1 : 0;
+            }
+        }
+        for (int i = 0; i < unparsedCount; i++) {
+            int row = unparsedRows[i];
+            if ((club < 0 || clubIds[row] == club) && dateInRange(row, startDate, endDate)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 작성자의 보고서 수를 반환합니다.
+     *
+     * @param author 작성자 이름
+     * @return 보고서 수
+     */
+    public int countByAuthor(String author) {
+        int id = ActivityReport.AUTHORS.find(author);
+        return id < 0 ? 0 : countEqual(authorIds, id);
+    }
+
+    /**
+     * 활동 위치의 보고서 수를 반환합니다.
+     *
+     * @param location 활동 위치
+     * @return 보고서 수
+     */
+    public int countByLocation(String location) {
+        int id = ActivityReport.LOCATIONS.find(location);
+        return id < 0 ? 0 : countEqual(locationIds, id);
+    }
+
+    /**
+     * 서로 다른 작성자 수를 반환합니다.
+     *
+     * @return 작성자 수
+     */
+    public int getAuthorCount() {
+        return getAuthorCount(null);
+    }
+
+    /**
+     * 이 저장소 뒤에 추가된 보고서의 저장소를 합쳤을 때의 서로 다른 작성자 수를 반환합니다.
+     *
+     * @param later 이후에 추가된 보고서의 저장소, 없으면 null
+     * @return 작성자 수
+     *
+     * @created 2026-10-17
+     */
+    public int getAuthorCount(ReportColumnStore later) {
+        boolean[] seen = new boolean[ActivityReport.AUTHORS.size()];
+        int distinct = countDistinct(authorIds, seen);
+        return later == null ? distinct : distinct + later.countDistinct(later.authorIds, seen);
+    }
+
+    /**
+     * 서로 다른 활동 위치 수를 반환합니다.
+     *
+     * @return 활동 위치 수
+     */
+    public int getLocationCount() {
+        return getLocationCount(null);
+    }
+
+    /**
+     * 이 저장소 뒤에 추가된 보고서의 저장소를 합쳤을 때의 서로 다른 활동 위치 수를 반환합니다.
+     *
+     * @param later 이후에 추가된 보고서의 저장소, 없으면 null
+     * @return 활동 위치 수
+     *
+     * @created 2026-10-17
+     */
+    public int getLocationCount(ReportColumnStore later) {
+        boolean[] seen = new boolean[ActivityReport.LOCATIONS.size()];
+        int distinct = countDistinct(locationIds, seen);
+        return later == null ? distinct : distinct + later.countDistinct(later.locationIds, seen);
+    }
+
+    private void append(ActivityReport report) {
+        int row = size++;
+        clubIds[row] = report.getClubId();
+        days[row] = report.getDayCode();
+        authorIds[row] = report.getAuthorId();
+        locationIds[row] = report.getLocationId();
+        resultIds[row] = report.getResultId();
+        contents[row] = report.getActivityContent();
+        if (report.getEpochDay() == ReportDateIndex.INVALID_DAY) {
+            if (unparsedCount == unparsedRows.length) {
+                unparsedRows = Arrays.copyOf(unparsedRows, unparsedCount * 2);
+            }
+            unparsedRows[unparsedCount++] = row;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= days.length) {
+            return;
+        }
+        int length = Math.max(capacity, days.length * 2);
+        clubIds = Arrays.copyOf(clubIds, length);
+        days = Arrays.copyOf(days, length);
+        authorIds = Arrays.copyOf(authorIds, length);
+        locationIds = Arrays.copyOf(locationIds, length);
+        resultIds = Arrays.copyOf(resultIds, length);
+        contents = Arrays.copyOf(contents, length);
+    }
+
+    /**
+     * 동아리 이름의 번호를 반환합니다. null이면 -1(전체), 어떤 보고서에도 없는 이름이면 -2를 반환합니다.
+     */
+    private static int clubFilter(String clubName) {
+        if (clubName == null) {
+            return -1;
+        }
+        int id = ActivityReport.CLUB_NAMES.find(clubName);
+        return id < 0 ? -2 : id;
+    }
+
+    /**
+     * 행의 작성 날짜 문자열이 두 날짜 사이(양 끝 포함)인지 확인합니다. 날짜가 없으면 false입니다.
+     */
+    private boolean dateInRange(int row, String startDate, String endDate) {
+        String date = ActivityReport.dateOf(days[row]);
+        return date != null && date.compareTo(startDate) >= 0 && date.compareTo(endDate) <= 0;
+    }
+
+    /**
+     * 날짜 값이 startDay 이상 startDay + span 이하인지 확인합니다.
+     * 부호 없는 비교 한 번으로 양 끝을 함께 확인하므로 훑는 반복문에 분기가 생기지 않습니다.
+     * 해석할 수 없는 날짜의 값은 0000-01-01보다 작으므로 포함되지 않습니다.
+     */
+    private static boolean inSpan(int day, int startDay, int span) {
+        return Integer.compareUnsigned(day - startDay, span) <= 0;
+    }
+
+    /**
+     * 열에서 값이 같은 행 수를 셉니다.
+     */
+    private int countEqual(int[] column, int value) {
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            count += column[row] == value ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * 열에 나타나는 값 중 seen에 표시되지 않은 서로 다른 값의 수를 세고 표시합니다.
+     * 값은 seen의 길이보다 작은 기호표 번호입니다.
+     */
+    private int countDistinct(int[] column, boolean[] seen) {
+        int distinct = 0;
+        for (int row = 0; row < size; row++) {
+            int id = column[row];
+            if (!seen[id]) {
+                seen[id] = true;
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,436 @@
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.*;
+
+/**
+ * 활동 보고서를 작성 날짜 순으로 정렬해 두는 색인 클래스입니다.
+ *
+ * <p>
+ * 보고서를 추가할 때 날짜 문자열(YYYY-MM-DD)을 한 번만 해석하여 1970-01-01부터의 일 수(epoch day)로 바꾸고,
+ * 일 수 배열과 보고서 배열을 정렬된 상태로 유지합니다. 기간 검색은 이진 탐색으로 시작과 끝 위치를 찾은 뒤
+ * 그 사이를 잘라 반환하므로 O(log n + k)이며, 보고서마다 문자열을 비교하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 날짜가 같은 보고서는 추가된 순서를 유지합니다. 형식이 맞지 않아 해석할 수 없는 날짜의 보고서는
+ * 별도 목록에 두고 기존과 같이 문자열로 비교합니다.
+ * </p>
+ *
+ * <p>
+ * 동기화하지 않습니다. 여러 스레드가 읽는 색인은 바꾸지 않고, 새 보고서는 {@link #copy()}로 만든 복사본에 추가하거나
+ * 따로 만든 작은 색인에 담아 {@link #merge}와 {@link #page(int, int, ReportDateIndex)}로 합쳐 읽습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.5
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 정렬 후 병합하는 일괄 추가 addAll 추가 (한승규)</li>
+ *   <li>2026-10-17: 날짜 순서로 일부를 꺼내는 page 추가 (한승규)</li>
+ *   <li>2026-10-17: parseDay가 LocalDate를 만들지 않고 직접 계산하도록 변경 (한승규)</li>
+ *   <li>2026-10-17: 보고서가 보관한 epoch day를 바로 사용하도록 변경 (한승규)</li>
+ *   <li>2026-10-17: 복사본을 만드는 copy와 나중에 추가된 보고서의 색인을 합쳐 읽는 merge, page 추가 (한승규)</li>
+ * </ul>
+ */
+public class ReportDateIndex {
+    /** 해석할 수 없는 날짜를 나타내는 값 */
+    public static final int INVALID_DAY = Integer.MIN_VALUE;
+
+    private static final int DAYS_0000_TO_1970 = 719528; // 0000-01-01부터 1970-01-01까지의 일 수
+
+    private int[] days = new int[16]; // 정렬된 epoch day
+    private ActivityReport[] reports = new ActivityReport[16]; // days와 같은 순서의 보고서
+    private int size;
+    private final List<ActivityReport> unparsed = new ArrayList<>(); // 날짜를 해석할 수 없는 보고서
+
+    /**
+     * 보고서를 날짜 순서에 맞는 위치에 추가합니다.
+     *
+     * <p>
+     * 보고서는 대부분 날짜 순으로 작성되므로 보통 배열 끝에 추가되며, 이전 날짜의 보고서만 뒤쪽을 한 칸씩 옮깁니다.
+     * </p>
+     *
+     * @param report 추가할 보고서
+     */
+    public void add(ActivityReport report) {
+        int day = report.getEpochDay();
+        if (day == INVALID_DAY) {
+            unparsed.add(report);
+            return;
+        }
+        if (size == days.length) {
+            days = Arrays.copyOf(days, size * 2);
+            reports = Arrays.copyOf(reports, size * 2);
+        }
+        int position = upperBound(day);
+        if (position < size) {
+            System.arraycopy(days, position, days, position + 1, size - position);
+            System.arraycopy(reports, position, reports, position + 1, size - position);
+        }
+        days[position] = day;
+        reports[position] = report;
+        size++;
+    }
+
+    /**
+     * 여러 보고서를 한 번에 추가합니다.
+     *
+     * <p>
+     * 추가할 보고서를 날짜 순으로 정렬(같은 날짜는 입력 순서 유지)한 뒤 기존 배열 뒤쪽부터 한 번에 병합하므로,
+     * 보고서마다 뒤쪽을 옮기는 {@link #add(ActivityReport)}와 달리 기존 보고서를 한 번씩만 옮깁니다.
+     * </p>
+     *
+     * @param batch 추가할 보고서
+     */
+    public void addAll(Collection<ActivityReport> batch) {
+        if (batch.size() < 16) {
+            for (ActivityReport report : batch) {
+                add(report);
+            }
+            return;
+        }
+        long[] keys = new long[batch.size()]; // (epoch day << 32) | 입력 순서
+        ActivityReport[] items = new ActivityReport[batch.size()];
+        int count = 0;
+        boolean sorted = true;
+        for (ActivityReport report : batch) {
+            int day = report.getEpochDay();
+            if (day == INVALID_DAY) {
+                unparsed.add(report);
+                continue;
+            }
+            keys[count] = ((long) day << 32) | count;
+            items[count] = report;
+            if (count > 0 && keys[count] < keys[count - 1]) {
+                sorted = false;
+            }
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        if (!sorted) {
+            Arrays.sort(keys, 0, count);
+        }
+
+        int total = size + count;
+        if (total > days.length) {
+            int capacity = Math.max(total, days.length * 2);
+            days = Arrays.copyOf(days, capacity);
+            reports = Arrays.copyOf(reports, capacity);
+        }
+        // 뒤에서부터 병합하면 추가 배열 없이 기존 배열 안에서 합칠 수 있음
+        int i = size - 1;
+        int k = total - 1;
+        for (int j = count - 1; j >= 0; k--) {
+            int day = (int) (keys[j] >> 32);
+            if (i >= 0 && days[i] > day) { // 같은 날짜는 기존 보고서가 먼저
+                days[k] = days[i];
+                reports[k] = reports[i--];
+            } else {
+                days[k] = day;
+                reports[k] = items[(int) keys[j--]];
+            }
+        }
+        size = total;
+    }
+
+    /**
+     * 지정한 기간(시작일과 종료일 포함)에 작성된 보고서를 날짜 순으로 반환합니다.
+     *
+     * @param startDate 시작 날짜 (YYYY-MM-DD)
+     * @param endDate 종료 날짜 (YYYY-MM-DD)
+     * @return 기간 내 보고서 리스트
+     */
+    public List<ActivityReport> range(String startDate, String endDate) {
+        if (startDate == null || endDate == null) {
+            return new ArrayList<>();
+        }
+        int startDay = parseDay(startDate);
+        int endDay = parseDay(endDate);
+        List<ActivityReport> results;
+        if (startDay == INVALID_DAY || endDay == INVALID_DAY) {
+            // 기간을 해석할 수 없으면 기존 방식대로 모든 보고서를 문자열로 비교
+            results = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                addIfInRange(results, reports[i], startDate, endDate);
+            }
+        } else {
+            int from = lowerBound(startDay);
+            int to = Math.max(from, upperBound(endDay));
+            results = new ArrayList<>(to - from + unparsed.size());
+            results.addAll(Arrays.asList(reports).subList(from, to));
+        }
+        for (ActivityReport report : unparsed) {
+            addIfInRange(results, report, startDate, endDate);
+        }
+        return results;
+    }
+
+    /**
+     * 지정한 날짜에 작성된 보고서를 반환합니다.
+     *
+     * @param date 날짜 (YYYY-MM-DD)
+     * @return 해당 날짜의 보고서 리스트
+     */
+    public List<ActivityReport> on(String date) {
+        int day = parseDay(date);
+        if (day == INVALID_DAY) {
+            List<ActivityReport> results = new ArrayList<>();
+            for (ActivityReport report : unparsed) {
+                if (date != null && date.equals(report.getDate())) {
+                    results.add(report);
+                }
+            }
+            return results;
+        }
+        int from = lowerBound(day);
+        int to = upperBound(day);
+        return new ArrayList<>(Arrays.asList(reports).subList(from, to));
+    }
+
+    /**
+     * 날짜 순서로 정렬된 보고서 중 일부를 반환합니다.
+     *
+     * <p>
+     * 정렬된 배열에서 바로 잘라내므로 O(limit)입니다. 날짜를 해석할 수 없는 보고서는 맨 뒤에 추가된 순서로 옵니다.
+     * </p>
+     *
+     * @param offset 건너뛸 보고서 수
+     * @param limit 반환할 보고서의 최대 수
+     * @return 날짜 순서의 보고서 리스트
+     */
+    public List<ActivityReport> page(int offset, int limit) {
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(size(), (long) from + limit);
+        List<ActivityReport> results = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            results.add(i < size ? reports[i] : unparsed.get(i - size));
+        }
+        return results;
+    }
+
+    /**
+     * 이 색인과, 이 색인 뒤에 추가된 보고서만 담은 색인 later를 합친 날짜 순서로 보고서 중 일부를 반환합니다.
+     *
+     * <p>
+     * 결과는 later의 보고서를 이 색인에 차례로 추가했을 때의 {@link #page(int, int)}와 같습니다.
+     * later의 j번째 보고서는 이 색인에서 그보다 앞서는 보고서 수 + j 위치에 놓이므로, 이진 탐색으로 offset 앞에 오는
+     * later의 보고서 수를 찾은 뒤 두 색인을 limit만큼만 병합합니다. O(log n log m + limit)
+     * </p>
+     *
+     * @param offset 건너뛸 보고서 수
+     * @param limit 반환할 보고서의 최대 수
+     * @param later 이 색인 뒤에 추가된 보고서의 색인
+     * @return 날짜 순서의 보고서 리스트
+     *
+     * @created 2026-10-17
+     */
+    public List<ActivityReport> page(int offset, int limit, ReportDateIndex later) {
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(size() + later.size(), (long) from + limit);
+        List<ActivityReport> results = new ArrayList<>(Math.max(0, to - from));
+        if (from >= to) {
+            return results;
+        }
+        int low = 0;
+        int high = later.size();
+        while (low < high) { // 합친 순서에서 from 이후에 오는 later의 첫 보고서
+            int mid = (low + high) >>> 1;
+            if (precedingCount(later.sortKey(mid)) + mid < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int j = low;
+        int i = from - j;
+        for (int k = from; k < to; k++) {
+            if (j < later.size() && (i >= size() || later.sortKey(j) < sortKey(i))) { // 같은 날짜는 이 색인이 먼저
+                results.add(later.reportAt(j++));
+            } else {
+                results.add(reportAt(i++));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 날짜 순서로 반환된 두 검색 결과를 합칩니다.
+     *
+     * <p>
+     * 두 결과는 {@link #range}나 {@link #on}처럼 해석할 수 있는 날짜의 보고서가 날짜 순으로 앞에, 해석할 수 없는 보고서가
+     * 뒤에 있어야 합니다. 같은 날짜와 해석할 수 없는 보고서는 earlier가 먼저 오므로, later가 나중에 추가된 보고서의 결과이면
+     * 한 색인에 모두 추가했을 때의 결과와 같습니다.
+     * </p>
+     *
+     * @param earlier 먼저 추가된 보고서의 결과
+     * @param later 나중에 추가된 보고서의 결과
+     * @return 합친 결과 (later가 비어 있으면 earlier)
+     *
+     * @created 2026-10-17
+     */
+    public static List<ActivityReport> merge(List<ActivityReport> earlier, List<ActivityReport> later) {
+        if (later.isEmpty()) {
+            return earlier;
+        }
+        List<ActivityReport> results = new ArrayList<>(earlier.size() + later.size());
+        int i = 0;
+        int j = 0;
+        while (i < earlier.size() || j < later.size()) {
+            if (j < later.size() && (i >= earlier.size()
+                    || sortKey(later.get(j)) < sortKey(earlier.get(i)))) {
+                results.add(later.get(j++));
+            } else {
+                results.add(earlier.get(i++));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 같은 보고서를 담은 복사본을 만듭니다. 복사본에 보고서를 추가해도 원본은 바뀌지 않습니다.
+     *
+     * @return 복사본
+     *
+     * @created 2026-10-17
+     */
+    public ReportDateIndex copy() {
+        ReportDateIndex copy = new ReportDateIndex();
+        copy.days = Arrays.copyOf(days, Math.max(size, 16));
+        copy.reports = Arrays.copyOf(reports, Math.max(size, 16));
+        copy.size = size;
+        copy.unparsed.addAll(unparsed);
+        return copy;
+    }
+
+    /**
+     * 색인된 보고서 수를 반환합니다.
+     *
+     * @return 보고서 수
+     */
+    public int size() {
+        return size + unparsed.size();
+    }
+
+    /**
+     * 날짜 문자열을 epoch day로 바꿉니다.
+     *
+     * <p>
+     * YYYY-MM-DD 형식만 받아들이며, 숫자 위치를 직접 읽으므로 LocalDate.parse보다 빠릅니다.
+     * 일 수는 {@link LocalDate#toEpochDay()}와 같은 식으로 직접 계산하므로 객체를 만들지 않습니다.
+     * </p>
+     *
+     * @param date 날짜 문자열
+     * @return epoch day, 해석할 수 없으면 {@link #INVALID_DAY}
+     */
+    public static int parseDay(String date) {
+        if (date == null || date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return INVALID_DAY;
+        }
+        int year = digits(date, 0, 4);
+        int month = digits(date, 5, 7);
+        int day = digits(date, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return INVALID_DAY;
+        }
+        boolean leap = Year.isLeap(year);
+        if (day > Month.of(month).length(leap)) {
+            return INVALID_DAY;
+        }
+        // 0000-01-01부터의 일 수를 구한 뒤 1970-01-01 기준으로 바꿈 (year는 0 이상)
+        int total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= leap ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void addIfInRange(List<ActivityReport> results, ActivityReport report, String startDate,
+                                     String endDate) {
+        String date = report.getDate();
+        if (date != null && date.compareTo(startDate) >= 0 && date.compareTo(endDate) <= 0) {
+            results.add(report);
+        }
+    }
+
+    /**
+     * 날짜 순서의 위치에 있는 보고서를 반환합니다. 해석할 수 없는 날짜의 보고서는 정렬된 보고서 뒤에 이어집니다.
+     */
+    private ActivityReport reportAt(int position) {
+        return position < size ? reports[position] : unparsed.get(position - size);
+    }
+
+    /**
+     * 병합에 쓰는 정렬 키를 반환합니다. 해석할 수 없는 날짜는 모든 날짜보다 뒤입니다.
+     */
+    private long sortKey(int position) {
+        return position < size ? days[position] : Long.MAX_VALUE;
+    }
+
+    private static long sortKey(ActivityReport report) {
+        int day = report.getEpochDay();
+        return day == INVALID_DAY ? Long.MAX_VALUE : day;
+    }
+
+    /**
+     * 정렬 키가 key 이하인 보고서 수, 즉 같은 키의 나중 보고서보다 앞에 오는 보고서 수를 반환합니다.
+     */
+    private int precedingCount(long key) {
+        return key == Long.MAX_VALUE ? size() : upperBound((int) key);
+    }
+
+    /**
+     * day 이상인 첫 위치를 찾습니다.
+     */
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * day보다 큰 첫 위치를 찾습니다.
+     */
+    private int upperBound(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,577 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+/**
+ * CSV 또는 JSON Lines 파일의 동아리와 활동 보고서를 {@link ClubManager}로 가져오는 클래스입니다.
+ *
+ * <p>
+ * 읽기 스레드가 파일을 일정 행 수씩 나누어 파서 스레드 풀에 넘기고, 호출한 스레드가 유일한 쓰기 주체로서
+ * 파싱된 묶음을 파일 순서대로 {@link ClubManager#registerClubs}와 {@link ClubManager#addReports}로 반영합니다.
+ * 처리 대기 중인 묶음 수가 제한되어 있으므로, 파일 크기와 관계없이 가져오기 중 사용하는 메모리는 일정합니다.
+ * 취소 확인 함수를 넘기면 묶음을 반영하기 전마다 확인하여, 취소되면 남은 행을 읽지 않고 멈춥니다.
+ * </p>
+ *
+ * <p>
+ * 각 행의 첫 번째 값은 종류(club 또는 report)입니다. 보고서의 동아리는 그보다 앞선 행이나 기존 데이터에 있어야 합니다.
+ * </p>
+ *
+ * <pre>
+ * CSV (첫 행이 type으로 시작하면 머리글로 보고 건너뜀, 큰따옴표로 감싼 값은 쉼표와 줄바꿈을 포함할 수 있음)
+ *   club,동아리 이름,지도 교수,회원 수,설립 목적
+ *   report,동아리 이름,활동 내용,작성자,활동 위치,활동 결과,작성 날짜(생략 가능)
+ *
+ * JSON Lines (한 줄에 객체 하나)
+ *   {"type":"club","name":"...","advisor":"...","memberCount":20,"purpose":"..."}
+ *   {"type":"report","clubName":"...","activityContent":"...","author":"...","location":"...","result":"...","date":"2024-12-21"}
+ * </pre>
+ *
+ * @author 한승규
+ * @version 1.1
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 묶음마다 취소를 확인하는 importFile(Path, Format, BooleanSupplier) 추가 (한승규)</li>
+ * </ul>
+ */
+public class ReportImporter {
+    private static final int CHUNK_RECORDS = 4096; // 파서에 한 번에 넘기는 행 수
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1); // 진행 상황 출력 간격
+    private static final int MAX_PRINTED_ERRORS = 20; // 출력할 오류 행 수
+
+    /**
+     * 가져올 파일 형식입니다.
+     */
+    public enum Format {
+        /** 쉼표로 구분된 값 */
+        CSV,
+        /** 한 줄에 JSON 객체 하나 */
+        JSON_LINES;
+
+        /**
+         * 파일 확장자로 형식을 정합니다. .jsonl, .ndjson, .json은 JSON Lines, 그 외에는 CSV입니다.
+         *
+         * @param file 가져올 파일
+         * @return 파일 형식
+         */
+        public static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            return name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json") ? JSON_LINES : CSV;
+        }
+    }
+
+    private final ClubManager clubManager;
+    private final int parserThreads;
+
+    /**
+     * 사용 가능한 프로세서 수에 맞춰 파서 스레드를 사용하는 가져오기 객체를 생성합니다.
+     *
+     * @param clubManager 데이터를 반영할 동아리 관리 객체
+     */
+    public ReportImporter(ClubManager clubManager) {
+        this(clubManager, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * 가져오기 객체를 생성합니다.
+     *
+     * @param clubManager 데이터를 반영할 동아리 관리 객체
+     * @param parserThreads 파서 스레드 수
+     */
+    public ReportImporter(ClubManager clubManager, int parserThreads) {
+        this.clubManager = clubManager;
+        this.parserThreads = Math.max(1, parserThreads);
+    }
+
+    /**
+     * 파일을 가져옵니다. 진행 상황은 1초마다 출력합니다.
+     *
+     * @param file 가져올 파일
+     * @param format 파일 형식
+     * @return 가져오기 결과
+     * @throws IOException 파일을 읽을 수 없거나 가져오기가 중단된 경우
+     */
+    public Summary importFile(Path file, Format format) throws IOException {
+        return importFile(file, format, () -> false);
+    }
+
+    /**
+     * 파일을 가져옵니다. 묶음을 반영하기 전마다 취소되었는지 확인합니다.
+     *
+     * <p>
+     * 취소되면 읽기와 파서 스레드를 멈추고 {@link CancellationException}을 던집니다.
+     * 이미 반영한 묶음의 동아리와 보고서는 그대로 남습니다.
+     * </p>
+     *
+     * @param file 가져올 파일
+     * @param format 파일 형식
+     * @param cancelled 취소되었으면 true를 반환하는 함수
+     * @return 가져오기 결과
+     * @throws IOException 파일을 읽을 수 없거나 가져오기가 중단된 경우
+     * @throws CancellationException 가져오기가 끝나기 전에 취소된 경우
+     *
+     * @created 2026-10-17
+     */
+    public Summary importFile(Path file, Format format, BooleanSupplier cancelled) throws IOException {
+        ExecutorService parsers = Executors.newFixedThreadPool(parserThreads, r -> {
+            Thread thread = new Thread(r, "report-import-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 파싱 결과를 파일 순서대로 꺼내기 위해 Future를 제출 순서대로 보관 (크기 제한으로 읽기 속도 조절)
+        BlockingQueue<Future<ParsedChunk>> pending = new ArrayBlockingQueue<>(parserThreads * 2);
+        Future<ParsedChunk> end = CompletableFuture.completedFuture(null);
+        IOException[] readFailure = new IOException[1];
+        Thread reader = new Thread(() -> {
+            try {
+                readChunks(file, format, parsers, pending);
+            } catch (IOException e) {
+                readFailure[0] = e;
+            } catch (InterruptedException e) {
+                return; // 쓰기 쪽이 중단됨
+            }
+            try {
+                pending.put(end);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "report-import-reader");
+        reader.setDaemon(true);
+
+        Summary summary = new Summary();
+        long start = System.nanoTime();
+        long lastProgress = start;
+        reader.start();
+        try {
+            for (Future<ParsedChunk> next = pending.take(); next != end; next = pending.take()) {
+                ClubManager.checkCancelled(cancelled);
+                apply(next.get(), summary);
+                long now = System.nanoTime();
+                if (now - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+                    lastProgress = now;
+                    System.out.printf("%,d행 처리 (%,.0f행/초)%n", summary.rows, summary.rows / ((now - start) / 1e9));
+                }
+            }
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("가져오기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IOException("행을 해석하는 중 오류가 발생했습니다: " + e.getCause(), e.getCause());
+        } finally {
+            reader.interrupt();
+            parsers.shutdownNow();
+        }
+        if (readFailure[0] != null) {
+            throw readFailure[0];
+        }
+        summary.elapsedNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    /**
+     * 파일을 행 묶음으로 나누어 파서에 제출합니다. 따옴표 안의 줄바꿈은 같은 행으로 묶습니다.
+     */
+    private void readChunks(Path file, Format format, ExecutorService parsers,
+                            BlockingQueue<Future<ParsedChunk>> pending) throws IOException, InterruptedException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            RawChunk chunk = new RawChunk();
+            StringBuilder partial = null; // 따옴표가 닫히지 않은 CSV 행
+            long partialStart = 0;
+            long lineNumber = 0;
+            String line;
+            while ((line = in.readLine()) != null) {
+                lineNumber++;
+                long recordStart = lineNumber;
+                if (format == Format.CSV) {
+                    boolean toggles = (countQuotes(line) & 1) == 1;
+                    if (partial != null) {
+                        partial.append('\n').append(line);
+                        if (!toggles) {
+                            continue;
+                        }
+                        line = partial.toString();
+                        recordStart = partialStart;
+                        partial = null;
+                    } else if (toggles) {
+                        partial = new StringBuilder(line);
+                        partialStart = lineNumber;
+                        continue;
+                    }
+                }
+                chunk.add(line, recordStart);
+                if (chunk.size() == CHUNK_RECORDS) {
+                    RawChunk full = chunk;
+                    pending.put(parsers.submit(() -> parse(full, format)));
+                    chunk = new RawChunk();
+                }
+            }
+            if (partial != null) {
+                chunk.add(partial.toString(), partialStart); // 닫히지 않은 따옴표는 파서가 오류로 처리
+            }
+            if (chunk.size() > 0) {
+                RawChunk last = chunk;
+                pending.put(parsers.submit(() -> parse(last, format)));
+            }
+        }
+    }
+
+    private static int countQuotes(String line) {
+        int count = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 행 묶음을 동아리와 보고서로 해석합니다. 파서 스레드에서 실행됩니다.
+     */
+    private static ParsedChunk parse(RawChunk raw, Format format) {
+        ParsedChunk parsed = new ParsedChunk();
+        for (int i = 0; i < raw.size(); i++) {
+            String record = raw.records.get(i);
+            long lineNumber = raw.lineNumbers[i];
+            if (record.isBlank()) {
+                continue;
+            }
+            parsed.rows++;
+            try {
+                Map<String, String> fields = format == Format.CSV ? csvFields(record) : jsonFields(record);
+                if (fields == null) {
+                    parsed.rows--; // 머리글
+                    continue;
+                }
+                String type = fields.getOrDefault("type", "");
+                if (type.equalsIgnoreCase("club")) {
+                    parsed.clubs.add(toClub(fields));
+                } else if (type.equalsIgnoreCase("report")) {
+                    parsed.reports.add(toReport(fields));
+                } else {
+                    throw new IllegalArgumentException("알 수 없는 행 종류입니다: " + type);
+                }
+            } catch (IllegalArgumentException e) {
+                parsed.errors.add(lineNumber + "행: " + e.getMessage());
+            }
+        }
+        return parsed;
+    }
+
+    private static Club toClub(Map<String, String> fields) {
+        String name = fields.get("name");
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("동아리 이름이 없습니다.");
+        }
+        String memberCount = fields.get("memberCount");
+        int members;
+        try {
+            members = memberCount == null || memberCount.isBlank() ? 0 : Integer.parseInt(memberCount.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("회원 수가 숫자가 아닙니다: " + memberCount);
+        }
+        return new Club(name, fields.get("advisor"), members, fields.get("purpose"));
+    }
+
+    private static ActivityReport toReport(Map<String, String> fields) {
+        String clubName = fields.get("clubName");
+        if (clubName == null || clubName.isBlank()) {
+            throw new IllegalArgumentException("동아리 이름이 없습니다.");
+        }
+        return new ActivityReport(clubName, fields.get("activityContent"), fields.get("author"),
+                fields.get("location"), fields.get("result"), fields.get("date"));
+    }
+
+    /**
+     * 파싱된 묶음을 반영합니다. 호출한 스레드(쓰기 주체)에서만 실행됩니다.
+     */
+    private void apply(ParsedChunk chunk, Summary summary) {
+        summary.rows += chunk.rows;
+        if (!chunk.clubs.isEmpty()) {
+            int registered = clubManager.registerClubs(chunk.clubs);
+            summary.clubs += registered;
+            summary.skippedClubs += chunk.clubs.size() - registered;
+        }
+        if (!chunk.reports.isEmpty()) {
+            ReportBatchResult result = clubManager.addReports(chunk.reports);
+            summary.reports += result.getAcceptedCount();
+            for (ReportBatchResult.Rejection rejection : result.getRejected()) {
+                summary.error(rejection.getReason());
+            }
+        }
+        for (String error : chunk.errors) {
+            summary.error(error);
+        }
+    }
+
+    /**
+     * CSV 행을 필드 맵으로 바꿉니다. 머리글 행이면 null을 반환합니다.
+     */
+    private static Map<String, String> csvFields(String record) {
+        List<String> values = splitCsv(record);
+        String type = values.get(0).trim();
+        if (type.equalsIgnoreCase("type")) {
+            return null;
+        }
+        String[] names = type.equalsIgnoreCase("club")
+                ? new String[]{"type", "name", "advisor", "memberCount", "purpose"}
+                : new String[]{"type", "clubName", "activityContent", "author", "location", "result", "date"};
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < names.length && i < values.size(); i++) {
+            fields.put(names[i], values.get(i).isEmpty() && i > 0 ? null : values.get(i));
+        }
+        return fields;
+    }
+
+    /**
+     * 큰따옴표 규칙(RFC 4180)에 따라 CSV 행을 나눕니다.
+     */
+    static List<String> splitCsv(String record) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * 한 줄짜리 JSON 객체를 필드 맵으로 바꿉니다. 값은 문자열, 숫자, true/false, null만 허용합니다.
+     */
+    static Map<String, String> jsonFields(String record) {
+        Map<String, String> fields = new HashMap<>();
+        int[] position = {skipSpace(record, 0)};
+        expect(record, position, '{');
+        if (peek(record, position) == '}') {
+            position[0]++;
+            return fields;
+        }
+        while (true) {
+            String key = jsonString(record, position);
+            expect(record, position, ':');
+            fields.put(key, jsonValue(record, position));
+            char c = peek(record, position);
+            position[0]++;
+            if (c == '}') {
+                break;
+            }
+            if (c != ',') {
+                throw new IllegalArgumentException("JSON 형식이 잘못되었습니다 (" + position[0] + "번째 문자).");
+            }
+        }
+        if (skipSpace(record, position[0]) != record.length()) {
+            throw new IllegalArgumentException("JSON 객체 뒤에 내용이 있습니다.");
+        }
+        return fields;
+    }
+
+    private static String jsonValue(String text, int[] position) {
+        char c = peek(text, position);
+        if (c == '"') {
+            return jsonString(text, position);
+        }
+        int start = position[0];
+        while (position[0] < text.length() && ",} \t".indexOf(text.charAt(position[0])) < 0) {
+            position[0]++;
+        }
+        String literal = text.substring(start, position[0]);
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.isEmpty() || literal.charAt(0) == '{' || literal.charAt(0) == '[') {
+            throw new IllegalArgumentException("지원하지 않는 JSON 값입니다 (" + (start + 1) + "번째 문자).");
+        }
+        return literal;
+    }
+
+    private static String jsonString(String text, int[] position) {
+        expect(text, position, '"');
+        StringBuilder value = new StringBuilder();
+        int i = position[0];
+        while (i < text.length()) {
+            char c = text.charAt(i++);
+            if (c == '"') {
+                position[0] = i;
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (i >= text.length()) {
+                break;
+            }
+            char escape = text.charAt(i++);
+            switch (escape) {
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (i + 4 > text.length()) {
+                        throw new IllegalArgumentException("잘못된 유니코드 이스케이프입니다.");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(text.substring(i, i + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("잘못된 유니코드 이스케이프입니다.");
+                    }
+                    i += 4;
+                }
+                default -> value.append(escape); // \" \\ \/
+            }
+        }
+        throw new IllegalArgumentException("JSON 문자열이 닫히지 않았습니다.");
+    }
+
+    private static void expect(String text, int[] position, char expected) {
+        if (peek(text, position) != expected) {
+            throw new IllegalArgumentException("JSON 형식이 잘못되었습니다: '" + expected + "'가 필요합니다 ("
+                    + (position[0] + 1) + "번째 문자).");
+        }
+        position[0]++;
+    }
+
+    private static char peek(String text, int[] position) {
+        position[0] = skipSpace(text, position[0]);
+        return position[0] < text.length() ? text.charAt(position[0]) : '\0';
+    }
+
+    private static int skipSpace(String text, int from) {
+        while (from < text.length() && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * 파서에 넘기는 행 묶음입니다.
+     */
+    private static class RawChunk {
+        final List<String> records = new ArrayList<>(CHUNK_RECORDS);
+        final long[] lineNumbers = new long[CHUNK_RECORDS]; // 행이 시작되는 줄 번호
+
+        void add(String record, long lineNumber) {
+            lineNumbers[records.size()] = lineNumber;
+            records.add(record);
+        }
+
+        int size() {
+            return records.size();
+        }
+    }
+
+    /**
+     * 파싱된 행 묶음입니다.
+     */
+    private static class ParsedChunk {
+        final List<Club> clubs = new ArrayList<>();
+        final List<ActivityReport> reports = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        int rows;
+    }
+
+    /**
+     * 가져오기 결과입니다.
+     */
+    public static class Summary {
+        private long rows;
+        private int clubs;
+        private int skippedClubs;
+        private long reports;
+        private long errors;
+        private long elapsedNanos;
+
+        private void error(String message) {
+            if (errors++ < MAX_PRINTED_ERRORS) {
+                System.err.println("가져오기 오류: " + message);
+            }
+        }
+
+        /**
+         * 처리한 행 수를 반환합니다. 빈 줄과 머리글은 제외합니다.
+         *
+         * @return 처리한 행 수
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * 등록된 동아리 수를 반환합니다.
+         *
+         * @return 등록된 동아리 수
+         */
+        public int getClubs() {
+            return clubs;
+        }
+
+        /**
+         * 추가된 활동 보고서 수를 반환합니다.
+         *
+         * @return 추가된 보고서 수
+         */
+        public long getReports() {
+            return reports;
+        }
+
+        /**
+         * 해석하지 못했거나 거부된 행 수를 반환합니다.
+         *
+         * @return 오류 행 수
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * 초당 처리한 행 수를 반환합니다.
+         *
+         * @return 초당 행 수
+         */
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rows / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d행 처리: 동아리 %,d개 등록 (중복 %,d개 건너뜀), 활동 보고서 %,d건 추가, 오류 %,d행, %.1f초 (%,.0f행/초)",
+                    rows, clubs, skippedClubs, reports, errors, elapsedNanos / 1e9, getRowsPerSecond());
+        }
+    }
+}
\ No newline at end of file
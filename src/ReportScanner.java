@@ -0,0 +1,231 @@
+import java.util.*;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * 색인이 없는 조건으로 활동 보고서를 병렬로 훑는 클래스입니다.
+ *
+ * <p>
+ * 보고서 목록들을 차례로 이어 {@value #CHUNK_SIZE}건씩 묶음(chunk)으로 나누고, 묶음을 반씩 나누는 {@link RecursiveAction}으로
+ * 공용 ForkJoinPool에서 조건을 검사합니다. 호출한 스레드도 검사에 참여하므로 모든 코어를 사용합니다.
+ * 묶음마다 결과를 따로 모은 뒤 묶음 순서대로 이어 붙이므로, 결과는 스레드 수나 실행 순서와 관계없이
+ * 항상 목록 순서, 목록 안에서는 작성 순서입니다.
+ * </p>
+ *
+ * <p>
+ * 최대 결과 수가 주어지면 앞쪽 묶음부터 끝난 묶음의 결과 수를 더해, 최대 결과 수에 이르는 묶음 뒤쪽은 검사하지 않고
+ * 이미 검사 중인 묶음도 중간에 멈춥니다. 따라서 순차 검사와 같은 앞쪽 결과를 돌려주면서 일찍 끝납니다.
+ * </p>
+ *
+ * <p>
+ * 보고서 목록은 검사하는 동안 바뀌지 않아야 하며({@link ClubSnapshot}의 목록), 조건은 여러 스레드에서 동시에 호출됩니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0.1
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 제네릭 배열 생성과 직렬화 ID 누락 경고 수정 (한승규)</li>
+ * </ul>
+ */
+public final class ReportScanner {
+    /** 작업 하나가 검사하는 보고서 수 */
+    static final int CHUNK_SIZE = 8192;
+
+    private static final int CANCEL_CHECK_INTERVAL = 1024; // 검사 중 중단 여부를 확인하는 간격
+
+    private ReportScanner() {
+    }
+
+    /**
+     * 조건에 맞는 보고서를 찾습니다.
+     *
+     * @param lists 검사할 보고서 목록 (목록 순서대로 결과가 나옴)
+     * @param filter 보고서 조건
+     * @param limit 최대 결과 수
+     * @return 조건에 맞는 보고서 리스트 (목록 순서, 작성 순서)
+     */
+    public static List<ActivityReport> find(Collection<List<ActivityReport>> lists,
+                                            Predicate<? super ActivityReport> filter, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        Scan scan = new Scan(lists, filter, limit, true);
+        new ChunkTask(scan, 0, scan.chunkCount).invoke();
+        List<ActivityReport> results = new ArrayList<>();
+        int last = Math.min(scan.chunkCount - 1, scan.cutoff);
+        for (int i = 0; i <= last && results.size() < limit; i++) {
+            List<ActivityReport> chunk = scan.results[i];
+            results.addAll(chunk.subList(0, Math.min(chunk.size(), limit - results.size())));
+        }
+        return results;
+    }
+
+    /**
+     * 조건에 맞는 보고서 수를 셉니다. 결과 리스트를 만들지 않습니다.
+     *
+     * @param lists 검사할 보고서 목록
+     * @param filter 보고서 조건
+     * @return 조건에 맞는 보고서 수
+     */
+    public static long count(Collection<List<ActivityReport>> lists, Predicate<? super ActivityReport> filter) {
+        Scan scan = new Scan(lists, filter, Integer.MAX_VALUE, false);
+        new ChunkTask(scan, 0, scan.chunkCount).invoke();
+        long total = 0;
+        for (long count : scan.counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 검사 한 번의 보고서 목록과 묶음별 결과입니다.
+     *
+     * <p>
+     * 모든 목록을 차례로 이어 붙인 위치로 묶음을 나누므로, 보고서가 적은 목록 여러 개가 한 묶음에 들어갈 수 있습니다.
+     * </p>
+     */
+    private static final class Scan {
+        final Predicate<? super ActivityReport> filter;
+        final int limit;
+        final boolean collect; // 결과 리스트를 모을지 여부 (false이면 개수만 셈)
+        final int chunkCount;
+        private final List<ActivityReport>[] lists; // 검사할 보고서 목록
+        private final int[] offsets; // 목록별 시작 위치 (이어 붙인 위치, 마지막은 전체 보고서 수)
+        final List<ActivityReport>[] results; // 묶음별 결과
+        final long[] counts; // 묶음별 결과 수
+        private final boolean[] finished; // 검사가 끝난 묶음
+        private int finishedPrefix; // 앞에서부터 연속으로 끝난 묶음 수
+        private long prefixCount; // 앞에서부터 연속으로 끝난 묶음의 결과 수
+        volatile int cutoff = Integer.MAX_VALUE; // 이 번호보다 뒤의 묶음은 결과에 필요 없음
+
+        @SuppressWarnings("unchecked")
+        Scan(Collection<List<ActivityReport>> lists, Predicate<? super ActivityReport> filter, int limit,
+             boolean collect) {
+            this.filter = filter;
+            this.limit = limit;
+            this.collect = collect;
+            this.lists = (List<ActivityReport>[]) lists.toArray(new List<?>[0]);
+            offsets = new int[this.lists.length + 1];
+            for (int i = 0; i < this.lists.length; i++) {
+                offsets[i + 1] = offsets[i] + this.lists[i].size();
+            }
+            chunkCount = (int) (((long) offsets[this.lists.length] + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            results = collect ? (List<ActivityReport>[]) new List<?>[chunkCount] : null;
+            counts = new long[chunkCount];
+            finished = new boolean[chunkCount];
+        }
+
+        /**
+         * 묶음 하나를 검사합니다. 결과에 필요 없어지면 중간에 멈춥니다.
+         */
+        void scanChunk(int chunk) {
+            if (chunk > cutoff) {
+                return;
+            }
+            int position = chunk * CHUNK_SIZE;
+            int end = Math.min(offsets[lists.length], position + CHUNK_SIZE);
+            int list = listAt(position);
+            List<ActivityReport> matches = collect ? new ArrayList<>() : null;
+            long count = 0;
+            scan:
+            while (position < end) {
+                List<ActivityReport> reports = lists[list];
+                int listEnd = Math.min(end, offsets[list + 1]);
+                for (int i = position - offsets[list], last = listEnd - offsets[list]; i < last; i++) {
+                    ActivityReport report = reports.get(i);
+                    if (filter.test(report)) {
+                        if (collect) {
+                            matches.add(report);
+                        }
+                        if (++count == limit) {
+                            break scan; // 이 묶음만으로 최대 결과 수를 채움
+                        }
+                    }
+                    if ((i & (CANCEL_CHECK_INTERVAL - 1)) == 0 && chunk > cutoff) {
+                        return;
+                    }
+                }
+                position = listEnd;
+                list++;
+            }
+            finish(chunk, matches, count);
+        }
+
+        /**
+         * 이어 붙인 위치가 속한 목록 번호를 찾습니다. 비어 있는 목록은 건너뜁니다.
+         */
+        private int listAt(int position) {
+            int low = 0;
+            int high = lists.length - 1;
+            while (low < high) { // offsets[low + 1] > position인 가장 작은 low
+                int mid = (low + high) >>> 1;
+                if (offsets[mid + 1] <= position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 묶음의 결과를 기록하고, 앞쪽 묶음의 결과만으로 최대 결과 수를 채울 수 있으면 뒤쪽 묶음을 멈춥니다.
+         */
+        private synchronized void finish(int chunk, List<ActivityReport> matches, long count) {
+            if (collect) {
+                results[chunk] = matches;
+            }
+            counts[chunk] = count;
+            finished[chunk] = true;
+            if (count >= limit) {
+                cutoff = Math.min(cutoff, chunk);
+            }
+            while (finishedPrefix < chunkCount && finished[finishedPrefix]) {
+                prefixCount += counts[finishedPrefix];
+                if (prefixCount >= limit) {
+                    cutoff = Math.min(cutoff, finishedPrefix);
+                }
+                finishedPrefix++;
+            }
+        }
+    }
+
+    /**
+     * 묶음 범위를 반씩 나누어 검사하는 작업입니다.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Scan scan;
+        private final int from;
+        private final int to;
+
+        ChunkTask(Scan scan, int from, int to) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (from > scan.cutoff) {
+                return;
+            }
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(scan, from, middle), new ChunkTask(scan, middle, to));
+                return;
+            }
+            if (from < to) {
+                scan.scanChunk(from);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,345 @@
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * 활동 보고서 키워드 검색을 위한 역색인(inverted index) 클래스입니다.
+ *
+ * <p>
+ * 활동 내용, 활동 결과, 활동 위치 문자열을 글자 단위(unigram)와 두 글자 단위(bigram) 토큰으로 나누어
+ * 토큰별로 해당 보고서 번호 목록(postings)을 보관합니다. 한글은 띄어쓰기나 형태소 분석 없이도
+ * 두 글자 단위로 나누면 부분 문자열 검색에 잘 맞습니다.
+ * </p>
+ *
+ * <p>
+ * 보고서 번호는 추가된 순서대로 0부터 붙이며, 각 postings는 정렬된 int 배열로 유지됩니다.
+ * 검색어의 토큰별 postings를 짧은 것부터 교집합하여 후보를 좁힌 뒤, 후보만 실제 문자열과 비교하므로
+ * 검색 비용은 전체 보고서 수가 아니라 후보(결과) 수에 비례합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.2
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 결과 캐시 무효화에 쓰는 matches 추가 (한승규)</li>
+ *   <li>2026-10-17: 발행된 색인을 두고 새 보고서를 반영하기 위한 copy 추가 (한승규)</li>
+ * </ul>
+ */
+public class ReportSearchIndex {
+    private final HashMap<Integer, Postings> postings = new HashMap<>(); // 토큰별 보고서 번호 목록
+    private ActivityReport[] documents = new ActivityReport[1024]; // 보고서 번호별 보고서
+    private int documentCount;
+
+    /**
+     * 보고서를 색인에 추가합니다.
+     *
+     * @param report 추가할 보고서
+     */
+    public void add(ActivityReport report) {
+        if (documentCount == documents.length) {
+            documents = Arrays.copyOf(documents, documentCount * 2);
+        }
+        int id = documentCount++;
+        documents[id] = report;
+        addTokens(report.getActivityContent(), id);
+        addTokens(report.getResult(), id);
+        addTokens(report.getLocation(), id);
+    }
+
+    /**
+     * 이 색인의 복사본을 만듭니다.
+     *
+     * <p>
+     * postings 배열까지 복사하므로 복사본에 보고서를 추가해도 원본은 바뀌지 않습니다.
+     * 다른 스레드가 읽고 있는 색인은 그대로 두고, 복사본에 새 보고서를 추가해 다음 색인으로 발행할 때 사용합니다.
+     * </p>
+     *
+     * @return 복사본
+     *
+     * @created 2026-10-17
+     */
+    public ReportSearchIndex copy() {
+        ReportSearchIndex copy = new ReportSearchIndex();
+        for (Map.Entry<Integer, Postings> entry : postings.entrySet()) {
+            copy.postings.put(entry.getKey(), entry.getValue().copyPostings());
+        }
+        copy.documents = Arrays.copyOf(documents, documents.length);
+        copy.documentCount = documentCount;
+        return copy;
+    }
+
+    /**
+     * 색인된 보고서 수를 반환합니다.
+     *
+     * @return 보고서 수
+     */
+    public int size() {
+        return documentCount;
+    }
+
+    /**
+     * 키워드 하나를 포함하는 보고서를 추가된 순서대로 반환합니다.
+     *
+     * @param keyword 검색할 키워드 (대소문자 구분 없음)
+     * @return 활동 내용, 결과, 위치 중 하나에 키워드가 포함된 보고서 리스트
+     */
+    public List<ActivityReport> search(String keyword) {
+        return toReports(matchTerm(normalize(keyword)));
+    }
+
+    /**
+     * 보고서가 키워드 검색 결과에 포함되는지 색인 없이 확인합니다.
+     *
+     * <p>
+     * 검색 결과 캐시가 추가된 보고서로 키워드 결과를 버려야 하는지 판단할 때 사용합니다.
+     * 색인과 같이 활동 내용, 결과, 위치를 대소문자 구분 없이 비교하며, 결과에 포함될 수 있는 보고서는 항상 true입니다.
+     * </p>
+     *
+     * @param report 확인할 보고서
+     * @param keyword 검색 키워드
+     * @return 검색 결과에 포함되면 true
+     *
+     * @created 2026-10-17
+     */
+    public static boolean matches(ActivityReport report, String keyword) {
+        String term = normalize(keyword);
+        if (term.isEmpty()) {
+            return false;
+        }
+        boolean caseless = term.equals(term.toUpperCase(Locale.ROOT));
+        return contains(report, term, caseless)
+                || normalize(report.getActivityContent()).contains(term) // 토큰은 소문자로 바꾼 문자열에서 만듦
+                || normalize(report.getResult()).contains(term)
+                || normalize(report.getLocation()).contains(term);
+    }
+
+    /**
+     * 여러 키워드로 보고서를 검색합니다.
+     *
+     * @param keywords 검색할 키워드 목록
+     * @param matchAll true이면 모든 키워드를 포함하는 보고서(AND), false이면 하나라도 포함하는 보고서(OR)
+     * @return 조건에 맞는 보고서를 추가된 순서대로 담은 리스트
+     */
+    public List<ActivityReport> search(Collection<String> keywords, boolean matchAll) {
+        IntList result = null;
+        for (String keyword : keywords) {
+            String term = normalize(keyword);
+            if (term.isEmpty()) {
+                continue;
+            }
+            IntList matches = matchTerm(term);
+            if (result == null) {
+                result = matches;
+            } else {
+                result = matchAll ? intersect(result, matches) : union(result, matches);
+            }
+            if (matchAll && result.size == 0) {
+                break;
+            }
+        }
+        return result == null ? new ArrayList<>() : toReports(result);
+    }
+
+    /**
+     * 하나의 검색어와 일치하는 보고서 번호를 찾습니다.
+     */
+    private IntList matchTerm(String term) {
+        if (term.isEmpty()) {
+            return new IntList(0);
+        }
+        List<Postings> lists = new ArrayList<>();
+        boolean[] missing = new boolean[1];
+        forEachToken(term, token -> {
+            Postings list = postings.get(token);
+            if (list == null) {
+                missing[0] = true;
+            } else {
+                lists.add(list);
+            }
+        });
+        if (missing[0] || lists.isEmpty()) {
+            return new IntList(0); // 색인에 없는 토큰이 있으면 일치하는 보고서도 없음
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        IntList candidates = lists.get(0).copy();
+        for (int i = 1; i < lists.size() && candidates.size > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        if (lists.size() == 1 && term.length() <= 2) {
+            return candidates; // 검색어 자체가 토큰 하나이면 postings가 곧 결과
+        }
+
+        // 토큰이 모두 있어도 연속된 문자열이 아닐 수 있으므로 후보만 실제로 비교
+        boolean caseless = term.equals(term.toUpperCase(Locale.ROOT)); // 한글, 숫자 등
+        IntList matches = new IntList(candidates.size);
+        for (int i = 0; i < candidates.size; i++) {
+            int id = candidates.values[i];
+            if (contains(documents[id], term, caseless)) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    private List<ActivityReport> toReports(IntList ids) {
+        List<ActivityReport> results = new ArrayList<>(ids.size);
+        for (int i = 0; i < ids.size; i++) {
+            results.add(documents[ids.values[i]]);
+        }
+        return results;
+    }
+
+    private void addTokens(String text, int id) {
+        if (text != null) {
+            forEachToken(normalize(text), token -> postings.computeIfAbsent(token, k -> new Postings()).add(id));
+        }
+    }
+
+    /**
+     * 문자열을 글자 토큰과 두 글자 토큰으로 나눕니다. 공백은 토큰에 포함하지 않습니다.
+     *
+     * <p>
+     * 글자 토큰은 문자 코드 그대로, 두 글자 토큰은 (첫 글자 &lt;&lt; 16 | 둘째 글자)로 표현합니다.
+     * 첫 글자가 0인 토큰은 없으므로 두 표현은 겹치지 않습니다.
+     * </p>
+     */
+    private static void forEachToken(String text, IntConsumer consumer) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            consumer.accept(c);
+            if (i + 1 < text.length()) {
+                char next = text.charAt(i + 1);
+                if (!Character.isWhitespace(next)) {
+                    consumer.accept((c << 16) | next);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(ActivityReport report, String term, boolean caseless) {
+        return containsTerm(report.getActivityContent(), term, caseless)
+                || containsTerm(report.getResult(), term, caseless)
+                || containsTerm(report.getLocation(), term, caseless);
+    }
+
+    /**
+     * 대소문자를 구분하지 않고 부분 문자열을 찾습니다. 후보마다 소문자 문자열을 새로 만들지 않습니다.
+     */
+    private static boolean containsTerm(String text, String term, boolean caseless) {
+        if (text == null) {
+            return false;
+        }
+        if (caseless) {
+            return text.contains(term);
+        }
+        int last = text.length() - term.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static IntList intersect(IntList a, IntList b) {
+        IntList result = new IntList(Math.min(a.size, b.size));
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            int x = a.values[i];
+            int y = b.values[j];
+            if (x == y) {
+                result.add(x);
+                i++;
+                j++;
+            } else if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static IntList union(IntList a, IntList b) {
+        IntList result = new IntList(a.size + b.size);
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.values[i] < b.values[j])) {
+                result.add(a.values[i++]);
+            } else if (i >= a.size || b.values[j] < a.values[i]) {
+                result.add(b.values[j++]);
+            } else {
+                result.add(a.values[i++]);
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 정렬된 보고서 번호를 담는 가변 길이 int 배열입니다.
+     */
+    private static class IntList {
+        int[] values;
+        int size;
+
+        IntList(int capacity) {
+            values = new int[Math.max(capacity, 4)];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        IntList copy() {
+            IntList copy = new IntList(size);
+            System.arraycopy(values, 0, copy.values, 0, size);
+            copy.size = size;
+            return copy;
+        }
+    }
+
+    /**
+     * 토큰 하나의 postings입니다. 보고서 번호가 증가하는 순서로만 추가되므로 항상 정렬되어 있습니다.
+     */
+    private static class Postings extends IntList {
+        Postings() {
+            super(4);
+        }
+
+        private Postings(Postings source) {
+            super(source.size);
+            System.arraycopy(source.values, 0, values, 0, source.size);
+            size = source.size;
+        }
+
+        Postings copyPostings() {
+            return new Postings(this);
+        }
+
+        @Override
+        void add(int id) {
+            if (size == 0 || values[size - 1] != id) { // 같은 보고서의 중복 토큰 제외
+                super.add(id);
+            }
+        }
+    }
+}
\ No newline at end of file
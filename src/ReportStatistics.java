@@ -0,0 +1,308 @@
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 활동 보고서 통계를 보고서가 추가될 때마다 갱신하는 클래스입니다.
+ *
+ * <p>
+ * 작성자별, 활동 위치별 보고서 수는 문자열 키와 int 배열로 된 개방 주소법 해시 표에,
+ * 날짜별 보고서 수는 전체 및 동아리별 {@link DayHistogram}(펜윅 트리)에 보관합니다.
+ * 보고서를 추가할 때 각 카운터를 갱신하므로 작성자와 위치 조회는 O(1), 날짜 및 기간 조회는 O(log d)이며
+ * 보고서를 다시 훑거나 결과 리스트를 만들지 않습니다.
+ * 전체 및 동아리별 보고서 수는 {@link ClubSnapshot}이 이미 갱신하므로 여기서는 따로 세지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 동기화하지 않습니다. 여러 스레드가 읽는 통계는 바꾸지 않고, 새 보고서는 {@link #copy()}로 만든 복사본에 반영합니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.3
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 날짜별 개수를 펜윅 트리로 바꾸고 전체 및 동아리별 기간 개수 조회 추가 (한승규)</li>
+ *   <li>2026-10-17: 보고서가 보관한 epoch day를 바로 사용하도록 변경 (한승규)</li>
+ *   <li>2026-10-17: 복사본을 만드는 copy와 나중 통계를 합친 작성자/위치 수 조회 추가 (한승규)</li>
+ * </ul>
+ */
+public class ReportStatistics {
+    private final Counter authors = new Counter(); // 작성자별 보고서 수
+    private final Counter locations = new Counter(); // 활동 위치별 보고서 수
+    private final DateCounts dates = new DateCounts(); // 날짜별 보고서 수
+    private final HashMap<String, DateCounts> clubDates = new HashMap<>(); // 동아리별 날짜별 보고서 수
+    private long reportCount;
+
+    /**
+     * 보고서 하나를 통계에 반영합니다.
+     *
+     * @param report 추가된 보고서
+     */
+    public void add(ActivityReport report) {
+        reportCount++;
+        authors.increment(report.getAuthor());
+        locations.increment(report.getLocation());
+        int day = report.getEpochDay();
+        String date = day == ReportDateIndex.INVALID_DAY ? report.getDate() : null; // 해석할 수 없는 날짜만 문자열로 셈
+        dates.add(day, date);
+        clubDates.computeIfAbsent(report.getClubName(), k -> new DateCounts()).add(day, date);
+    }
+
+    /**
+     * 여러 보고서를 통계에 반영합니다.
+     *
+     * @param reports 추가된 보고서
+     */
+    public void addAll(Collection<ActivityReport> reports) {
+        for (ActivityReport report : reports) {
+            add(report);
+        }
+    }
+
+    /**
+     * 같은 통계를 담은 복사본을 만듭니다. 복사본에 보고서를 반영해도 원본은 바뀌지 않습니다.
+     *
+     * @return 복사본
+     *
+     * @created 2026-10-17
+     */
+    public ReportStatistics copy() {
+        ReportStatistics copy = new ReportStatistics();
+        copy.authors.copyFrom(authors);
+        copy.locations.copyFrom(locations);
+        copy.dates.copyFrom(dates);
+        for (Map.Entry<String, DateCounts> entry : clubDates.entrySet()) {
+            DateCounts counts = new DateCounts();
+            counts.copyFrom(entry.getValue());
+            copy.clubDates.put(entry.getKey(), counts);
+        }
+        copy.reportCount = reportCount;
+        return copy;
+    }
+
+    /**
+     * 반영된 보고서 수를 반환합니다.
+     *
+     * @return 보고서 수
+     */
+    public long getReportCount() {
+        return reportCount;
+    }
+
+    /**
+     * 작성자의 보고서 수를 반환합니다.
+     *
+     * @param author 작성자 이름
+     * @return 보고서 수
+     */
+    public int countByAuthor(String author) {
+        return authors.get(author);
+    }
+
+    /**
+     * 활동 위치의 보고서 수를 반환합니다.
+     *
+     * @param location 활동 위치
+     * @return 보고서 수
+     */
+    public int countByLocation(String location) {
+        return locations.get(location);
+    }
+
+    /**
+     * 지정한 날짜에 작성된 보고서 수를 반환합니다.
+     *
+     * @param date 날짜 (YYYY-MM-DD)
+     * @return 보고서 수
+     */
+    public int countOnDate(String date) {
+        int day = ReportDateIndex.parseDay(date);
+        return (int) (day == ReportDateIndex.INVALID_DAY ? dates.unparsed.get(date) : dates.days.count(day));
+    }
+
+    /**
+     * 두 날짜 사이(양 끝 포함)에 작성된 보고서 수를 반환합니다.
+     *
+     * <p>
+     * {@link ReportDateIndex#range}와 같은 보고서를 세며, 날짜를 해석할 수 없는 보고서는 문자열로 비교합니다.
+     * 기간의 양 끝은 해석할 수 있는 날짜여야 합니다.
+     * </p>
+     *
+     * @param clubName 동아리 이름 (보고서에 기록된 이름), null이면 전체
+     * @param startDay 시작 epoch day
+     * @param endDay 종료 epoch day
+     * @param startDate 시작 날짜 문자열
+     * @param endDate 종료 날짜 문자열
+     * @return 보고서 수
+     */
+    public long countInRange(String clubName, int startDay, int endDay, String startDate, String endDate) {
+        DateCounts counts = clubName == null ? dates : clubDates.get(clubName);
+        if (counts == null) {
+            return 0;
+        }
+        return counts.days.count(startDay, endDay) + counts.unparsed.countBetween(startDate, endDate);
+    }
+
+    /**
+     * 서로 다른 작성자 수를 반환합니다.
+     *
+     * @return 작성자 수
+     */
+    public int getAuthorCount() {
+        return authors.size();
+    }
+
+    /**
+     * 이 통계 뒤에 추가된 보고서의 통계를 합쳤을 때의 서로 다른 작성자 수를 반환합니다.
+     *
+     * @param later 이후에 추가된 보고서의 통계
+     * @return 작성자 수
+     *
+     * @created 2026-10-17
+     */
+    public int getAuthorCount(ReportStatistics later) {
+        return authors.size() + later.authors.countMissingFrom(authors);
+    }
+
+    /**
+     * 서로 다른 활동 위치 수를 반환합니다.
+     *
+     * @return 활동 위치 수
+     */
+    public int getLocationCount() {
+        return locations.size();
+    }
+
+    /**
+     * 이 통계 뒤에 추가된 보고서의 통계를 합쳤을 때의 서로 다른 활동 위치 수를 반환합니다.
+     *
+     * @param later 이후에 추가된 보고서의 통계
+     * @return 활동 위치 수
+     *
+     * @created 2026-10-17
+     */
+    public int getLocationCount(ReportStatistics later) {
+        return locations.size() + later.locations.countMissingFrom(locations);
+    }
+
+    /**
+     * 날짜별 보고서 수입니다. 해석할 수 없는 날짜는 문자열 그대로 셉니다.
+     */
+    private static final class DateCounts {
+        private DayHistogram days = new DayHistogram();
+        private final Counter unparsed = new Counter();
+
+        void add(int day, String date) {
+            if (day == ReportDateIndex.INVALID_DAY) {
+                unparsed.increment(date);
+            } else {
+                days.add(day);
+            }
+        }
+
+        void copyFrom(DateCounts source) {
+            days = source.days.copy();
+            unparsed.copyFrom(source.unparsed);
+        }
+    }
+
+    /**
+     * 문자열별 개수를 세는 개방 주소법(선형 탐사) 해시 표입니다. 개수를 int 배열에 두어 객체를 만들지 않습니다.
+     */
+    private static final class Counter {
+        private String[] keys = new String[16];
+        private int[] counts = new int[16];
+        private int size;
+
+        void increment(String key) {
+            String k = key == null ? "" : key;
+            int slot = find(k);
+            if (keys[slot] == null) {
+                keys[slot] = k;
+                size++;
+            }
+            counts[slot]++;
+            if (size * 2 > keys.length) {
+                grow(); // 채움률 50% 이하 유지
+            }
+        }
+
+        int get(String key) {
+            int slot = find(key == null ? "" : key);
+            return keys[slot] == null ? 0 : counts[slot];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void copyFrom(Counter source) {
+            keys = source.keys.clone();
+            counts = source.counts.clone();
+            size = source.size;
+        }
+
+        /**
+         * other에 없는 키의 수를 반환합니다.
+         */
+        int countMissingFrom(Counter other) {
+            int missing = 0;
+            for (String key : keys) {
+                if (key != null && other.get(key) == 0) {
+                    missing++;
+                }
+            }
+            return missing;
+        }
+
+        /**
+         * 키가 from 이상 to 이하인 개수의 합을 반환합니다. 빈 문자열(null)은 세지 않습니다.
+         */
+        long countBetween(String from, String to) {
+            if (size == 0) {
+                return 0;
+            }
+            long sum = 0;
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i];
+                if (key != null && !key.isEmpty() && key.compareTo(from) >= 0 && key.compareTo(to) <= 0) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * 키가 있는 위치나, 없으면 넣을 빈 위치를 반환합니다.
+         */
+        private int find(String key) {
+            int mask = keys.length - 1;
+            int hash = key.hashCode();
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (keys[slot] != null && !keys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            String[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new String[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,364 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 활동 보고서 목록을 JTable에 보여 주기 위한 테이블 모델 클래스입니다.
+ *
+ * <p>
+ * 보고서를 미리 복사하거나 문자열로 만들지 않고, JTable이 화면에 보이는 행을 요청할 때
+ * 해당 행이 속한 페이지({@value #PAGE_SIZE}행)만 {@link ClubManager}의 스냅샷에서 꺼내 최근 페이지 몇 개를 보관합니다.
+ * 따라서 보고서가 수백만 건이어도 스크롤할 때 읽는 양과 메모리 사용량은 화면 크기에 비례합니다.
+ * </p>
+ *
+ * <p>
+ * 정렬은 JTable의 행 정렬기(모든 행을 읽어야 함)를 쓰지 않고 모델에서 처리합니다.
+ * 동아리 순서는 동아리 단위로만 정렬하고, 작성 날짜 순서는 스냅샷의 보고서를 epoch day로 정렬한 행 번호 배열을,
+ * 작성자 순서는 작성자 이름에 순위를 매겨 계수 정렬한 행 번호 배열을 행 배치를 만들 때 한 번 만듭니다.
+ * 따라서 페이지를 꺼낼 때는 행 배치가 가진 스냅샷의 목록만 읽고 {@link ClubManager}를 호출하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * {@link #prepare(Order)}를 제외한 메서드는 이벤트 디스패치 스레드에서 호출해야 합니다.
+ * 행 배치 계산(날짜나 작성자 정렬)은 오래 걸릴 수 있으므로 백그라운드 스레드에서 {@link #prepare(Order)}로 만들고
+ * 이벤트 디스패치 스레드에서 {@link #apply(Layout)}로 적용할 수 있습니다.
+ * 표시 내용은 행 배치를 만든 시점의 스냅샷입니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.2
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 행 배치 계산을 prepare/apply로 분리하여 백그라운드에서 계산 가능하도록 변경 (한승규)</li>
+ *   <li>2026-10-17: 직렬화 ID 추가 (한승규)</li>
+ *   <li>2026-10-17: 작성 날짜 순서도 스냅샷의 행 번호 배열로 만들어, 화면을 그릴 때 날짜 색인을 읽거나 만들지 않도록 변경 (한승규)</li>
+ * </ul>
+ */
+public class ReportTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private static final int PAGE_SIZE = 256; // 한 번에 꺼내는 행 수
+    private static final int CACHED_PAGES = 16; // 보관할 최근 페이지 수
+    private static final String[] COLUMNS = {"동아리", "작성 날짜", "작성자", "활동 내용", "위치", "결과"};
+
+    /**
+     * 보고서 정렬 순서입니다.
+     */
+    public enum Order {
+        /** 동아리 등록 순서, 동아리 안에서는 작성 순서 */
+        REGISTRATION("등록 순"),
+        /** 동아리 이름 순서 */
+        CLUB("동아리"),
+        /** 작성 날짜 순서 */
+        DATE("작성 날짜"),
+        /** 작성자 이름 순서 */
+        AUTHOR("작성자");
+
+        private final String label;
+
+        Order(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final ClubManager clubManager; // 전체 보고서를 보여 줄 때의 원본 (검색 결과이면 null)
+    private final List<ActivityReport> fixedReports; // 검색 결과를 보여 줄 때의 원본
+    private Layout layout; // 현재 행 배치
+
+    private final Map<Integer, ActivityReport[]> pages = new LinkedHashMap<>(CACHED_PAGES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ActivityReport[]> eldest) {
+            return size() > CACHED_PAGES;
+        }
+    };
+
+    /**
+     * 동아리 관리 객체의 전체 보고서를 보여 주는 모델을 생성합니다.
+     *
+     * @param clubManager 동아리 관리 객체
+     */
+    public ReportTableModel(ClubManager clubManager) {
+        this.clubManager = clubManager;
+        this.fixedReports = null;
+        this.layout = prepare(Order.REGISTRATION);
+    }
+
+    /**
+     * 주어진 보고서 목록(검색 결과 등)을 보여 주는 모델을 생성합니다. 목록은 복사하지 않습니다.
+     *
+     * @param reports 보여 줄 보고서 목록
+     */
+    public ReportTableModel(List<ActivityReport> reports) {
+        this.clubManager = null;
+        this.fixedReports = reports;
+        this.layout = prepare(Order.REGISTRATION);
+    }
+
+    /**
+     * 최신 스냅샷으로 다시 읽습니다.
+     */
+    public void refresh() {
+        apply(prepare(layout.order));
+    }
+
+    /**
+     * 정렬 순서를 바꿉니다.
+     *
+     * @param order 새 정렬 순서
+     */
+    public void setOrder(Order order) {
+        if (layout.order != order) {
+            apply(prepare(order));
+        }
+    }
+
+    /**
+     * 현재 정렬 순서를 반환합니다.
+     *
+     * @return 정렬 순서
+     */
+    public Order getOrder() {
+        return layout.order;
+    }
+
+    /**
+     * 지정한 정렬 순서의 행 배치를 최신 스냅샷으로 계산합니다.
+     *
+     * <p>
+     * 모델의 상태를 바꾸지 않으므로 어느 스레드에서나 호출할 수 있습니다.
+     * 등록 순서와 동아리 순서는 보고서 자체를 읽지 않으며, 작성 날짜와 작성자 순서, 검색 결과의 정렬만 보고서를 한 번씩 읽습니다.
+     * </p>
+     *
+     * @param order 정렬 순서
+     * @return 행 배치
+     */
+    public Layout prepare(Order order) {
+        if (fixedReports != null) {
+            List<List<ActivityReport>> lists = Collections.singletonList(fixedReports);
+            return switch (order) {
+                case CLUB -> new Layout(order, lists, rowsSortedBy(lists, ActivityReport::getClubName));
+                case DATE -> new Layout(order, lists, rowsSortedByDay(lists));
+                case AUTHOR -> new Layout(order, lists, rowsSortedBy(lists, ActivityReport::getAuthor));
+                default -> new Layout(order, lists, null);
+            };
+        }
+        List<Map.Entry<String, List<ActivityReport>>> entries =
+                new ArrayList<>(clubManager.snapshot().getReportMap().entrySet());
+        if (order == Order.CLUB) {
+            entries.sort(Map.Entry.comparingByKey());
+        }
+        List<List<ActivityReport>> lists = new ArrayList<>(entries.size());
+        for (Map.Entry<String, List<ActivityReport>> entry : entries) {
+            lists.add(entry.getValue());
+        }
+        return switch (order) {
+            case DATE -> new Layout(order, lists, rowsSortedByDay(lists));
+            case AUTHOR -> new Layout(order, lists, rowsSortedBy(lists, ActivityReport::getAuthor));
+            default -> new Layout(order, lists, null);
+        };
+    }
+
+    /**
+     * 행 배치를 적용하고 테이블을 다시 그립니다.
+     *
+     * @param layout 이 모델의 {@link #prepare(Order)}로 만든 행 배치
+     */
+    public void apply(Layout layout) {
+        this.layout = layout;
+        pages.clear();
+        fireTableDataChanged();
+    }
+
+    /**
+     * 지정한 행의 보고서를 반환합니다.
+     *
+     * @param row 행 번호
+     * @return 보고서 (그 사이 데이터를 다시 불러와 행이 없어졌으면 null)
+     */
+    public ActivityReport getReportAt(int row) {
+        ActivityReport[] page = pages.get(row / PAGE_SIZE);
+        if (page == null) {
+            page = fetchPage(row / PAGE_SIZE);
+            pages.put(row / PAGE_SIZE, page);
+        }
+        return page[row % PAGE_SIZE];
+    }
+
+    @Override
+    public int getRowCount() {
+        return layout.rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        ActivityReport report = getReportAt(row);
+        if (report == null) {
+            return null;
+        }
+        return switch (column) {
+            case 0 -> report.getClubName();
+            case 1 -> report.getDate();
+            case 2 -> report.getAuthor();
+            case 3 -> report.getActivityContent();
+            case 4 -> report.getLocation();
+            default -> report.getResult();
+        };
+    }
+
+    /**
+     * 한 페이지의 보고서를 꺼냅니다.
+     */
+    private ActivityReport[] fetchPage(int pageNumber) {
+        ActivityReport[] page = new ActivityReport[PAGE_SIZE];
+        int from = pageNumber * PAGE_SIZE;
+        int to = Math.min(layout.rowCount, from + PAGE_SIZE);
+        for (int row = from; row < to; row++) {
+            page[row - from] = layout.reportAt(layout.sortedRows == null ? row : layout.sortedRows[row]);
+        }
+        return page;
+    }
+
+    /**
+     * 작성 날짜 순서로 정렬된 행 번호 배열을 만듭니다.
+     *
+     * <p>
+     * 행마다 (epoch day, 행 번호)를 long 하나로 묶어 기본형 배열로 정렬하므로 객체를 만들지 않으며,
+     * 같은 날짜는 원래 순서를 유지합니다. 날짜 색인과 같이 날짜를 해석할 수 없는 보고서는 맨 뒤에 옵니다.
+     * </p>
+     */
+    private static int[] rowsSortedByDay(List<List<ActivityReport>> groups) {
+        int total = 0;
+        for (List<ActivityReport> list : groups) {
+            total += list.size();
+        }
+        long[] keys = new long[total];
+        int row = 0;
+        for (List<ActivityReport> list : groups) {
+            for (ActivityReport report : list) {
+                int day = report.getEpochDay();
+                if (day == ReportDateIndex.INVALID_DAY) {
+                    day = Integer.MAX_VALUE;
+                }
+                keys[row] = ((long) day << 32) | row;
+                row++;
+            }
+        }
+        Arrays.sort(keys, 0, row);
+        int[] rows = new int[row];
+        for (int i = 0; i < row; i++) {
+            rows[i] = (int) keys[i];
+        }
+        return rows;
+    }
+
+    /**
+     * 키 순서로 정렬된 행 번호 배열을 만듭니다.
+     *
+     * <p>
+     * 서로 다른 키만 정렬하여 순위를 매긴 뒤 계수 정렬하므로 O(n + k log k)이며, 같은 키는 원래 순서를 유지합니다.
+     * </p>
+     */
+    private static int[] rowsSortedBy(List<List<ActivityReport>> groups, Function<ActivityReport, String> key) {
+        int total = 0;
+        for (List<ActivityReport> list : groups) {
+            total += list.size();
+        }
+        int[] keyIds = new int[total];
+        Map<String, Integer> idOf = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        int row = 0;
+        for (List<ActivityReport> list : groups) {
+            for (ActivityReport report : list) {
+                String value = key.apply(report);
+                Integer id = idOf.get(value);
+                if (id == null) {
+                    id = keys.size();
+                    idOf.put(value, id);
+                    keys.add(value);
+                }
+                keyIds[row++] = id;
+            }
+        }
+        Integer[] byKey = new Integer[keys.size()];
+        for (int i = 0; i < byKey.length; i++) {
+            byKey[i] = i;
+        }
+        Arrays.sort(byKey, Comparator.comparing(keys::get, Comparator.nullsFirst(Comparator.<String>naturalOrder())));
+        int[] starts = new int[keys.size() + 1]; // 순위별 시작 위치
+        int[] rankOf = new int[keys.size()];
+        for (int rank = 0; rank < byKey.length; rank++) {
+            rankOf[byKey[rank]] = rank;
+        }
+        for (int i = 0; i < row; i++) {
+            starts[rankOf[keyIds[i]] + 1]++;
+        }
+        for (int rank = 0; rank < byKey.length; rank++) {
+            starts[rank + 1] += starts[rank];
+        }
+        int[] rows = new int[row];
+        for (int i = 0; i < row; i++) {
+            rows[starts[rankOf[keyIds[i]]]++] = i;
+        }
+        return rows;
+    }
+
+    /**
+     * 정렬 순서에 따른 행 배치입니다. 만든 뒤에는 바뀌지 않습니다.
+     */
+    public static final class Layout {
+        private final Order order;
+        private final List<List<ActivityReport>> groups; // 현재 순서의 동아리별 보고서 목록
+        private final int[] groupStarts; // 각 목록의 첫 행 번호
+        private final int[] sortedRows; // 정렬된 행 번호 -> groups 기준 행 번호 (필요한 경우에만)
+        private final int rowCount;
+
+        private Layout(Order order, List<List<ActivityReport>> groups, int[] sortedRows) {
+            this.order = order;
+            this.groups = groups;
+            this.groupStarts = new int[groups.size()];
+            int total = 0;
+            for (int i = 0; i < groups.size(); i++) {
+                groupStarts[i] = total;
+                total += groups.get(i).size();
+            }
+            this.sortedRows = sortedRows;
+            this.rowCount = total;
+        }
+
+        /**
+         * groups 기준 행 번호의 보고서를 반환합니다. 행이 속한 목록은 이진 탐색으로 찾습니다.
+         */
+        private ActivityReport reportAt(int row) {
+            int group = Arrays.binarySearch(groupStarts, row);
+            if (group < 0) {
+                group = -group - 2; // row보다 작은 마지막 시작 위치
+            } else {
+                while (group + 1 < groupStarts.length && groupStarts[group + 1] == row) {
+                    group++; // 빈 목록 건너뛰기
+                }
+            }
+            return groups.get(group).get(row - groupStarts[group]);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link ClubSnapshot} 하나로 만든 읽기 전용 색인을 발행하고, 그 뒤에 작성된 보고서와 함께 읽게 하는 클래스입니다.
+ *
+ * <p>
+ * 색인은 잠금 없이 현재 스냅샷으로 만들어 발행하며, 발행한 뒤에는 바꾸지 않습니다. 조회는 발행된 색인을 먼저 읽고
+ * 현재 스냅샷을 읽은 뒤({@link #view()}), 색인을 만든 스냅샷 이후에 작성된 보고서(밀린 보고서)를 그 스냅샷 기준으로
+ * 함께 읽으므로 잠금 없이 하나의 일관된 시점을 봅니다. 보고서 작성은 스냅샷만 발행하고 색인을 건드리지 않으므로,
+ * 작성과 조회는 어느 동아리이든 서로 기다리지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 밀린 보고서가 {@value #MIN_PENDING}건과 색인된 보고서의 1/{@value #PENDING_RATIO} 중 큰 값을 넘으면,
+ * 조회한 스레드 하나가 색인의 복사본에 밀린 보고서를 추가해 다음 색인으로 발행합니다.
+ * 그동안 다른 조회는 이전 색인과 밀린 보고서로 계속 진행하며, 발행된 색인을 읽는 중인 조회에도 영향이 없습니다.
+ * 한 동아리만 읽는 조회({@link #view(String)})는 그 동아리의 밀린 보고서만 읽고 그 수로만 다시 발행할지 정하므로,
+ * 다른 동아리에 아무리 많이 작성되어도 비용이 늘지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 발행된 색인이 없거나 다른 불러오기의 스냅샷으로 만들어졌으면 현재 스냅샷으로 새로 만듭니다. 처음 만드는 동안
+ * 같은 색인을 조회하는 스레드만 만들기가 끝나기를 기다리며, 작성과 다른 색인의 조회는 기다리지 않습니다.
+ * 만들던 조회가 취소되면 아무것도 발행하지 않으며, 기다리던 스레드가 이어서 만듭니다.
+ * </p>
+ *
+ * @param <T> 색인 형식
+ *
+ * @author 한승규
+ * @version 1.2
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ *   <li>2026-10-17: 동아리 하나의 밀린 보고서 수로 다시 발행을 정하는 view(String) 추가 (한승규)</li>
+ *   <li>2026-10-17: 취소 확인 함수를 받아 처음 만들기를 중간에 멈출 수 있는 view(String, BooleanSupplier) 추가 (한승규)</li>
+ * </ul>
+ */
+final class SnapshotIndex<T> {
+    /** 색인을 다시 발행하기 전에 함께 읽는 밀린 보고서의 최소 수 */
+    static final int MIN_PENDING = 4096;
+
+    /** 색인된 보고서 수에 대한 밀린 보고서 수의 최대 비율(분모) */
+    static final int PENDING_RATIO = 256;
+
+    private final Supplier<ClubSnapshot> source; // 현재 스냅샷
+    private final BiFunction<ClubSnapshot, BooleanSupplier, T> builder; // 스냅샷의 모든 보고서로 색인을 만듦
+    private final Function<View<T>, T> extender; // 색인의 복사본에 밀린 보고서를 추가함
+    private final AtomicReference<View<T>> published = new AtomicReference<>(); // 발행된 색인과 만든 스냅샷
+    private final AtomicBoolean refreshing = new AtomicBoolean(); // 다음 색인을 만드는 스레드가 있는지 여부
+    private final Object buildLock = new Object(); // 처음 만들 때 한 번만 만들도록 하는 잠금
+
+    /**
+     * 색인을 만듭니다. 색인은 처음 조회할 때 만들어집니다.
+     *
+     * @param source 현재 스냅샷을 반환하는 함수
+     * @param builder 스냅샷의 보고서를 {@link ClubSnapshot#getReportsInIndexOrder()} 순서로 담은 색인을 만드는 함수,
+     *                두 번째 인자(취소 확인 함수)가 true를 반환하면 {@link java.util.concurrent.CancellationException}을 던져 멈춤
+     * @param extender 발행된 색인은 바꾸지 않고, 복사본에 {@link View#pending()}을 차례로 추가해 반환하는 함수
+     */
+    SnapshotIndex(Supplier<ClubSnapshot> source, BiFunction<ClubSnapshot, BooleanSupplier, T> builder,
+                  Function<View<T>, T> extender) {
+        this.source = source;
+        this.builder = builder;
+        this.extender = extender;
+    }
+
+    /**
+     * 발행된 색인과 현재 스냅샷을 함께 반환합니다. 필요하면 색인을 만들거나 다시 발행합니다.
+     *
+     * <p>
+     * 색인을 먼저 읽고 스냅샷을 읽으므로, 반환하는 스냅샷은 항상 색인을 만든 스냅샷과 같거나 더 나중입니다.
+     * </p>
+     *
+     * @return 색인과 스냅샷
+     */
+    View<T> view() {
+        return view(null);
+    }
+
+    /**
+     * 한 동아리만 읽는 조회를 위해 발행된 색인과 현재 스냅샷을 함께 반환합니다.
+     *
+     * <p>
+     * 다시 발행할지는 그 동아리의 밀린 보고서({@link View#pending(String)}) 수로만 정하므로,
+     * 다른 동아리의 작성이 이 조회에 색인을 다시 만드는 비용을 넘기지 않습니다.
+     * </p>
+     *
+     * @param name 동아리 이름 (보고서 목록 키), null이면 전체 보고서를 읽는 조회
+     * @return 색인과 스냅샷
+     *
+     * @created 2026-10-17
+     */
+    View<T> view(String name) {
+        return view(name, () -> false);
+    }
+
+    /**
+     * 발행된 색인과 현재 스냅샷을 함께 반환합니다. 색인을 처음 만드는 동안 취소되었는지 확인합니다.
+     *
+     * @param name 동아리 이름 (보고서 목록 키), null이면 전체 보고서를 읽는 조회
+     * @param cancelled 취소되었으면 true를 반환하는 함수
+     * @return 색인과 스냅샷
+     * @throws java.util.concurrent.CancellationException 색인을 만드는 중 취소된 경우
+     *
+     * @created 2026-10-17
+     */
+    View<T> view(String name, BooleanSupplier cancelled) {
+        while (true) {
+            View<T> built = published.get();
+            ClubSnapshot snapshot = source.get();
+            if (built == null || !snapshot.sameLoad(built.base)) {
+                build(cancelled);
+                continue; // 만든 색인보다 나중의 스냅샷을 다시 읽음
+            }
+            View<T> view = new View<>(built.index, built.base, snapshot);
+            int pending = name == null ? snapshot.getTotalReports() - built.base.getTotalReports()
+                    : view.pending(name).size();
+            int limit = Math.max(MIN_PENDING, built.base.getTotalReports() / PENDING_RATIO);
+            if (pending > limit && refreshing.compareAndSet(false, true)) {
+                try {
+                    View<T> next = new View<>(extender.apply(view), snapshot, snapshot);
+                    published.compareAndSet(built, next); // 그사이 다시 불러왔으면 버림
+                    return next;
+                } finally {
+                    refreshing.set(false);
+                }
+            }
+            return view;
+        }
+    }
+
+    /**
+     * 발행된 색인을 버립니다. 다음 조회에서 현재 스냅샷으로 다시 만듭니다.
+     */
+    void reset() {
+        published.set(null);
+    }
+
+    /**
+     * 발행된 색인이 없거나 다른 불러오기의 것이면 현재 스냅샷으로 만들어 발행합니다.
+     */
+    private void build(BooleanSupplier cancelled) {
+        synchronized (buildLock) {
+            View<T> built = published.get();
+            ClubSnapshot snapshot = source.get();
+            if (built == null || !snapshot.sameLoad(built.base)) {
+                published.set(new View<>(builder.apply(snapshot, cancelled), snapshot, snapshot));
+            }
+        }
+    }
+
+    /**
+     * 조회 한 번이 읽는 색인과 스냅샷입니다.
+     *
+     * @param <T> 색인 형식
+     */
+    static final class View<T> {
+        final T index; // 발행된 색인 (바꾸지 않음)
+        final ClubSnapshot base; // 색인을 만든 스냅샷
+        final ClubSnapshot snapshot; // 조회 기준 스냅샷 (base와 같거나 나중)
+
+        View(T index, ClubSnapshot base, ClubSnapshot snapshot) {
+            this.index = index;
+            this.base = base;
+            this.snapshot = snapshot;
+        }
+
+        /**
+         * 색인을 만든 스냅샷 이후, 조회 기준 스냅샷까지 작성된 보고서를 발행된 순서로 반환합니다.
+         *
+         * @return 밀린 보고서
+         */
+        List<ActivityReport> pending() {
+            return snapshot.getReportsWrittenSince(base);
+        }
+
+        /**
+         * 한 동아리의 밀린 보고서를 작성 순서로 반환합니다. 다른 동아리에 작성된 보고서는 훑지 않습니다.
+         *
+         * @param name 동아리 이름 (보고서 목록 키)
+         * @return 밀린 보고서, 동아리가 없으면 빈 리스트
+         */
+        List<ActivityReport> pending(String name) {
+            List<ActivityReport> reports = snapshot.getReports(name);
+            if (reports == null) {
+                return new ArrayList<>();
+            }
+            List<ActivityReport> indexed = base.getReports(name);
+            return reports.subList(indexed == null ? 0 : indexed.size(), reports.size());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 반복되는 문자열에 번호를 붙여 한 번씩만 보관하는 기호표(사전) 클래스입니다.
+ *
+ * <p>
+ * 동아리 이름, 작성자, 활동 위치, 활동 결과처럼 종류가 많지 않은 값은 수십만 건의 보고서에서 같은 값이 반복됩니다.
+ * 보고서마다 문자열을 따로 두는 대신 기호표의 번호(int)만 보관하면 같은 값의 문자열은 하나만 남습니다.
+ * 번호 0은 null이며, 한 번 붙인 번호는 바뀌거나 지워지지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 번호로 값을 찾을 때는 배열 하나만 읽으므로 잠금이 없고, 새 값을 추가할 때만 잠급니다.
+ * 값이 지워지지 않으므로 종류가 많은 값(활동 내용 등)에는 사용하지 않습니다.
+ * </p>
+ *
+ * @author 한승규
+ * @version 1.0
+ * @since 2026-10-17
+ *
+ * @created 2026-10-17
+ * @lastModified 2026-10-17
+ *
+ * @changelog
+ * <ul>
+ *   <li>2026-10-17: 최초 생성 (한승규)</li>
+ * </ul>
+ */
+public final class SymbolTable {
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>(); // 값별 번호
+    private volatile String[] values = new String[64]; // 번호별 값 (0번은 null)
+    private int size = 1; // 다음에 붙일 번호 (추가 잠금으로 보호)
+
+    /**
+     * 값의 번호를 반환합니다. 처음 보는 값이면 새 번호를 붙입니다.
+     *
+     * @param value 값
+     * @return 번호, 값이 null이면 0
+     */
+    public int idOf(String value) {
+        if (value == null) {
+            return 0;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : add(value);
+    }
+
+    /**
+     * 값의 번호를 찾습니다. 새 번호를 붙이지 않습니다.
+     *
+     * @param value 값
+     * @return 번호, 값이 null이면 0, 기호표에 없으면 -1
+     */
+    public int find(String value) {
+        if (value == null) {
+            return 0;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * 번호의 값을 반환합니다.
+     *
+     * @param id {@link #idOf(String)}가 반환한 번호
+     * @return 값, 번호가 0이면 null
+     */
+    public String valueOf(int id) {
+        return values[id];
+    }
+
+    /**
+     * 붙인 번호의 수(null 포함)를 반환합니다. 번호는 0부터 이 값 미만입니다.
+     *
+     * @return 번호의 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized int add(String value) {
+        Integer existing = ids.get(value);
+        if (existing != null) {
+            return existing; // 다른 스레드가 먼저 추가함
+        }
+        String[] array = values;
+        if (size == array.length) {
+            array = Arrays.copyOf(array, size * 2);
+        }
+        int id = size++;
+        array[id] = value;
+        values = array; // 번호를 공개하기 전에 값을 먼저 공개
+        ids.put(value, id);
+        return id;
+    }
+}
\ No newline at end of file